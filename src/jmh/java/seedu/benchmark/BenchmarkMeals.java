@@ -0,0 +1,83 @@
+package seedu.benchmark;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Ingredient;
+import seedu.food.Meal;
+import seedu.logic.MealManager;
+import seedu.meallist.MealList;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds the recipes that the benchmarks run against.
+ * The same catalog size always gives the same recipes, so results of different runs can be compared.
+ */
+final class BenchmarkMeals {
+    static final String[] NAME_WORDS = {"Chicken", "Fried", "Rice", "Noodle", "Soup", "Curry", "Spicy", "Beef",
+        "Tofu", "Prawn", "Salad", "Laksa", "Roast", "Steamed", "Egg", "Pork"};
+    static final int INGREDIENT_NAME_COUNT = 1000;
+    private static final long SEED = 36;
+    private static final int MAX_INGREDIENT_COUNT = 6;
+
+    private BenchmarkMeals() {
+    }
+
+    static String getIngredientName(int ingredientNumber) {
+        return NAME_WORDS[ingredientNumber % NAME_WORDS.length].toLowerCase() + " " + ingredientNumber;
+    }
+
+    static Ingredient createIngredient(int ingredientNumber) throws EZMealPlanException {
+        String price = (1 + ingredientNumber % 20) + "." + (10 + ingredientNumber % 90);
+        return new Ingredient(getIngredientName(ingredientNumber), price);
+    }
+
+    /**
+     * Returns catalogSize meals with distinct names, in recipes list order.
+     */
+    static List<Meal> createMeals(int catalogSize) throws EZMealPlanException {
+        Random random = new Random(SEED);
+        List<Meal> meals = new ArrayList<>(catalogSize);
+        for (int mealNumber = 0; mealNumber < catalogSize; mealNumber++) {
+            String mealName = NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " "
+                    + NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " " + mealNumber;
+            Meal meal = new Meal(mealName);
+            int ingredientCount = 1 + random.nextInt(MAX_INGREDIENT_COUNT);
+            int firstIngredient = random.nextInt(INGREDIENT_NAME_COUNT);
+            for (int i = 0; i < ingredientCount; i++) {
+                meal.addIngredient(createIngredient((firstIngredient + i * 7) % INGREDIENT_NAME_COUNT));
+            }
+            meals.add(meal);
+        }
+        meals.sort(MealList.MEAL_ORDER);
+        return meals;
+    }
+
+    /**
+     * Returns a meal manager whose recipes list holds the given meals.
+     * The meals are added in meal order, so each one is appended instead of shifting the meals after its place.
+     */
+    static MealManager createMealManager(List<Meal> meals) throws EZMealPlanException {
+        MealManager mealManager = new MealManager();
+        mealManager.getRecipesList().addMeals(meals);
+        return mealManager;
+    }
+
+    /**
+     * Writes the meals into a new temporary file in the recipes list file format.
+     */
+    static File writeMealsFile(List<Meal> meals) throws IOException {
+        File mealsFile = File.createTempFile("benchmarkRecipesList", ".txt");
+        mealsFile.deleteOnExit();
+        List<String> lines = new ArrayList<>(meals.size());
+        for (Meal meal : meals) {
+            lines.add(meal.toDataString());
+        }
+        Files.write(mealsFile.toPath(), lines);
+        return mealsFile;
+    }
+}
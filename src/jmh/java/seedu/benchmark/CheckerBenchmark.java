@@ -0,0 +1,72 @@
+package seedu.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.checkers.CreateChecker;
+import seedu.checkers.FilterChecker;
+import seedu.checkers.SelectChecker;
+import seedu.exceptions.EZMealPlanException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the validation of create, filter and select inputs.
+ * Checkers only look at the user input, so this benchmark has no catalog size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CheckerBenchmark {
+    private static final String CREATE_INPUT = "create /mname Chicken Rice /ing chicken(2.50), rice(1.00), "
+            + "egg(0.50), cucumber(0.30), chilli sauce(0.20)";
+    private static final String FILTER_ING_INPUT = "filter /ing chicken, rice, egg";
+    private static final String FILTER_MNAME_INPUT = "filter /mname fried, rice";
+    private static final String FILTER_MCOST_INPUT = "filter /mcost 4.50";
+    private static final String SELECT_INPUT = "select 3 /ing chicken, rice";
+
+    @Benchmark
+    public boolean createChecker() throws EZMealPlanException {
+        CreateChecker checker = new CreateChecker(CREATE_INPUT);
+        checker.check();
+        return checker.isPassed();
+    }
+
+    @Benchmark
+    public boolean filterCheckerByIng() throws EZMealPlanException {
+        FilterChecker checker = new FilterChecker(FILTER_ING_INPUT, "byIng");
+        checker.check();
+        return checker.isPassed();
+    }
+
+    @Benchmark
+    public boolean filterCheckerByMname() throws EZMealPlanException {
+        FilterChecker checker = new FilterChecker(FILTER_MNAME_INPUT, "byMname");
+        checker.check();
+        return checker.isPassed();
+    }
+
+    @Benchmark
+    public boolean filterCheckerByMcost() throws EZMealPlanException {
+        FilterChecker checker = new FilterChecker(FILTER_MCOST_INPUT, "byMcost");
+        checker.check();
+        return checker.isPassed();
+    }
+
+    @Benchmark
+    public boolean selectChecker() throws EZMealPlanException {
+        SelectChecker checker = new SelectChecker(SELECT_INPUT, "byIng");
+        checker.check();
+        return checker.isPassed();
+    }
+}
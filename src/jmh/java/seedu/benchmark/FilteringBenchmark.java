@@ -0,0 +1,69 @@
+package seedu.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Meal;
+import seedu.logic.MealManager;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures filtering the recipes list by ingredients, meal name and meal cost.
+ * The index is built during setup, so every operation reuses it as an unchanged recipes list would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FilteringBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int catalogSize;
+
+    private MealManager mealManager;
+    private final String[] commonIngredients = {"rice"};
+    private final String[] rareIngredients = {BenchmarkMeals.getIngredientName(123)};
+    private final String[] mealNames = {"fried", "rice"};
+    private double mealCost;
+
+    @Setup
+    public void setUp() throws EZMealPlanException {
+        List<Meal> meals = BenchmarkMeals.createMeals(catalogSize);
+        mealManager = BenchmarkMeals.createMealManager(meals);
+        mealCost = meals.get(meals.size() / 2).getPrice();
+        mealManager.getRecipesIndex();
+    }
+
+    @Benchmark
+    public List<Meal> filteringByIngCommon() {
+        return mealManager.filteringByIng(commonIngredients);
+    }
+
+    @Benchmark
+    public List<Meal> filteringByIngRare() {
+        return mealManager.filteringByIng(rareIngredients);
+    }
+
+    @Benchmark
+    public List<Meal> filteringByMname() {
+        return mealManager.filteringByMname(mealNames);
+    }
+
+    @Benchmark
+    public List<Meal> filteringByMcost() {
+        return mealManager.filteringByMcost(mealCost);
+    }
+}
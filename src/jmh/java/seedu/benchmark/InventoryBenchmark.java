@@ -0,0 +1,60 @@
+package seedu.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Ingredient;
+import seedu.food.Inventory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures adding ingredients to and removing them from an inventory with catalogSize distinct ingredients.
+ * Every operation adds and then removes one unit, so the inventory is the same size before every operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InventoryBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int catalogSize;
+
+    private Inventory inventory;
+    private Ingredient stockedIngredient;
+    private Ingredient newIngredient;
+
+    @Setup
+    public void setUp() throws EZMealPlanException {
+        inventory = new Inventory();
+        for (int ingredientNumber = 0; ingredientNumber < catalogSize; ingredientNumber++) {
+            inventory.addIngredient(BenchmarkMeals.createIngredient(ingredientNumber));
+        }
+        stockedIngredient = BenchmarkMeals.createIngredient(catalogSize / 2);
+        newIngredient = BenchmarkMeals.createIngredient(catalogSize);
+    }
+
+    @Benchmark
+    public Ingredient addAndRemoveStockedIngredient() throws EZMealPlanException {
+        inventory.addIngredient(stockedIngredient);
+        return inventory.removeIngredient(stockedIngredient.getName());
+    }
+
+    @Benchmark
+    public Ingredient addAndRemoveNewIngredient() throws EZMealPlanException {
+        inventory.addIngredient(newIngredient);
+        return inventory.removeIngredient(newIngredient.getName());
+    }
+}
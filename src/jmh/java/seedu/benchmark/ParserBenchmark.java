@@ -0,0 +1,69 @@
+package seedu.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.command.Command;
+import seedu.exceptions.EZMealPlanException;
+import seedu.parser.Parser;
+import seedu.storage.Storage;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Parser.parse for a typical input of every command word.
+ * Parsing never reads the lists, so this benchmark has no catalog size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParserBenchmark {
+    private static final Map<String, String> USER_INPUTS = Map.ofEntries(
+            Map.entry("bye", "bye"),
+            Map.entry("create", "create /mname Chicken Rice /ing chicken(2.50), rice(1.00), egg(0.50)"),
+            Map.entry("filter", "filter /ing chicken, rice"),
+            Map.entry("select", "select 3 /mname chicken"),
+            Map.entry("wishlist", "wishlist"),
+            Map.entry("recipes", "recipes"),
+            Map.entry("clear", "clear"),
+            Map.entry("help", "help filter"),
+            Map.entry("remove", "remove 2"),
+            Map.entry("view", "view /r 5"),
+            Map.entry("delete", "delete 7"),
+            Map.entry("recommend", "recommend /ing chicken, egg /top 3"),
+            Map.entry("consume", "consume /ing chicken, rice"),
+            Map.entry("buy", "buy /ing chicken(2.50), rice(1.00)"),
+            Map.entry("inventory", "inventory"),
+            Map.entry("cookable", "cookable /missing 1"),
+            Map.entry("shop", "shop"));
+
+    @Param({"bye", "create", "filter", "select", "wishlist", "recipes", "clear", "help", "remove", "view",
+        "delete", "recommend", "consume", "buy", "inventory", "cookable", "shop"})
+    public String commandWord;
+
+    private String userInput;
+    private final Storage storage = new Storage();
+
+    @Setup
+    public void setUp() {
+        userInput = USER_INPUTS.get(commandWord);
+    }
+
+    @Benchmark
+    public Command parse() throws EZMealPlanException {
+        return Parser.parse(userInput, storage);
+    }
+}
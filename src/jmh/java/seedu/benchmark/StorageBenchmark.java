@@ -0,0 +1,82 @@
+package seedu.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.command.ByeCommand;
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Meal;
+import seedu.logic.MealManager;
+import seedu.storage.Storage;
+import seedu.ui.UserInterface;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures loading a recipes list file and saving every list as the bye command does.
+ * One save of a large catalog takes far longer than a second, so operations are timed one at a time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class StorageBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int catalogSize;
+
+    private File recipesListFile;
+    private File dataDirectory;
+    private Storage storage;
+    private MealManager mealManager;
+
+    @Setup
+    public void setUp() throws EZMealPlanException, IOException {
+        List<Meal> meals = BenchmarkMeals.createMeals(catalogSize);
+        recipesListFile = BenchmarkMeals.writeMealsFile(meals);
+        dataDirectory = Files.createTempDirectory("benchmarkData").toFile();
+        storage = new Storage(dataDirectory);
+        storage.createListFiles();
+        mealManager = BenchmarkMeals.createMealManager(meals);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(dataDirectory.toPath())) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public List<Meal> loadExistingList() throws IOException {
+        return Storage.loadExistingList(recipesListFile);
+    }
+
+    @Benchmark
+    public void byeCommandSave() {
+        PrintStream discardedOutput = new PrintStream(OutputStream.nullOutputStream());
+        UserInterface ui = new UserInterface(new ByteArrayInputStream(new byte[0]), discardedOutput);
+        new ByeCommand(storage).execute(mealManager, ui);
+    }
+}
@@ -22,7 +22,7 @@ public class BuyChecker extends Checker {
 
     @Override
     public void check() throws EZMealPlanException {
-        logger.fine("Checking '" + userInput + "' for buy command errors.");
+        logger.fine(() -> "Checking '" + userInput + "' for buy command errors.");
         checkIngExists();
         checkIngredientExists();
         checkIngredientFormat();
@@ -1,6 +1,8 @@
 package seedu.checkers;
 
 import seedu.exceptions.EZMealPlanException;
+import seedu.metrics.CommandTrace;
+import seedu.metrics.Metrics;
 
 public abstract class Checker {
     protected String userInput;
@@ -8,6 +10,22 @@ public abstract class Checker {
     protected boolean isPassed = false;
     public abstract void check() throws EZMealPlanException;
 
+    /**
+     * Runs {@link #check()} and records how long it took in the check stage of the metrics and in the trace of the
+     * running command.
+     */
+    public void validate() throws EZMealPlanException {
+        long startTime = System.nanoTime();
+        try {
+            check();
+        } finally {
+            long checkNanos = System.nanoTime() - startTime;
+            Metrics.getInstance().record(Metrics.Stage.CHECK, Metrics.getTypeName(getClass(), "Checker"),
+                    checkNanos);
+            CommandTrace.addCheckNanos(checkNanos);
+        }
+    }
+
     public boolean isPassed() {
         return isPassed;
     }
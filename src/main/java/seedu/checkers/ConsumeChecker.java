@@ -2,6 +2,7 @@
 package seedu.checkers;
 
 import seedu.exceptions.EZMealPlanException;
+import seedu.exceptions.InvalidConsumeMealException;
 import seedu.exceptions.InvalidIngredientFormatException;
 import seedu.exceptions.MissingIngKeywordException;
 import seedu.exceptions.MissingIngredientException;
@@ -14,6 +15,8 @@ public class ConsumeChecker extends Checker {
     private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
     private static final String ING = "/ing";
     private static final String CONSUME = "consume";
+    private static final String MEAL = "/meal";
+    private static final Pattern MEAL_PATTERN = Pattern.compile("^/meal\\s+/[rw]\\s+(\\d+)$");
 
     public ConsumeChecker(String userInputText) {
         this.userInput = userInputText.trim();
@@ -22,7 +25,12 @@ public class ConsumeChecker extends Checker {
 
     @Override
     public void check() throws EZMealPlanException {
-        logger.fine("Checking '" + userInput + "' for consume command errors.");
+        logger.fine(() -> "Checking '" + userInput + "' for consume command errors.");
+        if (lowerCaseInput.contains(MEAL)) {
+            checkMealFormat();
+            setPassed(true);
+            return;
+        }
         checkIngExists();
         checkIngredientExists();
         if (hasParentheses()) {
@@ -31,6 +39,25 @@ public class ConsumeChecker extends Checker {
         setPassed(true);
     }
 
+    /**
+     * Checks that the '/meal' keyword is followed by '/r' or '/w' and a meal index that fits in an int,
+     * and nothing else.
+     * @throws InvalidConsumeMealException if the meal to consume is not given in that format.
+     */
+    private void checkMealFormat() throws InvalidConsumeMealException {
+        String afterConsume = lowerCaseInput.trim().substring(CONSUME.length()).trim();
+        Matcher mealMatcher = MEAL_PATTERN.matcher(afterConsume);
+        try {
+            if (!mealMatcher.matches()) {
+                throw new NumberFormatException();
+            }
+            Integer.parseInt(mealMatcher.group(1));
+        } catch (NumberFormatException numberFormatException) {
+            logger.warning("Triggers InvalidConsumeMealException()!");
+            throw new InvalidConsumeMealException();
+        }
+    }
+
     /**
      * Checks whether the '/ing' keyword exists in the consume command input.
      * @throws MissingIngKeywordException if '/ing' is not found.
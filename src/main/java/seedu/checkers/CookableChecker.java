@@ -0,0 +1,48 @@
+package seedu.checkers;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.exceptions.InvalidMissingCountException;
+import seedu.logic.CookableTracker;
+
+import java.util.logging.Logger;
+
+public class CookableChecker extends Checker {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private static final String COOKABLE = "cookable";
+    private static final String MISSING = "/missing";
+
+    public CookableChecker(String userInputText) {
+        this.userInput = userInputText.trim();
+        this.lowerCaseInput = userInput.toLowerCase();
+    }
+
+    @Override
+    public void check() throws EZMealPlanException {
+        logger.fine(() -> "Checking '" + userInput + "' for cookable command errors.");
+        checkMissingCount();
+        setPassed(true);
+    }
+
+    /**
+     * Checks that the command is either "cookable" alone or "cookable /missing N" with N from 0 to the maximum.
+     * @throws InvalidMissingCountException if anything else follows the command word.
+     */
+    private void checkMissingCount() throws InvalidMissingCountException {
+        String afterCommand = userInput.substring(COOKABLE.length()).trim();
+        if (afterCommand.isEmpty()) {
+            return;
+        }
+        try {
+            if (!afterCommand.toLowerCase().startsWith(MISSING)) {
+                throw new NumberFormatException();
+            }
+            int missingCount = Integer.parseInt(afterCommand.substring(MISSING.length()).trim());
+            if (missingCount < 0 || missingCount > CookableTracker.MAX_MISSING_COUNT) {
+                throw new NumberFormatException();
+            }
+        } catch (NumberFormatException numberFormatException) {
+            logger.warning("Triggers InvalidMissingCountException()!");
+            throw new InvalidMissingCountException(CookableTracker.MAX_MISSING_COUNT);
+        }
+    }
+}
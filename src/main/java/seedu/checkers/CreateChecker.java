@@ -26,7 +26,7 @@ public class CreateChecker extends Checker {
 
     @Override
     public void check() throws EZMealPlanException {
-        logger.fine("Checking '" + userInput + "' for errors.");
+        logger.fine(() -> "Checking '" + userInput + "' for errors.");
         checkMnameExists();
         checkIngExists();
         checkMnameIngIndexes();
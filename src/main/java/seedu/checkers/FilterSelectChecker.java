@@ -1,12 +1,15 @@
 package seedu.checkers;
 
 import seedu.exceptions.EZMealPlanException;
+import seedu.exceptions.InvalidExcludeIndexException;
 import seedu.exceptions.InvalidIngIndexException;
 import seedu.exceptions.InvalidMcostIndexException;
 import seedu.exceptions.InvalidMnameIndexException;
+import seedu.exceptions.MissingExcludedIngredientException;
 import seedu.exceptions.MissingIngredientException;
 import seedu.exceptions.MissingMealCostException;
 import seedu.exceptions.MissingMealNameException;
+import seedu.parser.KeywordInput;
 
 import java.util.logging.Logger;
 
@@ -14,17 +17,20 @@ public abstract class FilterSelectChecker extends Checker {
     protected static final String ING = "/ing";
     protected static final String MNAME = "/mname";
     protected static final String MCOST = "/mcost";
+    protected static final String EXCLUDE = "/exclude";
     protected static final String BY_ING = "byIng";
     protected static final String BY_MNAME = "byMname";
     protected static final String BY_MCOST = "byMcost";
+    protected static final String BY_MULTIPLE = "byMultiple";
     private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
     String filterOrSelect;
     String filterMethod;
+    private KeywordInput keywords;
 
 
     @Override
     public void check() throws EZMealPlanException {
-        logger.fine("Checking '" + userInput + "' for errors.");
+        logger.fine(() -> "Checking '" + userInput + "' for errors.");
         checkFilterMethodFormat();
         setPassed(true);
     }
@@ -43,14 +49,44 @@ public abstract class FilterSelectChecker extends Checker {
             checkMcostIndex();
             checkMcostFormat();
             break;
+        case BY_MULTIPLE:
+            checkMultipleFormat();
+            break;
         default:
             break;
         }
     }
 
+    private void checkMultipleFormat() throws EZMealPlanException {
+        if (getKeywords().contains(ING)) {
+            checkIngIndex();
+            checkIngFormat();
+        }
+        if (getKeywords().contains(MNAME)) {
+            checkMnameIndex();
+            checkMnameFormat();
+        }
+        if (getKeywords().contains(MCOST)) {
+            checkMcostIndex();
+            checkMcostFormat();
+        }
+        if (getKeywords().contains(EXCLUDE)) {
+            checkExcludeIndex();
+            checkExcludeFormat();
+        }
+    }
+
+    // Finds the filter keywords in the user input once, the first time they are needed.
+    protected KeywordInput getKeywords() {
+        if (keywords == null) {
+            keywords = new KeywordInput(userInput, ING, MNAME, MCOST, EXCLUDE);
+        }
+        return keywords;
+    }
+
     private void checkMnameIndex() throws EZMealPlanException {
         int commandIndex = lowerCaseInput.indexOf(filterOrSelect);
-        int mnameIndex = lowerCaseInput.indexOf(MNAME);
+        int mnameIndex = getKeywords().indexOf(MNAME);
         if (commandIndex >= mnameIndex) {
             throw new InvalidMnameIndexException(filterOrSelect);
         }
@@ -58,7 +94,7 @@ public abstract class FilterSelectChecker extends Checker {
 
     private void checkIngIndex() throws EZMealPlanException {
         int commandIndex = lowerCaseInput.indexOf(filterOrSelect);
-        int ingIndex = lowerCaseInput.indexOf(ING);
+        int ingIndex = getKeywords().indexOf(ING);
         if (commandIndex >= ingIndex) {
             throw new InvalidIngIndexException(filterOrSelect);
         }
@@ -66,34 +102,45 @@ public abstract class FilterSelectChecker extends Checker {
 
     private void checkMcostIndex() throws EZMealPlanException {
         int commandIndex = lowerCaseInput.indexOf(filterOrSelect);
-        int mcostIndex = lowerCaseInput.indexOf(MCOST);
+        int mcostIndex = getKeywords().indexOf(MCOST);
         if (commandIndex >= mcostIndex) {
             throw new InvalidMcostIndexException(filterOrSelect);
         }
     }
 
+    private void checkExcludeIndex() throws EZMealPlanException {
+        int commandIndex = lowerCaseInput.indexOf(filterOrSelect);
+        int excludeIndex = getKeywords().indexOf(EXCLUDE);
+        if (commandIndex >= excludeIndex) {
+            throw new InvalidExcludeIndexException(filterOrSelect);
+        }
+    }
+
     private void checkMcostFormat() throws EZMealPlanException {
-        int afterMcostIndex = lowerCaseInput.indexOf(MCOST) + MCOST.length();
-        String afterMcost = this.userInput.substring(afterMcostIndex);
+        String afterMcost = getKeywords().get(MCOST);
         if (afterMcost.isEmpty()) {
             throw new MissingMealCostException(filterOrSelect);
         }
     }
 
     private void checkMnameFormat() throws EZMealPlanException {
-        int afterMnameIndex = lowerCaseInput.indexOf(MNAME) + MNAME.length();
-        String afterMname = this.userInput.substring(afterMnameIndex);
+        String afterMname = getKeywords().get(MNAME);
         if (afterMname.isEmpty()) {
             throw new MissingMealNameException(filterOrSelect);
         }
     }
 
     private void checkIngFormat() throws EZMealPlanException {
-        int afterIngIndex = lowerCaseInput.indexOf(ING) + ING.length();
-        String afterIng = this.userInput.substring(afterIngIndex);
+        String afterIng = getKeywords().get(ING);
         if (afterIng.isEmpty()) {
             throw new MissingIngredientException(filterOrSelect);
         }
     }
-}
 
+    private void checkExcludeFormat() throws EZMealPlanException {
+        String afterExclude = getKeywords().get(EXCLUDE);
+        if (afterExclude.isEmpty()) {
+            throw new MissingExcludedIngredientException(filterOrSelect);
+        }
+    }
+}
@@ -2,26 +2,35 @@
 package seedu.checkers;
 
 import seedu.exceptions.EZMealPlanException;
+import seedu.exceptions.InvalidRandomSeedException;
+import seedu.exceptions.InvalidTopCountException;
 import seedu.exceptions.MissingIngKeywordException;
 import seedu.exceptions.MissingIngredientException;
+import seedu.parser.KeywordInput;
 
 import java.util.logging.Logger;
 
 public class RecommendChecker extends Checker {
     private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
     private static final String ING = "/ing";
+    private static final String TOP = "/top";
+    private static final String RANDOM = "/random";
     private static final String COMMAND_NAME = "recommend";
+    private final KeywordInput keywordInput;
 
     public RecommendChecker(String userInputText) {
         this.userInput = userInputText.trim();
         this.lowerCaseInput = userInputText.toLowerCase();
+        this.keywordInput = new KeywordInput(userInput, ING, TOP, RANDOM);
     }
 
     @Override
     public void check() throws EZMealPlanException {
-        logger.fine("Checking '" + userInput + "' for recommend command errors.");
+        logger.fine(() -> "Checking '" + userInput + "' for recommend command errors.");
         checkIngExists();
         checkIngredientExists();
+        checkTopCount();
+        checkRandomSeed();
         setPassed(true);
     }
 
@@ -30,7 +39,7 @@ public class RecommendChecker extends Checker {
      * @throws MissingIngKeywordException if '/ing' is not found.
      */
     private void checkIngExists() throws MissingIngKeywordException {
-        if (!lowerCaseInput.contains(ING)) {
+        if (!keywordInput.contains(ING)) {
             String message = "Triggers MissingIngKeywordException()!";
             logger.warning(message);
             throw new MissingIngKeywordException("RECOMMEND");
@@ -42,12 +51,49 @@ public class RecommendChecker extends Checker {
      * @throws MissingIngredientException if no ingredient details are found.
      */
     private void checkIngredientExists() throws MissingIngredientException {
-        int afterIngIndex = lowerCaseInput.indexOf(ING) + ING.length();
-        String ingredients = userInput.substring(afterIngIndex).trim();
+        String ingredients = keywordInput.get(ING);
         if (ingredients.isEmpty()) {
             String message = "Triggers MissingIngredientException()!";
             logger.warning(message);
             throw new MissingIngredientException(COMMAND_NAME);
         }
     }
+
+    /**
+     * Checks that the optional '/top' keyword is followed by a positive integer.
+     * @throws InvalidTopCountException if the number of recommendations is missing or invalid.
+     */
+    private void checkTopCount() throws InvalidTopCountException {
+        if (!keywordInput.contains(TOP)) {
+            return;
+        }
+        try {
+            int topCount = Integer.parseInt(keywordInput.get(TOP));
+            if (topCount < 1) {
+                throw new NumberFormatException();
+            }
+        } catch (NumberFormatException numberFormatException) {
+            logger.warning("Triggers InvalidTopCountException()!");
+            throw new InvalidTopCountException(COMMAND_NAME);
+        }
+    }
+
+    /**
+     * Checks that the optional '/random' keyword is followed by nothing or by a whole number seed.
+     * @throws InvalidRandomSeedException if the seed cannot be parsed.
+     */
+    private void checkRandomSeed() throws InvalidRandomSeedException {
+        if (!keywordInput.contains(RANDOM)) {
+            return;
+        }
+        String seed = keywordInput.get(RANDOM);
+        try {
+            if (!seed.isEmpty()) {
+                Long.parseLong(seed);
+            }
+        } catch (NumberFormatException numberFormatException) {
+            logger.warning("Triggers InvalidRandomSeedException()!");
+            throw new InvalidRandomSeedException(COMMAND_NAME);
+        }
+    }
 }
@@ -14,7 +14,7 @@ public class RemoveDeleteChecker extends Checker {
 
     @Override
     public void check() throws EZMealPlanException {
-        logger.fine("Checking '" + userInput + "' for errors.");
+        logger.fine(() -> "Checking '" + userInput + "' for errors.");
         String indexString = extractIndex(userInput);
         parseIndex(indexString);
         setPassed(true);
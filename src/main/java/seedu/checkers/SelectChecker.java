@@ -28,18 +28,11 @@ public class SelectChecker extends FilterSelectChecker {
     }
 
     private String getIndexString() {
-        String keyword = "";
         int afterSelectIndex = lowerCaseInput.indexOf(filterOrSelect) + filterOrSelect.length();
-        keyword = switch (filterMethod) {
-        case BY_ING -> ING;
-        case BY_MCOST -> MCOST;
-        case BY_MNAME -> MNAME;
-        default -> keyword;
-        };
-        if (keyword.isEmpty()) {
+        int firstKeywordIndex = getKeywords().getFirstKeywordIndex();
+        if (filterMethod.isEmpty() || firstKeywordIndex == -1) {
             return userInput.substring(afterSelectIndex);
         }
-        int keywordIndex = lowerCaseInput.indexOf(keyword);
-        return userInput.substring(afterSelectIndex, keywordIndex);
+        return userInput.substring(afterSelectIndex, firstKeywordIndex);
     }
 }
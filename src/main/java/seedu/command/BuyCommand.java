@@ -40,10 +40,16 @@ public class BuyCommand extends Command {
 
         parseIngredientsForBuy();
 
+        // Add every ingredient in one write, so that readers see either none or all of them.
         Inventory inventory = mealManager.getInventory();
+        mealManager.write(() -> {
+            for (Ingredient ingredient : ingredients) {
+                // Add the ingredient (with name and price) into the inventory list.
+                inventory.addIngredient(ingredient);
+            }
+            return null;
+        });
         for (Ingredient ingredient : ingredients) {
-            // Add the ingredient (with name and price) into the inventory list.
-            inventory.addIngredient(ingredient);
             ui.printBought(ingredient);
         }
         ingredients.clear();
@@ -57,7 +63,7 @@ public class BuyCommand extends Command {
      */
     private boolean checkValidUserInput() throws EZMealPlanException {
         BuyChecker checker = new BuyChecker(validUserInput);
-        checker.check();
+        checker.validate();
         return checker.isPassed();
     }
 
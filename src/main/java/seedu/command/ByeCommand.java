@@ -1,8 +1,10 @@
 package seedu.command;
 
 import seedu.food.Meal;
+import seedu.metrics.StorageEvent;
 import seedu.storage.Storage;
 import seedu.logic.MealManager;
+import seedu.logic.MealSnapshot;
 import seedu.ui.UserInterface;
 
 import java.io.IOException;
@@ -10,6 +12,19 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class ByeCommand extends Command {
+    private final Storage storage;
+
+    public ByeCommand() {
+        this(new Storage());
+    }
+
+    /**
+     * Constructs a ByeCommand that saves the lists into the files of the given storage.
+     */
+    public ByeCommand(Storage storage) {
+        this.storage = storage;
+    }
+
     @Override
     public boolean isExit() {
         return true;
@@ -17,21 +32,45 @@ public class ByeCommand extends Command {
 
     @Override
     public void execute(MealManager mealManager, UserInterface ui) {
-        updateRecipesListFile(mealManager,ui);
-        updateWishListFile(mealManager, ui);
-        updateInventoryListFile(mealManager, ui);
+        save(mealManager, ui);
         ui.printGoodbye();
     }
 
-    private void updateWishListFile(MealManager mealManager, UserInterface ui) {
-        List<Meal> wishList = mealManager.getWishList().getList();
-        String wishListFilePath = Storage.getWishListFilePath();
+    /**
+     * Saves the recipes list, wishlist and inventory into the files of the storage, printing any error to the ui.
+     */
+    public void save(MealManager mealManager, UserInterface ui) {
+        // Every file is saved from one snapshot, and one session at a time writes the files of a data directory.
+        // The snapshot is taken while holding the lock, so a later save never writes an older snapshot.
+        synchronized (storage.getSaveLock()) {
+            MealSnapshot snapshot = mealManager.getSnapshot();
+            long startTime = System.nanoTime();
+            StorageEvent event = StorageEvent.start();
+            updateRecipesListFile(snapshot, ui);
+            Storage.recordStorageCall(Storage.SAVE, storage.getRecipesListFile(), startTime);
+            event.commit(Storage.SAVE, storage.getRecipesListFile(), snapshot.getRecipes().size());
+            startTime = System.nanoTime();
+            event = StorageEvent.start();
+            updateWishListFile(snapshot, ui);
+            Storage.recordStorageCall(Storage.SAVE, storage.getWishListFile(), startTime);
+            event.commit(Storage.SAVE, storage.getWishListFile(), snapshot.getWishList().size());
+            startTime = System.nanoTime();
+            event = StorageEvent.start();
+            int inventoryRecordCount = updateInventoryListFile(snapshot, ui);
+            Storage.recordStorageCall(Storage.SAVE, storage.getInventoryListFile(), startTime);
+            event.commit(Storage.SAVE, storage.getInventoryListFile(), inventoryRecordCount);
+        }
+    }
+
+    private void updateWishListFile(MealSnapshot snapshot, UserInterface ui) {
+        List<Meal> wishList = snapshot.getWishList();
+        String wishListFilePath = storage.getWishListFilePath();
         clearAndUpdateFile(wishList, wishListFilePath, ui);
     }
 
-    private void updateRecipesListFile(MealManager mealManager, UserInterface ui) {
-        List<Meal> recipesList = mealManager.getRecipesList().getList();
-        String recipesListFilePath = Storage.getRecipesListFilePath();
+    private void updateRecipesListFile(MealSnapshot snapshot, UserInterface ui) {
+        List<Meal> recipesList = snapshot.getRecipes();
+        String recipesListFilePath = storage.getRecipesListFilePath();
         clearAndUpdateFile(recipesList, recipesListFilePath, ui);
     }
 
@@ -70,11 +109,13 @@ public class ByeCommand extends Command {
         }
     }
 
-    private void updateInventoryListFile(MealManager mealManager, UserInterface ui) {
-        ArrayList<String> inventoryDataArray = mealManager.getInventory().toDataArray();
-        String inventoryListFilePath = Storage.getInventoryListFilePath();
+    // Returns the number of records written.
+    private int updateInventoryListFile(MealSnapshot snapshot, UserInterface ui) {
+        ArrayList<String> inventoryDataArray = snapshot.getInventory().toDataArray();
+        String inventoryListFilePath = storage.getInventoryListFilePath();
 
         clearFile(inventoryListFilePath, ui);
         writeIngredientsToFile(inventoryDataArray, inventoryListFilePath, ui);
+        return inventoryDataArray.size();
     }
 }
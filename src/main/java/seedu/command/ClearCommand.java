@@ -1,18 +1,21 @@
 //@@author ryanling169
 package seedu.command;
 
+import seedu.exceptions.EZMealPlanException;
 import seedu.logic.MealManager;
+import seedu.meallist.MealList;
 import seedu.ui.UserInterface;
-import seedu.food.Meal;
-import java.util.List;
 
 
 public class ClearCommand extends Command {
 
     @Override
-    public void execute(MealManager mealManager, UserInterface ui) {
-        List<Meal> wishList = mealManager.getWishList().getList();
-        wishList.clear();
+    public void execute(MealManager mealManager, UserInterface ui) throws EZMealPlanException {
+        MealList wishList = mealManager.getWishList();
+        mealManager.write(() -> {
+            wishList.clear();
+            return null;
+        });
         ui.printClearedList();
     }
 }
@@ -2,15 +2,23 @@ package seedu.command;
 
 import seedu.exceptions.EZMealPlanException;
 import seedu.logic.MealManager;
+import seedu.metrics.Metrics;
 import seedu.ui.UserInterface;
 
 public abstract class Command {
-    protected static String validUserInput;
+    protected String validUserInput;
     protected String lowerCaseInput;
 
     public boolean isExit() {
         return false;
     }
 
+    /**
+     * Returns the type of this command, such as "filter" for a FilterCommand, under which its metrics are recorded.
+     */
+    public String getCommandType() {
+        return Metrics.getTypeName(getClass(), "Command");
+    }
+
     public abstract void execute(MealManager mealManager, UserInterface ui) throws EZMealPlanException;
 }
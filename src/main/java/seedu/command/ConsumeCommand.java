@@ -4,62 +4,86 @@ import seedu.checkers.ConsumeChecker;
 import seedu.exceptions.EZMealPlanException;
 import seedu.exceptions.IngredientPriceFormatException;
 import seedu.exceptions.InvalidPriceException;
+import seedu.exceptions.ViewIndexOutOfRangeException;
 import seedu.food.Ingredient;
+import seedu.food.InventoryBatch;
+import seedu.food.Meal;
 import seedu.logic.MealManager;
+import seedu.meallist.MealList;
 import seedu.ui.UserInterface;
 import seedu.food.Inventory;
 
 
-import java.util.ArrayList;
-
 import java.util.List;
 import java.util.logging.Logger;
 
 public class ConsumeCommand extends Command {
     private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
     private static final String CONSUME = "consume";
-    private static final List<String> ingredientNames = new ArrayList<>();
-    private static final List<Ingredient> ingredients = new ArrayList<>();
+    private static final String MEAL = "/meal";
+    private static final String RECIPES_SYMBOL = "/r";
 
     public ConsumeCommand(String userInput) {
         validUserInput = userInput.trim();
+        this.lowerCaseInput = validUserInput.toLowerCase();
     }
 
     /**
-     * Executes the consume command by removing each specified ingredient from the inventory.
+     * Executes the consume command by removing every specified ingredient from the inventory in one batch,
+     * so that nothing is consumed if any of the ingredients cannot be.
      *
      * @param mealManager the MealManager that provides access to the inventory.
      * @param ui          the UserInterface for printing messages.
      */
     @Override
     public void execute(MealManager mealManager, UserInterface ui) throws EZMealPlanException {
-        ingredientNames.clear();
-        ingredients.clear();
-
         if (!checkValidUserInput()) {
             logger.severe("Invalid consume command input detected.");
             return;
         }
 
-        int afterConsumeIndex = validUserInput.indexOf(CONSUME) + CONSUME.length();
+        int afterConsumeIndex = lowerCaseInput.indexOf(CONSUME) + CONSUME.length();
         String args = validUserInput.substring(afterConsumeIndex).trim();
-        parseIngredients(args);
-        // Retrieve the inventory from the MealManager.
+        // Retrieve the inventory from the MealManager and consume every ingredient at once, as one write.
         Inventory inventory = mealManager.getInventory();
-        // Process each ingredient name provided in the command.
-
-        for (String ingredientName : ingredientNames) {
-            Ingredient removedIngredient = inventory.removeIngredient(ingredientName);
+        List<Ingredient> removedIngredients = mealManager.write(() -> {
+            InventoryBatch batch = new InventoryBatch();
+            if (lowerCaseInput.contains(MEAL)) {
+                addMealIngredients(args, mealManager, batch);
+            } else {
+                parseIngredients(args, batch);
+            }
+            return inventory.removeIngredients(batch);
+        });
+        for (Ingredient removedIngredient : removedIngredients) {
             ui.printConsumed(removedIngredient.toString());
         }
+    }
 
-        for (Ingredient ingredient : ingredients) {
-            inventory.removeIngredient(ingredient);
-            ui.printConsumed(ingredient.toString());
+    /**
+     * Adds every ingredient of the meal given as "/meal /r INDEX" or "/meal /w INDEX" to the batch.
+     * An ingredient with the same price as in the meal is consumed if there is one.
+     */
+    private void addMealIngredients(String args, MealManager mealManager, InventoryBatch batch)
+            throws EZMealPlanException {
+        String[] tokens = args.split("\\s+");
+        int listSymbolIndex = 1;
+        int mealIndexIndex = 2;
+        MealList mealList = tokens[listSymbolIndex].equalsIgnoreCase(RECIPES_SYMBOL)
+                ? mealManager.getRecipesList() : mealManager.getWishList();
+        int mealIndex = Integer.parseInt(tokens[mealIndexIndex]);
+        if (mealIndex < 1 || mealIndex > mealList.getList().size()) {
+            throw new ViewIndexOutOfRangeException(mealIndex, mealList);
+        }
+        Meal meal = mealList.getList().get(mealIndex - 1);
+        logger.fine(() -> "Consuming the ingredients of " + meal);
+        for (Ingredient ingredient : meal.getIngredientList()) {
+            batch.removeExactOrByName(ingredient);
         }
     }
 
-    private void parseIngredients(String args) throws InvalidPriceException, IngredientPriceFormatException {
+    private void parseIngredients(String args, InventoryBatch batch)
+            throws InvalidPriceException, IngredientPriceFormatException {
         if (args.isEmpty()) {
             return;
         }
@@ -71,14 +95,15 @@ public class ConsumeCommand extends Command {
         for (String token : tokens) {
             token = token.trim();
             if (!token.isEmpty()) {
-                processIngredientToken(token);
+                processIngredientToken(token, batch);
             }
         }
     }
 
-    private void processIngredientToken(String token) throws InvalidPriceException, IngredientPriceFormatException {
+    private void processIngredientToken(String token, InventoryBatch batch)
+            throws InvalidPriceException, IngredientPriceFormatException {
         if (!hasParentheses(token)) {
-            ingredientNames.add(token);
+            batch.removeByName(token);
         } else {
             int openParenIndex = token.lastIndexOf('(');
             int closeParenIndex = token.lastIndexOf(')');
@@ -88,7 +113,7 @@ public class ConsumeCommand extends Command {
             String name = token.substring(startIndex, openParenIndex).trim();
             String priceStr = token.substring(openParenIndex + indexAdjustment, closeParenIndex).trim();
             Ingredient ingredientToDelete = new Ingredient(name, priceStr);
-            ingredients.add(ingredientToDelete);
+            batch.removeExact(ingredientToDelete);
         }
     }
 
@@ -98,7 +123,7 @@ public class ConsumeCommand extends Command {
 
     private boolean checkValidUserInput() throws EZMealPlanException {
         ConsumeChecker checker = new ConsumeChecker(validUserInput);
-        checker.check();
+        checker.validate();
         return checker.isPassed();
     }
 }
@@ -0,0 +1,47 @@
+package seedu.command;
+
+import seedu.checkers.CookableChecker;
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Meal;
+import seedu.logic.MealManager;
+import seedu.ui.UserInterface;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class CookableCommand extends Command {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private static final String MISSING = "/missing";
+
+    /**
+     * Constructs a CookableCommand.
+     * Expected user input format: "cookable [/missing N]"
+     */
+    public CookableCommand(String userInput) {
+        validUserInput = userInput.trim();
+        this.lowerCaseInput = validUserInput.toLowerCase();
+    }
+
+    @Override
+    public void execute(MealManager mealManager, UserInterface ui) throws EZMealPlanException {
+        CookableChecker checker = new CookableChecker(validUserInput);
+        checker.validate();
+        if (!checker.isPassed()) {
+            logger.severe("Invalid cookable command input detected.");
+            return;
+        }
+
+        int maxMissingCount = 0;
+        if (lowerCaseInput.contains(MISSING)) {
+            int afterKeywordIndex = lowerCaseInput.indexOf(MISSING) + MISSING.length();
+            maxMissingCount = Integer.parseInt(lowerCaseInput.substring(afterKeywordIndex).trim());
+        }
+        List<Meal> cookableMeals = mealManager.getCookableMeals(maxMissingCount);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Found " + cookableMeals.size() + " meals missing at most " + maxMissingCount
+                    + " ingredients.");
+        }
+        ui.printCookableMeals(cookableMeals, maxMissingCount);
+    }
+}
@@ -31,14 +31,14 @@ public class CreateCommand extends Command {
         Meal newMeal = createNewMeal();
         MealList recipesList = mealManager.getRecipesList();
         mealManager.addMeal(newMeal, recipesList);
-        ui.printAddMealMessage(newMeal, recipesList);
+        ui.printAddMealMessage(newMeal, recipesList.getMealListName(), mealManager.getSnapshot().getRecipes());
     }
 
     private Meal createNewMeal() throws EZMealPlanException {
         int afterMnameIndex = lowerCaseInput.indexOf(MNAME) + MNAME.length();
         int ingIndex = lowerCaseInput.indexOf(ING);
         String mealName = validUserInput.substring(afterMnameIndex, ingIndex).trim();
-        logger.fine("The user is now creating a new meal: " + mealName + ".");
+        logger.fine(() -> "The user is now creating a new meal: " + mealName + ".");
         Meal newMeal = new Meal(mealName);
         addAllIngredients(newMeal);
         return newMeal;
@@ -78,7 +78,7 @@ public class CreateCommand extends Command {
 
     private boolean checkValidUserInput() throws EZMealPlanException {
         CreateChecker checker = new CreateChecker(validUserInput);
-        checker.check();
+        checker.validate();
         return checker.isPassed();
     }
 }
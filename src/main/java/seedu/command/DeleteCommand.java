@@ -13,21 +13,29 @@ public class DeleteCommand extends RemoveDeleteCommand {
     public DeleteCommand(String userInputText) {
         super(userInputText);
         this.removeOrDelete = delete;
-        logger.fine("Received \"Delete\" command, user input: " + userInputText);
+        logger.fine(() -> "Received \"Delete\" command, user input: " + userInputText);
     }
 
     @Override
     public void execute(MealManager mealManager, UserInterface ui) throws EZMealPlanException {
-        super.execute(mealManager, ui);
+        // One write, so that no reader sees the meal deleted from the recipes list but still in the wishlist.
+        mealManager.write(() -> {
+            super.execute(mealManager, ui);
+            removeFromWishList(mealManager, ui);
+            return null;
+        });
+        logger.fine(() -> "Command finished executing: Deleted \"" + removedOrDeletedMeal.getName() + "\" meal from " +
+                "recipes list");
+    }
+
+    private void removeFromWishList(MealManager mealManager, UserInterface ui) throws EZMealPlanException {
         MealList wishList = mealManager.getWishList();
         if (wishList.contains(removedOrDeletedMeal)) {
             int indexInWishList = wishList.getIndex(removedOrDeletedMeal);
             wishList.removeMeal(indexInWishList);
             ui.printRemovedMessage(removedOrDeletedMeal, wishList.size());
-            logger.fine("Command finished executing: Removed \"" + removedOrDeletedMeal.getName() + "\" meal " +
+            logger.fine(() -> "Command finished executing: Removed \"" + removedOrDeletedMeal.getName() + "\" meal " +
                     "from wishlist");
         }
-        logger.fine("Command finished executing: Deleted \"" + removedOrDeletedMeal.getName() + "\" meal from " +
-                "recipes list");
     }
 }
@@ -6,29 +6,39 @@ import seedu.checkers.SelectChecker;
 import seedu.exceptions.EZMealPlanException;
 import seedu.exceptions.InvalidFilterMethodException;
 import seedu.exceptions.InvalidMcostException;
+import seedu.exceptions.InvalidMcostRangeException;
 
 import seedu.food.Meal;
 import seedu.logic.MealManager;
+import seedu.logic.MealQuery;
+import seedu.parser.KeywordInput;
 import seedu.ui.UserInterface;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public abstract class FilterSelectCommand extends Command {
     protected static final String ING = "/ing";
     protected static final String MNAME = "/mname";
     protected static final String MCOST = "/mcost";
+    protected static final String EXCLUDE = "/exclude";
     protected static final String BY_ING = "byIng";
     protected static final String BY_MNAME = "byMname";
     protected static final String BY_MCOST = "byMcost";
+    protected static final String BY_MULTIPLE = "byMultiple";
+    private static final Pattern MCOST_RANGE_PATTERN = Pattern.compile("^(\\d+\\.\\d{2})\\s*-\\s*(\\d+\\.\\d{2})$");
     String filterOrSelect;
     String filterMethod = "";
+    private KeywordInput keywords;
 
 
 
     protected boolean checkValidUserInput(String filterOrSelect) throws EZMealPlanException {
         getFilterMethod();
         FilterSelectChecker checker = getFilterSelectChecker(filterOrSelect, filterMethod);
-        checker.check();
+        checker.validate();
         return checker.isPassed();
     }
 
@@ -39,22 +49,26 @@ public abstract class FilterSelectCommand extends Command {
     }
 
     private void getFilterMethod() throws EZMealPlanException {
-        boolean isContainIng = this.lowerCaseInput.contains(ING);
-        boolean isContainMname = this.lowerCaseInput.contains(MNAME);
-        boolean isContainMcost = this.lowerCaseInput.contains(MCOST);
-        if (isContainIng && !isContainMname && !isContainMcost) {
+        boolean isContainIng = getKeywords().contains(ING);
+        boolean isContainMname = getKeywords().contains(MNAME);
+        boolean isContainMcost = getKeywords().contains(MCOST);
+        boolean isContainExclude = getKeywords().contains(EXCLUDE);
+        if (isContainIng && !isContainMname && !isContainMcost && !isContainExclude) {
             filterMethod = BY_ING;
             return;
-        } else if (!isContainIng && isContainMname && !isContainMcost) {
+        } else if (!isContainIng && isContainMname && !isContainMcost && !isContainExclude) {
             filterMethod = BY_MNAME;
             return;
-        } else if (!isContainIng && !isContainMname && isContainMcost) {
+        } else if (!isContainIng && !isContainMname && isContainMcost && !isContainExclude) {
             filterMethod = BY_MCOST;
             return;
+        } else if (isContainIng || isContainMname || isContainMcost || isContainExclude) {
+            filterMethod = BY_MULTIPLE;
+            return;
         }
         String select = "select";
         boolean isSelect = filterOrSelect.equals(select);
-        if (isSelect && !(isContainMcost && isContainIng && isContainMname)) {
+        if (isSelect) {
             return;
         }
         throw new InvalidFilterMethodException();
@@ -62,19 +76,56 @@ public abstract class FilterSelectCommand extends Command {
 
     protected List<Meal> getFilteredMealList(MealManager mealManager)
             throws EZMealPlanException {
-        return switch (filterMethod) {
-        case BY_ING -> filterByIngList(mealManager);
-        case BY_MNAME -> filterByMnameList(mealManager);
-        case BY_MCOST -> filterByMcostList(mealManager);
-        default -> mealManager.getRecipesList().getList();
-        };
+        if (filterMethod.isEmpty()) {
+            return mealManager.getSnapshot().getRecipes();
+        }
+        return mealManager.filteringByQuery(getMealQuery());
+    }
+
+    private MealQuery getMealQuery() throws EZMealPlanException {
+        MealQuery mealQuery = new MealQuery();
+        String splitRegex = "\\s*,\\s*";
+        if (getKeywords().contains(ING)) {
+            mealQuery.addIngredientKeywords(getKeywords().get(ING).split(splitRegex));
+        }
+        if (getKeywords().contains(MNAME)) {
+            mealQuery.addNameKeywords(getKeywords().get(MNAME).split(splitRegex));
+        }
+        if (getKeywords().contains(MCOST)) {
+            double[] mcostRange = checkValidMcostRange(getKeywords().get(MCOST));
+            int minIndex = 0;
+            int maxIndex = 1;
+            mealQuery.addPriceRange(mcostRange[minIndex], mcostRange[maxIndex]);
+        }
+        if (getKeywords().contains(EXCLUDE)) {
+            mealQuery.addExcludedIngredientKeywords(getKeywords().get(EXCLUDE).split(splitRegex));
+        }
+        return mealQuery;
     }
 
-    private List<Meal> filterByMcostList(MealManager mealManager) throws EZMealPlanException {
-        int afterMcostIndex = this.lowerCaseInput.indexOf(MCOST) + MCOST.length();
-        String mcostInput = validUserInput.substring(afterMcostIndex).trim();
-        double mcostDouble = checkValidMcostPrice(mcostInput);
-        return mealManager.filteringByMcost(mcostDouble);
+    // Finds the filter keywords in the user input once, the first time they are needed.
+    protected KeywordInput getKeywords() {
+        if (keywords == null) {
+            keywords = new KeywordInput(validUserInput, ING, MNAME, MCOST, EXCLUDE);
+        }
+        return keywords;
+    }
+
+    /**
+     * Parses either a single meal cost (e.g. 5.50) or a meal cost range (e.g. 2.00-5.50) into {min, max}.
+     */
+    private double[] checkValidMcostRange(String mcostInput) throws EZMealPlanException {
+        Matcher rangeMatcher = MCOST_RANGE_PATTERN.matcher(mcostInput);
+        if (!rangeMatcher.matches()) {
+            double mcostDouble = checkValidMcostPrice(mcostInput);
+            return new double[]{mcostDouble, mcostDouble};
+        }
+        double minMcost = checkValidMcostPrice(rangeMatcher.group(1));
+        double maxMcost = checkValidMcostPrice(rangeMatcher.group(2));
+        if (minMcost > maxMcost) {
+            throw new InvalidMcostRangeException();
+        }
+        return new double[]{minMcost, maxMcost};
     }
 
     private double checkValidMcostPrice(String mcostInput) throws EZMealPlanException {
@@ -103,28 +154,12 @@ public abstract class FilterSelectCommand extends Command {
         }
     }
 
-    private List<Meal> filterByMnameList(MealManager mealManager) {
-        int afterMnameIndex = this.lowerCaseInput.indexOf(MNAME) + MNAME.length();
-        String mnameInput = validUserInput.substring(afterMnameIndex).trim();
-        String splitRegex = "\\s*,\\s*";
-        String[] mealNameArray = mnameInput.split(splitRegex);
-        return mealManager.filteringByMname(mealNameArray);
-    }
-
-    private List<Meal> filterByIngList(MealManager mealManager) {
-        int afterIngIndex = this.lowerCaseInput.indexOf(ING) + ING.length();
-        String ingInput = validUserInput.substring(afterIngIndex).trim();
-        String splitRegex = "\\s*,\\s*";
-        String[] ingredientsArray = ingInput.split(splitRegex);
-        return mealManager.filteringByIng(ingredientsArray);
-    }
-
     public void printFilteredMealList(List<Meal> filteredMealList, UserInterface ui) {
         String mealCost = "meal cost";
         String mealName = "meal name";
         String ingredients = "ingredient(s)";
         if (filteredMealList.isEmpty()) {
-            System.out.println("The filtered meal list is empty.");
+            ui.printMessage("The filtered meal list is empty.");
             return;
         }
         String filterMessage = "the meal list filtered by ";
@@ -145,9 +180,29 @@ public abstract class FilterSelectCommand extends Command {
         case BY_MNAME:
             inputMessage = mealName;
             break;
+        case BY_MULTIPLE:
+            inputMessage = getMultipleString(mealCost, ingredients, mealName);
+            break;
         default:
             break;
         }
         return inputMessage;
     }
+
+    private String getMultipleString(String mealCost, String ingredients, String mealName) {
+        List<String> inputMessages = new ArrayList<>();
+        if (getKeywords().contains(ING)) {
+            inputMessages.add(ingredients);
+        }
+        if (getKeywords().contains(MNAME)) {
+            inputMessages.add(mealName);
+        }
+        if (getKeywords().contains(MCOST)) {
+            inputMessages.add(mealCost);
+        }
+        if (getKeywords().contains(EXCLUDE)) {
+            inputMessages.add("excluded ingredient(s)");
+        }
+        return String.join(", ", inputMessages);
+    }
 }
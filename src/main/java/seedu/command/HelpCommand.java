@@ -23,6 +23,9 @@ public class HelpCommand extends Command {
     private static final String CONSUME = "consume";
     private static final String BUY = "buy";
     private static final String INVENTORY = "inventory";
+    private static final String COOKABLE = "cookable";
+    private static final String SHOP = "shop";
+    private static final String STATS = "stats";
     String commandDescription;
 
 
@@ -90,6 +93,15 @@ public class HelpCommand extends Command {
         case INVENTORY:
             ui.printInventoryCommandHelp();
             break;
+        case COOKABLE:
+            ui.printCookableCommandHelp();
+            break;
+        case SHOP:
+            ui.printShopCommandHelp();
+            break;
+        case STATS:
+            ui.printStatsCommandHelp();
+            break;
         default:
             ui.printUnknownCommand(commandDescription);
             break;
@@ -1,7 +1,7 @@
 package seedu.command;
 
 import seedu.exceptions.EZMealPlanException;
-import seedu.food.Inventory;
+import seedu.food.InventoryView;
 import seedu.logic.MealManager;
 import seedu.ui.UserInterface;
 
@@ -14,7 +14,7 @@ public class InventoryCommand extends Command {
     public void execute(MealManager mealManager, UserInterface ui) throws EZMealPlanException {
         assert mealManager != null : "MealManager cannot be null";
         logger.fine("Executing 'inventory' command");
-        Inventory inventory = mealManager.getInventory();
+        InventoryView inventory = mealManager.getSnapshot().getInventory();
         ui.printInventory(inventory.toString());
     }
 }
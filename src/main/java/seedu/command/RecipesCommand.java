@@ -17,7 +17,7 @@ public class RecipesCommand extends Command {
         assert mealManager != null : "MealManager cannot be null";
         logger.fine("Executing 'recipes' command");
         String recipesListName = mealManager.getRecipesList().getMealListName();
-        List<Meal> recipesList = mealManager.getRecipesList().getList();
+        List<Meal> recipesList = mealManager.getSnapshot().getRecipes();
         ui.printMealList(recipesList, recipesListName);
     }
 }
@@ -2,82 +2,93 @@ package seedu.command;
 
 import seedu.checkers.RecommendChecker;
 import seedu.exceptions.EZMealPlanException;
+import seedu.logic.MealIndex;
 import seedu.logic.MealManager;
+import seedu.logic.MealSnapshot;
+import seedu.logic.RecommendEngine;
+import seedu.logic.Recommendation;
+import seedu.parser.KeywordInput;
 import seedu.ui.UserInterface;
 import seedu.food.Meal;
 import seedu.food.Ingredient;
-import seedu.food.Inventory;
+import seedu.food.Product;
+import seedu.food.InventoryView;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 public class RecommendCommand extends Command {
     private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
-    private static final String RECOMMEND = "recommend";
     private static final String ING = "/ing";
+    private static final String TOP = "/top";
+    private static final String RANDOM = "/random";
+    private final RecommendEngine recommendEngine = new RecommendEngine();
+    private final KeywordInput keywordInput;
 
     /**
      * Constructs a RecommendCommand.
-     * Expected user input format: "recommend /ing Chicken"
+     * Expected user input format: "recommend /ing Chicken[, Rice, ...] [/top N] [/random [SEED]]"
      */
     public RecommendCommand(String userInput) throws EZMealPlanException {
         validUserInput = userInput.trim();
+        this.lowerCaseInput = validUserInput.toLowerCase();
+        this.keywordInput = new KeywordInput(validUserInput, ING, TOP, RANDOM);
     }
 
     @Override
     public void execute(MealManager mealManager, UserInterface ui) throws EZMealPlanException {
         // Validate input using RecommendChecker.
         RecommendChecker checker = new RecommendChecker(validUserInput);
-        checker.check();
+        checker.validate();
         if (!checker.isPassed()) {
             logger.severe("Invalid recommend command input detected.");
             return;
         }
 
-        // Extract the ingredient keyword.
-        // Expected input format: "recommend /ing Chicken"
-        int afterRecommendIndex = validUserInput.toLowerCase().indexOf(RECOMMEND) + RECOMMEND.length();
-        String args = validUserInput.substring(afterRecommendIndex).trim();
-        int ingIndex = args.toLowerCase().indexOf(ING);
-        int invalidIndex = -1;
-        if (ingIndex == invalidIndex) {
-            logger.severe("Ingredient marker '/ing' not found in input.");
-            ui.printMessage("Missing ingredient marker '/ing'.");
-            return;
+        // Extract the ingredient keywords and options.
+        // Expected input format: "recommend /ing Chicken, Rice /top 3"
+        String extractedKeywords = keywordInput.get(ING);
+        String[] keywords = getDistinctKeywords(extractedKeywords);
+        int recommendationCount = keywordInput.contains(TOP) ? Integer.parseInt(keywordInput.get(TOP)) : 1;
+
+        // Recommend from the wishlist first, then from the recipes list if no meal in the wishlist matches.
+        // Both lists and the inventory are read from one snapshot, so they all come from the same version.
+        MealSnapshot snapshot = mealManager.getSnapshot();
+        InventoryView inventory = snapshot.getInventory();
+        List<Recommendation> recommendations = recommend(snapshot.getWishListIndex(), keywords, inventory,
+                recommendationCount);
+        if (recommendations.isEmpty()) {
+            recommendations = recommend(snapshot.getRecipesIndex(), keywords, inventory, recommendationCount);
         }
-        int afterIngIndex = ingIndex + ING.length();
-        String extractedKeyword = args.substring(afterIngIndex).trim();
-        if (extractedKeyword.isEmpty()) {
-            logger.severe("No ingredient specified after '/ing'.");
-            ui.printMessage("No ingredient specified.");
+
+        if (recommendations.isEmpty()) {
+            ui.printMessage("No meal found containing ingredient: " + extractedKeywords);
             return;
         }
 
-        // Proceed with recommendation logic.
-        Inventory inventory = mealManager.getInventory();
-
-        // First, filter the user meal list (wishlist) by the ingredient keyword.
-        List<Meal> wishList = mealManager.getWishList().getList();
-        List<Meal> candidateMeals = filterMealsByIngredient(wishList, extractedKeyword);
-
-        // If no matching meals in the wishlist, try the recipes list.
-        if (candidateMeals.isEmpty()) {
-            List<Meal> recipesList = mealManager.getRecipesList().getList();
-            candidateMeals = filterMealsByIngredient(recipesList, extractedKeyword);
+        List<String> recommendationMessages = new ArrayList<>();
+        for (Recommendation recommendation : recommendations) {
+            recommendationMessages.add(getRecommendationMessage(recommendation));
         }
+        ui.printMessage(String.join(System.lineSeparator() + System.lineSeparator(), recommendationMessages));
+    }
 
-        if (candidateMeals.isEmpty()) {
-            ui.printMessage("No meal found containing ingredient: " + extractedKeyword);
-            return;
+    private List<Recommendation> recommend(MealIndex index, String[] keywords, InventoryView inventory,
+                                           int recommendationCount) {
+        if (!keywordInput.contains(RANDOM)) {
+            return recommendEngine.recommendTop(index, keywords, inventory, recommendationCount);
         }
+        String seed = keywordInput.get(RANDOM);
+        Random random = seed.isEmpty() ? new Random() : new Random(Long.parseLong(seed));
+        return recommendEngine.recommendRandom(index, keywords, inventory, recommendationCount, random);
+    }
 
-        // Randomly select a meal from the candidate meals.
-        Random random = new Random();
-        Meal selectedMeal = candidateMeals.get(random.nextInt(candidateMeals.size()));
-
-        // Build the output message.
+    private static String getRecommendationMessage(Recommendation recommendation) {
+        Meal selectedMeal = recommendation.getMeal();
         StringBuilder sb = new StringBuilder();
         sb.append("Recommended Meal: ").append(selectedMeal.getName())
                 .append(" (").append(selectedMeal).append(")")
@@ -91,27 +102,26 @@ public class RecommendCommand extends Command {
                     .append(System.lineSeparator());
         }
 
-        // Determine which ingredients are missing from the inventory.
-        List<String> missingIngredients = mealIngredients.stream()
-                .filter(ing -> !inventory.hasIngredient(ing.getName().toLowerCase()))
-                .map(Ingredient::getName)
-                .collect(Collectors.toList());
+        // List the ingredients that are missing from the inventory.
+        List<Ingredient> missingIngredients = recommendation.getMissingIngredients();
         if (missingIngredients.isEmpty()) {
             sb.append("You have all the necessary ingredients for this meal.");
         } else {
-            sb.append("Missing Ingredients: ").append(String.join(", ", missingIngredients));
+            List<String> missingIngredientNames = new ArrayList<>();
+            missingIngredients.forEach(ingredient -> missingIngredientNames.add(ingredient.getName()));
+            sb.append("Missing Ingredients: ").append(String.join(", ", missingIngredientNames));
         }
-
-        ui.printMessage(sb.toString());
+        return sb.toString();
     }
 
-    /**
-     * Filters a list of meals by checking if any ingredient name contains the given keyword.
-     */
-    private List<Meal> filterMealsByIngredient(List<Meal> meals, String keyword) {
-        return meals.stream()
-                .filter(meal -> meal.getIngredientList().stream()
-                        .anyMatch(ing -> ing.getName().toLowerCase().contains(keyword.toLowerCase())))
-                .collect(Collectors.toList());
+    private static String[] getDistinctKeywords(String extractedKeywords) {
+        String splitRegex = "\\s*,\\s*";
+        Set<String> distinctKeywords = new LinkedHashSet<>();
+        for (String keyword : extractedKeywords.split(splitRegex)) {
+            if (!keyword.isEmpty()) {
+                distinctKeywords.add(Product.toNameKey(keyword));
+            }
+        }
+        return distinctKeywords.toArray(new String[0]);
     }
 }
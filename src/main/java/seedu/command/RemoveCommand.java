@@ -12,12 +12,12 @@ public class RemoveCommand extends RemoveDeleteCommand {
     public RemoveCommand(String userInputText) {
         super(userInputText);
         this.removeOrDelete = remove;
-        logger.fine("Received \"Remove\" command, user input: " + userInputText);
+        logger.fine(() -> "Received \"Remove\" command, user input: " + userInputText);
     }
 
     @Override
     public void execute(MealManager mealManager, UserInterface ui) throws EZMealPlanException {
         super.execute(mealManager, ui);
-        logger.fine("Command finished executing: Removed \"" + removedOrDeletedMeal.getName() + "\" meal");
+        logger.fine(() -> "Command finished executing: Removed \"" + removedOrDeletedMeal.getName() + "\" meal");
     }
 }
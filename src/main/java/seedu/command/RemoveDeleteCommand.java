@@ -46,7 +46,7 @@ public abstract class RemoveDeleteCommand extends Command {
 
     private boolean checkValidUserInput() throws EZMealPlanException {
         RemoveDeleteChecker checker = new RemoveDeleteChecker(validUserInput);
-        checker.check();
+        checker.validate();
         return checker.isPassed();
     }
 }
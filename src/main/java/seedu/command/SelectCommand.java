@@ -29,7 +29,7 @@ public class SelectCommand extends FilterSelectCommand {
         assert isValidUserInput;
         List<Meal> filteredMealList = getFilteredMealList(mealManager);
         if (filteredMealList.isEmpty()) {
-            System.out.println("The filtered meal list is empty.");
+            ui.printMessage("The filtered meal list is empty.");
             return;
         }
         String indexSubstring = getIndexSubstring();
@@ -37,18 +37,16 @@ public class SelectCommand extends FilterSelectCommand {
         Meal selectedMeal = checkValidInputIndex(inputIndex, filteredMealList);
         MealList wishList = mealManager.getWishList();
         mealManager.addMeal(selectedMeal, wishList);
-        ui.printAddMealMessage(selectedMeal, wishList);
+        ui.printAddMealMessage(selectedMeal, wishList.getMealListName(), mealManager.getSnapshot().getWishList());
     }
 
     private String getIndexSubstring() {
         int afterSelectIndex = this.lowerCaseInput.indexOf(filterOrSelect) + filterOrSelect.length();
-        int inputMethodIndex;
-        String inputMethod = getString(MCOST, ING, MNAME);
-        if (inputMethod.isEmpty()) {
+        int firstKeywordIndex = getKeywords().getFirstKeywordIndex();
+        if (firstKeywordIndex == -1) {
             return validUserInput.substring(afterSelectIndex).trim();
         }
-        inputMethodIndex = this.lowerCaseInput.indexOf(inputMethod);
-        return validUserInput.substring(afterSelectIndex, inputMethodIndex).trim();
+        return validUserInput.substring(afterSelectIndex, firstKeywordIndex).trim();
     }
 
     private Meal checkValidInputIndex(int inputIndex, List<Meal> mealList) throws EZMealPlanException {
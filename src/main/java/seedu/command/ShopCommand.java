@@ -0,0 +1,57 @@
+package seedu.command;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Ingredient;
+import seedu.food.Inventory;
+import seedu.logic.MealManager;
+import seedu.logic.MealSnapshot;
+import seedu.logic.ShoppingItem;
+import seedu.logic.ShoppingList;
+import seedu.ui.UserInterface;
+
+import java.util.logging.Logger;
+
+public class ShopCommand extends Command {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private final boolean isBuying;
+
+    /**
+     * Constructs a ShopCommand.
+     * Expected user input format: "shop [/buy]"
+     */
+    public ShopCommand(boolean isBuying) {
+        this.isBuying = isBuying;
+    }
+
+    @Override
+    public void execute(MealManager mealManager, UserInterface ui) throws EZMealPlanException {
+        if (!isBuying) {
+            MealSnapshot snapshot = mealManager.getSnapshot();
+            ShoppingList shoppingList = new ShoppingList(snapshot.getWishListIndex(), snapshot.getInventory());
+            logger.fine(() -> "Shopping list has " + shoppingList.getItems().size() + " ingredients.");
+            ui.printShoppingList(shoppingList);
+            return;
+        }
+        // The list is worked out in the same write that buys it, so that two buyers do not buy it twice.
+        Inventory inventory = mealManager.getInventory();
+        ShoppingList shoppingList = mealManager.write(() -> {
+            ShoppingList listToBuy = new ShoppingList(mealManager.getWishListIndex(), inventory);
+            for (ShoppingItem item : listToBuy.getItems()) {
+                for (int i = 0; i < item.getQuantity(); i++) {
+                    inventory.addIngredient(copyIngredient(item.getIngredient()));
+                }
+            }
+            return listToBuy;
+        });
+        logger.fine(() -> "Shopping list has " + shoppingList.getItems().size() + " ingredients.");
+        ui.printShoppingList(shoppingList);
+        for (ShoppingItem item : shoppingList.getItems()) {
+            ui.printBought(item.getIngredient());
+        }
+    }
+
+    // Copies the ingredient so that the inventory does not share the ingredient object of a wishlist meal.
+    private static Ingredient copyIngredient(Ingredient ingredient) throws EZMealPlanException {
+        return new Ingredient(ingredient.getName(), ingredient.getPrice());
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.command;
+
+import seedu.logic.MealManager;
+import seedu.metrics.MemoryEstimator;
+import seedu.metrics.Metrics;
+import seedu.ui.UserInterface;
+
+import java.util.logging.Logger;
+
+public class StatsCommand extends Command {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private final Metrics metrics;
+    private final boolean isShowingMemory;
+
+    /**
+     * Constructs a StatsCommand that shows the metrics of every session in the JVM.
+     * Expected user input format: "stats"
+     */
+    public StatsCommand() {
+        this(Metrics.getInstance());
+    }
+
+    public StatsCommand(Metrics metrics) {
+        this.metrics = metrics;
+        this.isShowingMemory = false;
+    }
+
+    /**
+     * Constructs a StatsCommand that shows the metrics, or the estimated memory of the lists and indexes of the
+     * session if isShowingMemory is true.
+     * Expected user input format: "stats [memory]"
+     */
+    public StatsCommand(boolean isShowingMemory) {
+        this.metrics = Metrics.getInstance();
+        this.isShowingMemory = isShowingMemory;
+    }
+
+    @Override
+    public void execute(MealManager mealManager, UserInterface ui) {
+        if (isShowingMemory) {
+            logger.fine("Executing 'stats memory' command");
+            MemoryEstimator estimator = new MemoryEstimator();
+            ui.printMemoryStats(MemoryEstimator.format(estimator.estimate(mealManager)));
+            return;
+        }
+        logger.fine("Executing 'stats' command");
+        ui.printStats(metrics.format());
+    }
+}
@@ -7,10 +7,12 @@ import seedu.exceptions.EmptyListException;
 import seedu.exceptions.ViewIndexOutOfRangeException;
 import seedu.food.Meal;
 import seedu.logic.MealManager;
+import seedu.logic.MealSnapshot;
 import seedu.meallist.MealList;
 import seedu.ui.UserInterface;
 
 
+import java.util.List;
 import java.util.logging.Logger;
 
 public class ViewCommand extends Command {
@@ -39,25 +41,28 @@ public class ViewCommand extends Command {
 
     private void viewMeal(String recipesOrWishlist, MealManager mealManager, UserInterface ui)
             throws EZMealPlanException {
-        MealList mealList = recipesOrWishlist.equals(RECIPES_SYMBOL) ? mealManager.getRecipesList()
-                : mealManager.getWishList();
-        if (mealList.getList().isEmpty()) {
+        boolean isRecipes = recipesOrWishlist.equals(RECIPES_SYMBOL);
+        MealList mealList = isRecipes ? mealManager.getRecipesList() : mealManager.getWishList();
+        MealSnapshot snapshot = mealManager.getSnapshot();
+        List<Meal> meals = isRecipes ? snapshot.getRecipes() : snapshot.getWishList();
+        if (meals.isEmpty()) {
             throw new EmptyListException(mealList.getMealListName());
         }
         int afterKeywordIndex = lowerCaseInput.indexOf(recipesOrWishlist) + recipesOrWishlist.length();
         String afterKeyword = lowerCaseInput.substring(afterKeywordIndex).trim();
         int mealListIndex = Integer.parseInt(afterKeyword);
-        Meal meal = getMeal(mealList, mealListIndex);
+        Meal meal = getMeal(meals, mealList.getMealListName(), mealListIndex);
         ui.printIngredientList(meal);
     }
 
-    private static Meal getMeal(MealList mealList, int mealListIndex) throws EZMealPlanException {
+    private static Meal getMeal(List<Meal> meals, String mealListName, int mealListIndex)
+            throws EZMealPlanException {
         try {
             int indexOffset = 1;
             int actualIndex = mealListIndex - indexOffset;
-            return mealList.getList().get(actualIndex);
+            return meals.get(actualIndex);
         } catch (IndexOutOfBoundsException indexOutOfBoundsException) {
-            throw new ViewIndexOutOfRangeException(mealListIndex, mealList);
+            throw new ViewIndexOutOfRangeException(mealListIndex, meals.size(), mealListName);
         }
     }
 
@@ -77,7 +82,7 @@ public class ViewCommand extends Command {
 
     private boolean checkValidUserInput() throws EZMealPlanException {
         ViewChecker checker = new ViewChecker(validUserInput, recipesOrWishlist);
-        checker.check();
+        checker.validate();
         return checker.isPassed();
     }
 }
@@ -16,7 +16,7 @@ public class WishlistCommand extends Command {
     public void execute(MealManager mealManager, UserInterface ui) throws EZMealPlanException {
         assert mealManager != null : "MealManager cannot be null";
         logger.fine("Executing 'wishlist' Command");
-        List<Meal> wishList = mealManager.getWishList().getList();
+        List<Meal> wishList = mealManager.getSnapshot().getWishList();
         String wishListName = mealManager.getWishList().getMealListName();
         ui.printMealList(wishList, wishListName);
     }
@@ -0,0 +1,10 @@
+package seedu.exceptions;
+
+public class InvalidConsumeMealException extends EZMealPlanException {
+
+    @Override
+    public String getMessage() {
+        return "The '/meal' keyword of the 'consume' command must be followed by either '/r' (recipes list) or " +
+                "'/w' (wishlist)\nand the index of the meal, e.g. consume /meal /r 1\n";
+    }
+}
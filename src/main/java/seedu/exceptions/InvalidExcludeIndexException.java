@@ -0,0 +1,14 @@
+package seedu.exceptions;
+
+public class InvalidExcludeIndexException extends EZMealPlanException {
+    String filterOrSelect;
+
+    public InvalidExcludeIndexException(String filterOrSelect) {
+        this.filterOrSelect = filterOrSelect;
+    }
+
+    @Override
+    public String getMessage() {
+        return "The /exclude keyword must appear after the '" + filterOrSelect + "' keyword command.\n";
+    }
+}
@@ -5,14 +5,15 @@ public class InvalidFilterMethodException extends EZMealPlanException {
     @Override
     public String getMessage() {
         return """
-                Only 1 of the following filter keywords is needed for the 'filter' and 'select' command:
-                /ing, /mcost or /mname.
+                At least 1 of the following filter keywords is needed for the 'filter' command:
+                /ing, /mcost, /mname or /exclude.
                 
-                The filter keyword is compulsory for the 'filter' command.
+                The filter keywords can be combined to filter by several conditions at once,
+                e.g. filter /ing chicken /mcost 2.00-5.00
                 
                 For the 'select' command, if you intend to select a meal from the filtered meal list,
-                then the filter keyword is mandatory.
-                Otherwise, it is optional.
+                then the filter keyword(s) are mandatory.
+                Otherwise, they are optional.
                 """;
 
     }
@@ -0,0 +1,9 @@
+package seedu.exceptions;
+
+public class InvalidMcostRangeException extends EZMealPlanException {
+    @Override
+    public String getMessage() {
+        return "The minimum cost of an /mcost range cannot be more than its maximum cost.\n" +
+                "Please enter the range as MIN_COST-MAX_COST, such as 2.00-5.50.\n";
+    }
+}
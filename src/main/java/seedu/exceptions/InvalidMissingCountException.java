@@ -0,0 +1,15 @@
+package seedu.exceptions;
+
+public class InvalidMissingCountException extends EZMealPlanException {
+    int maxMissingCount;
+
+    public InvalidMissingCountException(int maxMissingCount) {
+        this.maxMissingCount = maxMissingCount;
+    }
+
+    @Override
+    public String getMessage() {
+        return "The '/missing' input of the cookable command must be parsable into an integer " +
+                "and the resulting integer value must be from 0 to " + maxMissingCount + ".\n";
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.exceptions;
+
+public class InvalidRandomSeedException extends EZMealPlanException {
+    String command;
+
+    public InvalidRandomSeedException(String command) {
+        this.command = command;
+    }
+
+    @Override
+    public String getMessage() {
+        return "The '/random' input of the " + command + " command is optional, " +
+                "but if present it must be a whole number used as the random seed.\n";
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.exceptions;
+
+public class InvalidTopCountException extends EZMealPlanException {
+    String command;
+
+    public InvalidTopCountException(String command) {
+        this.command = command;
+    }
+
+    @Override
+    public String getMessage() {
+        return "The '/top' input of the " + command + " command must be parsable into an integer " +
+                "and the resulting integer value must be at least 1.\n";
+    }
+}
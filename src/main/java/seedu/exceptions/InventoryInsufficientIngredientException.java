@@ -0,0 +1,21 @@
+package seedu.exceptions;
+
+import seedu.food.Ingredient;
+
+public class InventoryInsufficientIngredientException extends EZMealPlanException {
+    Ingredient ingredient;
+    int ownedQuantity;
+    int neededQuantity;
+
+    public InventoryInsufficientIngredientException(Ingredient ingredient, int ownedQuantity, int neededQuantity) {
+        this.ingredient = ingredient;
+        this.ownedQuantity = ownedQuantity;
+        this.neededQuantity = neededQuantity;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Only " + ownedQuantity + " of " + ingredient + " in Inventory, but " + neededQuantity +
+                " are needed.\nNothing has been consumed.";
+    }
+}
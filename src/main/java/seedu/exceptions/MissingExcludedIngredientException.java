@@ -0,0 +1,15 @@
+package seedu.exceptions;
+
+public class MissingExcludedIngredientException extends EZMealPlanException {
+    String command;
+
+    public MissingExcludedIngredientException(String command) {
+        this.command = command;
+    }
+
+    @Override
+    public String getMessage() {
+        return "The excluded ingredient (s) cannot be missing from the " + command + " command.\n" +
+                "They must be present after the '/exclude' keyword.\n";
+    }
+}
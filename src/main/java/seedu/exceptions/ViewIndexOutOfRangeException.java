@@ -9,9 +9,13 @@ public class ViewIndexOutOfRangeException extends EZMealPlanException {
     String listName;
 
     public ViewIndexOutOfRangeException(int inputIndex, MealList mealList) {
+        this(inputIndex, mealList.size(), mealList.getMealListName());
+    }
+
+    public ViewIndexOutOfRangeException(int inputIndex, int listSize, String listName) {
         this.inputIndex = inputIndex;
-        this.listSize = mealList.size();
-        this.listName = mealList.getMealListName();
+        this.listSize = listSize;
+        this.listName = listName;
     }
 
     @Override
@@ -1,18 +1,16 @@
 package seedu.ezmealplan;
 
-import seedu.command.Command;
-import seedu.exceptions.EZMealPlanException;
-import seedu.exceptions.ParserException;
-import seedu.food.Meal;
-import seedu.logic.MealManager;
-import seedu.meallist.MealList;
+import seedu.logging.AsyncLogHandler;
+import seedu.metrics.Metrics;
 import seedu.storage.Storage;
 import seedu.ui.UserInterface;
-import seedu.parser.Parser;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
@@ -23,113 +21,83 @@ public class EZMealPlan {
      * Main entry-point for EZMealPlan.
      */
     private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
-    private static final UserInterface ui = new UserInterface();
-    private static final MealManager mealManager = new MealManager();
+    private static final String STARTUP_REPORT_OPTION = "--startup-report";
+    private static final String LOG_LEVEL_PROPERTY = "ezmealplan.logLevel";
+    private static final String METRICS_FILE_PROPERTY = "ezmealplan.metricsFile";
 
+    /**
+     * Runs one session on the console. With the --startup-report option, the time taken by every phase of loading
+     * is printed before the first prompt, and written with the background phases into EZMealPlanStartup.txt on exit.
+     */
     public static void main(String[] args) {
         String fileName = "EZMealPlan.log";
         setupLogger(fileName);
-        checkConstructedLists();
-        // Check for valid meals that are present in the wishlist but not in the recipes list
-        // and remove these meals from the recipes list.
-        mealManager.removeIllegalMeals();
-        logger.fine("running EZMealPlan");
-        ui.printGreetingMessage();
-        String userInput;
-        while (true) {
-            ui.prompt();
-            userInput = ui.readInput();
-            // extracts out the command from the user input
-            Command command = checkParsedCommand(userInput);
-            if (command != null) {
-                executeCommand(command);
-                if (command.isExit()) {
-                    break;
-                }
-            }
+        boolean isReportingStartup = Arrays.asList(args).contains(STARTUP_REPORT_OPTION);
+        Session session = new Session(new UserInterface(), new Storage());
+        session.load();
+        if (isReportingStartup) {
+            System.out.println(session.getStartupReport().format());
         }
-        logger.fine("exiting EZMealPlan");
-    }
-
-    private static Command checkParsedCommand(String userInput) {
-        try {
-            return Parser.parse(userInput);
-        } catch (ParserException | EZMealPlanException ezmealPlanException) {
-            ui.printErrorMessage(ezmealPlanException);
-            return null;
+        session.interact();
+        dumpMetrics();
+        if (isReportingStartup) {
+            dumpStartupReport(session.getStartupReport(), "EZMealPlanStartup.txt");
         }
     }
 
-    private static void checkConstructedLists() {
-        // Create and load both main meal list (mainList.txt) and user meal list (userList.txt)
+    private static void dumpStartupReport(StartupReport startupReport, String fileName) {
         try {
-            Storage.createListFiles();
-            Storage.loadExistingInventory(mealManager);
-            constructRecipesList();
-            constructWishList();
+            Files.writeString(Path.of(fileName), startupReport.format() + System.lineSeparator(),
+                    StandardCharsets.UTF_8);
         } catch (IOException ioException) {
-            System.err.println("Could not load tasks: " + ioException.getMessage());
+            logger.log(Level.WARNING, "Could not write the startup report to " + fileName, ioException);
         }
     }
 
-    private static void constructWishList() throws IOException {
-        File wishListFile = Storage.getWishListFile();
-        MealList wishList = mealManager.getWishList();
-        constructList(wishListFile, wishList);
-    }
-
-    private static void constructRecipesList() throws IOException {
-        File recipesListFile = Storage.getRecipesListFile();
-        MealList recipesList = mealManager.getRecipesList();
-        constructList(recipesListFile, recipesList);
-    }
-
-    private static void constructList(File selectedFile, MealList selectedMeals)
-            throws IOException {
-        // Retrieve saved meals from the respective file and append them into the respective Meals class
-        // If the file (mainList.txt) is empty, preset meals are appended into the RecipesList class instead.
-        List<Meal> mealList = Storage.loadExistingList(selectedFile);
-        // Load pre-set meals if the meal list from the main list file is empty.
-        if (mealList.isEmpty() && selectedFile.equals(Storage.getRecipesListFile())) {
-            mealList = Storage.loadPresetMeals();
+    /**
+     * Writes the metrics of every session in the JVM, as the stats command shows them, into the file named by the
+     * system property ezmealplan.metricsFile. Nothing is written if the property is not set.
+     */
+    static void dumpMetrics() {
+        String fileName = System.getProperty(METRICS_FILE_PROPERTY);
+        if (fileName == null) {
+            return;
         }
-        for (Meal meal : mealList) {
-            extractMealIntoList(meal, selectedMeals);
+        try {
+            Metrics.getInstance().dump(new File(fileName));
+        } catch (IOException ioException) {
+            logger.log(Level.WARNING, "Could not write the metrics to " + fileName, ioException);
         }
     }
 
-    private static void extractMealIntoList(Meal meal, MealList mealList) {
-        //Throw error message if detected an ingredient with invalid price and skips to the next meal.
-        try {
-            mealManager.addMeal(meal, mealList);
-        } catch (EZMealPlanException ezMealPlanException) {
-            System.err.println(ezMealPlanException.getMessage());
-            System.err.println("The current meal will be skipped.\n");
-            logger.info("EZMealPlanException triggered");
-        }
+    /**
+     * Logs into the given file from a background thread. Messages below the level in the system property
+     * ezmealplan.logLevel (FINE by default) are not even built, so bulk imports can run with, for example,
+     * -Dezmealplan.logLevel=WARNING.
+     */
+    static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(getLogLevel());
+        createLogFile(fileName);
     }
 
-    private static void executeCommand(Command command) {
+    private static Level getLogLevel() {
+        String logLevel = System.getProperty(LOG_LEVEL_PROPERTY, Level.FINE.getName());
         try {
-            // Executes the command parsed out
-            command.execute(mealManager, ui);
-        } catch (EZMealPlanException ezMealPlanException) {
-            ui.printErrorMessage(ezMealPlanException);
-            logger.info("EZMealPlanException triggered");
+            return Level.parse(logLevel);
+        } catch (IllegalArgumentException illegalArgumentException) {
+            logger.warning(() -> "Ignoring the invalid " + LOG_LEVEL_PROPERTY + ": " + logLevel);
+            return Level.FINE;
         }
     }
 
-    private static void setupLogger(String fileName) {
-        LogManager.getLogManager().reset();
-        logger.setLevel(Level.ALL);
-        createLogFile(fileName);
-    }
-
     private static void createLogFile(String fileName) {
         try {
             FileHandler fileHandler = new FileHandler(fileName, true);
             fileHandler.setLevel(Level.FINE);
-            logger.addHandler(fileHandler);
+            AsyncLogHandler asyncLogHandler = new AsyncLogHandler(fileHandler);
+            asyncLogHandler.setLevel(Level.FINE);
+            logger.addHandler(asyncLogHandler);
         } catch (IOException ioException) {
             logger.log(Level.WARNING, "File logger is not working.", ioException);
         }
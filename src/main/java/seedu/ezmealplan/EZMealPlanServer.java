@@ -0,0 +1,212 @@
+package seedu.ezmealplan;
+
+import seedu.command.ByeCommand;
+import seedu.logic.MealManager;
+import seedu.storage.Storage;
+import seedu.ui.UserInterface;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Serves EZMealPlan to many terminals from one process.
+ * Every client connection on the localhost port gets a session of its own, on a thread of its own and with its own
+ * output buffer. Either all sessions share one set of lists loaded once from the data files, or, when the server is
+ * given a directory of users, every client names its user and works on that user's own lists. The recipes list of
+ * every user starts as the preset recipe catalog shared by the whole process, and only the recipes the user created
+ * or deleted are stored for that user.
+ * The lists are saved whenever a client says bye, and once more when the server is closed or the process is stopped.
+ */
+public class EZMealPlanServer implements AutoCloseable {
+    public static final int DEFAULT_PORT = 5050;
+    public static final String USERS_DIRECTORY_PROPERTY = "ezmealplan.usersDirectory";
+    public static final String USER_NAME_PROMPT = "Please enter your user name:";
+    private static final String USER_NAME_PATTERN = "[A-Za-z0-9_-]{1,32}";
+    // The user under which the lists shared by every client are kept.
+    private static final String SHARED_USER = "";
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private static final int CONNECTION_BACKLOG = 128;
+
+    // The directory with one data directory for every user, or null if every client shares one set of lists.
+    private final File usersDirectory;
+    // The lists and data files of every user that connected, under its user name in lower case.
+    private final Map<String, User> users = new ConcurrentHashMap<>();
+    private final ServerSocket serverSocket;
+    private final SessionPool sessionPool = SessionPool.withThreadPerSession();
+    private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+    private final Thread acceptThread = new Thread(this::acceptConnections, "ezmealplan-server");
+    private final AtomicBoolean isClosed = new AtomicBoolean();
+
+    /**
+     * Constructs a server for the given lists, listening on the given localhost port (0 for any free port).
+     */
+    public EZMealPlanServer(MealManager mealManager, Storage storage, int port) throws IOException {
+        this(null, port);
+        users.put(SHARED_USER, new User(mealManager, storage));
+    }
+
+    /**
+     * Constructs a server on which every client names its user and works on that user's own lists, kept in a
+     * directory named after the user inside the given directory. A user's lists are loaded when it first connects.
+     */
+    public EZMealPlanServer(File usersDirectory, int port) throws IOException {
+        this.usersDirectory = usersDirectory;
+        this.serverSocket = new ServerSocket(port, CONNECTION_BACKLOG, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * Main entry-point for serving EZMealPlan to several terminals. The optional argument is the port to listen on.
+     * If the system property ezmealplan.usersDirectory names a directory, every user gets its own lists in it;
+     * otherwise every terminal shares the lists in the data directory.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        EZMealPlan.setupLogger("EZMealPlanServer.log");
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        try (EZMealPlanServer server = createServer(port)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(server::closeOnShutdown, "ezmealplan-server-shutdown"));
+            server.start();
+            System.out.println("EZMealPlan is serving terminals on localhost port " + server.getPort() + ".");
+            server.acceptThread.join();
+        } finally {
+            EZMealPlan.dumpMetrics();
+        }
+    }
+
+    private static EZMealPlanServer createServer(int port) throws IOException {
+        String usersDirectory = System.getProperty(USERS_DIRECTORY_PROPERTY);
+        if (usersDirectory != null) {
+            return new EZMealPlanServer(new File(usersDirectory), port);
+        }
+        Storage storage = new Storage();
+        Session loadingSession = new Session(new UserInterface(), storage);
+        loadingSession.load();
+        return new EZMealPlanServer(loadingSession.getMealManager(), storage, port);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Starts accepting client connections in the background.
+     */
+    public void start() {
+        acceptThread.start();
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                openSockets.add(socket);
+                sessionPool.submit(() -> serve(socket));
+            } catch (IOException ioException) {
+                if (!serverSocket.isClosed()) {
+                    logger.log(Level.WARNING, "Could not accept a client connection", ioException);
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        logger.fine(() -> "Serving a client connection from " + socket.getRemoteSocketAddress());
+        try (socket) {
+            PrintStream output = new PrintStream(new BufferedOutputStream(socket.getOutputStream()), false,
+                    StandardCharsets.UTF_8);
+            UserInterface ui = new UserInterface(socket.getInputStream(), output);
+            User user = chooseUser(ui);
+            if (user != null) {
+                new Session(user.mealManager(), ui, user.storage()).interact();
+            }
+            output.flush();
+        } catch (IOException | RuntimeException exception) {
+            logger.log(Level.WARNING, "A client connection ended with an error", exception);
+        } finally {
+            openSockets.remove(socket);
+        }
+    }
+
+    // Returns the user the client works as, asking for its name if users have lists of their own, or null if the
+    // client disconnects first.
+    private User chooseUser(UserInterface ui) {
+        if (usersDirectory == null) {
+            return users.get(SHARED_USER);
+        }
+        while (true) {
+            ui.printMessage(USER_NAME_PROMPT);
+            if (!ui.hasInput()) {
+                return null;
+            }
+            String userName = ui.readInput();
+            if (userName.matches(USER_NAME_PATTERN)) {
+                return users.computeIfAbsent(userName.toLowerCase(Locale.ROOT), name -> loadUser(name, ui));
+            }
+            ui.printMessage("A user name has 1 to 32 letters, digits, - or _.");
+        }
+    }
+
+    // Loads the lists of a user from its data directory, over the preset recipe catalog.
+    private User loadUser(String userName, UserInterface ui) {
+        Storage storage = new Storage(new File(usersDirectory, userName));
+        Session loadingSession = new Session(new MealManager(Storage.getPresetCatalog()), ui, storage);
+        loadingSession.load();
+        logger.info(() -> "Loaded the lists of user " + userName);
+        return new User(loadingSession.getMealManager(), storage);
+    }
+
+    /**
+     * Stops accepting connections, disconnects every client, waits for their sessions to end and saves the lists,
+     * so that the changes made since the last bye of any client are kept. Only the first call does anything.
+     * If the calling thread is interrupted, it stops waiting but still saves the lists, and keeps its interrupt status.
+     */
+    @Override
+    public void close() throws IOException {
+        if (isClosed.getAndSet(true)) {
+            return;
+        }
+        serverSocket.close();
+        try {
+            if (acceptThread.isAlive()) {
+                acceptThread.join();
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        for (Socket socket : openSockets) {
+            socket.close();
+        }
+        sessionPool.close();
+        for (User user : users.values()) {
+            new ByeCommand(user.storage()).save(user.mealManager(), new UserInterface());
+        }
+        logger.info("Saved the lists as the server closed");
+    }
+
+    // Closes the server when the process is stopped, such as by Ctrl-C, as nothing else would save the lists then.
+    private void closeOnShutdown() {
+        try {
+            close();
+        } catch (IOException ioException) {
+            logger.log(Level.WARNING, "Could not close the server while the process stopped", ioException);
+        }
+    }
+
+    /**
+     * The lists of one user and the data files they are saved to.
+     */
+    private record User(MealManager mealManager, Storage storage) {
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.ezmealplan;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the command latency of an {@link EZMealPlanServer} by running many scripted terminals against it at once
+ * over the loopback interface.
+ * The latency of a command is the time from sending it to reading the prompt that follows its output.
+ */
+public class LoadTestClient {
+    public static final List<String> DEFAULT_COMMANDS = List.of("recipes", "filter /ing chicken", "view /r 1",
+            "recommend /ing rice /top 3", "buy /ing egg (0.50)", "inventory", "consume /ing egg", "wishlist");
+    private static final String PROMPT = "How may I help you?";
+
+    private final int port;
+    private final int clientCount;
+    private final int roundCount;
+    private final List<String> commands;
+    // Numbers the clients, which name their users after them on a server where every user has its own lists.
+    private final AtomicInteger nextClientNumber = new AtomicInteger();
+
+    /**
+     * Constructs a load test in which every client sends the commands, in order, the given number of rounds.
+     */
+    public LoadTestClient(int port, int clientCount, int roundCount, List<String> commands) {
+        assert clientCount > 0 && roundCount > 0 : "A load test needs at least one client and one round";
+        this.port = port;
+        this.clientCount = clientCount;
+        this.roundCount = roundCount;
+        this.commands = commands;
+    }
+
+    /**
+     * Runs a load test against a running server.
+     * Arguments: [port] [number of clients] [number of rounds of the commands] [command script file].
+     * Without a command script file, the clients send the default commands.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : EZMealPlanServer.DEFAULT_PORT;
+        int clientCount = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+        int roundCount = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        List<String> commands = args.length > 3 ? Files.readAllLines(Path.of(args[3])) : DEFAULT_COMMANDS;
+        long[] latencies = new LoadTestClient(port, clientCount, roundCount, commands).run();
+        System.out.printf("%d commands from %d clients%n", latencies.length, clientCount);
+        for (double percentile : new double[]{50, 90, 99, 100}) {
+            System.out.printf("p%.0f: %.3f ms%n", percentile, getPercentile(latencies, percentile) / 1e6);
+        }
+    }
+
+    /**
+     * Connects every client at the same time and runs their commands.
+     *
+     * @return the latency of every command, in nanoseconds and in ascending order.
+     */
+    public long[] run() throws IOException, InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(clientCount);
+        try {
+            List<Future<long[]>> clients = new ArrayList<>();
+            for (int i = 0; i < clientCount; i++) {
+                clients.add(executor.submit(this::runClient));
+            }
+            long[] latencies = new long[clientCount * roundCount * commands.size()];
+            int count = 0;
+            for (Future<long[]> client : clients) {
+                long[] clientLatencies = client.get();
+                System.arraycopy(clientLatencies, 0, latencies, count, clientLatencies.length);
+                count += clientLatencies.length;
+            }
+            Arrays.sort(latencies);
+            return latencies;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the latency below which the given percentage of the sorted latencies lie.
+     */
+    public static long getPercentile(long[] sortedLatencies, double percentile) {
+        assert sortedLatencies.length > 0;
+        int rank = (int) Math.ceil(percentile / 100 * sortedLatencies.length);
+        return sortedLatencies[Math.max(0, Math.min(rank, sortedLatencies.length) - 1)];
+    }
+
+    private long[] runClient() throws IOException {
+        long[] latencies = new long[roundCount * commands.size()];
+        int count = 0;
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setTcpNoDelay(true);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    StandardCharsets.UTF_8));
+            PrintWriter writer = new PrintWriter(socket.getOutputStream(), false, StandardCharsets.UTF_8);
+            logIn(reader, writer, "loadtest" + nextClientNumber.getAndIncrement());
+            for (int round = 0; round < roundCount; round++) {
+                for (String command : commands) {
+                    long startTime = System.nanoTime();
+                    writer.println(command);
+                    writer.flush();
+                    readUntilPrompt(reader);
+                    latencies[count++] = System.nanoTime() - startTime;
+                }
+            }
+        }
+        return latencies;
+    }
+
+    // Reads up to the first prompt, giving the user name if the server asks for one.
+    private static void logIn(BufferedReader reader, PrintWriter writer, String userName) throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                throw new IOException("The server closed the connection before the prompt.");
+            }
+            if (line.equals(EZMealPlanServer.USER_NAME_PROMPT)) {
+                writer.println(userName);
+                writer.flush();
+            }
+        } while (!line.equals(PROMPT));
+    }
+
+    private static void readUntilPrompt(BufferedReader reader) throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                throw new IOException("The server closed the connection before the prompt.");
+            }
+        } while (!line.equals(PROMPT));
+    }
+}
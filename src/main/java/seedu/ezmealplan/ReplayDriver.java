@@ -0,0 +1,251 @@
+package seedu.ezmealplan;
+
+import seedu.storage.Storage;
+import seedu.ui.UserInterface;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a command script through the main loop of a {@link Session} in this JVM, as if it were typed into the
+ * jar, and measures the throughput, the latency of every command word and the garbage collection of the run.
+ * Every run starts from a fresh copy of the data files, so the same script always prints the same output.
+ */
+public class ReplayDriver {
+    private static final String DIGEST_FILE_EXTENSION = ".sha256";
+    private static final String ACTUAL_FILE_EXTENSION = ".actual";
+    private final File dataDirectory;
+    private final List<String> commands;
+    private final double targetRate;
+
+    /**
+     * Constructs a driver that replays the commands against a copy of the data files in the given directory.
+     *
+     * @param dataDirectory the directory of the data files, or null to start from the preset meals.
+     * @param targetRate the number of commands to start per second, or 0 to start each command as soon as the
+     *                   previous one ends.
+     */
+    public ReplayDriver(File dataDirectory, List<String> commands, double targetRate) {
+        assert targetRate >= 0 : "The target rate cannot be negative";
+        this.dataDirectory = dataDirectory;
+        this.commands = commands;
+        this.targetRate = targetRate;
+    }
+
+    /**
+     * Replays a command script and checks its output against a reference run.
+     * Arguments: [command script file] [data directory, or - for the preset meals] [commands per second, or 0]
+     * [reference output file].
+     * Without a reference output file, the output is printed. A missing reference output file is recorded from
+     * this run; a reference output file ending in .sha256 holds only the digest of the output.
+     */
+    public static void main(String[] args) throws IOException {
+        EZMealPlan.setupLogger("ReplayDriver.log");
+        Path scriptFile = Path.of(args.length > 0 ? args[0] : "text-ui-test/input.txt");
+        File dataDirectory = args.length > 1 && !args[1].equals("-") ? new File(args[1]) : null;
+        double targetRate = args.length > 2 ? Double.parseDouble(args[2]) : 0;
+        ReplayReport report = new ReplayDriver(dataDirectory, Files.readAllLines(scriptFile), targetRate).run();
+        if (args.length <= 3) {
+            System.out.print(report.getOutput());
+            System.out.println();
+            System.out.print(report.format());
+            return;
+        }
+        System.out.print(report.format());
+        if (!checkOutput(report, Path.of(args[3]))) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns true if the output of the report matches the reference output file, recording the reference output
+     * file first if it does not exist yet.
+     * On a mismatch, the output is written next to the reference output file for comparison.
+     */
+    static boolean checkOutput(ReplayReport report, Path referenceFile) throws IOException {
+        boolean isDigest = referenceFile.toString().endsWith(DIGEST_FILE_EXTENSION);
+        String actual = isDigest ? report.getOutputDigest() + "\n" : report.getOutput();
+        if (!Files.exists(referenceFile)) {
+            Files.writeString(referenceFile, actual, StandardCharsets.UTF_8);
+            System.out.println("Recorded the reference output in " + referenceFile);
+            return true;
+        }
+        String expected = normalizeLineEndings(Files.readString(referenceFile, StandardCharsets.UTF_8));
+        if (expected.equals(actual)) {
+            System.out.println("Output matches " + referenceFile);
+            return true;
+        }
+        Path actualFile = Path.of(referenceFile + ACTUAL_FILE_EXTENSION);
+        Files.writeString(actualFile, report.getOutput(), StandardCharsets.UTF_8);
+        System.out.println("Output differs from " + referenceFile + "; it was written to " + actualFile);
+        if (!isDigest) {
+            System.out.println(describeFirstDifference(expected, actual));
+        }
+        return false;
+    }
+
+    static String normalizeLineEndings(String text) {
+        return text.replace("\r\n", "\n");
+    }
+
+    private static String describeFirstDifference(String expected, String actual) {
+        String[] expectedLines = expected.split("\n", -1);
+        String[] actualLines = actual.split("\n", -1);
+        int line = 0;
+        while (line < expectedLines.length && line < actualLines.length
+                && expectedLines[line].equals(actualLines[line])) {
+            line++;
+        }
+        String expectedLine = line < expectedLines.length ? expectedLines[line] : "(end of output)";
+        String actualLine = line < actualLines.length ? actualLines[line] : "(end of output)";
+        return "First difference at line " + (line + 1) + ":" + System.lineSeparator()
+                + "expected: " + expectedLine + System.lineSeparator()
+                + "actual:   " + actualLine;
+    }
+
+    /**
+     * Loads a fresh copy of the data files, then runs the commands until the script or the bye command ends.
+     * The standard output is captured for the whole run, so it must not be used by other threads meanwhile.
+     */
+    public ReplayReport run() throws IOException {
+        File runDirectory = Files.createTempDirectory("ReplayDriver").toFile();
+        PrintStream standardOutput = System.out;
+        ByteArrayOutputStream capturedOutput = new ByteArrayOutputStream();
+        try {
+            copyDataFiles(runDirectory);
+            System.setOut(new PrintStream(capturedOutput, false, StandardCharsets.UTF_8));
+            ReplayUserInterface ui = new ReplayUserInterface();
+            Session session = new Session(ui, new Storage(runDirectory));
+            long loadStartTime = System.nanoTime();
+            session.load();
+            long loadNanos = System.nanoTime() - loadStartTime;
+            long gcCountBefore = getGcCount();
+            long gcMillisBefore = getGcMillis();
+            ui.startTime = System.nanoTime();
+            session.interact();
+            ui.endCommand();
+            long elapsedNanos = System.nanoTime() - ui.startTime;
+            System.out.flush();
+            return new ReplayReport(normalizeLineEndings(capturedOutput.toString(StandardCharsets.UTF_8)),
+                    ui.latencies, loadNanos, elapsedNanos, getGcCount() - gcCountBefore,
+                    getGcMillis() - gcMillisBefore);
+        } finally {
+            System.setOut(standardOutput);
+            deleteDirectory(runDirectory);
+        }
+    }
+
+    private void copyDataFiles(File runDirectory) throws IOException {
+        if (dataDirectory == null) {
+            return;
+        }
+        Storage source = new Storage(dataDirectory);
+        Storage target = new Storage(runDirectory);
+        copyIfExists(source.getRecipesListFile(), target.getRecipesListFile());
+        copyIfExists(source.getWishListFile(), target.getWishListFile());
+        copyIfExists(source.getInventoryListFile(), target.getInventoryListFile());
+    }
+
+    private static void copyIfExists(File source, File target) throws IOException {
+        if (source.exists()) {
+            Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteDirectory(File directory) {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    private static long getGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long getGcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return millis;
+    }
+
+    private static String getCommandWord(String command) {
+        String[] words = command.trim().split("\\s+", 2);
+        return words[0].isEmpty() ? "(empty)" : words[0].toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Hands the commands of the script to the main loop, each at its scheduled time, and times them.
+     * A command ends when the main loop asks for the next command, or when the session ends.
+     */
+    private class ReplayUserInterface extends UserInterface {
+        private final Map<String, List<Long>> latencies = new LinkedHashMap<>();
+        private long startTime;
+        private int nextCommand = 0;
+        private String runningCommandWord = null;
+        private long runningScheduledTime;
+
+        private ReplayUserInterface() {
+            super(new ByteArrayInputStream(new byte[0]));
+        }
+
+        @Override
+        public boolean hasInput() {
+            endCommand();
+            System.out.flush();
+            return nextCommand < commands.size();
+        }
+
+        @Override
+        public String readInput() {
+            endCommand();
+            String command = commands.get(nextCommand);
+            // Latency is measured from the scheduled time rather than the actual start, so a command that is held
+            // up by a slow one before it still counts the wait, as it would for a user typing at that rate.
+            long scheduledTime = targetRate == 0 ? System.nanoTime() : startTime + (long) (nextCommand * 1e9
+                    / targetRate);
+            long waitNanos = scheduledTime - System.nanoTime();
+            while (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+                waitNanos = scheduledTime - System.nanoTime();
+            }
+            nextCommand++;
+            runningCommandWord = getCommandWord(command);
+            runningScheduledTime = scheduledTime;
+            return command.trim();
+        }
+
+        private void endCommand() {
+            if (runningCommandWord == null) {
+                return;
+            }
+            long latency = System.nanoTime() - runningScheduledTime;
+            latencies.computeIfAbsent(runningCommandWord, commandWord -> new ArrayList<>()).add(latency);
+            runningCommandWord = null;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.ezmealplan;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The measurements and the output of one run of a {@link ReplayDriver}.
+ */
+public class ReplayReport {
+    private static final double[] PERCENTILES = {50, 90, 99, 100};
+    private final String output;
+    private final int commandCount;
+    private final long loadNanos;
+    private final long elapsedNanos;
+    private final long gcCount;
+    private final long gcMillis;
+    // Sorted latencies in nanoseconds, by command word in the order the command words first ran.
+    private final Map<String, long[]> latencies;
+
+    ReplayReport(String output, Map<String, List<Long>> latencies, long loadNanos, long elapsedNanos, long gcCount,
+                 long gcMillis) {
+        this.output = output;
+        this.loadNanos = loadNanos;
+        this.elapsedNanos = elapsedNanos;
+        this.gcCount = gcCount;
+        this.gcMillis = gcMillis;
+        this.latencies = new LinkedHashMap<>();
+        int count = 0;
+        for (Map.Entry<String, List<Long>> entry : latencies.entrySet()) {
+            long[] sortedLatencies = entry.getValue().stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sortedLatencies);
+            this.latencies.put(entry.getKey(), sortedLatencies);
+            count += sortedLatencies.length;
+        }
+        commandCount = count;
+    }
+
+    /**
+     * Returns everything the session printed, with every line ending as "\n".
+     */
+    public String getOutput() {
+        return output;
+    }
+
+    /**
+     * Returns the SHA-256 digest of the output, in lower case hexadecimal.
+     */
+    public String getOutputDigest() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(output.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException noSuchAlgorithmException) {
+            throw new AssertionError("Every Java platform supports SHA-256", noSuchAlgorithmException);
+        }
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    public long getLoadNanos() {
+        return loadNanos;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    public long getGcMillis() {
+        return gcMillis;
+    }
+
+    /**
+     * Returns the number of commands run per second, from the first command to the end of the last one.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : commandCount * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns the command words that were run, in the order they first ran.
+     */
+    public List<String> getCommandWords() {
+        return new ArrayList<>(latencies.keySet());
+    }
+
+    /**
+     * Returns the latencies of the commands with the given command word, in nanoseconds and in ascending order.
+     */
+    public long[] getLatencies(String commandWord) {
+        return latencies.getOrDefault(commandWord, new long[0]).clone();
+    }
+
+    /**
+     * Returns a table of the throughput, the latency percentiles of every command word and the garbage collection.
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Loaded the lists in %.1f ms%n", loadNanos / 1e6));
+        sb.append(String.format("%d commands in %.1f ms: %.1f commands/s%n", commandCount, elapsedNanos / 1e6,
+                getThroughput()));
+        sb.append(String.format("%-10s %7s %10s %10s %10s %10s%n", "command", "count", "p50 ms", "p90 ms", "p99 ms",
+                "max ms"));
+        for (Map.Entry<String, long[]> entry : latencies.entrySet()) {
+            long[] sortedLatencies = entry.getValue();
+            sb.append(String.format("%-10s %7d", entry.getKey(), sortedLatencies.length));
+            for (double percentile : PERCENTILES) {
+                sb.append(String.format(" %10.3f", LoadTestClient.getPercentile(sortedLatencies, percentile) / 1e6));
+            }
+            sb.append(System.lineSeparator());
+        }
+        sb.append(String.format("GC: %d collections, %d ms paused (%.1f%% of the run)%n", gcCount, gcMillis,
+                elapsedNanos == 0 ? 0 : gcMillis * 1e8 / elapsedNanos));
+        return sb.toString();
+    }
+}
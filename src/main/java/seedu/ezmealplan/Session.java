@@ -0,0 +1,305 @@
+package seedu.ezmealplan;
+
+import seedu.command.Command;
+import seedu.exceptions.EZMealPlanException;
+import seedu.exceptions.ParserException;
+import seedu.food.Inventory;
+import seedu.food.Meal;
+import seedu.logic.MealManager;
+import seedu.logic.MealSnapshot;
+import seedu.meallist.MealList;
+import seedu.metrics.CommandExecuteEvent;
+import seedu.metrics.CommandParseEvent;
+import seedu.metrics.CommandTrace;
+import seedu.metrics.Metrics;
+import seedu.metrics.SlowCommandLog;
+import seedu.parser.Parser;
+import seedu.storage.Storage;
+import seedu.ui.UserInterface;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Logger;
+
+/**
+ * One user's run of EZMealPlan: the lists being planned, the interface the user types into and the data files the
+ * lists are loaded from and saved to.
+ * A session shares no mutable state with other sessions, so several sessions can run at the same time in one JVM.
+ */
+public class Session implements Runnable {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    // The command type under which input that cannot be parsed into a command is recorded.
+    private static final String INVALID_COMMAND_TYPE = "invalid";
+    private static final SlowCommandLog defaultSlowCommandLog = SlowCommandLog.fromSystemProperties();
+    private final MealManager mealManager;
+    private final UserInterface ui;
+    private final Storage storage;
+    private SlowCommandLog slowCommandLog = defaultSlowCommandLog;
+    private StartupReport startupReport = new StartupReport();
+
+    public Session(UserInterface ui, Storage storage) {
+        this(Storage.createMealManager(), ui, storage);
+    }
+
+    public Session(MealManager mealManager, UserInterface ui, Storage storage) {
+        this.mealManager = mealManager;
+        this.ui = ui;
+        this.storage = storage;
+    }
+
+    public MealManager getMealManager() {
+        return mealManager;
+    }
+
+    /**
+     * Sets the log that the commands of this session are written to when they are slow.
+     */
+    public void setSlowCommandLog(SlowCommandLog slowCommandLog) {
+        this.slowCommandLog = slowCommandLog;
+    }
+
+    /**
+     * Returns the times of the phases of the latest load of this session.
+     */
+    public StartupReport getStartupReport() {
+        return startupReport;
+    }
+
+    /**
+     * Loads the lists, then reads and executes commands until the user exits.
+     */
+    @Override
+    public void run() {
+        load();
+        interact();
+    }
+
+    /**
+     * Greets the user, then reads and executes commands until the user exits or the input ends,
+     * without loading the lists first.
+     */
+    public void interact() {
+        logger.fine("running EZMealPlan session");
+        ui.printGreetingMessage();
+        boolean isExit = false;
+        while (!isExit) {
+            ui.prompt();
+            if (!ui.hasInput()) {
+                logger.fine("user input ended before the bye command");
+                break;
+            }
+            isExit = executeInput(ui.readInput());
+        }
+        logger.fine("exiting EZMealPlan session");
+    }
+
+    /**
+     * Loads the inventory, recipes list and wishlist from the data files of this session.
+     * The indexes of the lists are built in the background, so this returns before they are ready.
+     */
+    public void load() {
+        startupReport = new StartupReport();
+        // The whole load is one write, so one snapshot is published for it instead of one for every loaded meal.
+        try {
+            mealManager.writeIndexingInBackground(() -> {
+                checkConstructedLists();
+                // Check for valid meals that are present in the wishlist but not in the recipes list
+                // and remove these meals from the recipes list.
+                long startTime = System.nanoTime();
+                mealManager.removeIllegalMeals();
+                startupReport.record("remove illegal meals", startTime);
+                return null;
+            });
+        } catch (EZMealPlanException ezMealPlanException) {
+            ui.printErrorMessage(ezMealPlanException);
+        }
+        long indexStartTime = System.nanoTime();
+        MealSnapshot snapshot = mealManager.getSnapshot();
+        startupReport.recordWhenDone("build recipes index", indexStartTime, snapshot.getRecipesIndex().whenBuilt());
+        startupReport.recordWhenDone("build wishlist index", indexStartTime,
+                snapshot.getWishListIndex().whenBuilt());
+        startupReport.recordReady();
+    }
+
+    /**
+     * Parses and executes one line of user input.
+     *
+     * @return true if the command ends the session.
+     */
+    public boolean executeInput(String userInput) {
+        CommandTrace trace = CommandTrace.start();
+        long startTime = System.nanoTime();
+        // extracts out the command from the user input
+        Command command = checkParsedCommand(userInput);
+        if (command == null) {
+            return false;
+        }
+        long parseNanos = System.nanoTime() - startTime;
+        EZMealPlanException error = executeCommand(command);
+        long executeNanos = System.nanoTime() - startTime - parseNanos;
+        if (slowCommandLog.isSlow(parseNanos + executeNanos)) {
+            logSlowCommand(userInput, command, error, parseNanos, executeNanos, trace);
+        }
+        return command.isExit();
+    }
+
+    private void logSlowCommand(String userInput, Command command, EZMealPlanException error, long parseNanos,
+                                long executeNanos, CommandTrace trace) {
+        MealSnapshot snapshot = mealManager.getSnapshot();
+        String errorName = error == null ? null : error.getClass().getSimpleName();
+        slowCommandLog.log(new SlowCommandLog.Entry(userInput, command.getCommandType(), errorName, parseNanos,
+                trace.getCheckNanos(), executeNanos, trace.getScannedMealCount(), snapshot.getRecipes().size(),
+                snapshot.getWishList().size(), snapshot.getInventory().size()));
+    }
+
+    private Command checkParsedCommand(String userInput) {
+        long startTime = System.nanoTime();
+        CommandParseEvent event = new CommandParseEvent();
+        event.begin();
+        try {
+            Command command = Parser.parse(userInput, storage);
+            Metrics.getInstance().recordSince(Metrics.Stage.PARSE, command.getCommandType(), startTime);
+            event.commit(command.getCommandType(), true);
+            return command;
+        } catch (ParserException | EZMealPlanException ezmealPlanException) {
+            Metrics.getInstance().recordSince(Metrics.Stage.PARSE, INVALID_COMMAND_TYPE, startTime);
+            event.commit(INVALID_COMMAND_TYPE, false);
+            Metrics.getInstance().recordError(ezmealPlanException);
+            ui.printErrorMessage(ezmealPlanException);
+            return null;
+        }
+    }
+
+    private void checkConstructedLists() {
+        // Create and load both main meal list (mainList.txt) and user meal list (userList.txt)
+        try {
+            long startTime = System.nanoTime();
+            storage.createListFiles();
+            startupReport.record("create list files", startTime);
+            // The three files are parsed at the same time, but added in the order they were always loaded in, so an
+            // error in an earlier file still stops the later ones from being added.
+            long readStartTime = System.nanoTime();
+            CompletableFuture<Inventory> inventoryFuture = readAsync("read inventory file", this::readInventory);
+            CompletableFuture<List<Meal>> recipesFuture = readAsync("read recipes list file",
+                    () -> readMealList(storage.getRecipesListFile()));
+            CompletableFuture<List<Meal>> wishListFuture = readAsync("read wishlist file",
+                    () -> readMealList(storage.getWishListFile()));
+            mealManager.getInventory().addAll(join(inventoryFuture));
+            constructRecipesList(join(recipesFuture));
+            constructList(join(wishListFuture), mealManager.getWishList());
+            startupReport.record("read files and fill lists", readStartTime);
+        } catch (IOException ioException) {
+            System.err.println("Could not load tasks: " + ioException.getMessage());
+        }
+    }
+
+    private <T> CompletableFuture<T> readAsync(String phaseName, DataFileReader<T> reader) {
+        return CompletableFuture.supplyAsync(() -> {
+            long startTime = System.nanoTime();
+            try {
+                return reader.read();
+            } catch (IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            } finally {
+                startupReport.record(phaseName, startTime);
+            }
+        });
+    }
+
+    // Waits for a file to be read, rethrowing anything that reading it threw.
+    private static <T> T join(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException completionException) {
+            Throwable cause = completionException.getCause();
+            if (cause instanceof UncheckedIOException uncheckedIoException) {
+                throw uncheckedIoException.getCause();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw completionException;
+        }
+    }
+
+    private Inventory readInventory() throws IOException {
+        Inventory inventory = new Inventory();
+        storage.loadExistingInventory(inventory);
+        return inventory;
+    }
+
+    private List<Meal> readMealList(File selectedFile) throws IOException {
+        // Retrieve saved meals from the respective file.
+        // If the file (mainList.txt) is empty, preset meals are loaded into the recipes list instead.
+        List<Meal> mealList = Storage.loadExistingList(selectedFile);
+        // Load pre-set meals if the meal list from the main list file is empty.
+        if (mealList.isEmpty() && selectedFile.equals(storage.getRecipesListFile())) {
+            mealList = Storage.loadPresetMeals();
+        }
+        return mealList;
+    }
+
+    private void constructRecipesList(List<Meal> recipes) {
+        List<Meal> newRecipes = recipes;
+        if (mealManager.hasRecipeCatalog()) {
+            // The shared catalog is already in the recipes list, so only the tenant's own edits are made to it.
+            mealManager.deleteCatalogRecipesNotIn(new HashSet<>(recipes));
+            newRecipes = recipes.stream().filter(meal -> !mealManager.getRecipesList().contains(meal)).toList();
+        }
+        constructList(newRecipes, mealManager.getRecipesList());
+    }
+
+    private void constructList(List<Meal> mealList, MealList selectedMeals) {
+        for (Meal meal : mealList) {
+            extractMealIntoList(meal, selectedMeals);
+        }
+    }
+
+    private void extractMealIntoList(Meal meal, MealList mealList) {
+        //Throw error message if detected an ingredient with invalid price and skips to the next meal.
+        try {
+            mealManager.addMeal(meal, mealList);
+        } catch (EZMealPlanException ezMealPlanException) {
+            System.err.println(ezMealPlanException.getMessage());
+            System.err.println("The current meal will be skipped.\n");
+            logger.info("EZMealPlanException triggered");
+        }
+    }
+
+    // Returns the exception that the command ended with, or null if it succeeded.
+    private EZMealPlanException executeCommand(Command command) {
+        long startTime = System.nanoTime();
+        CommandExecuteEvent event = new CommandExecuteEvent();
+        event.begin();
+        boolean isSucceeded = false;
+        try {
+            // Executes the command parsed out
+            command.execute(mealManager, ui);
+            isSucceeded = true;
+            return null;
+        } catch (EZMealPlanException ezMealPlanException) {
+            Metrics.getInstance().recordError(ezMealPlanException);
+            ui.printErrorMessage(ezMealPlanException);
+            logger.info("EZMealPlanException triggered");
+            return ezMealPlanException;
+        } finally {
+            Metrics.getInstance().recordSince(Metrics.Stage.EXECUTE, command.getCommandType(), startTime);
+            event.commit(command.getCommandType(), isSucceeded);
+        }
+    }
+
+    /**
+     * Reads a data file, which may fail.
+     */
+    private interface DataFileReader<T> {
+        T read() throws IOException;
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.ezmealplan;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Runs many sessions at the same time, either on a shared, fixed number of threads or on one thread per session.
+ */
+public class SessionPool implements AutoCloseable {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private final ExecutorService executor;
+
+    public SessionPool(int threadCount) {
+        assert threadCount > 0 : "A session pool needs at least one thread";
+        executor = Executors.newFixedThreadPool(threadCount);
+    }
+
+    private SessionPool(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Returns a pool that runs every session on a thread of its own, for sessions that spend most of their time
+     * waiting for their user. Virtual threads are used when the Java runtime has them.
+     */
+    public static SessionPool withThreadPerSession() {
+        try {
+            Method newVirtualThreadExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return new SessionPool((ExecutorService) newVirtualThreadExecutor.invoke(null));
+        } catch (ReflectiveOperationException reflectiveOperationException) {
+            logger.info("Virtual threads are not available, so every session gets a platform thread");
+            return new SessionPool(Executors.newCachedThreadPool());
+        }
+    }
+
+    /**
+     * Starts the session on the pool.
+     *
+     * @return a future that completes when the user of the session exits.
+     */
+    public Future<?> submit(Session session) {
+        logger.fine("Submitting a session to the session pool");
+        return executor.submit(session);
+    }
+
+    /**
+     * Starts a task that runs a session, such as one that serves a client connection, on the pool.
+     */
+    public Future<?> submit(Runnable sessionTask) {
+        return executor.submit(sessionTask);
+    }
+
+    /**
+     * Stops accepting sessions and waits for the running sessions to end.
+     * If the waiting thread is interrupted, the running sessions are interrupted instead of waited for, and the
+     * interrupt status of the thread is kept.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.info("Waiting for the running sessions to end");
+            }
+        } catch (InterruptedException interruptedException) {
+            logger.info("Interrupted while waiting for the running sessions to end, so they are interrupted too");
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.ezmealplan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The time taken by every phase of loading a session, shown with the --startup-report option.
+ * Phases that run on other threads, such as reading a data file or building an index in the background, can be
+ * recorded from those threads, and a phase can be added before it ends so that the report shows it as running.
+ */
+public class StartupReport {
+    private final long startTime;
+    private final List<Phase> phases = new ArrayList<>();
+    private long readyNanos = -1;
+
+    /**
+     * Constructs a report of a startup that begins now.
+     */
+    public StartupReport() {
+        this.startTime = System.nanoTime();
+    }
+
+    /**
+     * Records a phase that started at the given time of System.nanoTime() and ends now.
+     */
+    public void record(String phaseName, long phaseStartTime) {
+        Phase phase = addPhase(phaseName, phaseStartTime);
+        phase.end();
+    }
+
+    /**
+     * Records a phase that started at the given time of System.nanoTime() and ends when the given future completes.
+     */
+    public void recordWhenDone(String phaseName, long phaseStartTime, CompletableFuture<?> future) {
+        Phase phase = addPhase(phaseName, phaseStartTime);
+        future.whenComplete((result, throwable) -> phase.end());
+    }
+
+    private synchronized Phase addPhase(String phaseName, long phaseStartTime) {
+        Phase phase = new Phase(phaseName, phaseStartTime, phaseStartTime - startTime);
+        phases.add(phase);
+        return phase;
+    }
+
+    /**
+     * Records that the session is ready for its first command.
+     */
+    public synchronized void recordReady() {
+        readyNanos = System.nanoTime() - startTime;
+    }
+
+    /**
+     * Returns the nanoseconds the phase with the given name took, or -1 if it is still running or was never run.
+     */
+    public synchronized long getNanos(String phaseName) {
+        for (Phase phase : phases) {
+            if (phase.name.equals(phaseName)) {
+                return phase.nanos;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the nanoseconds from the start until the session was ready for its first command, or -1 if it is not
+     * ready yet.
+     */
+    public synchronized long getReadyNanos() {
+        return readyNanos;
+    }
+
+    /**
+     * Returns a table of every phase, with its start from the start of loading and the time it took.
+     */
+    public synchronized String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-28s %10s %10s%n", "phase", "start ms", "took ms"));
+        for (Phase phase : phases) {
+            String took = phase.nanos < 0 ? "running" : String.format("%.3f", phase.nanos / 1e6);
+            sb.append(String.format("%-28s %10.3f %10s%n", phase.name, phase.startOffsetNanos / 1e6, took));
+        }
+        if (readyNanos < 0) {
+            sb.append("Not ready for the first command yet.");
+        } else {
+            sb.append(String.format("Ready for the first command after %.3f ms.", readyNanos / 1e6));
+        }
+        return sb.toString();
+    }
+
+    private static class Phase {
+        private final String name;
+        private final long startTime;
+        private final long startOffsetNanos;
+        // -1 until the phase ends.
+        private volatile long nanos = -1;
+
+        private Phase(String name, long startTime, long startOffsetNanos) {
+            this.name = name;
+            this.startTime = startTime;
+            this.startOffsetNanos = startOffsetNanos;
+        }
+
+        private void end() {
+            nanos = System.nanoTime() - startTime;
+        }
+    }
+}
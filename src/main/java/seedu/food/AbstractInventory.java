@@ -0,0 +1,83 @@
+package seedu.food;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The reads shared by an {@link Inventory} and its read-only copies, built on looking up the quantity of an
+ * ingredient and the ingredients with a name.
+ */
+abstract class AbstractInventory implements InventoryView {
+    static final Comparator<Ingredient> INGREDIENT_ORDER = Comparator.comparing(Ingredient::getNameKey)
+            .thenComparingDouble(Ingredient::getPrice);
+
+    // Returns the quantity in stock of the given ingredient, 0 if it is not in stock.
+    abstract int getIngredientAmount(Ingredient ingredient);
+
+    // Returns the ingredients in stock with the given name key, as a list that must not be modified.
+    abstract List<Ingredient> getIngredientsWithName(String nameKey);
+
+    // Returns the full read-only copy that this inventory is made of, or null if it is not a read-only copy.
+    InventoryCopy getFullCopy() {
+        return null;
+    }
+
+    Set<String> getNamesChangedSinceFullCopy() {
+        return Set.of();
+    }
+
+    @Override
+    public Set<String> getChangedNames(InventoryView inventory) {
+        InventoryCopy fullCopy = getFullCopy();
+        if (fullCopy == null || !(inventory instanceof AbstractInventory otherInventory)
+                || otherInventory.getFullCopy() != fullCopy) {
+            return null;
+        }
+        Set<String> changedNames = new HashSet<>(getNamesChangedSinceFullCopy());
+        changedNames.addAll(otherInventory.getNamesChangedSinceFullCopy());
+        return changedNames;
+    }
+
+    @Override
+    public int getIngredientCount(String ingredientName) {
+        int count = 0;
+        for (Ingredient ingredient : getIngredientsWithName(Product.toNameKey(ingredientName))) {
+            count += getIngredientAmount(ingredient);
+        }
+        return count;
+    }
+
+    @Override
+    public boolean hasIngredient(String ingredientName) {
+        return !getIngredientsWithName(Product.toNameKey(ingredientName)).isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        int count = 0;
+        StringBuilder outputString = new StringBuilder();
+        for (Ingredient ingredient : getIngredients()) {
+            count++;
+            outputString.append("    ");
+            outputString.append(count);
+            outputString.append(". ");
+            outputString.append(ingredient);
+            outputString.append(": ");
+            outputString.append(getIngredientAmount(ingredient));
+            outputString.append(System.lineSeparator());
+        }
+        return outputString.toString();
+    }
+
+    @Override
+    public ArrayList<String> toDataArray() {
+        ArrayList<String> outputDataArray = new ArrayList<>();
+        for (Ingredient ingredient : getIngredients()) {
+            outputDataArray.add(ingredient.toDataString() + " | " + getIngredientAmount(ingredient));
+        }
+        return outputDataArray;
+    }
+}
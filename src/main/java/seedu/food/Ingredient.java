@@ -14,6 +14,15 @@ public class Ingredient extends Product {
         setPrice(checkValidIngPrice(ingredientPriceString));
     }
 
+    /**
+     * Constructs an ingredient whose price was already validated, such as a copy of another ingredient or one read
+     * back from a {@link seedu.meallist.ColumnarRecipeList}.
+     */
+    public Ingredient(String ingredientName, double ingredientPrice) throws InvalidPriceException {
+        setName(ingredientName);
+        setPrice(ingredientPrice);
+    }
+
     public void setPrice(double price) throws InvalidPriceException {
         super.setPrice(price);
     }
@@ -29,21 +38,27 @@ public class Ingredient extends Product {
     @Override
     public boolean equals(Object otherIngredient) {
         if (otherIngredient instanceof Ingredient) {
-            String otherName = ((Ingredient) otherIngredient).getName();
+            String otherNameKey = ((Ingredient) otherIngredient).getNameKey();
             double otherPrice = ((Ingredient) otherIngredient).getPrice();
-            String thisName = this.getName();
+            String thisNameKey = this.getNameKey();
             double thsPrice = this.getPrice();
-            return thisName.equalsIgnoreCase(otherName) && thsPrice == otherPrice;
+            return thisNameKey.equals(otherNameKey) && thsPrice == otherPrice;
         } else {
             return false;
         }
     }
 
+    @Override
+    public int hashCode() {
+        // Adding 0.0 turns -0.0 into 0.0, as the two prices are equal.
+        return 31 * getNameKey().hashCode() + Double.hashCode(getPrice() + 0.0);
+    }
+
     public boolean nameEquals(Object otherIngredient) {
         if (otherIngredient instanceof Ingredient) {
-            String otherName = ((Ingredient) otherIngredient).getName();
-            String thisName = this.getName();
-            return thisName.equalsIgnoreCase(otherName);
+            String otherNameKey = ((Ingredient) otherIngredient).getNameKey();
+            String thisNameKey = this.getNameKey();
+            return thisNameKey.equals(otherNameKey);
         } else {
             return false;
         }
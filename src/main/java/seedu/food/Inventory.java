@@ -1,50 +1,203 @@
 package seedu.food;
 
 
+import seedu.exceptions.EZMealPlanException;
 import seedu.exceptions.InventoryIngredientNotFound;
+import seedu.exceptions.InventoryInsufficientIngredientException;
 import seedu.exceptions.InventoryMultipleIngredientsException;
+import seedu.metrics.MemoryEstimator;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
-public class Inventory {
+/**
+ * The ingredients in stock and their quantities. A read-only copy of an inventory is made of the last full copy and
+ * the quantities changed since it, so copying an inventory after a few changes costs time in proportion to those
+ * changes. A full copy is made again once the changes outgrow the square root of the number of ingredients.
+ */
+public class Inventory extends AbstractInventory {
+    private static final int MIN_CHANGES_BEFORE_COPY = 64;
     private final HashMap<Ingredient, Integer> ingredients;
     private final ArrayList<Ingredient> uniqueSortedIngredients;
+    // Ingredients in the inventory grouped by their name keys, for look ups by name without a scan.
+    private final HashMap<String, List<Ingredient>> ingredientsByName;
+    // The quantity of every ingredient changed since the last full read-only copy, 0 if it is no longer in stock.
+    private final HashMap<Ingredient, Integer> changedQuantities = new HashMap<>();
+    // The last full read-only copy, or null if there is none or too many changes were made since it.
+    private InventoryCopy fullCopy;
+    // Changes whenever an ingredient or a quantity in the inventory changes.
+    private int version = 0;
 
     public Inventory() {
         ingredients = new HashMap<>();
         uniqueSortedIngredients = new ArrayList<>();
+        ingredientsByName = new HashMap<>();
+    }
+
+    /**
+     * Returns a copy of this inventory that does not follow later changes to this inventory.
+     * The ingredient objects are shared with this inventory.
+     */
+    public InventoryView getReadOnlyCopy() {
+        if (fullCopy == null) {
+            fullCopy = new InventoryCopy(ingredients, uniqueSortedIngredients, ingredientsByName, version);
+            changedQuantities.clear();
+            return fullCopy;
+        }
+        return changedQuantities.isEmpty() ? fullCopy : new InventoryOverlay(fullCopy, changedQuantities, version);
+    }
+
+    // Records the current quantity of a changed ingredient for the next read-only copy.
+    private void recordChange(Ingredient ingredient) {
+        if (fullCopy == null) {
+            return;
+        }
+        // Removed first, so that the key is the ingredient object now in the inventory.
+        changedQuantities.remove(ingredient);
+        changedQuantities.put(ingredient, getIngredientAmount(ingredient));
+        if (changedQuantities.size() > Math.max(MIN_CHANGES_BEFORE_COPY, (int) Math.sqrt(fullCopy.size()))) {
+            fullCopy = null;
+            changedQuantities.clear();
+        }
+    }
+
+    /**
+     * Returns a number that changes whenever an ingredient or a quantity in the inventory changes.
+     */
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of distinct ingredients (by name and price) in stock.
+     */
+    @Override
+    public int size() {
+        return uniqueSortedIngredients.size();
+    }
+
+    /**
+     * Returns the estimated bytes of this inventory, its maps and lists and the ingredients that were not counted
+     * yet, or 0 if it was counted already. Ingredient names are counted as strings.
+     */
+    @Override
+    public long estimateBytes(MemoryEstimator estimator) {
+        if (!estimator.isUncounted(this)) {
+            return 0;
+        }
+        long bytes = estimator.objectSize(5, 4) + estimator.hashMapSize(ingredients.size())
+                + estimator.arrayListSize(uniqueSortedIngredients.size())
+                + estimator.hashMapSize(ingredientsByName.size()) + estimator.hashMapSize(changedQuantities.size());
+        for (Map.Entry<Ingredient, Integer> entry : ingredients.entrySet()) {
+            bytes += estimator.estimateIngredient(entry.getKey()) + estimator.boxedIntegerSize(entry.getValue());
+        }
+        for (Map.Entry<String, List<Ingredient>> entry : ingredientsByName.entrySet()) {
+            estimator.countString(entry.getKey());
+            bytes += estimator.arrayListSize(entry.getValue().size());
+        }
+        return bytes;
+    }
+
+    // Counts a change that is about to be made to the inventory.
+    private void beginChange() {
+        version++;
     }
 
     public void addIngredient(Ingredient ingredient) {
+        beginChange();
         if (isIngredientInInventory(ingredient)) {
             Ingredient ingredientInInventory = getIngredientInInventory(ingredient);
             ingredients.put(ingredientInInventory, ingredients.get(ingredientInInventory) + 1);
+            recordChange(ingredientInInventory);
         } else {
-            ingredients.put(ingredient, 1);
-            uniqueSortedIngredients.add(ingredient);
-            uniqueSortedIngredients.sort(Comparator.comparing(Ingredient::getName,String.CASE_INSENSITIVE_ORDER).
-                    thenComparing(Ingredient::getPrice));
+            addNewIngredient(ingredient, 1);
         }
     }
 
+    /**
+     * Sets the quantity of an ingredient, adding the ingredient if it is not in the inventory yet.
+     */
     public void addIngredient(Ingredient ingredient, int quantity) {
+        beginChange();
+        if (isIngredientInInventory(ingredient)) {
+            Ingredient ingredientInInventory = getIngredientInInventory(ingredient);
+            ingredients.put(ingredientInInventory, quantity);
+            recordChange(ingredientInInventory);
+        } else {
+            addNewIngredient(ingredient, quantity);
+        }
+    }
+
+    // Inserts the ingredient at its place in the sorted ingredients instead of sorting all of them again.
+    private void addNewIngredient(Ingredient ingredient, int quantity) {
         ingredients.put(ingredient, quantity);
-        uniqueSortedIngredients.add(ingredient);
-        uniqueSortedIngredients.sort(Comparator.comparing(Ingredient::getName,String.CASE_INSENSITIVE_ORDER).
-                thenComparing(Ingredient::getPrice));
+        addIngredientName(ingredient);
+        int searchResult = Collections.binarySearch(uniqueSortedIngredients, ingredient, INGREDIENT_ORDER);
+        uniqueSortedIngredients.add(searchResult >= 0 ? searchResult : -searchResult - 1, ingredient);
+        recordChange(ingredient);
+    }
+
+    // Removes the given ingredient object from the sorted ingredients, searching only the ingredients in its place.
+    private void removeSortedIngredient(Ingredient ingredientInInventory) {
+        int index = Collections.binarySearch(uniqueSortedIngredients, ingredientInInventory, INGREDIENT_ORDER);
+        while (index > 0 && INGREDIENT_ORDER.compare(uniqueSortedIngredients.get(index - 1),
+                ingredientInInventory) == 0) {
+            index--;
+        }
+        while (uniqueSortedIngredients.get(index) != ingredientInInventory) {
+            index++;
+        }
+        uniqueSortedIngredients.remove(index);
+    }
+
+    /**
+     * Sets the quantity of every ingredient of the other inventory in this inventory, adding the ingredients that
+     * are not in this inventory yet.
+     */
+    public void addAll(Inventory inventory) {
+        for (Ingredient ingredient : inventory.getIngredients()) {
+            addIngredient(ingredient, inventory.getIngredientAmount(ingredient));
+        }
+    }
 
+    private void addIngredientName(Ingredient ingredient) {
+        String ingredientName = ingredient.getNameKey();
+        List<Ingredient> ingredientsWithName = ingredientsByName.get(ingredientName);
+        if (ingredientsWithName == null) {
+            ingredientsWithName = new ArrayList<>();
+            ingredientsByName.put(ingredientName, ingredientsWithName);
+        }
+        ingredientsWithName.add(ingredient);
+    }
+
+    private void removeIngredientName(Ingredient ingredient) {
+        String ingredientName = ingredient.getNameKey();
+        List<Ingredient> ingredientsWithName = ingredientsByName.get(ingredientName);
+        ingredientsWithName.remove(ingredient);
+        if (ingredientsWithName.isEmpty()) {
+            ingredientsByName.remove(ingredientName);
+        }
     }
 
     private boolean isIngredientInInventory(Ingredient ingredient) {
-        return uniqueSortedIngredients.contains(ingredient);
+        return ingredients.containsKey(ingredient);
     }
 
+    // Returns the ingredient object in the inventory that is equal to the given ingredient.
     private Ingredient getIngredientInInventory(Ingredient ingredient) {
-        int index = uniqueSortedIngredients.indexOf(ingredient);
-        return uniqueSortedIngredients.get(index);
+        for (Ingredient ingredientWithName : ingredientsByName.get(ingredient.getNameKey())) {
+            if (ingredientWithName.equals(ingredient)) {
+                return ingredientWithName;
+            }
+        }
+        throw new IllegalStateException("The inventory has no ingredient equal to " + ingredient);
     }
 
     public Ingredient removeIngredient(String ingredientNameToBeRemoved) throws InventoryMultipleIngredientsException,
@@ -53,14 +206,9 @@ public class Inventory {
         if (hasMultipleIngredientsWithSameName(ingredientsToRemove)) {
             throw new InventoryMultipleIngredientsException(ingredientsToRemove);
         } else if (hasOnlyOneIngredient(ingredientsToRemove)) {
+            beginChange();
             Ingredient ingredientToBeRemoved = ingredientsToRemove.get(0);
-            int ingredientQuantity = ingredients.get(ingredientToBeRemoved);
-            if (ingredientQuantity > 1) {
-                ingredients.put(ingredientToBeRemoved, ingredientQuantity - 1);
-            } else {
-                ingredients.remove(ingredientToBeRemoved);
-                uniqueSortedIngredients.remove(ingredientToBeRemoved);
-            }
+            removeQuantity(ingredientToBeRemoved, 1);
             return ingredientToBeRemoved;
         } else {
             throw new InventoryIngredientNotFound(ingredientNameToBeRemoved);
@@ -68,73 +216,133 @@ public class Inventory {
     }
 
     public void removeIngredient(Ingredient ingredient) throws InventoryIngredientNotFound {
-        if (uniqueSortedIngredients.contains(ingredient)) {
-            int indexOfIngredient = uniqueSortedIngredients.indexOf(ingredient);
-            Ingredient ingredientToBeRemoved = uniqueSortedIngredients.get(indexOfIngredient);
-            int ingredientQuantity = ingredients.get(ingredientToBeRemoved);
-            if (ingredientQuantity > 1) {
-                ingredients.put(ingredientToBeRemoved, ingredientQuantity - 1);
-            } else {
-                ingredients.remove(ingredientToBeRemoved);
-                uniqueSortedIngredients.remove(ingredientToBeRemoved);
-            }
+        if (isIngredientInInventory(ingredient)) {
+            beginChange();
+            Ingredient ingredientToBeRemoved = getIngredientInInventory(ingredient);
+            removeQuantity(ingredientToBeRemoved, 1);
         } else {
             throw new InventoryIngredientNotFound(ingredient.toString());
         }
     }
 
-    private ArrayList<Ingredient> findIngredientsFromString(String ingredientString) {
-        ArrayList<Ingredient> ingredientsFound = new ArrayList<>();
-        for (Ingredient uniqueIngredient : uniqueSortedIngredients) {
-            if (uniqueIngredient.getName().equalsIgnoreCase(ingredientString)) {
-                ingredientsFound.add(uniqueIngredient);
+    /**
+     * Removes every ingredient of the batch from the inventory, or none of them if any of them cannot be removed.
+     * The whole batch is first checked against the inventory, adding up the removals of the same ingredient,
+     * and is only applied once every removal is known to succeed.
+     *
+     * @return the removed ingredients, in the order of the removals of the batch.
+     */
+    public List<Ingredient> removeIngredients(InventoryBatch batch) throws EZMealPlanException {
+        // IdentityHashMap, as the removals are counted per ingredient object of this inventory.
+        Map<Ingredient, Integer> removalCounts = new IdentityHashMap<>();
+        List<Ingredient> removedIngredients = new ArrayList<>();
+        for (InventoryBatch.Removal removal : batch.getRemovals()) {
+            Ingredient ingredientToBeRemoved = findIngredientToBeRemoved(removal);
+            int removalCount = removalCounts.merge(ingredientToBeRemoved, 1, Integer::sum);
+            int ingredientQuantity = getIngredientAmount(ingredientToBeRemoved);
+            if (removalCount > ingredientQuantity) {
+                throw new InventoryInsufficientIngredientException(ingredientToBeRemoved, ingredientQuantity,
+                        removalCount);
             }
+            removedIngredients.add(ingredientToBeRemoved);
         }
-        return ingredientsFound;
+
+        // The version only changes once the batch is known to succeed, so a rejected batch keeps the snapshots.
+        beginChange();
+        Map<Ingredient, Integer> originalQuantities = new IdentityHashMap<>();
+        try {
+            for (Map.Entry<Ingredient, Integer> removalCount : removalCounts.entrySet()) {
+                Ingredient ingredientToBeRemoved = removalCount.getKey();
+                originalQuantities.put(ingredientToBeRemoved, getIngredientAmount(ingredientToBeRemoved));
+                removeQuantity(ingredientToBeRemoved, removalCount.getValue());
+            }
+        } catch (RuntimeException runtimeException) {
+            originalQuantities.forEach(this::restoreQuantity);
+            throw runtimeException;
+        }
+        return removedIngredients;
     }
 
-    private boolean hasMultipleIngredientsWithSameName(ArrayList<Ingredient> ingredients) {
-        return ingredients.size() > 1;
+    private Ingredient findIngredientToBeRemoved(InventoryBatch.Removal removal) throws EZMealPlanException {
+        if (removal.ingredient != null) {
+            for (Ingredient ingredient : ingredientsByName.getOrDefault(Product.toNameKey(removal.ingredientName),
+                    List.of())) {
+                if (ingredient.equals(removal.ingredient)) {
+                    return ingredient;
+                }
+            }
+            if (removal.isExactOnly) {
+                throw new InventoryIngredientNotFound(removal.ingredient.toString());
+            }
+        }
+        ArrayList<Ingredient> ingredientsFound = findIngredientsFromString(removal.ingredientName);
+        if (hasMultipleIngredientsWithSameName(ingredientsFound)) {
+            throw new InventoryMultipleIngredientsException(ingredientsFound);
+        } else if (!hasOnlyOneIngredient(ingredientsFound)) {
+            throw new InventoryIngredientNotFound(removal.ingredientName);
+        }
+        return ingredientsFound.get(0);
     }
 
-    private boolean hasOnlyOneIngredient(ArrayList<Ingredient> ingredients) {
-        return ingredients.size() == 1;
+    // Removes the given quantity of an ingredient in the inventory, which must hold at least that quantity.
+    private void removeQuantity(Ingredient ingredientInInventory, int quantity) {
+        int ingredientQuantity = ingredients.get(ingredientInInventory);
+        assert ingredientQuantity >= quantity : "Cannot remove more of an ingredient than the inventory holds";
+        if (ingredientQuantity > quantity) {
+            ingredients.put(ingredientInInventory, ingredientQuantity - quantity);
+        } else {
+            ingredients.remove(ingredientInInventory);
+            removeIngredientName(ingredientInInventory);
+            removeSortedIngredient(ingredientInInventory);
+        }
+        recordChange(ingredientInInventory);
     }
 
-    public String toString() {
-        int count = 0;
-        StringBuilder outputString = new StringBuilder();
-        for (Ingredient ingredient : uniqueSortedIngredients) {
-            count++;
-            outputString.append("    ");
-            outputString.append(count);
-            outputString.append(". ");
-            outputString.append(ingredient);
-            outputString.append(": ");
-            outputString.append(ingredients.get(ingredient));
-            outputString.append(System.lineSeparator());
+    // Puts an ingredient back with the quantity it had before a failed batch.
+    private void restoreQuantity(Ingredient ingredient, int quantity) {
+        if (ingredients.containsKey(ingredient)) {
+            ingredients.put(ingredient, quantity);
+            recordChange(ingredient);
+        } else {
+            addIngredient(ingredient, quantity);
         }
-        return outputString.toString();
     }
 
-    public ArrayList<String> toDataArray() {
-        ArrayList<String> outputDataArray = new ArrayList<>();
-        for (Ingredient ingredient : uniqueSortedIngredients) {
-            outputDataArray.add(ingredient.toDataString() + " | " + getIngredientAmount(ingredient));
+    private ArrayList<Ingredient> findIngredientsFromString(String ingredientString) {
+        ArrayList<Ingredient> ingredientsFound = new ArrayList<>();
+        List<Ingredient> ingredientsWithName = ingredientsByName.get(Product.toNameKey(ingredientString));
+        if (ingredientsWithName != null) {
+            ingredientsFound.addAll(ingredientsWithName);
+            ingredientsFound.sort(Comparator.comparing(Ingredient::getPrice));
         }
-        return outputDataArray;
+        return ingredientsFound;
     }
 
+    private boolean hasMultipleIngredientsWithSameName(ArrayList<Ingredient> ingredients) {
+        return ingredients.size() > 1;
+    }
+
+    private boolean hasOnlyOneIngredient(ArrayList<Ingredient> ingredients) {
+        return ingredients.size() == 1;
+    }
+
+    @Override
     public List<Ingredient> getIngredients() {
         return uniqueSortedIngredients;
     }
 
-    public boolean hasIngredient(String ingredientName) {
-        ArrayList<Ingredient> foundIngredients = findIngredientsFromString(ingredientName);
-        return !foundIngredients.isEmpty();
+    @Override
+    public Set<String> getIngredientNames() {
+        return Collections.unmodifiableSet(ingredientsByName.keySet());
+    }
+
+    @Override
+    List<Ingredient> getIngredientsWithName(String nameKey) {
+        return ingredientsByName.getOrDefault(nameKey, List.of());
     }
 
-    private int getIngredientAmount(Ingredient ingredient) {
+    @Override
+    int getIngredientAmount(Ingredient ingredient) {
         return ingredients.getOrDefault(ingredient, 0);
     }
 }
@@ -0,0 +1,60 @@
+package seedu.food;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A list of ingredient removals to be applied to an {@link Inventory} together by
+ * {@link Inventory#removeIngredients(InventoryBatch)}: either every removal succeeds or none of them is applied.
+ */
+public class InventoryBatch {
+    private final List<Removal> removals = new ArrayList<>();
+
+    /**
+     * Removes one ingredient with the given name, which must be the only ingredient with that name in the inventory.
+     */
+    public InventoryBatch removeByName(String ingredientName) {
+        removals.add(new Removal(ingredientName, null, false));
+        return this;
+    }
+
+    /**
+     * Removes one ingredient with exactly the given name and price.
+     */
+    public InventoryBatch removeExact(Ingredient ingredient) {
+        removals.add(new Removal(ingredient.getName(), ingredient, true));
+        return this;
+    }
+
+    /**
+     * Removes one ingredient with the given name and price if there is one, or else one ingredient with the given name
+     * as {@link #removeByName(String)} does.
+     */
+    public InventoryBatch removeExactOrByName(Ingredient ingredient) {
+        removals.add(new Removal(ingredient.getName(), ingredient, false));
+        return this;
+    }
+
+    List<Removal> getRemovals() {
+        return removals;
+    }
+
+    public boolean isEmpty() {
+        return removals.isEmpty();
+    }
+
+    /**
+     * A single ingredient to remove. The ingredient is null when only the name is given.
+     */
+    static class Removal {
+        final String ingredientName;
+        final Ingredient ingredient;
+        final boolean isExactOnly;
+
+        Removal(String ingredientName, Ingredient ingredient, boolean isExactOnly) {
+            this.ingredientName = ingredientName;
+            this.ingredient = ingredient;
+            this.isExactOnly = isExactOnly;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.food;
+
+import seedu.metrics.MemoryEstimator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A full read-only copy of the ingredients and quantities of an inventory, which does not follow later changes to
+ * that inventory. The ingredient objects are shared with the inventory.
+ */
+final class InventoryCopy extends AbstractInventory {
+    private final HashMap<Ingredient, Integer> ingredients;
+    private final List<Ingredient> uniqueSortedIngredients;
+    private final HashMap<String, List<Ingredient>> ingredientsByName = new HashMap<>();
+    private final int version;
+
+    InventoryCopy(Map<Ingredient, Integer> ingredients, List<Ingredient> uniqueSortedIngredients,
+                  Map<String, List<Ingredient>> ingredientsByName, int version) {
+        this.ingredients = new HashMap<>(ingredients);
+        this.uniqueSortedIngredients = Collections.unmodifiableList(new ArrayList<>(uniqueSortedIngredients));
+        ingredientsByName.forEach((name, ingredientsWithName) ->
+                this.ingredientsByName.put(name, List.copyOf(ingredientsWithName)));
+        this.version = version;
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public int size() {
+        return uniqueSortedIngredients.size();
+    }
+
+    @Override
+    public List<Ingredient> getIngredients() {
+        return uniqueSortedIngredients;
+    }
+
+    @Override
+    public Set<String> getIngredientNames() {
+        return Collections.unmodifiableSet(ingredientsByName.keySet());
+    }
+
+    @Override
+    int getIngredientAmount(Ingredient ingredient) {
+        return ingredients.getOrDefault(ingredient, 0);
+    }
+
+    @Override
+    List<Ingredient> getIngredientsWithName(String nameKey) {
+        return ingredientsByName.getOrDefault(nameKey, List.of());
+    }
+
+    @Override
+    InventoryCopy getFullCopy() {
+        return this;
+    }
+
+    @Override
+    public long estimateBytes(MemoryEstimator estimator) {
+        if (!estimator.isUncounted(this)) {
+            return 0;
+        }
+        long bytes = estimator.objectSize(3, 4) + estimator.hashMapSize(ingredients.size())
+                + estimator.arrayListSize(uniqueSortedIngredients.size())
+                + estimator.hashMapSize(ingredientsByName.size());
+        for (Map.Entry<Ingredient, Integer> entry : ingredients.entrySet()) {
+            bytes += estimator.estimateIngredient(entry.getKey()) + estimator.boxedIntegerSize(entry.getValue());
+        }
+        for (Map.Entry<String, List<Ingredient>> entry : ingredientsByName.entrySet()) {
+            estimator.countString(entry.getKey());
+            bytes += estimator.arrayListSize(entry.getValue().size());
+        }
+        return bytes;
+    }
+}
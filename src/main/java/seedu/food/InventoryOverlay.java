@@ -0,0 +1,138 @@
+package seedu.food;
+
+import seedu.metrics.MemoryEstimator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A read-only inventory made of a full read-only copy of an inventory and the quantities changed since that copy.
+ * Look ups by name and ingredient read the changes first and then the full copy; listing every ingredient merges
+ * the two.
+ */
+final class InventoryOverlay extends AbstractInventory {
+    private final InventoryCopy fullCopy;
+    // The quantity of every ingredient changed since the full copy, 0 if it is no longer in stock.
+    private final Map<Ingredient, Integer> changedQuantities;
+    // The changed ingredients that are in stock, grouped by their name keys.
+    private final Map<String, List<Ingredient>> changedIngredientsByName = new HashMap<>();
+    private final int size;
+    private final int version;
+
+    InventoryOverlay(InventoryCopy fullCopy, Map<Ingredient, Integer> changedQuantities, int version) {
+        this.fullCopy = fullCopy;
+        this.version = version;
+        this.changedQuantities = new HashMap<>(changedQuantities);
+        int ingredientCount = fullCopy.size();
+        for (Map.Entry<Ingredient, Integer> changedQuantity : this.changedQuantities.entrySet()) {
+            Ingredient ingredient = changedQuantity.getKey();
+            boolean isInStock = changedQuantity.getValue() > 0;
+            if (isInStock) {
+                changedIngredientsByName.computeIfAbsent(ingredient.getNameKey(), name -> new ArrayList<>())
+                        .add(ingredient);
+            }
+            ingredientCount += (isInStock ? 1 : 0) - (fullCopy.getIngredientAmount(ingredient) > 0 ? 1 : 0);
+        }
+        this.size = ingredientCount;
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    int getIngredientAmount(Ingredient ingredient) {
+        Integer changedQuantity = changedQuantities.get(ingredient);
+        return changedQuantity != null ? changedQuantity : fullCopy.getIngredientAmount(ingredient);
+    }
+
+    @Override
+    List<Ingredient> getIngredientsWithName(String nameKey) {
+        List<Ingredient> ingredientsWithName = new ArrayList<>();
+        for (Ingredient ingredient : fullCopy.getIngredientsWithName(nameKey)) {
+            if (!changedQuantities.containsKey(ingredient)) {
+                ingredientsWithName.add(ingredient);
+            }
+        }
+        ingredientsWithName.addAll(changedIngredientsByName.getOrDefault(nameKey, List.of()));
+        return ingredientsWithName;
+    }
+
+    @Override
+    public List<Ingredient> getIngredients() {
+        List<Ingredient> addedIngredients = new ArrayList<>();
+        changedIngredientsByName.values().forEach(addedIngredients::addAll);
+        addedIngredients.sort(INGREDIENT_ORDER);
+        List<Ingredient> ingredients = new ArrayList<>(size);
+        int nextAdded = 0;
+        for (Ingredient ingredient : fullCopy.getIngredients()) {
+            if (changedQuantities.containsKey(ingredient)) {
+                continue;
+            }
+            while (nextAdded < addedIngredients.size()
+                    && INGREDIENT_ORDER.compare(addedIngredients.get(nextAdded), ingredient) < 0) {
+                ingredients.add(addedIngredients.get(nextAdded++));
+            }
+            ingredients.add(ingredient);
+        }
+        ingredients.addAll(addedIngredients.subList(nextAdded, addedIngredients.size()));
+        return Collections.unmodifiableList(ingredients);
+    }
+
+    @Override
+    public Set<String> getIngredientNames() {
+        Set<String> ingredientNames = new HashSet<>(fullCopy.getIngredientNames());
+        for (String changedName : getNamesChangedSinceFullCopy()) {
+            if (getIngredientsWithName(changedName).isEmpty()) {
+                ingredientNames.remove(changedName);
+            } else {
+                ingredientNames.add(changedName);
+            }
+        }
+        return Collections.unmodifiableSet(ingredientNames);
+    }
+
+    @Override
+    InventoryCopy getFullCopy() {
+        return fullCopy;
+    }
+
+    @Override
+    Set<String> getNamesChangedSinceFullCopy() {
+        Set<String> changedNames = new HashSet<>();
+        changedQuantities.keySet().forEach(ingredient -> changedNames.add(ingredient.getNameKey()));
+        return changedNames;
+    }
+
+    /**
+     * Counts the full copy too, unless it was counted already for another read-only inventory.
+     */
+    @Override
+    public long estimateBytes(MemoryEstimator estimator) {
+        if (!estimator.isUncounted(this)) {
+            return 0;
+        }
+        long bytes = estimator.objectSize(4, 8) + fullCopy.estimateBytes(estimator)
+                + estimator.hashMapSize(changedQuantities.size())
+                + estimator.hashMapSize(changedIngredientsByName.size());
+        for (Map.Entry<Ingredient, Integer> changedQuantity : changedQuantities.entrySet()) {
+            bytes += estimator.estimateIngredient(changedQuantity.getKey())
+                    + estimator.boxedIntegerSize(changedQuantity.getValue());
+        }
+        for (List<Ingredient> ingredientsWithName : changedIngredientsByName.values()) {
+            bytes += estimator.arrayListSize(ingredientsWithName.size());
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.food;
+
+import seedu.metrics.MemoryEstimator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The ingredients in stock and their quantities, read only. Both a changing {@link Inventory} and the read-only
+ * copies it makes with {@link Inventory#getReadOnlyCopy()} can be read through this view.
+ */
+public interface InventoryView {
+    /**
+     * Returns a number that changes whenever an ingredient or a quantity in the inventory changes.
+     */
+    int getVersion();
+
+    /**
+     * Returns the number of distinct ingredients (by name and price) in stock.
+     */
+    int size();
+
+    /**
+     * Returns the ingredients in stock, sorted by name and then price.
+     */
+    List<Ingredient> getIngredients();
+
+    /**
+     * Returns the name keys of the ingredients in stock, as returned by {@link Product#toNameKey(String)}.
+     */
+    Set<String> getIngredientNames();
+
+    /**
+     * Returns the total quantity in stock of the ingredients with the given name, ignoring case and price.
+     */
+    int getIngredientCount(String ingredientName);
+
+    boolean hasIngredient(String ingredientName);
+
+    ArrayList<String> toDataArray();
+
+    /**
+     * Returns the name keys of the ingredients that may be in stock in only one of this inventory and the given one,
+     * or null if that is not known without comparing every ingredient, which is always the case unless both are
+     * read-only copies of the same inventory.
+     */
+    Set<String> getChangedNames(InventoryView inventory);
+
+    /**
+     * Returns the estimated bytes of this inventory and the ingredients that were not counted yet, or 0 if it was
+     * counted already. Ingredient names are counted as strings.
+     */
+    long estimateBytes(MemoryEstimator estimator);
+}
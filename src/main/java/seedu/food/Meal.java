@@ -4,12 +4,14 @@ import seedu.exceptions.DuplicateIngredientException;
 import seedu.exceptions.InvalidPriceException;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.logging.Logger;
 
 public class Meal extends Product {
     private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private static final Comparator<Ingredient> INGREDIENT_NAME_ORDER = Comparator.comparing(Ingredient::getNameKey);
 
     private final List<Ingredient> ingredientList = new ArrayList<>();
 
@@ -28,10 +30,10 @@ public class Meal extends Product {
     }
 
     public void addIngredient(Ingredient ingredient) throws InvalidPriceException, DuplicateIngredientException {
-        checkDuplicateIngredients(ingredient);
-        ingredientList.add(ingredient);
-        ingredientList.sort(Comparator.comparing(Ingredient::getName,
-                String.CASE_INSENSITIVE_ORDER));
+        // The ingredients are kept sorted by name, so the place of the new ingredient also shows any duplicate.
+        int searchResult = Collections.binarySearch(ingredientList, ingredient, INGREDIENT_NAME_ORDER);
+        checkDuplicateIngredient(ingredient, searchResult);
+        ingredientList.add(-searchResult - 1, ingredient);
         setPrice(getPrice() + ingredient.getPrice());
     }
 
@@ -46,20 +48,24 @@ public class Meal extends Product {
     @Override
     public boolean equals(Object otherMeal) {
         if (otherMeal instanceof Meal other) {
-            return this.getName().equalsIgnoreCase(other.getName()) &&
+            return this.getNameKey().equals(other.getNameKey()) &&
                    this.ingredientList.equals(other.getIngredientList());
         }
         return false;
     }
 
-    private void checkDuplicateIngredients(Ingredient newIngredient) throws DuplicateIngredientException {
-        for (Ingredient ingredient : ingredientList) {
-            if (newIngredient.nameEquals(ingredient)) {
-                String ingredientName = newIngredient.getName();
-                String message = "Triggers DuplicateIngredientException()!";
-                logger.warning(message);
-                throw new DuplicateIngredientException(ingredientName, getName());
-            }
+    @Override
+    public int hashCode() {
+        return 31 * getNameKey().hashCode() + ingredientList.hashCode();
+    }
+
+    private void checkDuplicateIngredient(Ingredient newIngredient, int searchResult)
+            throws DuplicateIngredientException {
+        if (searchResult >= 0) {
+            String ingredientName = newIngredient.getName();
+            String message = "Triggers DuplicateIngredientException()!";
+            logger.warning(message);
+            throw new DuplicateIngredientException(ingredientName, getName());
         }
     }
 
@@ -9,6 +9,8 @@ public abstract class Product {
     private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
     protected String name;
     protected double price;
+    // The name with every character folded as String.equalsIgnoreCase folds it, computed once when the name is set.
+    private String nameKey;
 
 
     public String getName() {
@@ -17,6 +19,51 @@ public abstract class Product {
 
     public void setName(String name) {
         this.name = name;
+        this.nameKey = toNameKey(name);
+    }
+
+    /**
+     * Returns the key of the name, which names that are equal ignoring case share. Comparing the keys of two names
+     * orders them as {@link String#CASE_INSENSITIVE_ORDER} does, so comparisons, equality, hashing and look ups by
+     * name use the key instead of converting the name again.
+     */
+    public String getNameKey() {
+        return nameKey;
+    }
+
+    /**
+     * Returns the key of a name or keyword, with every character folded to upper case and then to lower case, as
+     * String.equalsIgnoreCase and String.CASE_INSENSITIVE_ORDER fold them. A name that is already its own key, such as
+     * a lower case keyword, is returned without creating a new string.
+     */
+    public static String toNameKey(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char character = name.charAt(i);
+            if (foldCase(character) != character) {
+                char[] keyCharacters = name.toCharArray();
+                for (int j = i; j < keyCharacters.length; j++) {
+                    keyCharacters[j] = foldCase(keyCharacters[j]);
+                }
+                return new String(keyCharacters);
+            }
+        }
+        return name;
+    }
+
+    private static char foldCase(char character) {
+        return Character.toLowerCase(Character.toUpperCase(character));
+    }
+
+    /**
+     * Returns true if the name contains the given key ignoring case, without creating the key of the name.
+     */
+    public static boolean containsNameKey(String name, String key) {
+        for (int start = 0; start <= name.length() - key.length(); start++) {
+            if (name.regionMatches(true, start, key, 0, key.length())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public double getPrice() {
@@ -0,0 +1,182 @@
+package seedu.logging;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Hands log records to another handler, such as a FileHandler, on a background thread, so that logging never waits
+ * for formatting or for the disk.
+ * The queue of records is bounded: when it is full, records are dropped and counted, and the count is written once
+ * there is room again. A warning that repeats the previous warning within a second is not queued but counted. Nothing
+ * writes the count on a timer: it is written before the next warning that is queued, that is a different warning or
+ * the same one more than a second later, or when the handler is flushed or closed.
+ */
+public class AsyncLogHandler extends Handler {
+    public static final int DEFAULT_CAPACITY = 4096;
+    private static final long COALESCE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final long FLUSH_POLL_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private final Handler target;
+    private final BlockingQueue<LogRecord> queue;
+    private final Thread writerThread;
+    // Records that are queued or being written.
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong totalDroppedCount = new AtomicLong();
+    // The last warning queued, when it was queued and how many times it was repeated since, guarded by this.
+    private LogRecord lastWarning = null;
+    private long lastWarningTime;
+    private int repeatCount = 0;
+    private volatile boolean isClosed = false;
+
+    public AsyncLogHandler(Handler target) {
+        this(target, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a handler that queues at most the given number of records for the target handler.
+     */
+    public AsyncLogHandler(Handler target, int capacity) {
+        this.target = target;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writerThread = new Thread(this::writeRecords, "EZMealPlan log writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (record == null || isClosed || !isLoggable(record)) {
+            return;
+        }
+        if (record.getLevel().intValue() >= Level.WARNING.intValue() && isRepeatedWarning(record)) {
+            return;
+        }
+        enqueue(record);
+    }
+
+    // Returns true if the warning repeats the last queued one and was counted instead of being queued.
+    private synchronized boolean isRepeatedWarning(LogRecord warning) {
+        long now = System.nanoTime();
+        if (isSameMessage(lastWarning, warning) && now - lastWarningTime < COALESCE_WINDOW_NANOS) {
+            repeatCount++;
+            return true;
+        }
+        enqueueRepeatCount();
+        lastWarning = warning;
+        lastWarningTime = now;
+        return false;
+    }
+
+    private static boolean isSameMessage(LogRecord first, LogRecord second) {
+        return first != null && first.getLevel().equals(second.getLevel())
+                && Objects.equals(first.getLoggerName(), second.getLoggerName())
+                && Objects.equals(first.getMessage(), second.getMessage())
+                && Arrays.equals(first.getParameters(), second.getParameters())
+                && first.getThrown() == null && second.getThrown() == null;
+    }
+
+    // Queues a record that tells how many times the last warning was repeated, if it was.
+    private synchronized void enqueueRepeatCount() {
+        if (repeatCount == 0) {
+            return;
+        }
+        LogRecord summary = new LogRecord(lastWarning.getLevel(), "The previous message was repeated "
+                + repeatCount + " more times: " + lastWarning.getMessage());
+        summary.setLoggerName(lastWarning.getLoggerName());
+        summary.setSourceClassName(lastWarning.getSourceClassName());
+        summary.setSourceMethodName(lastWarning.getSourceMethodName());
+        repeatCount = 0;
+        enqueue(summary);
+    }
+
+    private void enqueue(LogRecord record) {
+        // The caller is found from the stack of the logging thread, so it must be found before the record is queued.
+        record.getSourceClassName();
+        pendingCount.incrementAndGet();
+        if (!queue.offer(record)) {
+            pendingCount.decrementAndGet();
+            droppedCount.incrementAndGet();
+            totalDroppedCount.incrementAndGet();
+        }
+    }
+
+    private void writeRecords() {
+        while (true) {
+            LogRecord record;
+            try {
+                record = queue.take();
+            } catch (InterruptedException interruptedException) {
+                return;
+            }
+            writeDroppedCount();
+            try {
+                target.publish(record);
+            } finally {
+                pendingCount.decrementAndGet();
+            }
+        }
+    }
+
+    private void writeDroppedCount() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            LogRecord summary = new LogRecord(Level.WARNING, "Dropped " + dropped
+                    + " log records because the log queue was full.");
+            summary.setLoggerName(AsyncLogHandler.class.getName());
+            summary.setSourceClassName(AsyncLogHandler.class.getName());
+            summary.setSourceMethodName("publish");
+            target.publish(summary);
+        }
+    }
+
+    /**
+     * Returns the number of records dropped because the queue was full, since this handler was constructed.
+     */
+    public long getDroppedCount() {
+        return totalDroppedCount.get();
+    }
+
+    /**
+     * Writes the count of any repeated warning, then waits up to 5 seconds for every queued record to be written
+     * before flushing the target handler.
+     */
+    @Override
+    public void flush() {
+        enqueueRepeatCount();
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+        while (pendingCount.get() > 0 && writerThread.isAlive() && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(FLUSH_POLL_NANOS);
+        }
+        target.flush();
+    }
+
+    /**
+     * Writes every queued record, then stops the background thread and closes the target handler.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        flush();
+        isClosed = true;
+        writerThread.interrupt();
+        try {
+            writerThread.join(TimeUnit.NANOSECONDS.toMillis(FLUSH_TIMEOUT_NANOS));
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        writeDroppedCount();
+        target.close();
+    }
+}
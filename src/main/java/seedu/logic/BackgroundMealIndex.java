@@ -0,0 +1,148 @@
+package seedu.logic;
+
+import seedu.food.InventoryView;
+import seedu.food.Meal;
+import seedu.metrics.MemoryEstimator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * An index that is built on another thread, so that a snapshot can be published before its indexes are ready.
+ * Its version, size and meals are known at once, so listing the meals never waits; any other lookup waits until
+ * this index is built, but not for any other index.
+ */
+class BackgroundMealIndex extends MealIndex {
+    private final Meal[] meals;
+    private final int version;
+    private final CompletableFuture<MealIndex> builtIndex;
+
+    /**
+     * Constructs an index over the given meals and starts building it with the given builder.
+     */
+    BackgroundMealIndex(Meal[] meals, int version, Supplier<MealIndex> indexBuilder) {
+        this.meals = meals;
+        this.version = version;
+        this.builtIndex = CompletableFuture.supplyAsync(indexBuilder);
+    }
+
+    @Override
+    public CompletableFuture<MealIndex> whenBuilt() {
+        return builtIndex;
+    }
+
+    // Waits for the index to be built, rethrowing anything that the build threw.
+    private MealIndex getBuiltIndex() {
+        try {
+            return builtIndex.join();
+        } catch (CompletionException completionException) {
+            if (completionException.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (completionException.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw completionException;
+        }
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public int size() {
+        return meals.length;
+    }
+
+    @Override
+    public Meal getMeal(int position) {
+        return meals[position];
+    }
+
+    @Override
+    public List<Meal> getMeals() {
+        return Collections.unmodifiableList(Arrays.asList(meals));
+    }
+
+    @Override
+    public IngredientDictionary getIngredientDictionary() {
+        return getBuiltIndex().getIngredientDictionary();
+    }
+
+    @Override
+    public IngredientSet getIngredientSet(int position) {
+        return getBuiltIndex().getIngredientSet(position);
+    }
+
+    @Override
+    public IngredientSet findIngredientIds(String keyword) {
+        return getBuiltIndex().findIngredientIds(keyword);
+    }
+
+    @Override
+    public IngredientSet getInventorySet(InventoryView inventory) {
+        return getBuiltIndex().getInventorySet(inventory);
+    }
+
+    @Override
+    public int[] getIngredientPositions(String ingredientName) {
+        return getBuiltIndex().getIngredientPositions(ingredientName);
+    }
+
+    @Override
+    public List<String> findIngredientNames(String keyword) {
+        return getBuiltIndex().findIngredientNames(keyword);
+    }
+
+    @Override
+    public int countIngredientPositions(List<String> ingredientNames) {
+        return getBuiltIndex().countIngredientPositions(ingredientNames);
+    }
+
+    @Override
+    public int[] findIngredientPositions(List<String> ingredientNames) {
+        return getBuiltIndex().findIngredientPositions(ingredientNames);
+    }
+
+    @Override
+    public boolean canLookUpName(String keyword) {
+        return getBuiltIndex().canLookUpName(keyword);
+    }
+
+    @Override
+    public int countNameCandidates(String keyword) {
+        return getBuiltIndex().countNameCandidates(keyword);
+    }
+
+    @Override
+    public int[] findNameCandidates(String keyword) {
+        return getBuiltIndex().findNameCandidates(keyword);
+    }
+
+    @Override
+    public int countPriceRange(double minPrice, double maxPrice) {
+        return getBuiltIndex().countPriceRange(minPrice, maxPrice);
+    }
+
+    @Override
+    public int[] findPriceRange(double minPrice, double maxPrice) {
+        return getBuiltIndex().findPriceRange(minPrice, maxPrice);
+    }
+
+    /**
+     * Waits for the index to be built. The array of meals is counted by a built index that shares it.
+     */
+    @Override
+    public long estimateBytes(MemoryEstimator estimator) {
+        if (!estimator.isUncounted(this)) {
+            return 0;
+        }
+        return estimator.objectSize(2, 4) + estimator.objectSize(2, 0) + getBuiltIndex().estimateBytes(estimator);
+    }
+}
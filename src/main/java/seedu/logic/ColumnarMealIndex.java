@@ -0,0 +1,288 @@
+package seedu.logic;
+
+import seedu.food.Meal;
+import seedu.food.Product;
+import seedu.meallist.RecipeColumns;
+import seedu.metrics.CommandTrace;
+import seedu.metrics.IndexBuildEvent;
+import seedu.metrics.MemoryEstimator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lookup structures over one version of a {@link seedu.meallist.ColumnarRecipeList}, made only of primitive arrays.
+ * Ingredients, prices and names are tested in loops over the columns, and the meals that use each ingredient name
+ * are kept as one array of positions with an offset to where each name starts. Meals are only created for the
+ * positions a lookup returns. Names are not indexed, so a name keyword is always tested against every meal.
+ */
+class ColumnarMealIndex extends MealIndex {
+    private final RecipeColumns columns;
+    private final int version;
+    private final IngredientDictionary ingredientDictionary = new IngredientDictionary();
+    // The id in ingredientDictionary of the lower case name of every ingredient id of the columns, or -1 if unused.
+    private final int[] nameIds;
+    // The meals using the name id n are ingredientPositions[positionOffsets[n]] up to positionOffsets[n + 1].
+    private final int[] positionOffsets;
+    private final int[] ingredientPositions;
+
+    ColumnarMealIndex(RecipeColumns columns, int version) {
+        IndexBuildEvent event = new IndexBuildEvent();
+        event.begin();
+        this.columns = columns;
+        this.version = version;
+        this.nameIds = new int[columns.getIngredientTypeCount()];
+        Arrays.fill(nameIds, -1);
+        int slotCount = columns.getIngredientSlotCount();
+        for (int slot = 0; slot < slotCount; slot++) {
+            int ingredientId = columns.getIngredientId(slot);
+            if (nameIds[ingredientId] == -1) {
+                nameIds[ingredientId] = ingredientDictionary.intern(
+                        Product.toNameKey(columns.getIngredientName(ingredientId)));
+            }
+        }
+        // A meal never has two ingredients of the same name, so every position is added once per name.
+        this.positionOffsets = new int[ingredientDictionary.size() + 1];
+        for (int slot = 0; slot < slotCount; slot++) {
+            positionOffsets[nameIds[columns.getIngredientId(slot)] + 1]++;
+        }
+        for (int nameId = 0; nameId < ingredientDictionary.size(); nameId++) {
+            positionOffsets[nameId + 1] += positionOffsets[nameId];
+        }
+        this.ingredientPositions = new int[slotCount];
+        int[] nextSlots = Arrays.copyOf(positionOffsets, ingredientDictionary.size());
+        for (int position = 0; position < columns.size(); position++) {
+            for (int slot = columns.getIngredientStart(position); slot < columns.getIngredientEnd(position); slot++) {
+                ingredientPositions[nextSlots[nameIds[columns.getIngredientId(slot)]]++] = position;
+            }
+        }
+        CommandTrace.addScannedMeals(columns.size());
+        event.commit(columns.size(), version, ingredientDictionary.size());
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public int size() {
+        return columns.size();
+    }
+
+    @Override
+    public Meal getMeal(int position) {
+        return columns.getMeal(position);
+    }
+
+    @Override
+    public String getMealName(int position) {
+        return columns.getMealName(position);
+    }
+
+    @Override
+    public boolean mealNameContains(int position, String keywordKey) {
+        return Product.containsNameKey(columns.getMealName(position), keywordKey);
+    }
+
+    @Override
+    public double getPrice(int position) {
+        return RecipeColumns.toPrice(columns.getPriceCents(position));
+    }
+
+    @Override
+    public IngredientDictionary getIngredientDictionary() {
+        return ingredientDictionary;
+    }
+
+    @Override
+    public IngredientSet getIngredientSet(int position) {
+        int start = columns.getIngredientStart(position);
+        int[] ids = new int[columns.getIngredientEnd(position) - start];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = nameIds[columns.getIngredientId(start + i)];
+        }
+        return IngredientSet.of(ids);
+    }
+
+    @Override
+    public int getIngredientCount(int position) {
+        return columns.getIngredientEnd(position) - columns.getIngredientStart(position);
+    }
+
+    @Override
+    public boolean usesAnyIngredient(int position, IngredientSet ingredientIds) {
+        for (int slot = columns.getIngredientStart(position); slot < columns.getIngredientEnd(position); slot++) {
+            if (ingredientIds.contains(nameIds[columns.getIngredientId(slot)])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int countIngredientsNotIn(int position, IngredientSet ingredientIds) {
+        int count = 0;
+        for (int slot = columns.getIngredientStart(position); slot < columns.getIngredientEnd(position); slot++) {
+            if (!ingredientIds.contains(nameIds[columns.getIngredientId(slot)])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public double getMissingCost(int position, IngredientSet ingredientIds) {
+        double missingCost = 0;
+        for (int slot = columns.getIngredientStart(position); slot < columns.getIngredientEnd(position); slot++) {
+            int ingredientId = columns.getIngredientId(slot);
+            if (!ingredientIds.contains(nameIds[ingredientId])) {
+                missingCost += RecipeColumns.toPrice(columns.getIngredientPriceCents(ingredientId));
+            }
+        }
+        return missingCost;
+    }
+
+    private int[] getPositions(int nameId) {
+        if (nameId < 0) {
+            return NO_POSITIONS;
+        }
+        return Arrays.copyOfRange(ingredientPositions, positionOffsets[nameId], positionOffsets[nameId + 1]);
+    }
+
+    private int countPositions(int nameId) {
+        return nameId < 0 ? 0 : positionOffsets[nameId + 1] - positionOffsets[nameId];
+    }
+
+    @Override
+    public int[] getIngredientPositions(String ingredientName) {
+        return getPositions(ingredientDictionary.getId(ingredientName));
+    }
+
+    @Override
+    public List<String> findIngredientNames(String keyword) {
+        List<String> matchingNames = new ArrayList<>();
+        for (int nameId = 0; nameId < ingredientDictionary.size(); nameId++) {
+            String ingredientName = ingredientDictionary.getName(nameId);
+            if (ingredientName.contains(keyword)) {
+                matchingNames.add(ingredientName);
+            }
+        }
+        return matchingNames;
+    }
+
+    @Override
+    public int countIngredientPositions(List<String> ingredientNames) {
+        return Math.min(countIngredientPositionsWithRepeats(ingredientNames), size());
+    }
+
+    @Override
+    public int[] findIngredientPositions(List<String> ingredientNames) {
+        if (ingredientNames.size() == 1) {
+            return getIngredientPositions(ingredientNames.get(0));
+        }
+        int[] positions = new int[countIngredientPositionsWithRepeats(ingredientNames)];
+        int count = 0;
+        for (String ingredientName : ingredientNames) {
+            int nameId = ingredientDictionary.getId(ingredientName);
+            if (nameId >= 0) {
+                int from = positionOffsets[nameId];
+                int length = positionOffsets[nameId + 1] - from;
+                System.arraycopy(ingredientPositions, from, positions, count, length);
+                count += length;
+            }
+        }
+        return toSortedDistinct(positions);
+    }
+
+    private int countIngredientPositionsWithRepeats(List<String> ingredientNames) {
+        int count = 0;
+        for (String ingredientName : ingredientNames) {
+            count += countPositions(ingredientDictionary.getId(ingredientName));
+        }
+        return count;
+    }
+
+    private static int[] toSortedDistinct(int[] positions) {
+        Arrays.sort(positions);
+        int count = 0;
+        for (int i = 0; i < positions.length; i++) {
+            if (count == 0 || positions[count - 1] != positions[i]) {
+                positions[count++] = positions[i];
+            }
+        }
+        return Arrays.copyOf(positions, count);
+    }
+
+    /**
+     * Returns false, as names are tested against every meal in a loop over the name column instead.
+     */
+    @Override
+    public boolean canLookUpName(String keyword) {
+        return false;
+    }
+
+    @Override
+    public int countNameCandidates(String keyword) {
+        return findNameCandidates(keyword).length;
+    }
+
+    /**
+     * Returns the positions of the meals whose names contain the given lower case keyword.
+     */
+    @Override
+    public int[] findNameCandidates(String keyword) {
+        int[] positions = new int[size()];
+        int count = 0;
+        for (int position = 0; position < positions.length; position++) {
+            if (Product.containsNameKey(columns.getMealName(position), keyword)) {
+                positions[count++] = position;
+            }
+        }
+        return Arrays.copyOf(positions, count);
+    }
+
+    @Override
+    public int countPriceRange(double minPrice, double maxPrice) {
+        int count = 0;
+        for (int position = 0; position < columns.size(); position++) {
+            if (isInPriceRange(position, minPrice, maxPrice)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int[] findPriceRange(double minPrice, double maxPrice) {
+        int[] positions = new int[columns.size()];
+        int count = 0;
+        for (int position = 0; position < positions.length; position++) {
+            if (isInPriceRange(position, minPrice, maxPrice)) {
+                positions[count++] = position;
+            }
+        }
+        return Arrays.copyOf(positions, count);
+    }
+
+    private boolean isInPriceRange(int position, double minPrice, double maxPrice) {
+        double price = RecipeColumns.toPrice(columns.getPriceCents(position));
+        return price >= minPrice && price <= maxPrice;
+    }
+
+    /**
+     * Counts the columns too, unless they are shared with the list or another version that was counted already.
+     */
+    @Override
+    public long estimateBytes(MemoryEstimator estimator) {
+        if (!estimator.isUncounted(this)) {
+            return 0;
+        }
+        return estimator.objectSize(6, 4) + columns.estimateBytes(estimator)
+                + ingredientDictionary.estimateBytes(estimator)
+                + estimator.arraySize(nameIds.length, Integer.BYTES)
+                + estimator.arraySize(positionOffsets.length, Integer.BYTES)
+                + estimator.arraySize(ingredientPositions.length, Integer.BYTES);
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.logic;
+
+import seedu.food.Inventory;
+import seedu.food.InventoryView;
+import seedu.food.Meal;
+import seedu.metrics.CommandTrace;
+import seedu.metrics.MemoryEstimator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Keeps, for every meal in one version of a meal list, the number of its ingredients that are in one read-only
+ * version of the inventory, such as the ones of a {@link MealSnapshot}. When it is asked about another version of the
+ * inventory, only the meals that use an ingredient name that started or stopped being in stock are updated,
+ * through the reverse index from ingredient names to meals kept by {@link MealIndex}.
+ * Readers of the tracker only wait for each other, never for a writer of the inventory.
+ */
+public class CookableTracker {
+    public static final int MAX_MISSING_COUNT = 1;
+
+    private final ParallelScan parallelScan;
+    private MealIndex index;
+    private InventoryView inventory;
+    private int[] inStockCounts;
+    // positionsByMissingCount.get(n) holds the positions of the meals missing exactly n ingredients, in order.
+    private final List<TreeSet<Integer>> positionsByMissingCount = new ArrayList<>();
+
+    public CookableTracker() {
+        this(ParallelScan.getDefault());
+    }
+
+    /**
+     * Constructs a tracker whose counters are rebuilt across threads by the given parallel scan.
+     */
+    public CookableTracker(ParallelScan parallelScan) {
+        this.parallelScan = parallelScan;
+        for (int missingCount = 0; missingCount <= MAX_MISSING_COUNT; missingCount++) {
+            positionsByMissingCount.add(new TreeSet<>());
+        }
+    }
+
+    /**
+     * Returns the meals of the given index that are missing at most maxMissingCount ingredients from the given
+     * read-only inventory, in meal list order. The counters are rebuilt if the index is not the one they were built
+     * for, or if the inventory is not a copy of the same inventory whose changes are known.
+     */
+    public synchronized List<Meal> getCookableMeals(MealIndex currentIndex, InventoryView currentInventory,
+                                                    int maxMissingCount) {
+        assert maxMissingCount >= 0 && maxMissingCount <= MAX_MISSING_COUNT;
+        assert !(currentInventory instanceof Inventory) : "The counters can only follow an inventory copy";
+        if (currentIndex != index) {
+            rebuild(currentIndex, currentInventory);
+        } else if (currentInventory != inventory) {
+            update(currentInventory);
+        }
+        TreeSet<Integer> positions = new TreeSet<>();
+        for (int missingCount = 0; missingCount <= maxMissingCount; missingCount++) {
+            positions.addAll(positionsByMissingCount.get(missingCount));
+        }
+        int[] sortedPositions = positions.stream().mapToInt(Integer::intValue).toArray();
+        return parallelScan.map(sortedPositions, index::getMeal);
+    }
+
+    private void rebuild(MealIndex currentIndex, InventoryView currentInventory) {
+        index = currentIndex;
+        inventory = currentInventory;
+        CommandTrace.addScannedMeals(index.size());
+        inStockCounts = new int[index.size()];
+        positionsByMissingCount.forEach(TreeSet::clear);
+        IngredientSet inventorySet = index.getInventorySet(inventory);
+        // Each part of a parallel scan only writes the counters of its own positions.
+        int[] nearlyCookablePositions = parallelScan.filter(index.size(), position -> {
+            int missingCount = index.countIngredientsNotIn(position, inventorySet);
+            inStockCounts[position] = index.getIngredientCount(position) - missingCount;
+            return missingCount <= MAX_MISSING_COUNT;
+        });
+        for (int position : nearlyCookablePositions) {
+            positionsByMissingCount.get(getMissingCount(position)).add(position);
+        }
+    }
+
+    // Brings the counters from the inventory they follow to the given one, through the names changed between them.
+    private void update(InventoryView currentInventory) {
+        Set<String> changedNames = currentInventory.getChangedNames(inventory);
+        if (changedNames == null) {
+            rebuild(index, currentInventory);
+            return;
+        }
+        for (String ingredientName : changedNames) {
+            boolean wasInStock = inventory.hasIngredient(ingredientName);
+            boolean isInStock = currentInventory.hasIngredient(ingredientName);
+            if (wasInStock != isInStock) {
+                updateCounts(ingredientName, isInStock ? 1 : -1);
+            }
+        }
+        inventory = currentInventory;
+    }
+
+    private void updateCounts(String ingredientName, int change) {
+        for (int position : index.getIngredientPositions(ingredientName)) {
+            int oldMissingCount = getMissingCount(position);
+            inStockCounts[position] += change;
+            int newMissingCount = getMissingCount(position);
+            if (oldMissingCount <= MAX_MISSING_COUNT) {
+                positionsByMissingCount.get(oldMissingCount).remove(position);
+            }
+            if (newMissingCount <= MAX_MISSING_COUNT) {
+                positionsByMissingCount.get(newMissingCount).add(position);
+            }
+        }
+    }
+
+    private int getMissingCount(int position) {
+        return index.getIngredientCount(position) - inStockCounts[position];
+    }
+
+    /**
+     * Returns the estimated bytes of the counters and the sorted sets of positions, leaving out the index.
+     */
+    long estimateBytes(MemoryEstimator estimator) {
+        if (!estimator.isUncounted(this)) {
+            return 0;
+        }
+        long bytes = estimator.objectSize(5, 0) + estimator.arrayListSize(positionsByMissingCount.size());
+        if (inStockCounts != null) {
+            bytes += estimator.arraySize(inStockCounts.length, Integer.BYTES);
+        }
+        for (TreeSet<Integer> positions : positionsByMissingCount) {
+            // A TreeSet wraps a TreeMap, which has an entry of five references and a colour for every position.
+            bytes += estimator.objectSize(1, 0) + estimator.objectSize(5, 8)
+                    + positions.size() * estimator.objectSize(5, 1);
+            for (int position : positions) {
+                bytes += estimator.boxedIntegerSize(position);
+            }
+        }
+        return bytes;
+    }
+}
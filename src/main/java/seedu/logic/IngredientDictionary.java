@@ -0,0 +1,110 @@
+package seedu.logic;
+
+import seedu.metrics.MemoryEstimator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gives every distinct lower case ingredient name a small integer id, in the order the names are first seen,
+ * so that sets of ingredients can be stored as {@link IngredientSet} bitsets.
+ * A dictionary can extend a base dictionary that no longer changes: it keeps the ids of the base and only stores
+ * the names that the base does not have, numbered after them.
+ */
+public class IngredientDictionary {
+    private static final int NOT_FOUND = -1;
+
+    private final IngredientDictionary baseDictionary;
+    private final int baseSize;
+    private final Map<String, Integer> idsByName = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    public IngredientDictionary() {
+        this.baseDictionary = null;
+        this.baseSize = 0;
+    }
+
+    /**
+     * Constructs a dictionary that extends the given base dictionary, which must not be given new names anymore.
+     */
+    public IngredientDictionary(IngredientDictionary baseDictionary) {
+        this.baseDictionary = baseDictionary;
+        this.baseSize = baseDictionary.size();
+    }
+
+    /**
+     * Returns the id of the given lower case ingredient name, giving it a new id if it has none yet.
+     */
+    public int intern(String ingredientName) {
+        int id = getId(ingredientName);
+        if (id == NOT_FOUND) {
+            id = baseSize + names.size();
+            idsByName.put(ingredientName, id);
+            names.add(ingredientName);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the id of the given lower case ingredient name, or -1 if it has none.
+     */
+    public int getId(String ingredientName) {
+        int baseId = baseDictionary == null ? NOT_FOUND : baseDictionary.getId(ingredientName);
+        return baseId != NOT_FOUND ? baseId : idsByName.getOrDefault(ingredientName, NOT_FOUND);
+    }
+
+    public String getName(int id) {
+        return id < baseSize ? baseDictionary.getName(id) : names.get(id - baseSize);
+    }
+
+    public int size() {
+        return baseSize + names.size();
+    }
+
+    /**
+     * Returns the ids of the names that contain the given lower case keyword.
+     */
+    public IngredientSet findIds(String keyword) {
+        List<Integer> matchingIds = new ArrayList<>();
+        addMatchingIds(keyword, matchingIds);
+        return IngredientSet.of(matchingIds.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private void addMatchingIds(String keyword, List<Integer> matchingIds) {
+        if (baseDictionary != null) {
+            baseDictionary.addMatchingIds(keyword, matchingIds);
+        }
+        for (int i = 0; i < names.size(); i++) {
+            if (names.get(i).contains(keyword)) {
+                matchingIds.add(baseSize + i);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of the given lower case ingredient names, leaving out the names that have no id.
+     */
+    public IngredientSet toSet(Collection<String> ingredientNames) {
+        int[] ids = ingredientNames.stream().mapToInt(this::getId).filter(id -> id != NOT_FOUND).toArray();
+        return IngredientSet.of(ids);
+    }
+
+    /**
+     * Returns the estimated bytes of this dictionary and of its base dictionary, if they were not counted yet.
+     */
+    long estimateBytes(MemoryEstimator estimator) {
+        if (!estimator.isUncounted(this)) {
+            return 0;
+        }
+        long bytes = estimator.objectSize(3, 4) + estimator.hashMapSize(idsByName.size())
+                + estimator.arrayListSize(names.size());
+        for (Map.Entry<String, Integer> entry : idsByName.entrySet()) {
+            estimator.countString(entry.getKey());
+            bytes += estimator.boxedIntegerSize(entry.getValue());
+        }
+        return baseDictionary == null ? bytes : bytes + baseDictionary.estimateBytes(estimator);
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.logic;
+
+import seedu.food.Product;
+
+import java.util.List;
+
+/**
+ * Keeps the meals with no ingredient whose name contains the keyword, ignoring case.
+ * Each meal is tested with a bitwise AND of its ingredient set and the ingredient names matching the keyword, and the
+ * meals it keeps are looked up as the complement of the postings of those names.
+ */
+class IngredientExclusionPredicate implements MealPredicate {
+    private final String keyword;
+    private MealIndex matchedIndex;
+    private List<String> matchedNames;
+    private IngredientSet matchedIds;
+
+    IngredientExclusionPredicate(String keyword) {
+        this.keyword = Product.toNameKey(keyword);
+    }
+
+    private void match(MealIndex index) {
+        if (matchedIndex != index) {
+            matchedNames = index.findIngredientNames(keyword);
+            matchedIds = index.findIngredientIds(keyword);
+            matchedIndex = index;
+        }
+    }
+
+    @Override
+    public double estimateSelectivity(MealIndex index) {
+        if (index.size() == 0) {
+            return 0;
+        }
+        // The names are matched before the scan, so that a scan split across threads only reads them.
+        match(index);
+        // Excluding an ingredient usually keeps most of the list, so this is mostly left to the scan.
+        return 1.0 - (double) index.countIngredientPositions(matchedNames) / index.size();
+    }
+
+    @Override
+    public int[] lookUp(MealIndex index) {
+        match(index);
+        int[] excludedPositions = index.findIngredientPositions(matchedNames);
+        int[] positions = new int[index.size() - excludedPositions.length];
+        int count = 0;
+        int excludedCount = 0;
+        for (int position = 0; position < index.size(); position++) {
+            if (excludedCount < excludedPositions.length && excludedPositions[excludedCount] == position) {
+                excludedCount++;
+            } else {
+                positions[count++] = position;
+            }
+        }
+        return positions;
+    }
+
+    @Override
+    public boolean isExactLookUp() {
+        return true;
+    }
+
+    @Override
+    public boolean test(MealIndex index, int position) {
+        match(index);
+        return !index.usesAnyIngredient(position, matchedIds);
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.logic;
+
+import seedu.food.Product;
+
+import java.util.List;
+
+/**
+ * Keeps the meals with at least one ingredient whose name contains the keyword, ignoring case.
+ * The ingredient names matching the keyword are found once per index, both as names for looking up their meals
+ * and as an {@link IngredientSet} that is tested against the ingredient set of each meal with bitwise AND.
+ */
+class IngredientKeywordPredicate implements MealPredicate {
+    private final String keyword;
+    private MealIndex matchedIndex;
+    private List<String> matchedNames;
+    private IngredientSet matchedIds;
+
+    IngredientKeywordPredicate(String keyword) {
+        this.keyword = Product.toNameKey(keyword);
+    }
+
+    private void match(MealIndex index) {
+        if (matchedIndex != index) {
+            matchedNames = index.findIngredientNames(keyword);
+            matchedIds = index.findIngredientIds(keyword);
+            matchedIndex = index;
+        }
+    }
+
+    @Override
+    public double estimateSelectivity(MealIndex index) {
+        if (index.size() == 0) {
+            return 0;
+        }
+        match(index);
+        return (double) index.countIngredientPositions(matchedNames) / index.size();
+    }
+
+    @Override
+    public int[] lookUp(MealIndex index) {
+        match(index);
+        return index.findIngredientPositions(matchedNames);
+    }
+
+    @Override
+    public boolean isExactLookUp() {
+        return true;
+    }
+
+    @Override
+    public boolean test(MealIndex index, int position) {
+        match(index);
+        return index.usesAnyIngredient(position, matchedIds);
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.logic;
+
+import seedu.metrics.MemoryEstimator;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of ingredient ids from an {@link IngredientDictionary}, stored as a compressed bitset.
+ * Only the 64-bit words that have at least one bit set are kept, together with their word positions, so a meal
+ * with a handful of ingredients takes a handful of words however many ingredient names the dictionary holds.
+ * Set operations walk both word lists in order and combine matching words with AND, ANDNOT and popcount.
+ */
+public final class IngredientSet {
+    static final IngredientSet EMPTY = new IngredientSet(new int[0], new long[0]);
+    private static final int WORD_SHIFT = 6;
+
+    // wordIndexes is ascending, and every word in words is non-zero.
+    private final int[] wordIndexes;
+    private final long[] words;
+
+    private IngredientSet(int[] wordIndexes, long[] words) {
+        this.wordIndexes = wordIndexes;
+        this.words = words;
+    }
+
+    /**
+     * Returns the set of the given ingredient ids, which may be in any order and may repeat.
+     */
+    static IngredientSet of(int[] ids) {
+        int[] sortedIds = ids.clone();
+        Arrays.sort(sortedIds);
+        int[] wordIndexes = new int[sortedIds.length];
+        long[] words = new long[sortedIds.length];
+        int wordCount = 0;
+        for (int id : sortedIds) {
+            assert id >= 0 : "Ingredient ids cannot be negative";
+            int wordIndex = id >>> WORD_SHIFT;
+            if (wordCount == 0 || wordIndexes[wordCount - 1] != wordIndex) {
+                wordIndexes[wordCount++] = wordIndex;
+            }
+            words[wordCount - 1] |= 1L << id;
+        }
+        return new IngredientSet(Arrays.copyOf(wordIndexes, wordCount), Arrays.copyOf(words, wordCount));
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    public int size() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    public boolean contains(int id) {
+        int found = Arrays.binarySearch(wordIndexes, id >>> WORD_SHIFT);
+        return found >= 0 && (words[found] & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns true if this set and the other set have at least one id in common.
+     */
+    public boolean intersects(IngredientSet other) {
+        int i = 0;
+        int j = 0;
+        while (i < wordIndexes.length && j < other.wordIndexes.length) {
+            if (wordIndexes[i] < other.wordIndexes[j]) {
+                i++;
+            } else if (wordIndexes[i] > other.wordIndexes[j]) {
+                j++;
+            } else {
+                if ((words[i] & other.words[j]) != 0) {
+                    return true;
+                }
+                i++;
+                j++;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of ids in this set that are not in the other set.
+     */
+    public int countNotIn(IngredientSet other) {
+        int count = 0;
+        int j = 0;
+        for (int i = 0; i < wordIndexes.length; i++) {
+            while (j < other.wordIndexes.length && other.wordIndexes[j] < wordIndexes[i]) {
+                j++;
+            }
+            boolean hasSameWord = j < other.wordIndexes.length && other.wordIndexes[j] == wordIndexes[i];
+            long remainingWord = hasSameWord ? words[i] & ~other.words[j] : words[i];
+            count += Long.bitCount(remainingWord);
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if every id in this set is also in the other set.
+     */
+    public boolean isSubsetOf(IngredientSet other) {
+        return countNotIn(other) == 0;
+    }
+
+    long estimateBytes(MemoryEstimator estimator) {
+        if (!estimator.isUncounted(this)) {
+            return 0;
+        }
+        return estimator.objectSize(2, 0) + estimator.arraySize(wordIndexes.length, Integer.BYTES)
+                + estimator.arraySize(words.length, Long.BYTES);
+    }
+}
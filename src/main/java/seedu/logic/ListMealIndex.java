@@ -0,0 +1,324 @@
+package seedu.logic;
+
+import seedu.food.Ingredient;
+import seedu.food.Meal;
+import seedu.metrics.CommandTrace;
+import seedu.metrics.IndexBuildEvent;
+import seedu.metrics.MemoryEstimator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only lookup structures built over one version of a meal list.
+ * Every posting list holds positions into that version of the list, in ascending order.
+ */
+class ListMealIndex extends MealIndex {
+    private final Meal[] meals;
+    private final int version;
+    private final Map<String, int[]> ingredientPostings = new HashMap<>();
+    private final IngredientDictionary ingredientDictionary;
+    private final IngredientSet[] ingredientSets;
+    private final Map<String, int[]> nameGramPostings = new HashMap<>();
+    private final int[] positionsByPrice;
+    private final double[] sortedPrices;
+
+    ListMealIndex(List<Meal> mealList, int version) {
+        this(mealList, version, new IngredientDictionary());
+    }
+
+    /**
+     * Constructs an index whose ingredient ids are given by the given dictionary, which is extended with the
+     * ingredient names of the meals that it does not have yet.
+     */
+    ListMealIndex(List<Meal> mealList, int version, IngredientDictionary ingredientDictionary) {
+        this(mealList.toArray(new Meal[0]), version, ingredientDictionary);
+    }
+
+    // The array of meals is kept by the index, so it must not be modified afterwards.
+    ListMealIndex(Meal[] meals, int version, IngredientDictionary ingredientDictionary) {
+        IndexBuildEvent event = new IndexBuildEvent();
+        event.begin();
+        this.meals = meals;
+        this.version = version;
+        this.ingredientDictionary = ingredientDictionary;
+        this.ingredientSets = new IngredientSet[meals.length];
+        buildIngredientPostings();
+        buildNameGramPostings();
+        this.positionsByPrice = buildPositionsByPrice();
+        this.sortedPrices = new double[meals.length];
+        for (int i = 0; i < meals.length; i++) {
+            sortedPrices[i] = meals[positionsByPrice[i]].getPrice();
+        }
+        CommandTrace.addScannedMeals(meals.length);
+        event.commit(meals.length, version, ingredientDictionary.size());
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public int size() {
+        return meals.length;
+    }
+
+    @Override
+    public Meal getMeal(int position) {
+        return meals[position];
+    }
+
+    @Override
+    public List<Meal> getMeals() {
+        return Collections.unmodifiableList(Arrays.asList(meals));
+    }
+
+    private void buildIngredientPostings() {
+        Map<String, PostingBuilder> builders = new HashMap<>();
+        for (int position = 0; position < meals.length; position++) {
+            List<Ingredient> ingredientList = meals[position].getIngredientList();
+            int[] ids = new int[ingredientList.size()];
+            for (int i = 0; i < ids.length; i++) {
+                String ingredientName = ingredientList.get(i).getNameKey();
+                builders.computeIfAbsent(ingredientName, name -> new PostingBuilder()).add(position);
+                ids[i] = ingredientDictionary.intern(ingredientName);
+            }
+            ingredientSets[position] = IngredientSet.of(ids);
+        }
+        builders.forEach((name, builder) -> ingredientPostings.put(name, builder.toArray()));
+    }
+
+    private void buildNameGramPostings() {
+        Map<String, PostingBuilder> builders = new HashMap<>();
+        for (int position = 0; position < meals.length; position++) {
+            String mealName = meals[position].getNameKey();
+            for (int start = 0; start + NAME_GRAM_LENGTH <= mealName.length(); start++) {
+                String gram = mealName.substring(start, start + NAME_GRAM_LENGTH);
+                builders.computeIfAbsent(gram, key -> new PostingBuilder()).add(position);
+            }
+        }
+        builders.forEach((gram, builder) -> nameGramPostings.put(gram, builder.toArray()));
+    }
+
+    private int[] buildPositionsByPrice() {
+        Integer[] positions = new Integer[meals.length];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        Arrays.sort(positions, (first, second) -> Double.compare(meals[first].getPrice(),
+                meals[second].getPrice()));
+        return Arrays.stream(positions).mapToInt(Integer::intValue).toArray();
+    }
+
+    @Override
+    public IngredientDictionary getIngredientDictionary() {
+        return ingredientDictionary;
+    }
+
+    @Override
+    public IngredientSet getIngredientSet(int position) {
+        return ingredientSets[position];
+    }
+
+    @Override
+    public int[] getIngredientPositions(String ingredientName) {
+        return ingredientPostings.getOrDefault(ingredientName, NO_POSITIONS);
+    }
+
+    @Override
+    public List<String> findIngredientNames(String keyword) {
+        List<String> matchingNames = new ArrayList<>();
+        for (String ingredientName : ingredientPostings.keySet()) {
+            if (ingredientName.contains(keyword)) {
+                matchingNames.add(ingredientName);
+            }
+        }
+        return matchingNames;
+    }
+
+    @Override
+    public int countIngredientPositions(List<String> ingredientNames) {
+        int count = 0;
+        for (String ingredientName : ingredientNames) {
+            count += ingredientPostings.getOrDefault(ingredientName, NO_POSITIONS).length;
+        }
+        return Math.min(count, meals.length);
+    }
+
+    @Override
+    public int[] findIngredientPositions(List<String> ingredientNames) {
+        if (ingredientNames.size() == 1) {
+            return ingredientPostings.getOrDefault(ingredientNames.get(0), NO_POSITIONS);
+        }
+        PostingBuilder builder = new PostingBuilder();
+        for (String ingredientName : ingredientNames) {
+            builder.addAll(ingredientPostings.getOrDefault(ingredientName, NO_POSITIONS));
+        }
+        return builder.toSortedDistinctArray();
+    }
+
+    @Override
+    public int countNameCandidates(String keyword) {
+        assert canLookUpName(keyword);
+        int minCount = meals.length;
+        for (int start = 0; start + NAME_GRAM_LENGTH <= keyword.length(); start++) {
+            int[] postings = nameGramPostings.getOrDefault(keyword.substring(start, start + NAME_GRAM_LENGTH),
+                    NO_POSITIONS);
+            minCount = Math.min(minCount, postings.length);
+        }
+        return minCount;
+    }
+
+    @Override
+    public int[] findNameCandidates(String keyword) {
+        assert canLookUpName(keyword);
+        int[] candidates = null;
+        for (int start = 0; start + NAME_GRAM_LENGTH <= keyword.length(); start++) {
+            int[] postings = nameGramPostings.getOrDefault(keyword.substring(start, start + NAME_GRAM_LENGTH),
+                    NO_POSITIONS);
+            candidates = candidates == null ? postings : intersect(candidates, postings);
+            if (candidates.length == 0) {
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    @Override
+    public int countPriceRange(double minPrice, double maxPrice) {
+        return Math.max(0, upperBound(maxPrice) - lowerBound(minPrice));
+    }
+
+    @Override
+    public int[] findPriceRange(double minPrice, double maxPrice) {
+        int from = lowerBound(minPrice);
+        int to = upperBound(maxPrice);
+        if (from >= to) {
+            return NO_POSITIONS;
+        }
+        int[] positions = Arrays.copyOfRange(positionsByPrice, from, to);
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    // Returns the first index in sortedPrices whose price is not less than the given price.
+    private int lowerBound(double price) {
+        int low = 0;
+        int high = sortedPrices.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedPrices[middle] < price) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // Returns the first index in sortedPrices whose price is greater than the given price.
+    private int upperBound(double price) {
+        int low = 0;
+        int high = sortedPrices.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedPrices[middle] <= price) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int[] intersect(int[] first, int[] second) {
+        int[] result = new int[Math.min(first.length, second.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                result[count++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    @Override
+    public long estimateBytes(MemoryEstimator estimator) {
+        if (!estimator.isUncounted(this)) {
+            return 0;
+        }
+        long bytes = estimator.objectSize(7, 4) + estimator.referenceArraySize(meals.length)
+                + estimatePostingsBytes(estimator, ingredientPostings) + ingredientDictionary.estimateBytes(estimator)
+                + estimator.referenceArraySize(ingredientSets.length)
+                + estimatePostingsBytes(estimator, nameGramPostings)
+                + estimator.arraySize(positionsByPrice.length, Integer.BYTES)
+                + estimator.arraySize(sortedPrices.length, Double.BYTES);
+        for (IngredientSet ingredientSet : ingredientSets) {
+            bytes += ingredientSet.estimateBytes(estimator);
+        }
+        return bytes;
+    }
+
+    private static long estimatePostingsBytes(MemoryEstimator estimator, Map<String, int[]> postings) {
+        long bytes = estimator.hashMapSize(postings.size());
+        for (Map.Entry<String, int[]> entry : postings.entrySet()) {
+            estimator.countString(entry.getKey());
+            bytes += estimator.arraySize(entry.getValue().length, Integer.BYTES);
+        }
+        return bytes;
+    }
+
+    /**
+     * Collects positions in ascending order, skipping a position that repeats the previous one.
+     */
+    private static class PostingBuilder {
+        private int[] positions = new int[4];
+        private int size = 0;
+
+        void add(int position) {
+            if (size > 0 && positions[size - 1] == position) {
+                return;
+            }
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        void addAll(int[] otherPositions) {
+            if (size + otherPositions.length > positions.length) {
+                positions = Arrays.copyOf(positions, Math.max(size * 2, size + otherPositions.length));
+            }
+            System.arraycopy(otherPositions, 0, positions, size, otherPositions.length);
+            size += otherPositions.length;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+
+        int[] toSortedDistinctArray() {
+            Arrays.sort(positions, 0, size);
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (count == 0 || positions[count - 1] != positions[i]) {
+                    positions[count++] = positions[i];
+                }
+            }
+            return Arrays.copyOf(positions, count);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package seedu.logic;
+
+import seedu.food.Ingredient;
+import seedu.food.InventoryView;
+import seedu.food.Meal;
+import seedu.meallist.ColumnarRecipeList;
+import seedu.metrics.MemoryEstimator;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Read-only lookup structures over one version of a meal list.
+ * Every position is a position in that version of the list, and every returned array of positions is in
+ * ascending order and must not be modified.
+ */
+public abstract class MealIndex {
+    static final int NAME_GRAM_LENGTH = 3;
+    static final int[] NO_POSITIONS = new int[0];
+
+    /**
+     * Returns an index built over the given version of a meal list.
+     */
+    public static MealIndex of(List<Meal> mealList, int version) {
+        if (mealList instanceof ColumnarRecipeList columnarList) {
+            return new ColumnarMealIndex(columnarList.getColumns(), version);
+        }
+        return new ListMealIndex(mealList, version);
+    }
+
+    /**
+     * Returns an index over the given version of a meal list that is built on another thread.
+     * The meals are copied first, so the list may change as soon as this returns.
+     */
+    public static MealIndex inBackground(List<Meal> mealList, int version) {
+        if (mealList instanceof ColumnarRecipeList) {
+            // Columns are indexed in a few passes over primitive arrays, which is quicker than copying the meals.
+            return of(mealList, version);
+        }
+        Meal[] meals = mealList.toArray(new Meal[0]);
+        return new BackgroundMealIndex(meals, version, () -> new ListMealIndex(meals, version,
+                new IngredientDictionary()));
+    }
+
+    /**
+     * Returns a future that completes with the built index once every lookup of this index can be answered
+     * without waiting.
+     */
+    public CompletableFuture<MealIndex> whenBuilt() {
+        return CompletableFuture.completedFuture(this);
+    }
+
+    public abstract int getVersion();
+
+    public abstract int size();
+
+    public abstract Meal getMeal(int position);
+
+    /**
+     * Returns the meals of this index, in meal list order, as a list that cannot be modified.
+     */
+    public List<Meal> getMeals() {
+        return new AbstractList<>() {
+            @Override
+            public Meal get(int position) {
+                return getMeal(position);
+            }
+
+            @Override
+            public int size() {
+                return MealIndex.this.size();
+            }
+        };
+    }
+
+    /**
+     * Returns the name of the meal at the given position, without creating the meal if this index stores none.
+     */
+    public String getMealName(int position) {
+        return getMeal(position).getName();
+    }
+
+    /**
+     * Returns true if the name of the meal at the given position contains the given name key, ignoring case.
+     */
+    public boolean mealNameContains(int position, String keywordKey) {
+        return getMeal(position).getNameKey().contains(keywordKey);
+    }
+
+    /**
+     * Returns the price of the meal at the given position, without creating the meal if this index stores none.
+     */
+    public double getPrice(int position) {
+        return getMeal(position).getPrice();
+    }
+
+    /**
+     * Returns the ids given to the ingredient names of this index.
+     */
+    public abstract IngredientDictionary getIngredientDictionary();
+
+    /**
+     * Returns the ingredients of the meal at the given position as a set of ids of this index.
+     */
+    public abstract IngredientSet getIngredientSet(int position);
+
+    /**
+     * Returns the number of ingredients of the meal at the given position.
+     */
+    public int getIngredientCount(int position) {
+        return getIngredientSet(position).size();
+    }
+
+    /**
+     * Returns true if the meal at the given position uses at least one of the given ingredient ids of this index.
+     */
+    public boolean usesAnyIngredient(int position, IngredientSet ingredientIds) {
+        return getIngredientSet(position).intersects(ingredientIds);
+    }
+
+    /**
+     * Returns the number of ingredients of the meal at the given position whose ids are not in the given set.
+     */
+    public int countIngredientsNotIn(int position, IngredientSet ingredientIds) {
+        return getIngredientSet(position).countNotIn(ingredientIds);
+    }
+
+    /**
+     * Returns the total price of the ingredients of the meal at the given position whose ids are not in the given
+     * set, added up in the order of its ingredient list.
+     */
+    public double getMissingCost(int position, IngredientSet ingredientIds) {
+        double missingCost = 0;
+        for (Ingredient ingredient : getMeal(position).getIngredientList()) {
+            if (!ingredientIds.contains(getIngredientDictionary().getId(ingredient.getNameKey()))) {
+                missingCost += ingredient.getPrice();
+            }
+        }
+        return missingCost;
+    }
+
+    /**
+     * Returns the ids of this index for the ingredient names that contain the given lower case keyword.
+     */
+    public IngredientSet findIngredientIds(String keyword) {
+        return getIngredientDictionary().findIds(keyword);
+    }
+
+    /**
+     * Returns the ingredients in stock in the inventory as a set of ids of this index.
+     * Ingredients that no meal of this index uses are left out.
+     */
+    public IngredientSet getInventorySet(InventoryView inventory) {
+        return getIngredientDictionary().toSet(inventory.getIngredientNames());
+    }
+
+    /**
+     * Returns the positions of every meal that uses the ingredient with exactly the given lower case name.
+     */
+    public abstract int[] getIngredientPositions(String ingredientName);
+
+    /**
+     * Returns the distinct lower case ingredient names that contain the given lower case keyword.
+     */
+    public abstract List<String> findIngredientNames(String keyword);
+
+    /**
+     * Returns an upper bound of the number of meals that use at least one of the given ingredient names.
+     */
+    public abstract int countIngredientPositions(List<String> ingredientNames);
+
+    /**
+     * Returns the positions of every meal that uses at least one of the given ingredient names.
+     */
+    public abstract int[] findIngredientPositions(List<String> ingredientNames);
+
+    /**
+     * Returns true if meal names can be looked up by the given keyword instead of being scanned.
+     */
+    public boolean canLookUpName(String keyword) {
+        return keyword.length() >= NAME_GRAM_LENGTH;
+    }
+
+    /**
+     * Returns an upper bound of the number of meals whose names contain the given lower case keyword.
+     */
+    public abstract int countNameCandidates(String keyword);
+
+    /**
+     * Returns the positions of the meals whose names share every 3-letter fragment of the given keyword.
+     * The result may contain meals whose names do not contain the keyword, so it must still be verified.
+     */
+    public abstract int[] findNameCandidates(String keyword);
+
+    /**
+     * Returns the number of meals with a price from minPrice to maxPrice (both inclusive).
+     */
+    public abstract int countPriceRange(double minPrice, double maxPrice);
+
+    /**
+     * Returns the positions of the meals with a price from minPrice to maxPrice (both inclusive).
+     */
+    public abstract int[] findPriceRange(double minPrice, double maxPrice);
+
+    /**
+     * Returns the estimated bytes of the lookup structures of this index that were not counted yet, leaving out the
+     * meals themselves. Ingredient names and name grams are counted as strings.
+     */
+    public abstract long estimateBytes(MemoryEstimator estimator);
+}
@@ -0,0 +1,54 @@
+package seedu.logic;
+
+import seedu.food.Meal;
+import seedu.meallist.ListEdits;
+import seedu.meallist.MealList;
+import seedu.meallist.RecipeColumns;
+
+/**
+ * Builds the index of every published version of one meal list. Once a full index of the list is built, the list
+ * records the meals added to and removed from it, and the next indexes are an {@link OverlayMealIndex} of those
+ * edits over the full index, which takes time in proportion to the edits rather than to the list.
+ * A full index is built again once the edits outgrow the square root of the list size, so a write costs about that
+ * square root on average instead of the whole list.
+ */
+class MealListIndexer {
+    static final int MIN_EDITS_BEFORE_REBUILD = 64;
+
+    private final MealList mealList;
+    // The last full index of the list, or null before the first one is built.
+    private MealIndex fullIndex;
+
+    MealListIndexer(MealList mealList) {
+        this.mealList = mealList;
+    }
+
+    /**
+     * Returns the published index if it is up to date with the list, or a new index of the current version.
+     */
+    MealIndex getIndex(MealIndex publishedIndex, boolean isIndexingInBackground) {
+        int currentVersion = mealList.getVersion();
+        if (publishedIndex.getVersion() == currentVersion) {
+            return publishedIndex;
+        }
+        ListEdits<Meal> edits = mealList.getEdits();
+        if (fullIndex != null && edits != null) {
+            return new OverlayMealIndex(fullIndex, edits.positions(), edits.addedElements(), currentVersion);
+        }
+        mealList.startEdits(getMaxEditCount(mealList.size()));
+        RecipeColumns columns = mealList.getColumns();
+        if (columns != null) {
+            // Columns are indexed in a few passes over primitive arrays, even when indexing in the background.
+            fullIndex = new ColumnarMealIndex(columns, currentVersion);
+        } else if (isIndexingInBackground) {
+            fullIndex = MealIndex.inBackground(mealList.getList(), currentVersion);
+        } else {
+            fullIndex = MealIndex.of(mealList.getList(), currentVersion);
+        }
+        return fullIndex;
+    }
+
+    static int getMaxEditCount(int listSize) {
+        return Math.max(MIN_EDITS_BEFORE_REBUILD, (int) Math.sqrt(listSize));
+    }
+}
@@ -2,22 +2,96 @@ package seedu.logic;
 
 import seedu.exceptions.EZMealPlanException;
 import seedu.exceptions.EmptyListException;
-import seedu.food.Ingredient;
 import seedu.food.Inventory;
+import seedu.food.InventoryView;
 import seedu.food.Meal;
+import seedu.meallist.ColumnarRecipeList;
 import seedu.meallist.MealList;
+import seedu.meallist.RecipeOverlayList;
 import seedu.meallist.RecipesList;
 import seedu.meallist.WishList;
+import seedu.metrics.MemoryEstimator;
+import seedu.metrics.RemoveIllegalMealsEvent;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Holds the recipes list, wishlist and inventory of one user.
+ * Changes go through one writer at a time (see {@link #write(MealWrite)}), which publishes an immutable
+ * {@link MealSnapshot} of the result once the whole change is applied. Readers take the latest snapshot without
+ * locking, so they never wait for a writer and never see a change that is only partly applied.
+ * A snapshot is built from the previous one and the changes since it: an index as an overlay of the meals added and
+ * removed over the last full index, and an inventory as the quantities changed over the last full copy.
+ */
 public class MealManager {
+    public static final String RECIPE_STORE_PROPERTY = "ezmealplan.recipeStore";
+    public static final String COLUMNAR_RECIPE_STORE = "columnar";
+    // Selects a recipes list over the preset recipe catalog stored off the heap, see Storage.createMealManager().
+    public static final String OFF_HEAP_RECIPE_STORE = "offheap";
     MealList chosenMealList;
     private final MealList wishList = new WishList();
-    private final MealList recipesList = new RecipesList();
+    private final MealList recipesList;
+    // The shared catalog under the recipes list and the tenant's edits over it, or null without a catalog.
+    private final RecipeCatalog recipeCatalog;
+    private final RecipeOverlayList recipesOverlay;
+    private final MealListIndexer recipesIndexer;
+    private final MealListIndexer wishListIndexer = new MealListIndexer(wishList);
     private final Inventory inventory = new Inventory();
+    private final QueryPlanner queryPlanner = new QueryPlanner();
+    // The cookable counters of a recipes list of its own, or of the tenant's edits over the catalog.
+    private final CookableTracker cookableTracker;
+    private final OverlayCookableTracker overlayCookableTracker;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // True while a write is applied, once the changes made before it were published.
+    private volatile boolean isWriting;
+    private volatile MealSnapshot snapshot = new MealSnapshot(0, MealIndex.of(List.of(), -1),
+            MealIndex.of(List.of(), -1), inventory.getReadOnlyCopy(), inventory.getVersion());
 
+    /**
+     * Constructs a meal manager whose recipes list is kept as columns if the system property
+     * ezmealplan.recipeStore is columnar, or as a list of meals otherwise. A recipes list over a catalog, such as the
+     * one ezmealplan.recipeStore=offheap selects, is constructed with {@link #MealManager(RecipeCatalog)}.
+     */
+    public MealManager() {
+        this(COLUMNAR_RECIPE_STORE.equals(System.getProperty(RECIPE_STORE_PROPERTY))
+                ? new RecipesList(new ColumnarRecipeList()) : new RecipesList());
+    }
+
+    /**
+     * Constructs a meal manager with the given empty recipes list, such as one kept in a {@link ColumnarRecipeList}.
+     */
+    public MealManager(RecipesList recipesList) {
+        assert recipesList.size() == 0 : "A meal manager must start with an empty recipes list";
+        this.recipesList = recipesList;
+        this.recipeCatalog = null;
+        this.recipesOverlay = null;
+        this.recipesIndexer = new MealListIndexer(recipesList);
+        this.cookableTracker = new CookableTracker();
+        this.overlayCookableTracker = null;
+    }
+
+    /**
+     * Constructs a meal manager for one tenant whose recipes list starts as the given shared catalog.
+     * Only the recipes the tenant creates or deletes are stored by this meal manager.
+     */
+    public MealManager(RecipeCatalog recipeCatalog) {
+        this.recipesOverlay = new RecipeOverlayList(recipeCatalog.getMeals());
+        this.recipesList = new RecipesList(recipesOverlay);
+        this.recipeCatalog = recipeCatalog;
+        this.recipesIndexer = null;
+        this.cookableTracker = null;
+        this.overlayCookableTracker = new OverlayCookableTracker(recipeCatalog, ParallelScan.getDefault());
+    }
+
+    /**
+     * Returns true if the recipes list starts as a shared recipe catalog, over which only this tenant's edits are
+     * stored.
+     */
+    public boolean hasRecipeCatalog() {
+        return recipeCatalog != null;
+    }
 
     public MealList getWishList() {
         return wishList;
@@ -30,122 +104,245 @@ public class MealManager {
 
     // Adds a new meal to the specified list after checking for duplicates
     public void addMeal(Meal newMeal, MealList mealsInput) throws EZMealPlanException {
-        chosenMealList = mealsInput instanceof RecipesList ? getRecipesList() : getWishList();
-        chosenMealList.addMeal(newMeal);
+        write(() -> {
+            chosenMealList = mealsInput instanceof RecipesList ? getRecipesList() : getWishList();
+            chosenMealList.addMeal(newMeal);
+            return null;
+        });
     }
 
+    /**
+     * Applies a change to the lists or the inventory as the only writer, then publishes a snapshot of the result.
+     * A write made inside another write is published together with the outer write.
+     *
+     * @return the result of the change.
+     */
+    public <T> T write(MealWrite<T> mealWrite) throws EZMealPlanException {
+        writeLock.lock();
+        try {
+            beginWrite();
+            return mealWrite.apply();
+        } finally {
+            publishAndUnlock();
+        }
+    }
 
-    public List<Meal> filteringByMcost(double mcostDouble) {
-        List<Meal> filteredMealList = new ArrayList<>();
-        List<Meal> recipesList = getRecipesList().getList();
-        for (Meal meal : recipesList) {
-            if (meal.getPrice() == mcostDouble) {
-                filteredMealList.add(meal);
-            }
+    // Publishes any change made outside a write before the outermost write starts, so that while isWriting is set
+    // every unpublished change belongs to the write.
+    private void beginWrite() {
+        if (writeLock.getHoldCount() == 1) {
+            publish(false);
+            isWriting = true;
         }
-        return filteredMealList;
     }
 
-    public List<Meal> filteringByMname(String[] mealNameArray) {
-        List<Meal> filteredMealList = new ArrayList<>();
-        List<Meal> recipesList = getRecipesList().getList();
-        for (Meal meal : recipesList) {
-            boolean isMatchingMname = checkMname(mealNameArray, meal);
-            if (isMatchingMname) {
-                filteredMealList.add(meal);
+    /**
+     * Applies a change like {@link #write(MealWrite)}, but publishes a snapshot whose changed indexes are built on
+     * other threads if they need a full build, so this returns as soon as the change is applied. A reader that needs
+     * one of those indexes waits for that index only.
+     */
+    public <T> T writeIndexingInBackground(MealWrite<T> mealWrite) throws EZMealPlanException {
+        return write(() -> {
+            T result = mealWrite.apply();
+            if (writeLock.getHoldCount() == 1) {
+                publish(true);
             }
-        }
-        return filteredMealList;
+            return result;
+        });
     }
 
-    private static boolean checkMname(String[] mealNameArray, Meal meal) {
-        boolean isMealNameContains = true;
-        String getMealName = meal.getName().toLowerCase();
-        for (String mealName : mealNameArray) {
-            mealName = mealName.toLowerCase();
-            if (!getMealName.contains(mealName)) {
-                isMealNameContains = false;
-                break;
+    // Publishes the changes once the outermost write is done, then lets the next writer in.
+    private void publishAndUnlock() {
+        try {
+            if (writeLock.getHoldCount() == 1) {
+                publish(false);
             }
+        } finally {
+            if (writeLock.getHoldCount() == 1) {
+                isWriting = false;
+            }
+            writeLock.unlock();
         }
-        return isMealNameContains;
     }
 
-    public List<Meal> filteringByIng(String[] ingredientsArray) {
-        List<Meal> filteredMealList = new ArrayList<>();
-        List<Meal> mainMealList = getRecipesList().getList();
-        for (Meal meal : mainMealList) {
-            boolean isMealContainsIng = checkIngPerMeal(ingredientsArray, meal);
-            if (isMealContainsIng) {
-                filteredMealList.add(meal);
-            }
+    /**
+     * Returns the latest published snapshot of the recipes list, wishlist and inventory.
+     * While a write is applied, this is the snapshot from before the write, returned without waiting. Otherwise,
+     * changes made to the lists or the inventory outside {@link #write(MealWrite)} are published here first, which
+     * waits for a writer that takes the lock in the meantime.
+     */
+    public MealSnapshot getSnapshot() {
+        // Read before the snapshot, so that a write seen here has already published the changes made before it.
+        boolean isWriteApplied = isWriting;
+        MealSnapshot currentSnapshot = snapshot;
+        if (isWriteApplied || isPublished(currentSnapshot)) {
+            return currentSnapshot;
         }
-        return filteredMealList;
+        writeLock.lock();
+        try {
+            publish(false);
+            return snapshot;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private boolean isPublished(MealSnapshot publishedSnapshot) {
+        return publishedSnapshot.getRecipesIndex().getVersion() == recipesList.getVersion()
+                && publishedSnapshot.getWishListIndex().getVersion() == wishList.getVersion()
+                && publishedSnapshot.getInventoryVersion() == inventory.getVersion();
     }
 
-    private static boolean checkIngPerMeal(String[] ingArray, Meal meal) {
-        boolean isMealContainsIng = true;
-        ArrayList<Ingredient> ingredientList = (ArrayList<Ingredient>) meal.getIngredientList();
-        ArrayList<String> ingredientsNameList = new ArrayList<>();
-        ingredientList.forEach(ingredient -> ingredientsNameList.add(ingredient.getName()));
-        int overallCount = getOverallCount(ingArray, ingredientsNameList);
-        if (overallCount < ingArray.length) {
-            isMealContainsIng = false;
+    // Builds the next snapshot, sharing every part that has not changed since the previous one.
+    private void publish(boolean isIndexingInBackground) {
+        assert writeLock.isHeldByCurrentThread();
+        MealSnapshot previousSnapshot = snapshot;
+        if (isPublished(previousSnapshot)) {
+            return;
         }
-        return isMealContainsIng;
+        MealIndex recipesIndex = getUpToDateRecipesIndex(previousSnapshot.getRecipesIndex(), isIndexingInBackground);
+        MealIndex wishListIndex = wishListIndexer.getIndex(previousSnapshot.getWishListIndex(),
+                isIndexingInBackground);
+        InventoryView inventorySnapshot = previousSnapshot.getInventoryVersion() == inventory.getVersion()
+                ? previousSnapshot.getInventory() : inventory.getReadOnlyCopy();
+        snapshot = new MealSnapshot(previousSnapshot.getVersion() + 1, recipesIndex, wishListIndex,
+                inventorySnapshot, inventory.getVersion());
     }
 
-    private static int getOverallCount(String[] ingArray, ArrayList<String> ingredientsNameList) {
-        int overallCount = 0;
-        int zero = 0;
-        for (String ingName : ingArray) {
-            ingName = ingName.toLowerCase();
-            int eachCount = getEachCount(ingName, ingredientsNameList);
-            if (eachCount > zero) {
-                overallCount++;
-            }
+
+    public List<Meal> filteringByMcost(double mcostDouble) {
+        return filteringByQuery(new MealQuery().addPriceRange(mcostDouble, mcostDouble));
+    }
+
+    public List<Meal> filteringByMname(String[] mealNameArray) {
+        return filteringByQuery(new MealQuery().addNameKeywords(mealNameArray));
+    }
+
+    public List<Meal> filteringByIng(String[] ingredientsArray) {
+        return filteringByQuery(new MealQuery().addIngredientKeywords(ingredientsArray));
+    }
+
+    /**
+     * Returns the meals in the recipes list that match every criterion of the query, in recipes list order.
+     */
+    public List<Meal> filteringByQuery(MealQuery query) {
+        return queryPlanner.execute(query, getRecipesIndex());
+    }
+
+    /**
+     * Returns the meals in the recipes list that are missing at most maxMissingCount ingredients from the inventory.
+     */
+    public List<Meal> getCookableMeals(int maxMissingCount) {
+        MealSnapshot currentSnapshot = getSnapshot();
+        if (recipeCatalog != null) {
+            // The recipes index of a tenant is always laid over the catalog index (see getUpToDateRecipesIndex).
+            return overlayCookableTracker.getCookableMeals((OverlayMealIndex) currentSnapshot.getRecipesIndex(),
+                    currentSnapshot.getInventory(), maxMissingCount);
         }
-        return overallCount;
+        return cookableTracker.getCookableMeals(currentSnapshot.getRecipesIndex(), currentSnapshot.getInventory(),
+                maxMissingCount);
     }
 
-    private static int getEachCount(String ingName, ArrayList<String> ingredientsNameList) {
-        int eachCount = 0;
-        for (String ingredientName : ingredientsNameList) {
-            ingredientName = ingredientName.toLowerCase();
-            if (ingredientName.contains(ingName)) {
-                eachCount++;
-            }
+    /**
+     * Returns the index over the recipes list of the latest snapshot.
+     */
+    public MealIndex getRecipesIndex() {
+        return getSnapshot().getRecipesIndex();
+    }
+
+    /**
+     * Returns the index over the wishlist of the latest snapshot.
+     */
+    public MealIndex getWishListIndex() {
+        return getSnapshot().getWishListIndex();
+    }
+
+    private MealIndex getUpToDateRecipesIndex(MealIndex index, boolean isIndexingInBackground) {
+        if (recipeCatalog == null) {
+            return recipesIndexer.getIndex(index, isIndexingInBackground);
+        }
+        int currentVersion = recipesList.getVersion();
+        if (index.getVersion() == currentVersion) {
+            return index;
         }
-        return eachCount;
+        // The catalog index never changes, so the tenant's edits are always laid over it, however many there are.
+        return new OverlayMealIndex(recipeCatalog.getIndex(), recipesOverlay.getPositions(),
+                recipesOverlay.getAddedMeals(), currentVersion);
     }
 
     public Meal removeMeal(int index, MealList mealListInput) throws EZMealPlanException {
-        chosenMealList = mealListInput instanceof RecipesList ? getRecipesList() : getWishList();
-        if(chosenMealList.getList().isEmpty()){
-            throw new EmptyListException(chosenMealList.getMealListName());
+        return write(() -> {
+            chosenMealList = mealListInput instanceof RecipesList ? getRecipesList() : getWishList();
+            if (chosenMealList.getList().isEmpty()) {
+                throw new EmptyListException(chosenMealList.getMealListName());
+            }
+            return chosenMealList.removeMeal(index);
+        });
+    }
+
+    /**
+     * Deletes the catalog recipes that are not among the given meals, such as the ones a tenant deleted before its
+     * recipes list was saved, so that only those deletions are stored.
+     */
+    public void deleteCatalogRecipesNotIn(Set<Meal> meals) {
+        assert recipeCatalog != null : "Only a recipes list over a catalog starts with recipes";
+        writeLock.lock();
+        try {
+            beginWrite();
+            for (int i = recipesOverlay.size() - 1; i >= 0; i--) {
+                if (!meals.contains(recipesOverlay.get(i))) {
+                    recipesOverlay.remove(i);
+                }
+            }
+        } finally {
+            publishAndUnlock();
         }
-        return chosenMealList.removeMeal(index);
     }
 
     public void removeIllegalMeals() {
-        List<Meal> recipesList = this.recipesList.getList();
+        writeLock.lock();
+        try {
+            beginWrite();
+            removeIllegalMealsFromWishList();
+        } finally {
+            publishAndUnlock();
+        }
+    }
+
+    private void removeIllegalMealsFromWishList() {
+        RemoveIllegalMealsEvent event = new RemoveIllegalMealsEvent();
+        event.begin();
         List<Meal> wishList = this.wishList.getList();
-        List<Meal> wishListCopy = new ArrayList<>(wishList);
+        int wishListCount = wishList.size();
         if(wishList.isEmpty()){
+            event.commit(recipesList.getList().size(), 0, 0);
             return;
         }
-        for (Meal meal : wishListCopy) {
-            if (!recipesList.contains(meal)) {
-                wishList.remove(meal);
-                String removeIllegalMealMessage = "Removed " + meal + " containing the ingredients: " +
-                                                  meal.getIngredientList() +
-                                                  " from " + this.wishList.getMealListName() +
-                                                  " because it is not found in the "
-                                                  + this.recipesList.getMealListName() + ".";
-                System.err.println(removeIllegalMealMessage);
+        // A binary search of the recipes list for every meal in the wishlist reads only a few recipes, so a catalog
+        // stored in columns does not have to create all of its meals.
+        this.wishList.removeMealsIf(meal -> {
+            if (recipesList.contains(meal)) {
+                return false;
             }
-        }
+            String removeIllegalMealMessage = "Removed " + meal + " containing the ingredients: " +
+                                              meal.getIngredientList() +
+                                              " from " + this.wishList.getMealListName() +
+                                              " because it is not found in the "
+                                              + this.recipesList.getMealListName() + ".";
+            System.err.println(removeIllegalMealMessage);
+            return true;
+        });
         System.out.println();
+        event.commit(recipesList.getList().size(), wishListCount, wishListCount - wishList.size());
+    }
+
+    /**
+     * Returns the estimated bytes of the caches kept next to the published snapshots, such as the counters of the
+     * cookable meals.
+     */
+    public long estimateCacheBytes(MemoryEstimator estimator) {
+        return recipeCatalog != null ? overlayCookableTracker.estimateBytes(estimator)
+                : cookableTracker.estimateBytes(estimator);
     }
 
     public Inventory getInventory() {
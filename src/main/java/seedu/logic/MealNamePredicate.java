@@ -0,0 +1,41 @@
+package seedu.logic;
+
+import seedu.food.Product;
+
+/**
+ * Keeps the meals whose names contain the keyword, ignoring case.
+ */
+class MealNamePredicate implements MealPredicate {
+    private final String keyword;
+
+    MealNamePredicate(String keyword) {
+        this.keyword = Product.toNameKey(keyword);
+    }
+
+    @Override
+    public double estimateSelectivity(MealIndex index) {
+        if (!index.canLookUpName(keyword)) {
+            return FULL_SCAN;
+        }
+        if (index.size() == 0) {
+            return 0;
+        }
+        // Keep a looked-up name below FULL_SCAN so that it is still preferred over scanning every meal.
+        return Math.min((double) index.countNameCandidates(keyword) / index.size(), Math.nextDown(FULL_SCAN));
+    }
+
+    @Override
+    public int[] lookUp(MealIndex index) {
+        return index.findNameCandidates(keyword);
+    }
+
+    @Override
+    public boolean isExactLookUp() {
+        return false;
+    }
+
+    @Override
+    public boolean test(MealIndex index, int position) {
+        return index.mealNameContains(position, keyword);
+    }
+}
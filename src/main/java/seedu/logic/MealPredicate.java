@@ -0,0 +1,32 @@
+package seedu.logic;
+
+/**
+ * A single filter condition of a {@link MealQuery}.
+ * A predicate can estimate how many meals it keeps by reading the index, and may be able to look those meals up
+ * directly instead of having every meal in the list tested against it.
+ */
+interface MealPredicate {
+    double FULL_SCAN = 1.0;
+
+    /**
+     * Returns the estimated fraction of meals (from 0.0 to 1.0) kept by this predicate,
+     * or FULL_SCAN if the predicate cannot be looked up from the index.
+     */
+    double estimateSelectivity(MealIndex index);
+
+    /**
+     * Returns the ascending positions of the meals that may satisfy this predicate.
+     * Only called when estimateSelectivity returned less than FULL_SCAN.
+     */
+    int[] lookUp(MealIndex index);
+
+    /**
+     * Returns true if every meal returned by lookUp satisfies this predicate, so it need not be tested again.
+     */
+    boolean isExactLookUp();
+
+    /**
+     * Returns true if the meal at the given position of the index satisfies this predicate.
+     */
+    boolean test(MealIndex index, int position);
+}
@@ -0,0 +1,59 @@
+package seedu.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Any combination of filter criteria on the recipes list. A meal matches the query only if it matches every
+ * criterion: every ingredient keyword, every excluded ingredient keyword, every meal name keyword and the price
+ * range, when given.
+ */
+public class MealQuery {
+    private final List<MealPredicate> predicates = new ArrayList<>();
+
+    /**
+     * Requires each keyword to appear in at least one ingredient name of the meal, ignoring case.
+     */
+    public MealQuery addIngredientKeywords(String[] ingredientKeywords) {
+        for (String ingredientKeyword : ingredientKeywords) {
+            predicates.add(new IngredientKeywordPredicate(ingredientKeyword));
+        }
+        return this;
+    }
+
+    /**
+     * Requires each keyword to appear in none of the ingredient names of the meal, ignoring case.
+     */
+    public MealQuery addExcludedIngredientKeywords(String[] excludedKeywords) {
+        for (String excludedKeyword : excludedKeywords) {
+            predicates.add(new IngredientExclusionPredicate(excludedKeyword));
+        }
+        return this;
+    }
+
+    /**
+     * Requires each keyword to appear in the meal name, ignoring case.
+     */
+    public MealQuery addNameKeywords(String[] nameKeywords) {
+        for (String nameKeyword : nameKeywords) {
+            predicates.add(new MealNamePredicate(nameKeyword));
+        }
+        return this;
+    }
+
+    /**
+     * Requires the meal price to be from minPrice to maxPrice (both inclusive).
+     */
+    public MealQuery addPriceRange(double minPrice, double maxPrice) {
+        predicates.add(new PriceRangePredicate(minPrice, maxPrice));
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return predicates.isEmpty();
+    }
+
+    List<MealPredicate> getPredicates() {
+        return predicates;
+    }
+}
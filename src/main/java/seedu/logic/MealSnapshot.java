@@ -0,0 +1,64 @@
+package seedu.logic;
+
+import seedu.food.Inventory;
+import seedu.food.InventoryView;
+import seedu.food.Meal;
+
+import java.util.List;
+
+/**
+ * One published version of the recipes list, wishlist and inventory of a {@link MealManager}.
+ * A snapshot never changes after it is published, so it can be read by any number of threads without locking.
+ * Parts that a write did not touch are shared with the previous snapshot instead of being copied.
+ */
+public class MealSnapshot {
+    private final long version;
+    private final MealIndex recipesIndex;
+    private final MealIndex wishListIndex;
+    private final InventoryView inventory;
+    private final int inventoryVersion;
+
+    MealSnapshot(long version, MealIndex recipesIndex, MealIndex wishListIndex, InventoryView inventory,
+                 int inventoryVersion) {
+        assert !(inventory instanceof Inventory) : "A snapshot must not share a changing inventory";
+        this.version = version;
+        this.recipesIndex = recipesIndex;
+        this.wishListIndex = wishListIndex;
+        this.inventory = inventory;
+        this.inventoryVersion = inventoryVersion;
+    }
+
+    /**
+     * Returns a number that increases by one for every snapshot published by the same meal manager.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public MealIndex getRecipesIndex() {
+        return recipesIndex;
+    }
+
+    public MealIndex getWishListIndex() {
+        return wishListIndex;
+    }
+
+    public List<Meal> getRecipes() {
+        return recipesIndex.getMeals();
+    }
+
+    public List<Meal> getWishList() {
+        return wishListIndex.getMeals();
+    }
+
+    /**
+     * Returns a read-only copy of the inventory as it was when this snapshot was published.
+     */
+    public InventoryView getInventory() {
+        return inventory;
+    }
+
+    int getInventoryVersion() {
+        return inventoryVersion;
+    }
+}
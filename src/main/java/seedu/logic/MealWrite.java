@@ -0,0 +1,13 @@
+package seedu.logic;
+
+import seedu.exceptions.EZMealPlanException;
+
+/**
+ * A change to the lists and inventory of a {@link MealManager}, applied by its single writer.
+ *
+ * @param <T> the type of the result of the change.
+ */
+@FunctionalInterface
+public interface MealWrite<T> {
+    T apply() throws EZMealPlanException;
+}
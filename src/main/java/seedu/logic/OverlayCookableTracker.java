@@ -0,0 +1,112 @@
+package seedu.logic;
+
+import seedu.food.Inventory;
+import seedu.food.InventoryView;
+import seedu.food.Meal;
+import seedu.metrics.CommandTrace;
+import seedu.metrics.MemoryEstimator;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Keeps the cookable counters of one tenant of a {@link RecipeCatalog} as an overlay over the catalog, as its recipes
+ * index is an {@link OverlayMealIndex} over the catalog index.
+ * Only the catalog meals that use an ingredient in stock have a counter, kept under their catalog position, so the
+ * counters cost memory in proportion to what the tenant has in stock rather than to the catalog, and they stay valid
+ * while the tenant creates and deletes recipes. The few meals the tenant created are counted when they are asked for.
+ */
+class OverlayCookableTracker {
+    private final RecipeCatalog catalog;
+    private final ParallelScan parallelScan;
+    private InventoryView inventory;
+    // The number of ingredients in stock of every catalog meal that has any, by catalog position.
+    private final Map<Integer, Integer> inStockCounts = new HashMap<>();
+
+    OverlayCookableTracker(RecipeCatalog catalog, ParallelScan parallelScan) {
+        this.catalog = catalog;
+        this.parallelScan = parallelScan;
+    }
+
+    /**
+     * Returns the meals of the given index over the catalog that are missing at most maxMissingCount ingredients from
+     * the given read-only inventory, in meal list order, as {@link CookableTracker#getCookableMeals} does.
+     */
+    synchronized List<Meal> getCookableMeals(OverlayMealIndex currentIndex, InventoryView currentInventory,
+                                             int maxMissingCount) {
+        assert maxMissingCount >= 0 && maxMissingCount <= CookableTracker.MAX_MISSING_COUNT;
+        assert !(currentInventory instanceof Inventory) : "The counters can only follow an inventory copy";
+        if (currentInventory != inventory) {
+            update(currentInventory);
+        }
+        MealIndex catalogIndex = catalog.getIndex();
+        // A meal with no more ingredients than can be missing is cookable even if none of them are in stock.
+        IntStream smallMealPositions = Arrays.stream(catalog.getSmallMealPositions())
+                .filter(position -> catalogIndex.getIngredientCount(position) <= maxMissingCount);
+        IntStream countedPositions = inStockCounts.entrySet().stream()
+                .filter(entry -> catalogIndex.getIngredientCount(entry.getKey()) - entry.getValue() <= maxMissingCount)
+                .mapToInt(Map.Entry::getKey);
+        int[] basePositions = IntStream.concat(smallMealPositions, countedPositions).distinct().sorted().toArray();
+        MealIndex addedIndex = currentIndex.getAddedIndex();
+        IngredientSet inventorySet = addedIndex.getInventorySet(currentInventory);
+        int[] addedPositions = IntStream.range(0, addedIndex.size())
+                .filter(position -> addedIndex.countIngredientsNotIn(position, inventorySet) <= maxMissingCount)
+                .toArray();
+        CommandTrace.addScannedMeals(inStockCounts.size() + addedIndex.size());
+        int[] positions = currentIndex.getPositions().merge(basePositions, addedPositions);
+        return parallelScan.map(positions, currentIndex::getMeal);
+    }
+
+    // Brings the counters from the inventory they follow to the given one, through the names changed between them.
+    private void update(InventoryView currentInventory) {
+        Set<String> changedNames = inventory == null ? null : currentInventory.getChangedNames(inventory);
+        if (changedNames == null) {
+            rebuild(currentInventory);
+            return;
+        }
+        for (String ingredientName : changedNames) {
+            boolean wasInStock = inventory.hasIngredient(ingredientName);
+            boolean isInStock = currentInventory.hasIngredient(ingredientName);
+            if (wasInStock != isInStock) {
+                updateCounts(ingredientName, isInStock ? 1 : -1);
+            }
+        }
+        inventory = currentInventory;
+    }
+
+    private void rebuild(InventoryView currentInventory) {
+        inventory = currentInventory;
+        inStockCounts.clear();
+        for (String ingredientName : currentInventory.getIngredientNames()) {
+            if (currentInventory.hasIngredient(ingredientName)) {
+                updateCounts(ingredientName, 1);
+            }
+        }
+    }
+
+    private void updateCounts(String ingredientName, int change) {
+        for (int position : catalog.getIndex().getIngredientPositions(ingredientName)) {
+            // A counter that drops to zero is removed, so only meals with an ingredient in stock have one.
+            inStockCounts.merge(position, change, (count, addedCount) -> count + addedCount == 0
+                    ? null : count + addedCount);
+        }
+    }
+
+    /**
+     * Returns the estimated bytes of the counters, leaving out the catalog.
+     */
+    synchronized long estimateBytes(MemoryEstimator estimator) {
+        if (!estimator.isUncounted(this)) {
+            return 0;
+        }
+        long bytes = estimator.objectSize(4, 0) + estimator.hashMapSize(inStockCounts.size());
+        for (Map.Entry<Integer, Integer> entry : inStockCounts.entrySet()) {
+            bytes += estimator.boxedIntegerSize(entry.getKey()) + estimator.boxedIntegerSize(entry.getValue());
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,182 @@
+package seedu.logic;
+
+import seedu.food.Meal;
+import seedu.meallist.OverlayPositions;
+import seedu.metrics.MemoryEstimator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The index of a list that was edited since an earlier version of it, made of the index of that version, such as the
+ * shared index of a {@link RecipeCatalog}, and a small index over the meals added since. Positions of the earlier
+ * index are mapped to the list, leaving out the meals deleted since, so the overlay costs memory and time to build in
+ * proportion to the edits. Ingredient ids of the added meals extend the dictionary of the earlier index, so ids are
+ * shared by both indexes.
+ */
+class OverlayMealIndex extends MealIndex {
+    private final MealIndex baseIndex;
+    private final OverlayPositions positions;
+    private final MealIndex addedIndex;
+    private final int version;
+
+    OverlayMealIndex(MealIndex baseIndex, OverlayPositions positions, List<Meal> addedMeals, int version) {
+        assert addedMeals.size() == positions.getAddedCount();
+        this.baseIndex = baseIndex;
+        this.positions = positions;
+        this.addedIndex = new ListMealIndex(addedMeals, version,
+                new IngredientDictionary(baseIndex.getIngredientDictionary()));
+        this.version = version;
+    }
+
+    OverlayPositions getPositions() {
+        return positions;
+    }
+
+    // Returns the index over the meals added since the earlier index, whose positions are the added positions.
+    MealIndex getAddedIndex() {
+        return addedIndex;
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public int size() {
+        return positions.size();
+    }
+
+    @Override
+    public Meal getMeal(int position) {
+        int source = positions.locate(position);
+        return source >= 0 ? baseIndex.getMeal(source) : addedIndex.getMeal(-source - 1);
+    }
+
+    @Override
+    public String getMealName(int position) {
+        int source = positions.locate(position);
+        return source >= 0 ? baseIndex.getMealName(source) : addedIndex.getMealName(-source - 1);
+    }
+
+    @Override
+    public boolean mealNameContains(int position, String keywordKey) {
+        int source = positions.locate(position);
+        return source >= 0 ? baseIndex.mealNameContains(source, keywordKey)
+                : addedIndex.mealNameContains(-source - 1, keywordKey);
+    }
+
+    @Override
+    public double getPrice(int position) {
+        int source = positions.locate(position);
+        return source >= 0 ? baseIndex.getPrice(source) : addedIndex.getPrice(-source - 1);
+    }
+
+    @Override
+    public IngredientDictionary getIngredientDictionary() {
+        return addedIndex.getIngredientDictionary();
+    }
+
+    @Override
+    public IngredientSet getIngredientSet(int position) {
+        int source = positions.locate(position);
+        return source >= 0 ? baseIndex.getIngredientSet(source) : addedIndex.getIngredientSet(-source - 1);
+    }
+
+    @Override
+    public int getIngredientCount(int position) {
+        int source = positions.locate(position);
+        return source >= 0 ? baseIndex.getIngredientCount(source) : addedIndex.getIngredientCount(-source - 1);
+    }
+
+    @Override
+    public boolean usesAnyIngredient(int position, IngredientSet ingredientIds) {
+        int source = positions.locate(position);
+        return source >= 0 ? baseIndex.usesAnyIngredient(source, ingredientIds)
+                : addedIndex.usesAnyIngredient(-source - 1, ingredientIds);
+    }
+
+    @Override
+    public int countIngredientsNotIn(int position, IngredientSet ingredientIds) {
+        int source = positions.locate(position);
+        return source >= 0 ? baseIndex.countIngredientsNotIn(source, ingredientIds)
+                : addedIndex.countIngredientsNotIn(-source - 1, ingredientIds);
+    }
+
+    @Override
+    public double getMissingCost(int position, IngredientSet ingredientIds) {
+        int source = positions.locate(position);
+        return source >= 0 ? baseIndex.getMissingCost(source, ingredientIds)
+                : addedIndex.getMissingCost(-source - 1, ingredientIds);
+    }
+
+    @Override
+    public int[] getIngredientPositions(String ingredientName) {
+        return positions.merge(baseIndex.getIngredientPositions(ingredientName),
+                addedIndex.getIngredientPositions(ingredientName));
+    }
+
+    @Override
+    public List<String> findIngredientNames(String keyword) {
+        Set<String> ingredientNames = new LinkedHashSet<>(baseIndex.findIngredientNames(keyword));
+        ingredientNames.addAll(addedIndex.findIngredientNames(keyword));
+        return new ArrayList<>(ingredientNames);
+    }
+
+    @Override
+    public int countIngredientPositions(List<String> ingredientNames) {
+        int count = baseIndex.countIngredientPositions(ingredientNames)
+                + addedIndex.countIngredientPositions(ingredientNames);
+        return Math.min(count, size());
+    }
+
+    @Override
+    public int[] findIngredientPositions(List<String> ingredientNames) {
+        return positions.merge(baseIndex.findIngredientPositions(ingredientNames),
+                addedIndex.findIngredientPositions(ingredientNames));
+    }
+
+    @Override
+    public int countNameCandidates(String keyword) {
+        int count = baseIndex.countNameCandidates(keyword) + addedIndex.countNameCandidates(keyword);
+        return Math.min(count, size());
+    }
+
+    @Override
+    public int[] findNameCandidates(String keyword) {
+        return positions.merge(baseIndex.findNameCandidates(keyword), addedIndex.findNameCandidates(keyword));
+    }
+
+    @Override
+    public int countPriceRange(double minPrice, double maxPrice) {
+        int count = baseIndex.countPriceRange(minPrice, maxPrice) + addedIndex.countPriceRange(minPrice, maxPrice);
+        for (int deletedPosition : positions.getDeletedPositions()) {
+            double price = baseIndex.getPrice(deletedPosition);
+            if (price >= minPrice && price <= maxPrice) {
+                count--;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int[] findPriceRange(double minPrice, double maxPrice) {
+        return positions.merge(baseIndex.findPriceRange(minPrice, maxPrice),
+                addedIndex.findPriceRange(minPrice, maxPrice));
+    }
+
+    /**
+     * Counts the earlier index too, unless it was counted already, such as for another tenant of a catalog.
+     */
+    @Override
+    public long estimateBytes(MemoryEstimator estimator) {
+        if (!estimator.isUncounted(this)) {
+            return 0;
+        }
+        return estimator.objectSize(3, 4) + baseIndex.estimateBytes(estimator) + positions.estimateBytes(estimator)
+                + addedIndex.estimateBytes(estimator);
+    }
+}
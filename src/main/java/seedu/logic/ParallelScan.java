@@ -0,0 +1,213 @@
+package seedu.logic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.logging.Logger;
+
+/**
+ * Splits a scan over the positions of an index into parts that run on a fork-join pool, once the scan is long enough
+ * to be worth it, and joins the results of the parts in position order. A parallel scan therefore returns the same
+ * results in the same order as a loop, which is meal list order for a scan over every position.
+ * Scans shorter than the threshold run in a loop on the calling thread. Longer scans are split into about
+ * {@value #PARTS_PER_WORKER} parts per worker of the pool, so that idle workers can steal the parts of busy ones,
+ * but never into parts shorter than the minimum part size.
+ *
+ * <p>The default scan uses the common pool, whose size follows the number of cores, and is configured by the system
+ * properties ezmealplan.parallelScanThreshold (50000 if not set, 0 to never scan in parallel) and
+ * ezmealplan.parallelScanPartSize (4096 if not set).
+ * The tests run by a scan must only read the index, as they run on several threads at once.
+ */
+public class ParallelScan {
+    public static final String THRESHOLD_PROPERTY = "ezmealplan.parallelScanThreshold";
+    public static final String PART_SIZE_PROPERTY = "ezmealplan.parallelScanPartSize";
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private static final int DEFAULT_THRESHOLD = 50_000;
+    private static final int DEFAULT_PART_SIZE = 4096;
+    private static final int PARTS_PER_WORKER = 4;
+    private static final ParallelScan defaultScan = fromSystemProperties();
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final int minPartSize;
+
+    /**
+     * Constructs a scan that runs scans of at least threshold positions on the given pool, in parts of at least
+     * minPartSize positions. A threshold of 0 runs every scan in a loop on the calling thread.
+     */
+    public ParallelScan(ForkJoinPool pool, int threshold, int minPartSize) {
+        assert threshold >= 0 : "The parallel scan threshold cannot be negative";
+        assert minPartSize > 0 : "A part of a parallel scan must have at least one position";
+        this.pool = pool;
+        this.threshold = threshold;
+        this.minPartSize = minPartSize;
+    }
+
+    /**
+     * Returns the scan configured by the system properties, which is shared by every meal manager.
+     */
+    public static ParallelScan getDefault() {
+        return defaultScan;
+    }
+
+    private static ParallelScan fromSystemProperties() {
+        int threshold = getIntProperty(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD, 0);
+        int minPartSize = getIntProperty(PART_SIZE_PROPERTY, DEFAULT_PART_SIZE, 1);
+        return new ParallelScan(ForkJoinPool.commonPool(), threshold, minPartSize);
+    }
+
+    private static int getIntProperty(String property, int defaultValue, int minValue) {
+        String value = System.getProperty(property);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Math.max(minValue, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException numberFormatException) {
+            logger.warning(() -> "Ignoring the invalid " + property + ": " + value);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Returns true if a scan over the given number of positions is split across the pool.
+     */
+    public boolean isParallel(int positionCount) {
+        return threshold > 0 && positionCount >= threshold && pool.getParallelism() > 1;
+    }
+
+    // Splits the positions into about PARTS_PER_WORKER parts per worker, each at least minPartSize long.
+    private int getPartSize(int positionCount) {
+        int partCount = pool.getParallelism() * PARTS_PER_WORKER;
+        return Math.max(minPartSize, (positionCount + partCount - 1) / partCount);
+    }
+
+    /**
+     * Returns the positions from 0 up to (but not including) size that pass the test, in ascending order.
+     */
+    public int[] filter(int size, IntPredicate test) {
+        if (!isParallel(size)) {
+            return filterPart(null, 0, size, test);
+        }
+        return pool.invoke(new FilterTask(null, 0, size, getPartSize(size), test));
+    }
+
+    /**
+     * Returns the given positions that pass the test, in the order they are given.
+     */
+    public int[] filter(int[] positions, IntPredicate test) {
+        if (!isParallel(positions.length)) {
+            return filterPart(positions, 0, positions.length, test);
+        }
+        return pool.invoke(new FilterTask(positions, 0, positions.length, getPartSize(positions.length), test));
+    }
+
+    /**
+     * Returns the result of the function for each of the given positions, in the order the positions are given.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> map(int[] positions, IntFunction<T> function) {
+        Object[] results = new Object[positions.length];
+        if (!isParallel(positions.length)) {
+            mapPart(positions, 0, positions.length, function, results);
+        } else {
+            pool.invoke(new MapTask<>(positions, 0, positions.length, getPartSize(positions.length), function,
+                    results));
+        }
+        return (List<T>) new ArrayList<>(Arrays.asList(results));
+    }
+
+    // Tests the positions from..to-1, or the given positions at those indexes if positions is not null.
+    private static int[] filterPart(int[] positions, int from, int to, IntPredicate test) {
+        int[] passed = new int[to - from];
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int position = positions == null ? i : positions[i];
+            if (test.test(position)) {
+                passed[count++] = position;
+            }
+        }
+        return Arrays.copyOf(passed, count);
+    }
+
+    private static <T> void mapPart(int[] positions, int from, int to, IntFunction<T> function, Object[] results) {
+        for (int i = from; i < to; i++) {
+            results[i] = function.apply(positions[i]);
+        }
+    }
+
+    /**
+     * Filters a range of positions, splitting it in half until the halves are no longer than the part size.
+     * The left half's positions come first when the halves are joined, which keeps them in order.
+     */
+    @SuppressWarnings("serial")
+    private static class FilterTask extends RecursiveTask<int[]> {
+        private final int[] positions;
+        private final int from;
+        private final int to;
+        private final int partSize;
+        private final IntPredicate test;
+
+        FilterTask(int[] positions, int from, int to, int partSize, IntPredicate test) {
+            this.positions = positions;
+            this.from = from;
+            this.to = to;
+            this.partSize = partSize;
+            this.test = test;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= partSize) {
+                return filterPart(positions, from, to, test);
+            }
+            int middle = (from + to) >>> 1;
+            FilterTask right = new FilterTask(positions, middle, to, partSize, test);
+            right.fork();
+            int[] leftPassed = new FilterTask(positions, from, middle, partSize, test).compute();
+            int[] rightPassed = right.join();
+            int[] passed = Arrays.copyOf(leftPassed, leftPassed.length + rightPassed.length);
+            System.arraycopy(rightPassed, 0, passed, leftPassed.length, rightPassed.length);
+            return passed;
+        }
+    }
+
+    /**
+     * Maps a range of positions, writing every result at the index of its position, so no joining is needed.
+     */
+    @SuppressWarnings("serial")
+    private static class MapTask<T> extends RecursiveAction {
+        private final int[] positions;
+        private final int from;
+        private final int to;
+        private final int partSize;
+        private final IntFunction<T> function;
+        private final Object[] results;
+
+        MapTask(int[] positions, int from, int to, int partSize, IntFunction<T> function, Object[] results) {
+            this.positions = positions;
+            this.from = from;
+            this.to = to;
+            this.partSize = partSize;
+            this.function = function;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= partSize) {
+                mapPart(positions, from, to, function, results);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            MapTask<T> right = new MapTask<>(positions, middle, to, partSize, function, results);
+            right.fork();
+            new MapTask<>(positions, from, middle, partSize, function, results).compute();
+            right.join();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.logic;
+
+/**
+ * Keeps the meals with a price from minPrice to maxPrice (both inclusive).
+ */
+class PriceRangePredicate implements MealPredicate {
+    private final double minPrice;
+    private final double maxPrice;
+
+    PriceRangePredicate(double minPrice, double maxPrice) {
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+
+    @Override
+    public double estimateSelectivity(MealIndex index) {
+        if (index.size() == 0) {
+            return 0;
+        }
+        return Math.min((double) index.countPriceRange(minPrice, maxPrice) / index.size(),
+                Math.nextDown(FULL_SCAN));
+    }
+
+    @Override
+    public int[] lookUp(MealIndex index) {
+        return index.findPriceRange(minPrice, maxPrice);
+    }
+
+    @Override
+    public boolean isExactLookUp() {
+        return true;
+    }
+
+    @Override
+    public boolean test(MealIndex index, int position) {
+        double price = index.getPrice(position);
+        return price >= minPrice && price <= maxPrice;
+    }
+}
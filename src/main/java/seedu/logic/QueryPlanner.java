@@ -0,0 +1,86 @@
+package seedu.logic;
+
+import seedu.food.Meal;
+import seedu.metrics.CommandTrace;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Evaluates a {@link MealQuery} against a {@link MealIndex}.
+ * The predicate estimated to keep the fewest meals is looked up from the index, and only the meals it returns are
+ * tested against the remaining (residual) predicates, most selective first.
+ * If no predicate can be looked up, or the best one keeps most of the list anyway, every meal is scanned instead.
+ */
+public class QueryPlanner {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    // Above this fraction, visiting candidates in index order costs about as much as scanning the list.
+    private static final double MAX_LOOK_UP_SELECTIVITY = 0.5;
+    private final ParallelScan parallelScan;
+
+    public QueryPlanner() {
+        this(ParallelScan.getDefault());
+    }
+
+    /**
+     * Constructs a planner whose scans are split across threads by the given parallel scan once they are long enough.
+     */
+    public QueryPlanner(ParallelScan parallelScan) {
+        this.parallelScan = parallelScan;
+    }
+
+    public List<Meal> execute(MealQuery query, MealIndex index) {
+        List<MealPredicate> predicates = new ArrayList<>(query.getPredicates());
+        List<Double> selectivities = new ArrayList<>();
+        for (MealPredicate predicate : predicates) {
+            selectivities.add(predicate.estimateSelectivity(index));
+        }
+        List<Integer> order = getOrderBySelectivity(selectivities);
+        List<MealPredicate> orderedPredicates = new ArrayList<>();
+        order.forEach(predicateIndex -> orderedPredicates.add(predicates.get(predicateIndex)));
+
+        if (orderedPredicates.isEmpty() || selectivities.get(order.get(0)) > MAX_LOOK_UP_SELECTIVITY) {
+            logger.fine(() -> "Query planned as a full scan over " + index.size() + " meals.");
+            return scanAll(orderedPredicates, index);
+        }
+        MealPredicate driver = orderedPredicates.get(0);
+        List<MealPredicate> residuals = driver.isExactLookUp()
+                ? orderedPredicates.subList(1, orderedPredicates.size()) : orderedPredicates;
+        int[] candidates = driver.lookUp(index);
+        logger.fine(() -> "Query planned as an index look up with " + candidates.length + " candidate meals.");
+        return scanCandidates(candidates, residuals, index);
+    }
+
+    private static List<Integer> getOrderBySelectivity(List<Double> selectivities) {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < selectivities.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparing(selectivities::get));
+        return order;
+    }
+
+    // Every predicate has estimated its selectivity on this index by now, so testing it only reads the index.
+    private List<Meal> scanAll(List<MealPredicate> predicates, MealIndex index) {
+        CommandTrace.addScannedMeals(index.size());
+        int[] positions = parallelScan.filter(index.size(), position -> isMatchingAll(predicates, index, position));
+        return parallelScan.map(positions, index::getMeal);
+    }
+
+    private List<Meal> scanCandidates(int[] candidates, List<MealPredicate> residuals, MealIndex index) {
+        CommandTrace.addScannedMeals(candidates.length);
+        int[] positions = parallelScan.filter(candidates, position -> isMatchingAll(residuals, index, position));
+        return parallelScan.map(positions, index::getMeal);
+    }
+
+    private static boolean isMatchingAll(List<MealPredicate> predicates, MealIndex index, int position) {
+        for (MealPredicate predicate : predicates) {
+            if (!predicate.test(index, position)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.logic;
+
+import seedu.food.Meal;
+import seedu.meallist.MealList;
+import seedu.meallist.OffHeapRecipeColumns;
+import seedu.meallist.RecipeColumns;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable, indexed list of recipes that is built once and shared by every tenant in the JVM.
+ * A tenant sees the catalog through a {@link seedu.meallist.RecipeOverlayList} that holds only the recipes the
+ * tenant created or deleted, and its recipes index is an {@link OverlayMealIndex} over the index of the catalog.
+ */
+public class RecipeCatalog {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private final List<Meal> meals;
+    private final MealIndex index;
+    // The ascending positions of the meals with at most CookableTracker.MAX_MISSING_COUNT ingredients, which may be
+    // cookable whatever is in stock.
+    private final int[] smallMealPositions;
+
+    /**
+     * Constructs a catalog of the given meals, in meal list order, leaving out meals that repeat an earlier one.
+     */
+    public RecipeCatalog(List<Meal> meals) {
+        this.meals = List.copyOf(toDistinctSortedMeals(meals));
+        this.index = MealIndex.of(this.meals, 0);
+        this.smallMealPositions = findSmallMealPositions(index);
+    }
+
+    /**
+     * Constructs a catalog of the meals stored in the given columns, which must be in meal list order and distinct.
+     * Meals are only created from the columns when they are read, and the index is built over the columns directly.
+     */
+    public RecipeCatalog(RecipeColumns columns) {
+        this.meals = columns.getMeals();
+        this.index = new ColumnarMealIndex(columns, 0);
+        this.smallMealPositions = findSmallMealPositions(index);
+    }
+
+    private static int[] findSmallMealPositions(MealIndex index) {
+        return IntStream.range(0, index.size())
+                .filter(position -> index.getIngredientCount(position) <= CookableTracker.MAX_MISSING_COUNT)
+                .toArray();
+    }
+
+    /**
+     * Returns a catalog of the given meals, in meal list order and leaving out repeated meals, that stores them off
+     * the heap.
+     */
+    public static RecipeCatalog offHeap(List<Meal> meals) {
+        return new RecipeCatalog(OffHeapRecipeColumns.of(toDistinctSortedMeals(meals)));
+    }
+
+    private static List<Meal> toDistinctSortedMeals(List<Meal> meals) {
+        List<Meal> sortedMeals = new ArrayList<>(meals);
+        sortedMeals.sort(MealList.MEAL_ORDER);
+        List<Meal> distinctMeals = new ArrayList<>();
+        // Equal meals have the same name and price, so they are next to each other in meal list order.
+        int sameOrderStart = 0;
+        for (Meal meal : sortedMeals) {
+            boolean isNewOrder = distinctMeals.isEmpty()
+                    || MealList.MEAL_ORDER.compare(distinctMeals.get(distinctMeals.size() - 1), meal) != 0;
+            if (isNewOrder) {
+                sameOrderStart = distinctMeals.size();
+            } else if (distinctMeals.subList(sameOrderStart, distinctMeals.size()).contains(meal)) {
+                logger.info(() -> "Leaving out a repeated meal from the recipe catalog: " + meal);
+                continue;
+            }
+            distinctMeals.add(meal);
+        }
+        return distinctMeals;
+    }
+
+    /**
+     * Returns the meals of the catalog in meal list order, as a list that cannot be modified.
+     * The meals of a catalog stored in columns are created each time they are read.
+     */
+    public List<Meal> getMeals() {
+        return meals;
+    }
+
+    public MealIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the ascending positions of the meals with at most {@link CookableTracker#MAX_MISSING_COUNT}
+     * ingredients.
+     */
+    int[] getSmallMealPositions() {
+        return smallMealPositions.clone();
+    }
+
+    public int size() {
+        return meals.size();
+    }
+}
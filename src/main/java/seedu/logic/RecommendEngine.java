@@ -0,0 +1,151 @@
+package seedu.logic;
+
+import seedu.food.Ingredient;
+import seedu.food.InventoryView;
+import seedu.food.Meal;
+import seedu.food.Product;
+import seedu.metrics.CommandTrace;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Finds the meals of an indexed meal list that use at least one of the given ingredient keywords, and either ranks
+ * them to return the best few or samples a few of them at random.
+ * Only the meals found through the ingredient index are scored, so the cost grows with the number of matching meals
+ * rather than with the size of the list.
+ */
+public class RecommendEngine {
+    private final ParallelScan parallelScan;
+
+    public RecommendEngine() {
+        this(ParallelScan.getDefault());
+    }
+
+    /**
+     * Constructs an engine that ranks many candidates across threads with the given parallel scan.
+     */
+    public RecommendEngine(ParallelScan parallelScan) {
+        this.parallelScan = parallelScan;
+    }
+
+    /**
+     * Returns up to topCount recommendations, best first, as ordered by {@link Recommendation#BEST_FIRST}.
+     * Candidates are ranked from the figures of the index, so only the meals that are returned are created.
+     * The figures of many candidates are read across threads, and the best are then picked on the calling thread.
+     */
+    public List<Recommendation> recommendTop(MealIndex index, String[] keywords, InventoryView inventory,
+                                             int topCount) {
+        assert topCount > 0 : "The number of recommendations must be positive";
+        Map<Integer, Integer> keywordMatchesByPosition = findCandidates(index, keywords);
+        IngredientSet inventorySet = index.getInventorySet(inventory);
+        int[] positions = keywordMatchesByPosition.keySet().stream().mapToInt(Integer::intValue).toArray();
+        // The head of the heap is the worst of the best topCount candidates seen so far. topCount comes from the
+        // user and may be far larger than the number of candidates.
+        PriorityQueue<RankedCandidate> bestCandidates =
+                new PriorityQueue<>(Math.min(topCount, positions.length) + 1, RankedCandidate.BEST_FIRST.reversed());
+        List<RankedCandidate> candidates = parallelScan.map(positions, position ->
+                new RankedCandidate(index, position, keywordMatchesByPosition.get(position), inventorySet));
+        for (RankedCandidate candidate : candidates) {
+            bestCandidates.offer(candidate);
+            if (bestCandidates.size() > topCount) {
+                bestCandidates.poll();
+            }
+        }
+        List<Recommendation> recommendations = new ArrayList<>();
+        for (RankedCandidate candidate : bestCandidates) {
+            recommendations.add(score(index, candidate.position, candidate.keywordMatches, inventory));
+        }
+        recommendations.sort(Recommendation.BEST_FIRST);
+        return recommendations;
+    }
+
+    /**
+     * Returns up to sampleCount recommendations drawn uniformly at random from the matching meals,
+     * in the order of the meal list. The same random seed over the same list always gives the same meals.
+     */
+    public List<Recommendation> recommendRandom(MealIndex index, String[] keywords, InventoryView inventory,
+                                                int sampleCount, Random random) {
+        assert sampleCount > 0 : "The number of recommendations must be positive";
+        Map<Integer, Integer> keywordMatchesByPosition = findCandidates(index, keywords);
+        int[] positions = keywordMatchesByPosition.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        int[] reservoir = sampleReservoir(positions, sampleCount, random);
+        Arrays.sort(reservoir);
+        List<Recommendation> recommendations = new ArrayList<>();
+        for (int position : reservoir) {
+            recommendations.add(score(index, position, keywordMatchesByPosition.get(position), inventory));
+        }
+        return recommendations;
+    }
+
+    // Keeps each position with the same probability, using a single pass over the positions (Algorithm R).
+    private static int[] sampleReservoir(int[] positions, int sampleCount, Random random) {
+        int reservoirSize = Math.min(sampleCount, positions.length);
+        int[] reservoir = Arrays.copyOf(positions, reservoirSize);
+        for (int i = reservoirSize; i < positions.length; i++) {
+            int replacedIndex = random.nextInt(i + 1);
+            if (replacedIndex < reservoirSize) {
+                reservoir[replacedIndex] = positions[i];
+            }
+        }
+        return reservoir;
+    }
+
+    // Maps the position of every meal matching at least one keyword to the number of keywords it matches.
+    private static Map<Integer, Integer> findCandidates(MealIndex index, String[] keywords) {
+        Map<Integer, Integer> keywordMatchesByPosition = new HashMap<>();
+        for (String keyword : keywords) {
+            List<String> ingredientNames = index.findIngredientNames(Product.toNameKey(keyword));
+            int[] positions = index.findIngredientPositions(ingredientNames);
+            CommandTrace.addScannedMeals(positions.length);
+            for (int position : positions) {
+                keywordMatchesByPosition.merge(position, 1, Integer::sum);
+            }
+        }
+        return keywordMatchesByPosition;
+    }
+
+    /**
+     * The figures a candidate is ranked by, read from the index without creating the meal.
+     */
+    private static class RankedCandidate {
+        // The same order as Recommendation.BEST_FIRST.
+        private static final Comparator<RankedCandidate> BEST_FIRST =
+                Comparator.comparingInt((RankedCandidate candidate) -> candidate.keywordMatches).reversed()
+                .thenComparing(Comparator.comparingDouble((RankedCandidate candidate) -> candidate.coverage)
+                        .reversed())
+                .thenComparingDouble(candidate -> candidate.missingCost)
+                .thenComparingInt(candidate -> candidate.position);
+
+        private final int position;
+        private final int keywordMatches;
+        private final double coverage;
+        private final double missingCost;
+
+        RankedCandidate(MealIndex index, int position, int keywordMatches, IngredientSet inventorySet) {
+            this.position = position;
+            this.keywordMatches = keywordMatches;
+            int ingredientCount = index.getIngredientCount(position);
+            int missingCount = index.countIngredientsNotIn(position, inventorySet);
+            this.coverage = ingredientCount == 0 ? 1 : (double) (ingredientCount - missingCount) / ingredientCount;
+            this.missingCost = index.getMissingCost(position, inventorySet);
+        }
+    }
+
+    private static Recommendation score(MealIndex index, int position, int keywordMatches, InventoryView inventory) {
+        Meal meal = index.getMeal(position);
+        List<Ingredient> missingIngredients = new ArrayList<>();
+        for (Ingredient ingredient : meal.getIngredientList()) {
+            if (!inventory.hasIngredient(ingredient.getNameKey())) {
+                missingIngredients.add(ingredient);
+            }
+        }
+        return new Recommendation(meal, position, keywordMatches, missingIngredients);
+    }
+}
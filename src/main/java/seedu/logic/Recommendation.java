@@ -0,0 +1,71 @@
+package seedu.logic;
+
+import seedu.food.Ingredient;
+import seedu.food.Meal;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A meal suggested by the {@link RecommendEngine}, together with the figures it was ranked by.
+ */
+public class Recommendation {
+    /**
+     * Orders recommendations from best to worst: more keyword matches first, then a higher share of ingredients
+     * already in the inventory, then a lower cost of the missing ingredients, then the meal's position in its list.
+     */
+    public static final Comparator<Recommendation> BEST_FIRST =
+            Comparator.comparingInt(Recommendation::getKeywordMatches).reversed()
+            .thenComparing(Comparator.comparingDouble(Recommendation::getCoverage).reversed())
+            .thenComparingDouble(Recommendation::getMissingCost)
+            .thenComparingInt(Recommendation::getPosition);
+
+    private final Meal meal;
+    private final int position;
+    private final int keywordMatches;
+    private final List<Ingredient> missingIngredients;
+    private final double missingCost;
+
+    public Recommendation(Meal meal, int position, int keywordMatches, List<Ingredient> missingIngredients) {
+        this.meal = meal;
+        this.position = position;
+        this.keywordMatches = keywordMatches;
+        this.missingIngredients = missingIngredients;
+        double cost = 0;
+        for (Ingredient missingIngredient : missingIngredients) {
+            cost += missingIngredient.getPrice();
+        }
+        this.missingCost = cost;
+    }
+
+    public Meal getMeal() {
+        return meal;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public int getKeywordMatches() {
+        return keywordMatches;
+    }
+
+    public List<Ingredient> getMissingIngredients() {
+        return missingIngredients;
+    }
+
+    public double getMissingCost() {
+        return missingCost;
+    }
+
+    /**
+     * Returns the fraction of the meal's ingredients that are already in the inventory.
+     */
+    public double getCoverage() {
+        int ingredientCount = meal.getIngredientList().size();
+        if (ingredientCount == 0) {
+            return 1;
+        }
+        return (double) (ingredientCount - missingIngredients.size()) / ingredientCount;
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.logic;
+
+import seedu.food.Ingredient;
+
+/**
+ * An ingredient to buy for the shopping list, and how many of it to buy.
+ */
+public class ShoppingItem {
+    private final Ingredient ingredient;
+    private final int quantity;
+
+    public ShoppingItem(Ingredient ingredient, int quantity) {
+        this.ingredient = ingredient;
+        this.quantity = quantity;
+    }
+
+    public Ingredient getIngredient() {
+        return ingredient;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public double getCost() {
+        return ingredient.getPrice() * quantity;
+    }
+
+    @Override
+    public String toString() {
+        return ingredient + " x" + quantity;
+    }
+}
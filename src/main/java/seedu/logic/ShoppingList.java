@@ -0,0 +1,58 @@
+package seedu.logic;
+
+import seedu.food.Ingredient;
+import seedu.food.InventoryView;
+import seedu.food.Meal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The ingredients still needed to cook every meal in the wishlist once, after taking away what the inventory holds.
+ * The needed quantities are added up in a single pass over the wishlist meals, keyed by the interned ingredient ids
+ * of the wishlist index, so no ingredient name is compared against another.
+ * An ingredient needed by several meals is bought at the price given by the first meal that uses it.
+ */
+public class ShoppingList {
+    private final List<ShoppingItem> items = new ArrayList<>();
+
+    public ShoppingList(MealIndex wishListIndex, InventoryView inventory) {
+        IngredientDictionary dictionary = wishListIndex.getIngredientDictionary();
+        int[] neededCounts = new int[dictionary.size()];
+        Ingredient[] firstIngredients = new Ingredient[dictionary.size()];
+        for (int position = 0; position < wishListIndex.size(); position++) {
+            Meal meal = wishListIndex.getMeal(position);
+            for (Ingredient ingredient : meal.getIngredientList()) {
+                int id = dictionary.getId(ingredient.getNameKey());
+                neededCounts[id]++;
+                if (firstIngredients[id] == null) {
+                    firstIngredients[id] = ingredient;
+                }
+            }
+        }
+        for (int id = 0; id < neededCounts.length; id++) {
+            int missingCount = neededCounts[id] - inventory.getIngredientCount(dictionary.getName(id));
+            if (missingCount > 0) {
+                items.add(new ShoppingItem(firstIngredients[id], missingCount));
+            }
+        }
+        items.sort(Comparator.comparing(item -> item.getIngredient().getNameKey()));
+    }
+
+    public List<ShoppingItem> getItems() {
+        return items;
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    public double getTotalCost() {
+        double totalCost = 0;
+        for (ShoppingItem item : items) {
+            totalCost += item.getCost();
+        }
+        return totalCost;
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.meallist;
+
+import seedu.metrics.MemoryEstimator;
+
+/**
+ * Recipe columns kept in arrays on the heap, shared with the {@link ColumnarRecipeList} they come from, which copies
+ * them before changing them.
+ */
+final class ArrayRecipeColumns extends RecipeColumns {
+    private final String[] mealNames;
+    private final double[] mealPrices;
+    private final int[] ingredientOffsets;
+    private final int[] ingredientIds;
+    private final int size;
+    private final String[] ingredientNames;
+    private final long[] ingredientPriceCents;
+    private final int ingredientTypeCount;
+
+    ArrayRecipeColumns(String[] mealNames, double[] mealPrices, int[] ingredientOffsets, int[] ingredientIds,
+                       int size, String[] ingredientNames, long[] ingredientPriceCents, int ingredientTypeCount) {
+        this.mealNames = mealNames;
+        this.mealPrices = mealPrices;
+        this.ingredientOffsets = ingredientOffsets;
+        this.ingredientIds = ingredientIds;
+        this.size = size;
+        this.ingredientNames = ingredientNames;
+        this.ingredientPriceCents = ingredientPriceCents;
+        this.ingredientTypeCount = ingredientTypeCount;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getMealName(int position) {
+        return mealNames[position];
+    }
+
+    @Override
+    public double getPrice(int position) {
+        return mealPrices[position];
+    }
+
+    @Override
+    public int getIngredientStart(int position) {
+        return ingredientOffsets[position];
+    }
+
+    @Override
+    public int getIngredientEnd(int position) {
+        return ingredientOffsets[position + 1];
+    }
+
+    @Override
+    public int getIngredientSlotCount() {
+        return ingredientOffsets[size];
+    }
+
+    @Override
+    public int getIngredientId(int slot) {
+        return ingredientIds[slot];
+    }
+
+    @Override
+    public int getIngredientTypeCount() {
+        return ingredientTypeCount;
+    }
+
+    @Override
+    public String getIngredientName(int ingredientId) {
+        return ingredientNames[ingredientId];
+    }
+
+    @Override
+    public long getIngredientPriceCents(int ingredientId) {
+        return ingredientPriceCents[ingredientId];
+    }
+
+    /**
+     * Counts arrays shared with the list or with another version once.
+     */
+    @Override
+    public long estimateBytes(MemoryEstimator estimator) {
+        if (!estimator.isUncounted(this)) {
+            return 0;
+        }
+        long bytes = estimator.objectSize(6, 8);
+        if (estimator.isUncounted(mealNames)) {
+            bytes += estimator.referenceArraySize(mealNames.length);
+            for (int position = 0; position < size; position++) {
+                estimator.countString(mealNames[position]);
+            }
+        }
+        if (estimator.isUncounted(mealPrices)) {
+            bytes += estimator.arraySize(mealPrices.length, Double.BYTES);
+        }
+        if (estimator.isUncounted(ingredientOffsets)) {
+            bytes += estimator.arraySize(ingredientOffsets.length, Integer.BYTES);
+        }
+        if (estimator.isUncounted(ingredientIds)) {
+            bytes += estimator.arraySize(ingredientIds.length, Integer.BYTES);
+        }
+        if (estimator.isUncounted(ingredientNames)) {
+            bytes += estimator.referenceArraySize(ingredientNames.length);
+        }
+        for (int ingredientId = 0; ingredientId < ingredientTypeCount; ingredientId++) {
+            estimator.countString(ingredientNames[ingredientId]);
+        }
+        if (estimator.isUncounted(ingredientPriceCents)) {
+            bytes += estimator.arraySize(ingredientPriceCents.length, Long.BYTES);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,209 @@
+package seedu.meallist;
+
+import seedu.food.Ingredient;
+import seedu.food.Meal;
+import seedu.metrics.MemoryEstimator;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A list of meals stored as columns instead of as Meal objects: a column of meal names, a column of meal prices,
+ * and the ingredients of every meal as ids into a dictionary of ingredient names and prices, laid out one meal after
+ * another with an offset to where each meal starts. Meals are only created when they are read, as copies.
+ * {@link #getColumns()} shares the columns with a reader without copying them; they are copied before the next change.
+ */
+public class ColumnarRecipeList extends AbstractList<Meal> implements VersionedList<Meal> {
+    private static final int INITIAL_CAPACITY = 16;
+    private String[] mealNames;
+    private double[] mealPrices;
+    // The ingredients of the meal at position p are ingredientIds[ingredientOffsets[p]] up to ingredientOffsets[p + 1].
+    private int[] ingredientOffsets;
+    private int[] ingredientIds;
+    private int size;
+    // True once the columns were handed out by getColumns(), until they are copied for the next change.
+    private boolean isShared;
+    // The dictionary only grows, so readers of older columns can keep using its arrays while it is appended to.
+    private String[] ingredientNames;
+    private long[] ingredientPriceCents;
+    private int ingredientTypeCount;
+    private Map<IngredientKey, Integer> idsByIngredient;
+    private final EditLog<Meal> editLog = new EditLog<>();
+
+    public ColumnarRecipeList() {
+        clearColumns();
+    }
+
+    private void clearColumns() {
+        mealNames = new String[INITIAL_CAPACITY];
+        mealPrices = new double[INITIAL_CAPACITY];
+        ingredientOffsets = new int[INITIAL_CAPACITY + 1];
+        ingredientIds = new int[INITIAL_CAPACITY];
+        size = 0;
+        isShared = false;
+        ingredientNames = new String[INITIAL_CAPACITY];
+        ingredientPriceCents = new long[INITIAL_CAPACITY];
+        ingredientTypeCount = 0;
+        idsByIngredient = new HashMap<>();
+    }
+
+    @Override
+    public Meal get(int index) {
+        checkIndex(index, size);
+        return toColumns().getMeal(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void add(int index, Meal meal) {
+        checkIndex(index, size + 1);
+        List<Ingredient> ingredientList = meal.getIngredientList();
+        int addedSlotCount = ingredientList.size();
+        int slotCount = ingredientOffsets[size];
+        prepareForChange(size + 1, slotCount + addedSlotCount);
+        int start = ingredientOffsets[index];
+        System.arraycopy(mealNames, index, mealNames, index + 1, size - index);
+        System.arraycopy(mealPrices, index, mealPrices, index + 1, size - index);
+        System.arraycopy(ingredientOffsets, index, ingredientOffsets, index + 1, size - index + 1);
+        System.arraycopy(ingredientIds, start, ingredientIds, start + addedSlotCount, slotCount - start);
+        for (int i = 0; i < addedSlotCount; i++) {
+            ingredientIds[start + i] = intern(ingredientList.get(i));
+        }
+        for (int position = index + 1; position <= size + 1; position++) {
+            ingredientOffsets[position] += addedSlotCount;
+        }
+        mealNames[index] = meal.getName();
+        mealPrices[index] = meal.getPrice();
+        size++;
+        modCount++;
+        editLog.recordAdd(modCount - 1, modCount, index, meal);
+    }
+
+    @Override
+    public Meal remove(int index) {
+        checkIndex(index, size);
+        Meal removedMeal = get(index);
+        int slotCount = ingredientOffsets[size];
+        prepareForChange(size, slotCount);
+        int start = ingredientOffsets[index];
+        int end = ingredientOffsets[index + 1];
+        int removedSlotCount = end - start;
+        System.arraycopy(mealNames, index + 1, mealNames, index, size - index - 1);
+        System.arraycopy(mealPrices, index + 1, mealPrices, index, size - index - 1);
+        System.arraycopy(ingredientOffsets, index + 2, ingredientOffsets, index + 1, size - index - 1);
+        System.arraycopy(ingredientIds, end, ingredientIds, start, slotCount - end);
+        for (int position = index + 1; position < size; position++) {
+            ingredientOffsets[position] -= removedSlotCount;
+        }
+        size--;
+        mealNames[size] = null;
+        modCount++;
+        editLog.recordRemove(modCount - 1, modCount, index);
+        return removedMeal;
+    }
+
+    @Override
+    public void clear() {
+        clearColumns();
+        modCount++;
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + (bound - 1));
+        }
+    }
+
+    // Copies the columns if they are shared or too small, so that they can hold the given number of meals and slots.
+    private void prepareForChange(int mealCount, int slotCount) {
+        if (isShared || mealCount > mealNames.length) {
+            int capacity = getCapacity(mealCount, mealNames.length);
+            mealNames = Arrays.copyOf(mealNames, capacity);
+            mealPrices = Arrays.copyOf(mealPrices, capacity);
+            ingredientOffsets = Arrays.copyOf(ingredientOffsets, capacity + 1);
+        }
+        if (isShared || slotCount > ingredientIds.length) {
+            int capacity = getCapacity(slotCount, ingredientIds.length);
+            ingredientIds = Arrays.copyOf(ingredientIds, capacity);
+        }
+        isShared = false;
+    }
+
+    // Grows by half when the needed length does not fit, like an ArrayList.
+    private static int getCapacity(int neededLength, int length) {
+        return neededLength <= length ? length : Math.max(neededLength, length + (length >> 1));
+    }
+
+    // Returns the dictionary id of the ingredient's name and price, adding them if they are new.
+    private int intern(Ingredient ingredient) {
+        IngredientKey key = new IngredientKey(ingredient.getName(), RecipeColumns.toCents(ingredient.getPrice()));
+        Integer id = idsByIngredient.get(key);
+        if (id != null) {
+            return id;
+        }
+        if (ingredientTypeCount == ingredientNames.length) {
+            int capacity = ingredientTypeCount + (ingredientTypeCount >> 1);
+            ingredientNames = Arrays.copyOf(ingredientNames, capacity);
+            ingredientPriceCents = Arrays.copyOf(ingredientPriceCents, capacity);
+        }
+        ingredientNames[ingredientTypeCount] = key.name();
+        ingredientPriceCents[ingredientTypeCount] = key.priceCents();
+        idsByIngredient.put(key, ingredientTypeCount);
+        return ingredientTypeCount++;
+    }
+
+    /**
+     * Returns the current version of the meals as columns that never change.
+     * The columns are not copied now but before the next change to this list.
+     */
+    public RecipeColumns getColumns() {
+        isShared = true;
+        return toColumns();
+    }
+
+    private RecipeColumns toColumns() {
+        return new ArrayRecipeColumns(mealNames, mealPrices, ingredientOffsets, ingredientIds, size,
+                ingredientNames, ingredientPriceCents, ingredientTypeCount);
+    }
+
+    @Override
+    public int getVersion() {
+        return modCount;
+    }
+
+    @Override
+    public void startEdits(int maxEditCount) {
+        editLog.start(modCount, size, maxEditCount);
+    }
+
+    @Override
+    public ListEdits<Meal> getEdits() {
+        return editLog.get(modCount);
+    }
+
+    /**
+     * Returns the estimated bytes of the columns and of the dictionary of ingredients, if they were not counted yet.
+     * Meal and ingredient names are counted as strings.
+     */
+    public long estimateBytes(MemoryEstimator estimator) {
+        if (!estimator.isUncounted(this)) {
+            return 0;
+        }
+        long bytes = estimator.objectSize(7, 13) + toColumns().estimateBytes(estimator)
+                + estimator.hashMapSize(idsByIngredient.size());
+        for (Map.Entry<IngredientKey, Integer> entry : idsByIngredient.entrySet()) {
+            bytes += estimator.objectSize(1, 8) + estimator.boxedIntegerSize(entry.getValue());
+        }
+        return bytes;
+    }
+
+    private record IngredientKey(String name, long priceCents) {
+    }
+}
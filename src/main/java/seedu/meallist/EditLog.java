@@ -0,0 +1,78 @@
+package seedu.meallist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Records the single adds and removes made to a {@link VersionedList} as {@link ListEdits} over the version it was
+ * started at. Recording stops once the edits outgrow their limit, or once the list changes by anything else, which
+ * shows as a version that the recorded edits do not lead to.
+ */
+final class EditLog<E> {
+    private final List<E> addedElements = new ArrayList<>();
+    // Null while nothing is recorded.
+    private OverlayPositions positions;
+    private int maxEditCount;
+    // The version of the list that the recorded edits lead to.
+    private int version;
+
+    void start(int listVersion, int listSize, int maxEditCount) {
+        this.positions = OverlayPositions.over(listSize);
+        this.maxEditCount = maxEditCount;
+        this.version = listVersion;
+        addedElements.clear();
+    }
+
+    void recordAdd(int versionBefore, int versionAfter, int index, E element) {
+        if (!isRecording(versionBefore)) {
+            return;
+        }
+        addedElements.add(positions.getAddedPositionAt(index), element);
+        positions = positions.withAddedAt(index);
+        finishEdit(versionAfter);
+    }
+
+    void recordRemove(int versionBefore, int versionAfter, int index) {
+        if (!isRecording(versionBefore)) {
+            return;
+        }
+        int source = positions.locate(index);
+        if (source >= 0) {
+            positions = positions.withDeleted(source);
+        } else {
+            addedElements.remove(-source - 1);
+            positions = positions.withoutAdded(-source - 1);
+        }
+        finishEdit(versionAfter);
+    }
+
+    /**
+     * Returns the recorded edits if the list is at the version they lead to, or null otherwise.
+     */
+    ListEdits<E> get(int listVersion) {
+        if (!isRecording(listVersion)) {
+            return null;
+        }
+        return new ListEdits<>(positions, Collections.unmodifiableList(new ArrayList<>(addedElements)));
+    }
+
+    private boolean isRecording(int listVersion) {
+        if (positions != null && listVersion != version) {
+            stop();
+        }
+        return positions != null;
+    }
+
+    private void finishEdit(int versionAfter) {
+        version = versionAfter;
+        if (positions.getDeletedCount() + positions.getAddedCount() > maxEditCount) {
+            stop();
+        }
+    }
+
+    private void stop() {
+        positions = null;
+        addedElements.clear();
+    }
+}
@@ -0,0 +1,16 @@
+package seedu.meallist;
+
+import java.util.List;
+
+/**
+ * The adds and removes made to a list since an earlier version of it, as an overlay over that version: the
+ * positions of the overlay and the added elements in the order they appear in the list.
+ */
+public record ListEdits<E>(OverlayPositions positions, List<E> addedElements) {
+    /**
+     * Returns the number of removed elements of the earlier version plus the number of added elements.
+     */
+    public int size() {
+        return positions.getDeletedCount() + positions.getAddedCount();
+    }
+}
@@ -6,17 +6,51 @@ import seedu.exceptions.EmptyListException;
 import seedu.exceptions.MealNotFoundException;
 import seedu.exceptions.RemoveIndexOutOfRangeException;
 import seedu.food.Meal;
+import seedu.metrics.MemoryEstimator;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
 
 public abstract class MealList {
-    protected final List<Meal> mealList = new ArrayList<>();
+    /**
+     * The order meals are kept in: by name ignoring case, then by price in whole cents.
+     * A meal's price is summed in the order its ingredients were given, so equal meals can differ in the last bit of
+     * their prices, but never in whole cents.
+     */
+    public static final Comparator<Meal> MEAL_ORDER = Comparator.comparing(Meal::getNameKey)
+            .thenComparingLong(meal -> RecipeColumns.toCents(meal.getPrice()));
+    protected final VersionedList<Meal> mealList;
+    // The meal list as a view that follows it but cannot change it, so every change goes through this class.
+    private final List<Meal> readOnlyMealList;
     protected String mealListName;
 
+    protected MealList() {
+        this(new VersionedArrayList<>());
+    }
+
+    /**
+     * Constructs a meal list that keeps its meals in the given list.
+     */
+    protected MealList(VersionedList<Meal> mealList) {
+        this.mealList = mealList;
+        this.readOnlyMealList = Collections.unmodifiableList(mealList);
+    }
+
+    /**
+     * Returns the meals of the list in meal order, as a view that follows the list but cannot change it.
+     */
     public List<Meal> getList() {
-        return mealList;
+        return readOnlyMealList;
+    }
+
+    /**
+     * Returns the columns the meals of the list are stored in, or null if the list keeps meal objects.
+     */
+    public RecipeColumns getColumns() {
+        return mealList instanceof ColumnarRecipeList columnarList ? columnarList.getColumns() : null;
     }
 
     public String getMealListName() {
@@ -25,22 +59,51 @@ public abstract class MealList {
 
     // Adds a new meal to the specified list after checking for duplicates
     public void addMeal(Meal newMeal) throws EZMealPlanException {
-        checkDuplicateMeal(newMeal);
-        mealList.add(newMeal);
-        mealList.sort(Comparator.comparing(Meal::getName,String.CASE_INSENSITIVE_ORDER).thenComparing(Meal::getPrice));
+        // The list is always in meal order, so the meal goes to its place instead of the whole list being sorted.
+        int position = upperBound(mealList, newMeal);
+        checkDuplicateMeal(newMeal, position);
+        mealList.add(position, newMeal);
     }
 
     /**
      * Checks whether newMeal already exists in the mealList.
+     * Equal meals are also equal in meal order, so only the meals just before its place need to be checked.
      */
-    private void checkDuplicateMeal(Meal newMeal) throws EZMealPlanException {
-        for (Meal meal : mealList) {
-            if (meal.equals(newMeal)) {
+    private void checkDuplicateMeal(Meal newMeal, int position) throws EZMealPlanException {
+        for (int i = position - 1; i >= 0 && MEAL_ORDER.compare(mealList.get(i), newMeal) == 0; i--) {
+            if (mealList.get(i).equals(newMeal)) {
                 throw new DuplicateMealException(newMeal.getName(), mealListName);
             }
         }
     }
 
+    // Returns the number of meals that come before or are equal to the given meal in meal order.
+    static int upperBound(List<Meal> meals, Meal meal) {
+        int low = 0;
+        int high = meals.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (MEAL_ORDER.compare(meals.get(middle), meal) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Adds every given meal, as {@link #addMeal(Meal)} does. The meals are added in meal order, so that each one goes
+     * to the end of a list that holds none of them yet instead of shifting the meals after its place.
+     */
+    public void addMeals(List<Meal> newMeals) throws EZMealPlanException {
+        List<Meal> sortedMeals = new ArrayList<>(newMeals);
+        sortedMeals.sort(MEAL_ORDER);
+        for (Meal newMeal : sortedMeals) {
+            addMeal(newMeal);
+        }
+    }
+
     /**
      * Removes the meal at a specified index and returns it.
      */
@@ -56,6 +119,20 @@ public abstract class MealList {
         }
     }
 
+    /**
+     * Removes every meal that passes the given test, and returns true if any meal was removed.
+     */
+    public boolean removeMealsIf(Predicate<Meal> filter) {
+        return mealList.removeIf(filter);
+    }
+
+    /**
+     * Removes every meal from the list.
+     */
+    public void clear() {
+        mealList.clear();
+    }
+
     /**
      * Returns the size of the meal list.
      */
@@ -69,7 +146,7 @@ public abstract class MealList {
      * @throws MealNotFoundException if the specified meal cannot be found.
      */
     public int getIndex(Meal meal) throws MealNotFoundException {
-        int index = mealList.indexOf(meal);
+        int index = findIndex(meal);
         if (index == -1) {
             throw new MealNotFoundException(meal);
         } else {
@@ -78,8 +155,55 @@ public abstract class MealList {
     }
 
     public boolean contains(Meal meal) {
-        return mealList.contains(meal);
+        return findIndex(meal) != -1;
+    }
+
+    // Returns the index of the first meal equal to the given meal, or -1, searching only the meals in its place.
+    private int findIndex(Meal meal) {
+        int firstIndex = upperBound(mealList, meal);
+        while (firstIndex > 0 && MEAL_ORDER.compare(mealList.get(firstIndex - 1), meal) == 0) {
+            firstIndex--;
+        }
+        for (int i = firstIndex; i < mealList.size() && MEAL_ORDER.compare(mealList.get(i), meal) == 0; i++) {
+            if (mealList.get(i).equals(meal)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the estimated bytes of the meals of the list. Meals stored in columns or read from a catalog are not
+     * created to be counted.
+     */
+    public long estimateBytes(MemoryEstimator estimator) {
+        if (mealList instanceof ColumnarRecipeList columnarList) {
+            return columnarList.estimateBytes(estimator);
+        } else if (mealList instanceof RecipeOverlayList recipesOverlay) {
+            return recipesOverlay.estimateBytes(estimator);
+        }
+        return estimator.estimateMeals(mealList);
     }
-}
 
+    /**
+     * Returns a number that changes whenever meals are added, removed or reordered in the list.
+     */
+    public int getVersion() {
+        return mealList.getVersion();
+    }
 
+    /**
+     * Starts recording the meals added to and removed from the list, as {@link VersionedList#startEdits(int)} does.
+     */
+    public void startEdits(int maxEditCount) {
+        mealList.startEdits(maxEditCount);
+    }
+
+    /**
+     * Returns the meals added to and removed from the list since {@link #startEdits(int)}, or null if they are not
+     * recorded up to its current version.
+     */
+    public ListEdits<Meal> getEdits() {
+        return mealList.getEdits();
+    }
+}
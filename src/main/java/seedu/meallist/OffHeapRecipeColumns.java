@@ -0,0 +1,238 @@
+package seedu.meallist;
+
+import seedu.food.Meal;
+import seedu.metrics.MemoryEstimator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Recipe columns stored off the heap, in one direct buffer or in a file mapped into memory, so that a catalog of
+ * millions of recipes costs the heap only this handle and the indexes built over it. Names are decoded from UTF-8
+ * each time they are read, and meals are created as copies when they are read.
+ * The buffer is only read with absolute gets, so the columns can be read by any number of threads without locking.
+ *
+ * <p>The layout, in little endian order, is a header of {@value #HEADER_BYTES} bytes (magic number, format version,
+ * meal count, ingredient type count and ingredient slot count), the meal prices and the ingredient prices in cents, the
+ * offsets of the names in the name bytes (meal names first, then ingredient names), the offsets of the ingredients of
+ * every meal, the ingredient ids and finally the name bytes.
+ */
+public final class OffHeapRecipeColumns extends RecipeColumns {
+    private static final int MAGIC = 0x455a4d50;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private final ByteBuffer buffer;
+    private final int mealCount;
+    private final int ingredientTypeCount;
+    private final int ingredientSlotCount;
+    private final int ingredientPricesStart;
+    private final int nameOffsetsStart;
+    private final int ingredientOffsetsStart;
+    private final int ingredientIdsStart;
+    private final int namesStart;
+
+    private OffHeapRecipeColumns(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.mealCount = buffer.getInt(8);
+        this.ingredientTypeCount = buffer.getInt(12);
+        this.ingredientSlotCount = buffer.getInt(16);
+        this.ingredientPricesStart = HEADER_BYTES + mealCount * Long.BYTES;
+        this.nameOffsetsStart = ingredientPricesStart + ingredientTypeCount * Long.BYTES;
+        this.ingredientOffsetsStart = nameOffsetsStart + (mealCount + ingredientTypeCount + 1) * Integer.BYTES;
+        this.ingredientIdsStart = ingredientOffsetsStart + (mealCount + 1) * Integer.BYTES;
+        this.namesStart = ingredientIdsStart + ingredientSlotCount * Integer.BYTES;
+    }
+
+    // Returns where the name bytes start for the given counts, which is where the fixed size columns end.
+    private static long getNamesStart(int mealCount, int typeCount, int slotCount) {
+        return HEADER_BYTES + (long) (mealCount + typeCount) * Long.BYTES
+                + ((long) mealCount + typeCount + 1 + mealCount + 1 + slotCount) * Integer.BYTES;
+    }
+
+    /**
+     * Returns the given meals, in the same order, as columns off the heap.
+     */
+    public static OffHeapRecipeColumns of(List<Meal> meals) {
+        ColumnarRecipeList columnarList = new ColumnarRecipeList();
+        for (Meal meal : meals) {
+            columnarList.add(columnarList.size(), meal);
+        }
+        return copyOf(columnarList.getColumns());
+    }
+
+    /**
+     * Returns a copy of the given columns off the heap.
+     *
+     * @throws IllegalArgumentException if the columns take more than 2 GiB, the most a buffer can hold.
+     */
+    public static OffHeapRecipeColumns copyOf(RecipeColumns columns) {
+        int mealCount = columns.size();
+        int typeCount = columns.getIngredientTypeCount();
+        int slotCount = columns.getIngredientSlotCount();
+        byte[][] names = new byte[mealCount + typeCount][];
+        long nameByteCount = 0;
+        for (int i = 0; i < names.length; i++) {
+            String name = i < mealCount ? columns.getMealName(i) : columns.getIngredientName(i - mealCount);
+            names[i] = name.getBytes(StandardCharsets.UTF_8);
+            nameByteCount += names[i].length;
+        }
+        long byteCount = getNamesStart(mealCount, typeCount, slotCount) + nameByteCount;
+        if (byteCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Recipe columns of " + byteCount + " bytes do not fit in a buffer.");
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) byteCount).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(mealCount).putInt(typeCount).putInt(slotCount);
+        buffer.position(HEADER_BYTES);
+        for (int position = 0; position < mealCount; position++) {
+            buffer.putDouble(columns.getPrice(position));
+        }
+        for (int ingredientId = 0; ingredientId < typeCount; ingredientId++) {
+            buffer.putLong(columns.getIngredientPriceCents(ingredientId));
+        }
+        int nameOffset = 0;
+        for (byte[] name : names) {
+            buffer.putInt(nameOffset);
+            nameOffset += name.length;
+        }
+        buffer.putInt(nameOffset);
+        for (int position = 0; position < mealCount; position++) {
+            buffer.putInt(columns.getIngredientStart(position));
+        }
+        buffer.putInt(slotCount);
+        for (int slot = 0; slot < slotCount; slot++) {
+            buffer.putInt(columns.getIngredientId(slot));
+        }
+        for (byte[] name : names) {
+            buffer.put(name);
+        }
+        assert !buffer.hasRemaining() : "The layout fills the whole buffer";
+        return new OffHeapRecipeColumns(buffer);
+    }
+
+    /**
+     * Returns the columns stored in the given file by {@link #writeTo(Path)}, mapped into memory and read only.
+     *
+     * @throws IOException if the file cannot be read or does not hold recipe columns.
+     */
+    public static OffHeapRecipeColumns map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES || fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Not a recipe columns file: " + path);
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize).order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Not a recipe columns file of format version " + FORMAT_VERSION + ": " + path);
+            }
+            int mealCount = buffer.getInt(8);
+            int typeCount = buffer.getInt(12);
+            int slotCount = buffer.getInt(16);
+            boolean isCutShort = mealCount < 0 || typeCount < 0 || slotCount < 0
+                    || getNamesStart(mealCount, typeCount, slotCount) > fileSize;
+            OffHeapRecipeColumns columns = isCutShort ? null : new OffHeapRecipeColumns(buffer);
+            if (columns == null || columns.namesStart + columns.getNameOffset(mealCount + typeCount) != fileSize) {
+                throw new IOException("The recipe columns file is cut short or corrupted: " + path);
+            }
+            return columns;
+        }
+    }
+
+    /**
+     * Writes the columns to the given file, replacing it, so that they can be mapped again by {@link #map(Path)}.
+     */
+    public void writeTo(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer source = buffer.duplicate();
+            source.clear();
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bytes the columns take off the heap.
+     */
+    public int getByteCount() {
+        return buffer.capacity();
+    }
+
+    private int getNameOffset(int nameIndex) {
+        return buffer.getInt(nameOffsetsStart + nameIndex * Integer.BYTES);
+    }
+
+    private String getName(int nameIndex) {
+        int start = getNameOffset(nameIndex);
+        byte[] bytes = new byte[getNameOffset(nameIndex + 1) - start];
+        buffer.get(namesStart + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int size() {
+        return mealCount;
+    }
+
+    @Override
+    public String getMealName(int position) {
+        return getName(position);
+    }
+
+    @Override
+    public double getPrice(int position) {
+        return buffer.getDouble(HEADER_BYTES + position * Long.BYTES);
+    }
+
+    @Override
+    public int getIngredientStart(int position) {
+        return buffer.getInt(ingredientOffsetsStart + position * Integer.BYTES);
+    }
+
+    @Override
+    public int getIngredientEnd(int position) {
+        return getIngredientStart(position + 1);
+    }
+
+    @Override
+    public int getIngredientSlotCount() {
+        return ingredientSlotCount;
+    }
+
+    @Override
+    public int getIngredientId(int slot) {
+        return buffer.getInt(ingredientIdsStart + slot * Integer.BYTES);
+    }
+
+    @Override
+    public int getIngredientTypeCount() {
+        return ingredientTypeCount;
+    }
+
+    @Override
+    public String getIngredientName(int ingredientId) {
+        return getName(mealCount + ingredientId);
+    }
+
+    @Override
+    public long getIngredientPriceCents(int ingredientId) {
+        return buffer.getLong(ingredientPricesStart + ingredientId * Long.BYTES);
+    }
+
+    /**
+     * Counts only this handle and the buffer object, as the bytes of the buffer are off the heap.
+     */
+    @Override
+    public long estimateBytes(MemoryEstimator estimator) {
+        if (!estimator.isUncounted(this)) {
+            return 0;
+        }
+        return estimator.objectSize(1, 32) + estimator.objectSize(4, 32);
+    }
+}
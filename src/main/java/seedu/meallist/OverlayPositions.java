@@ -0,0 +1,236 @@
+package seedu.meallist;
+
+import seedu.metrics.MemoryEstimator;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Maps the positions of a list made of a base list, minus some deleted base meals, plus some added meals that are
+ * slotted in between the base meals, to positions in the base list and in the list of added meals.
+ * Only the edits are stored, so an overlay costs memory in proportion to its edits and not to its base list.
+ * An OverlayPositions is immutable; every edit returns a new one.
+ */
+public final class OverlayPositions {
+    private final int baseSize;
+    // Ascending positions of the deleted base meals.
+    private final int[] deletedPositions;
+    // For every added meal, in order, the base position it is slotted in before; never decreasing.
+    private final int[] insertionPoints;
+
+    private OverlayPositions(int baseSize, int[] deletedPositions, int[] insertionPoints) {
+        this.baseSize = baseSize;
+        this.deletedPositions = deletedPositions;
+        this.insertionPoints = insertionPoints;
+    }
+
+    /**
+     * Returns the positions of an overlay with no edits over a base list of the given size.
+     */
+    public static OverlayPositions over(int baseSize) {
+        return new OverlayPositions(baseSize, new int[0], new int[0]);
+    }
+
+    public int size() {
+        return baseSize - deletedPositions.length + insertionPoints.length;
+    }
+
+    public boolean hasEdits() {
+        return deletedPositions.length > 0 || insertionPoints.length > 0;
+    }
+
+    public int getDeletedCount() {
+        return deletedPositions.length;
+    }
+
+    /**
+     * Returns the ascending positions of the deleted base meals.
+     */
+    public int[] getDeletedPositions() {
+        return deletedPositions.clone();
+    }
+
+    public int getAddedCount() {
+        return insertionPoints.length;
+    }
+
+    public boolean isDeleted(int basePosition) {
+        return Arrays.binarySearch(deletedPositions, basePosition) >= 0;
+    }
+
+    /**
+     * Returns the position in the overlay of the base meal at the given position, which must not be deleted.
+     */
+    public int getBaseVisiblePosition(int basePosition) {
+        assert !isDeleted(basePosition);
+        return basePosition - lowerBound(deletedPositions, basePosition) + upperBound(insertionPoints, basePosition);
+    }
+
+    /**
+     * Returns the position in the overlay of the added meal at the given position among the added meals.
+     */
+    public int getAddedVisiblePosition(int addedPosition) {
+        int insertionPoint = insertionPoints[addedPosition];
+        return insertionPoint - lowerBound(deletedPositions, insertionPoint) + addedPosition;
+    }
+
+    /**
+     * Returns the base position of the meal at the given position in the overlay if it is a base meal,
+     * or -(its position among the added meals) - 1 if it is an added meal.
+     *
+     * @throws IndexOutOfBoundsException if the position is not in the overlay.
+     */
+    public int locate(int position) {
+        Objects.checkIndex(position, size());
+        int low = 0;
+        int high = insertionPoints.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (getAddedVisiblePosition(middle) < position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        if (low < insertionPoints.length && getAddedVisiblePosition(low) == position) {
+            return -low - 1;
+        }
+        return selectBasePosition(position - low);
+    }
+
+    // Returns the base position of the (rank + 1)-th base meal that is not deleted.
+    private int selectBasePosition(int rank) {
+        int low = rank;
+        int high = rank + deletedPositions.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int keptCount = middle + 1 - upperBound(deletedPositions, middle);
+            if (keptCount <= rank) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns, in ascending order, the overlay positions of the given ascending base positions that are not deleted
+     * and of the given ascending positions among the added meals.
+     */
+    public int[] merge(int[] basePositions, int[] addedPositions) {
+        int[] merged = new int[basePositions.length + addedPositions.length];
+        int count = 0;
+        int j = 0;
+        int nextBase = nextKeptBase(basePositions, 0);
+        while (nextBase < basePositions.length || j < addedPositions.length) {
+            int baseVisible = nextBase < basePositions.length
+                    ? getBaseVisiblePosition(basePositions[nextBase]) : Integer.MAX_VALUE;
+            int addedVisible = j < addedPositions.length
+                    ? getAddedVisiblePosition(addedPositions[j]) : Integer.MAX_VALUE;
+            if (baseVisible < addedVisible) {
+                merged[count++] = baseVisible;
+                nextBase = nextKeptBase(basePositions, nextBase + 1);
+            } else {
+                merged[count++] = addedVisible;
+                j++;
+            }
+        }
+        return Arrays.copyOf(merged, count);
+    }
+
+    private int nextKeptBase(int[] basePositions, int from) {
+        int next = from;
+        while (next < basePositions.length && isDeleted(basePositions[next])) {
+            next++;
+        }
+        return next;
+    }
+
+    /**
+     * Returns the position among the added meals that a meal added at the given position of the overlay takes.
+     */
+    int getAddedPositionAt(int position) {
+        if (position == size()) {
+            return insertionPoints.length;
+        }
+        int source = locate(position);
+        return source >= 0 ? upperBound(insertionPoints, source) : -source - 1;
+    }
+
+    // Returns the positions after a meal is added at the given position of the overlay, before the meal there.
+    OverlayPositions withAddedAt(int position) {
+        int addedPosition = getAddedPositionAt(position);
+        int insertionPoint;
+        if (position == size()) {
+            insertionPoint = baseSize;
+        } else {
+            int source = locate(position);
+            insertionPoint = source >= 0 ? source : insertionPoints[addedPosition];
+        }
+        return withAdded(addedPosition, insertionPoint);
+    }
+
+    OverlayPositions withDeleted(int basePosition) {
+        int index = lowerBound(deletedPositions, basePosition);
+        assert index == deletedPositions.length || deletedPositions[index] != basePosition;
+        return new OverlayPositions(baseSize, insert(deletedPositions, index, basePosition), insertionPoints);
+    }
+
+    OverlayPositions withAllDeleted() {
+        int[] allPositions = new int[baseSize];
+        Arrays.setAll(allPositions, position -> position);
+        return new OverlayPositions(baseSize, allPositions, new int[0]);
+    }
+
+    OverlayPositions withAdded(int addedPosition, int insertionPoint) {
+        return new OverlayPositions(baseSize, deletedPositions, insert(insertionPoints, addedPosition,
+                insertionPoint));
+    }
+
+    OverlayPositions withoutAdded(int addedPosition) {
+        int[] points = new int[insertionPoints.length - 1];
+        System.arraycopy(insertionPoints, 0, points, 0, addedPosition);
+        System.arraycopy(insertionPoints, addedPosition + 1, points, addedPosition, points.length - addedPosition);
+        return new OverlayPositions(baseSize, deletedPositions, points);
+    }
+
+    /**
+     * Returns the estimated bytes of these positions, or 0 if they were counted already.
+     */
+    public long estimateBytes(MemoryEstimator estimator) {
+        if (!estimator.isUncounted(this)) {
+            return 0;
+        }
+        return estimator.objectSize(2, 4) + estimator.arraySize(deletedPositions.length, Integer.BYTES)
+                + estimator.arraySize(insertionPoints.length, Integer.BYTES);
+    }
+
+    private static int[] insert(int[] values, int index, int value) {
+        int[] result = new int[values.length + 1];
+        System.arraycopy(values, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(values, index, result, index + 1, values.length - index);
+        return result;
+    }
+
+    // Returns the number of values less than the given value.
+    private static int lowerBound(int[] values, int value) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // Returns the number of values less than or equal to the given value.
+    private static int upperBound(int[] values, int value) {
+        return lowerBound(values, value + 1);
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.meallist;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Ingredient;
+import seedu.food.Meal;
+import seedu.metrics.MemoryEstimator;
+
+import java.util.AbstractList;
+
+/**
+ * One version of a list of meals, stored as columns of primitives, such as the meals of a {@link ColumnarRecipeList}
+ * or a catalog stored off the heap by {@link OffHeapRecipeColumns}.
+ * The ingredients of the meal at position p are the ingredient ids from getIngredientStart(p) up to (but not
+ * including) getIngredientEnd(p), in the order of its ingredient list. An ingredient id stands for one name and
+ * price. The columns never change, so they can be read by any number of threads without locking.
+ */
+public abstract class RecipeColumns {
+    /**
+     * Returns the given price in whole cents.
+     */
+    static long toCents(double price) {
+        return Math.round(price * 100);
+    }
+
+    /**
+     * Returns the price of the given whole cents, which is the same double as the two decimal place price parsed
+     * from text.
+     */
+    public static double toPrice(long cents) {
+        return cents / 100.0;
+    }
+
+    public abstract int size();
+
+    public abstract String getMealName(int position);
+
+    /**
+     * Returns the price of the meal at the given position, which is the same double as the price of the stored meal.
+     */
+    public abstract double getPrice(int position);
+
+    /**
+     * Returns the price of the meal at the given position in whole cents.
+     */
+    public long getPriceCents(int position) {
+        return toCents(getPrice(position));
+    }
+
+    public abstract int getIngredientStart(int position);
+
+    public abstract int getIngredientEnd(int position);
+
+    /**
+     * Returns the number of ingredients of every meal together.
+     */
+    public abstract int getIngredientSlotCount();
+
+    /**
+     * Returns the ingredient id at the given slot, from 0 to getIngredientSlotCount() - 1.
+     */
+    public abstract int getIngredientId(int slot);
+
+    /**
+     * Returns the number of ingredient ids, some of which may no longer be used by any meal.
+     */
+    public abstract int getIngredientTypeCount();
+
+    public abstract String getIngredientName(int ingredientId);
+
+    public abstract long getIngredientPriceCents(int ingredientId);
+
+    /**
+     * Returns a new meal with the name, ingredients and price of the meal at the given position.
+     * The price is the same double as the price of the stored meal, so the meal sorts to the same place in meal list
+     * order.
+     * The meal is a copy, so changing it does not change the columns.
+     */
+    public Meal getMeal(int position) {
+        try {
+            Meal meal = new Meal(getMealName(position));
+            for (int slot = getIngredientStart(position); slot < getIngredientEnd(position); slot++) {
+                int ingredientId = getIngredientId(slot);
+                meal.addIngredient(new Ingredient(getIngredientName(ingredientId),
+                        toPrice(getIngredientPriceCents(ingredientId))));
+            }
+            meal.setPrice(getPrice(position));
+            return meal;
+        } catch (EZMealPlanException ezMealPlanException) {
+            throw new AssertionError("Every stored meal was valid when it was added", ezMealPlanException);
+        }
+    }
+
+    /**
+     * Returns the meals of these columns as a list that cannot be modified and creates every meal it returns.
+     */
+    public MealView getMeals() {
+        return new MealView(this);
+    }
+
+    /**
+     * Returns the estimated heap bytes of the columns and the ingredient names and prices that were not counted yet.
+     * Names are counted as strings.
+     */
+    public abstract long estimateBytes(MemoryEstimator estimator);
+
+    /**
+     * The meals of one set of columns, created when they are read.
+     */
+    public static final class MealView extends AbstractList<Meal> {
+        private final RecipeColumns columns;
+
+        private MealView(RecipeColumns columns) {
+            this.columns = columns;
+        }
+
+        @Override
+        public Meal get(int index) {
+            return columns.getMeal(index);
+        }
+
+        @Override
+        public int size() {
+            return columns.size();
+        }
+
+        public RecipeColumns getColumns() {
+            return columns;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.meallist;
+
+import seedu.food.Meal;
+import seedu.metrics.MemoryEstimator;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A meal list that is a copy-on-write overlay over a shared base list that never changes, such as a recipe catalog.
+ * The overlay only stores the meals added to it and the positions of the base meals deleted from it, so it costs
+ * memory in proportion to its own edits. Its meals are always kept in {@link MealList#MEAL_ORDER}.
+ */
+public class RecipeOverlayList extends AbstractList<Meal> implements VersionedList<Meal> {
+    private final List<Meal> baseMeals;
+    private final List<Meal> addedMeals = new ArrayList<>();
+    private OverlayPositions positions;
+
+    /**
+     * Constructs an overlay with no edits over the given base meals, which must be in meal list order.
+     */
+    public RecipeOverlayList(List<Meal> baseMeals) {
+        this.baseMeals = baseMeals;
+        this.positions = OverlayPositions.over(baseMeals.size());
+    }
+
+    @Override
+    public Meal get(int index) {
+        int source = positions.locate(index);
+        return source >= 0 ? baseMeals.get(source) : addedMeals.get(-source - 1);
+    }
+
+    @Override
+    public int size() {
+        return positions.size();
+    }
+
+    /**
+     * Adds the meal at its place in meal list order, after any meals that are equal to it in that order.
+     */
+    @Override
+    public boolean add(Meal meal) {
+        int insertionPoint = MealList.upperBound(baseMeals, meal);
+        int addedPosition = MealList.upperBound(addedMeals, meal);
+        addedMeals.add(addedPosition, meal);
+        positions = positions.withAdded(addedPosition, insertionPoint);
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Adds the meal at its place in meal list order, which must be the given index.
+     */
+    @Override
+    public void add(int index, Meal meal) {
+        add(meal);
+        assert get(index) == meal : "A meal can only be added at its place in meal list order";
+    }
+
+    @Override
+    public Meal remove(int index) {
+        int source = positions.locate(index);
+        Meal removedMeal;
+        if (source >= 0) {
+            removedMeal = baseMeals.get(source);
+            positions = positions.withDeleted(source);
+        } else {
+            int addedPosition = -source - 1;
+            removedMeal = addedMeals.remove(addedPosition);
+            positions = positions.withoutAdded(addedPosition);
+        }
+        modCount++;
+        return removedMeal;
+    }
+
+    @Override
+    public void clear() {
+        addedMeals.clear();
+        positions = positions.withAllDeleted();
+        modCount++;
+    }
+
+    /**
+     * Does nothing for {@link MealList#MEAL_ORDER}, as the overlay is always in that order.
+     *
+     * @throws UnsupportedOperationException for any other order.
+     */
+    @Override
+    public void sort(Comparator<? super Meal> comparator) {
+        if (comparator != MealList.MEAL_ORDER) {
+            throw new UnsupportedOperationException("A recipe overlay is always in meal list order.");
+        }
+    }
+
+    @Override
+    public int getVersion() {
+        return modCount;
+    }
+
+    /**
+     * Returns how the positions of this overlay map to positions in the base list and in the added meals.
+     */
+    public OverlayPositions getPositions() {
+        return positions;
+    }
+
+    /**
+     * Returns the meals added to this overlay, in meal list order.
+     */
+    public List<Meal> getAddedMeals() {
+        return Collections.unmodifiableList(new ArrayList<>(addedMeals));
+    }
+
+    /**
+     * Returns the estimated bytes of the overlay and its edits, and of the base meals if they were not counted yet for
+     * another overlay. Base meals stored in columns are counted through the columns, without creating the meals.
+     */
+    public long estimateBytes(MemoryEstimator estimator) {
+        long bytes = estimator.objectSize(3, 0) + estimator.estimateMeals(addedMeals)
+                + positions.estimateBytes(estimator);
+        if (baseMeals instanceof RecipeColumns.MealView mealView) {
+            bytes += mealView.getColumns().estimateBytes(estimator);
+        } else if (estimator.isUncounted(baseMeals)) {
+            bytes += estimator.estimateMeals(baseMeals);
+        }
+        return bytes;
+    }
+}
@@ -1,7 +1,17 @@
 package seedu.meallist;
 
+import seedu.food.Meal;
+
 public class RecipesList extends MealList {
     public RecipesList() {
         this.mealListName = "recipes list";
     }
+
+    /**
+     * Constructs a recipes list that keeps its meals in the given list, such as an overlay over a recipe catalog.
+     */
+    public RecipesList(VersionedList<Meal> mealList) {
+        super(mealList);
+        this.mealListName = "recipes list";
+    }
 }
@@ -0,0 +1,48 @@
+package seedu.meallist;
+
+import java.util.ArrayList;
+
+/**
+ * An ArrayList that exposes its structural modification count as its version, and records its single adds and
+ * removes once asked to.
+ */
+@SuppressWarnings("serial")
+class VersionedArrayList<E> extends ArrayList<E> implements VersionedList<E> {
+    private final EditLog<E> editLog = new EditLog<>();
+
+    @Override
+    public int getVersion() {
+        return modCount;
+    }
+
+    @Override
+    public boolean add(E element) {
+        add(size(), element);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        int versionBefore = modCount;
+        super.add(index, element);
+        editLog.recordAdd(versionBefore, modCount, index, element);
+    }
+
+    @Override
+    public E remove(int index) {
+        int versionBefore = modCount;
+        E removedElement = super.remove(index);
+        editLog.recordRemove(versionBefore, modCount, index);
+        return removedElement;
+    }
+
+    @Override
+    public void startEdits(int maxEditCount) {
+        editLog.start(modCount, size(), maxEditCount);
+    }
+
+    @Override
+    public ListEdits<E> getEdits() {
+        return editLog.get(modCount);
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.meallist;
+
+import java.util.List;
+
+/**
+ * A list that exposes a number that changes whenever the list is structurally modified, so that derived structures
+ * such as indexes can tell whether the list has changed since they were built.
+ */
+public interface VersionedList<E> extends List<E> {
+    int getVersion();
+
+    /**
+     * Starts recording the single adds and removes made to this list as edits over its current version, so that a
+     * structure derived from this version can be brought up to date with the edits only. Recording stops once more
+     * than maxEditCount edits are made or the list is changed in any other way. Does nothing if the list does not
+     * record its edits.
+     */
+    default void startEdits(int maxEditCount) {
+    }
+
+    /**
+     * Returns the edits recorded since {@link #startEdits(int)}, or null if they are not recorded up to the current
+     * version of this list.
+     */
+    default ListEdits<E> getEdits() {
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JFR event for executing one command, including the checking of its user input.
+ */
+@Name("seedu.ezmealplan.CommandExecute")
+@Label("Command Execute")
+@Category({"EZMealPlan", "Commands"})
+@Description("Executing one command, including the checking of its user input")
+public class CommandExecuteEvent extends Event {
+    @Label("Command Type")
+    String commandType;
+
+    @Label("Succeeded")
+    boolean isSucceeded;
+
+    /**
+     * Ends and commits this event if it is being recorded.
+     */
+    public void commit(String commandType, boolean isSucceeded) {
+        end();
+        if (shouldCommit()) {
+            this.commandType = commandType;
+            this.isSucceeded = isSucceeded;
+            commit();
+        }
+    }
+}
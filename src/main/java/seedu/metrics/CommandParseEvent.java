@@ -0,0 +1,34 @@
+package seedu.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JFR event for parsing one line of user input into a command.
+ */
+@Name("seedu.ezmealplan.CommandParse")
+@Label("Command Parse")
+@Category({"EZMealPlan", "Commands"})
+@Description("Parsing one line of user input into a command")
+public class CommandParseEvent extends Event {
+    @Label("Command Type")
+    String commandType;
+
+    @Label("Succeeded")
+    boolean isSucceeded;
+
+    /**
+     * Ends and commits this event if it is being recorded.
+     */
+    public void commit(String commandType, boolean isSucceeded) {
+        end();
+        if (shouldCommit()) {
+            this.commandType = commandType;
+            this.isSucceeded = isSucceeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.metrics;
+
+/**
+ * What the command running on the current thread has done so far: how long its user input was checked and how many
+ * meals it scanned.
+ * Each thread reuses one trace, so tracing allocates nothing.
+ */
+public class CommandTrace {
+    private static final ThreadLocal<CommandTrace> currentTrace = ThreadLocal.withInitial(CommandTrace::new);
+    private long checkNanos;
+    private long scannedMealCount;
+
+    private CommandTrace() {
+    }
+
+    /**
+     * Clears and returns the trace of the current thread, for a command that is about to run.
+     */
+    public static CommandTrace start() {
+        CommandTrace trace = currentTrace.get();
+        trace.checkNanos = 0;
+        trace.scannedMealCount = 0;
+        return trace;
+    }
+
+    /**
+     * Adds to the time the command on the current thread spent checking its user input.
+     */
+    public static void addCheckNanos(long nanos) {
+        currentTrace.get().checkNanos += nanos;
+    }
+
+    /**
+     * Adds to the number of meals the command on the current thread scanned.
+     */
+    public static void addScannedMeals(int mealCount) {
+        currentTrace.get().scannedMealCount += mealCount;
+    }
+
+    public long getCheckNanos() {
+        return checkNanos;
+    }
+
+    public long getScannedMealCount() {
+        return scannedMealCount;
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JFR event for building the lookup structures over one version of a meal list.
+ */
+@Name("seedu.ezmealplan.IndexBuild")
+@Label("Index Build")
+@Category({"EZMealPlan", "Lists"})
+@Description("Building the lookup structures over one version of a meal list")
+public class IndexBuildEvent extends Event {
+    @Label("Meals")
+    int mealCount;
+
+    @Label("List Version")
+    int version;
+
+    @Label("Ingredient Names")
+    int ingredientNameCount;
+
+    /**
+     * Ends and commits this event if it is being recorded.
+     */
+    public void commit(int mealCount, int version, int ingredientNameCount) {
+        end();
+        if (shouldCommit()) {
+            this.mealCount = mealCount;
+            this.version = version;
+            this.ingredientNameCount = ingredientNameCount;
+            commit();
+        }
+    }
+}
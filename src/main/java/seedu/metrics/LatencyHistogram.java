@@ -0,0 +1,104 @@
+package seedu.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts latencies in buckets that grow exponentially, with 8 buckets for every power of two, so that every recorded
+ * latency is within 12.5% of the bounds of its bucket.
+ * Recording takes no lock and allocates nothing, so any number of threads can record at the same time.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records one latency, in nanoseconds. Negative latencies are recorded as 0.
+     */
+    public void record(long nanos) {
+        long latency = Math.max(0, nanos);
+        bucketCounts.incrementAndGet(getBucket(latency));
+        count.increment();
+        totalNanos.add(latency);
+        maxNanos.accumulate(latency);
+    }
+
+    static int getBucket(long nanos) {
+        if (nanos < SUB_BUCKET_COUNT) {
+            return (int) nanos;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    // Returns the largest latency that falls in the given bucket.
+    static long getBucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + bucket % SUB_BUCKET_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public long getMeanNanos() {
+        long recordedCount = getCount();
+        return recordedCount == 0 ? 0 : getTotalNanos() / recordedCount;
+    }
+
+    /**
+     * Returns the latency below which the given percentage of the recorded latencies lie, rounded up to the upper
+     * bound of its bucket but never above the largest recorded latency.
+     */
+    public long getPercentile(double percentile) {
+        long recordedCount = 0;
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = bucketCounts.get(i);
+            recordedCount += counts[i];
+        }
+        if (recordedCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * recordedCount));
+        long seenCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seenCount += counts[i];
+            if (seenCount >= rank) {
+                return Math.min(getBucketUpperBound(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Forgets every recorded latency.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketCounts.set(i, 0);
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+}
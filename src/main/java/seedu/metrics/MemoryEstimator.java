@@ -0,0 +1,249 @@
+package seedu.metrics;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import seedu.food.Ingredient;
+import seedu.food.Meal;
+import seedu.logic.MealManager;
+import seedu.logic.MealSnapshot;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Estimates the heap bytes retained by the lists, inventory and indexes of a meal manager from the known layouts of
+ * their objects, without a heap dump.
+ * Every object is counted once, in the first part it is reached from, so parts that share objects, such as the
+ * snapshot copy of the inventory and its ingredients, only add what they own. Strings are counted as their own
+ * part, wherever they are reached from.
+ */
+public class MemoryEstimator {
+    public static final String RECIPES = "recipes list";
+    public static final String WISHLIST = "wishlist";
+    public static final String INVENTORY = "inventory";
+    public static final String STRINGS = "strings";
+    public static final String INDEXES = "indexes";
+    public static final String CACHES = "caches";
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private static final int DEFAULT_LIST_CAPACITY = 10;
+    private static final int DEFAULT_MAP_CAPACITY = 16;
+    private static final double MAP_LOAD_FACTOR = 0.75;
+    private static final int INTEGER_CACHE_HIGH = 127;
+    private final int headerBytes;
+    private final int referenceBytes;
+    private final int alignmentBytes;
+    private final Set<Object> countedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long stringBytes = 0;
+
+    /**
+     * Constructs an estimator for the object layout of this JVM.
+     */
+    public MemoryEstimator() {
+        this(isVmOptionTrue("UseCompressedClassPointers") ? 12 : 16, isVmOptionTrue("UseCompressedOops") ? 4 : 8,
+                getVmOptionInt("ObjectAlignmentInBytes", 8));
+    }
+
+    /**
+     * Constructs an estimator for an object layout with the given header, reference and alignment sizes in bytes.
+     */
+    public MemoryEstimator(int headerBytes, int referenceBytes, int alignmentBytes) {
+        this.headerBytes = headerBytes;
+        this.referenceBytes = referenceBytes;
+        this.alignmentBytes = alignmentBytes;
+    }
+
+    // Without the HotSpot options, compressed references are assumed, as they are for heaps under 32 GB.
+    private static boolean isVmOptionTrue(String name) {
+        String value = getVmOption(name);
+        return value == null || Boolean.parseBoolean(value);
+    }
+
+    private static int getVmOptionInt(String name, int defaultValue) {
+        String value = getVmOption(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static String getVmOption(String name) {
+        try {
+            return ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class).getVMOption(name).getValue();
+        } catch (RuntimeException | LinkageError exception) {
+            logger.fine(() -> "Cannot read the VM option " + name + ": " + exception);
+            return null;
+        }
+    }
+
+    public int getHeaderBytes() {
+        return headerBytes;
+    }
+
+    public int getReferenceBytes() {
+        return referenceBytes;
+    }
+
+    /**
+     * Returns the bytes of every string counted so far.
+     */
+    public long getStringBytes() {
+        return stringBytes;
+    }
+
+    private long align(long bytes) {
+        return (bytes + alignmentBytes - 1) / alignmentBytes * alignmentBytes;
+    }
+
+    /**
+     * Returns the size of an object with the given number of reference fields and bytes of primitive fields.
+     */
+    public long objectSize(int referenceFieldCount, int primitiveBytes) {
+        return align(headerBytes + (long) referenceFieldCount * referenceBytes + primitiveBytes);
+    }
+
+    /**
+     * Returns the size of an array of the given length whose elements take the given number of bytes each.
+     */
+    public long arraySize(int length, int elementBytes) {
+        return align(headerBytes + 4 + (long) length * elementBytes);
+    }
+
+    public long referenceArraySize(int length) {
+        return arraySize(length, referenceBytes);
+    }
+
+    /**
+     * Returns the size of an ArrayList of the given size that grew one element at a time.
+     * An empty ArrayList shares its empty array with every other.
+     */
+    public long arrayListSize(int size) {
+        long listBytes = objectSize(1, 8);
+        if (size == 0) {
+            return listBytes;
+        }
+        int capacity = DEFAULT_LIST_CAPACITY;
+        while (capacity < size) {
+            capacity += capacity >> 1;
+        }
+        return listBytes + referenceArraySize(capacity);
+    }
+
+    /**
+     * Returns the size of a HashMap with the given number of entries, its table and its nodes, but not its keys
+     * and values.
+     */
+    public long hashMapSize(int entryCount) {
+        long mapBytes = objectSize(4, 16);
+        if (entryCount == 0) {
+            return mapBytes;
+        }
+        int capacity = DEFAULT_MAP_CAPACITY;
+        while (entryCount > capacity * MAP_LOAD_FACTOR) {
+            capacity <<= 1;
+        }
+        return mapBytes + referenceArraySize(capacity) + entryCount * objectSize(3, 4);
+    }
+
+    /**
+     * Returns the size of a boxed Integer of the given value, which is 0 for the values Integer.valueOf caches.
+     */
+    public long boxedIntegerSize(int value) {
+        return value >= -INTEGER_CACHE_HIGH - 1 && value <= INTEGER_CACHE_HIGH ? 0 : objectSize(0, 4);
+    }
+
+    /**
+     * Returns true and remembers the object if it was not counted yet.
+     */
+    public boolean isUncounted(Object object) {
+        return object != null && countedObjects.add(object);
+    }
+
+    /**
+     * Adds the size of the string and its bytes to the strings part, if it was not counted yet.
+     * With compact strings, a string of only Latin-1 characters takes one byte per character.
+     */
+    public void countString(String string) {
+        if (!isUncounted(string)) {
+            return;
+        }
+        boolean isLatin1 = string.chars().allMatch(character -> character <= 0xFF);
+        stringBytes += objectSize(1, 6) + arraySize(string.length(), isLatin1 ? 1 : 2);
+    }
+
+    /**
+     * Returns the bytes of the ingredient, counting its name and name key as strings, or 0 if it was counted already.
+     */
+    public long estimateIngredient(Ingredient ingredient) {
+        if (!isUncounted(ingredient)) {
+            return 0;
+        }
+        countString(ingredient.getName());
+        countString(ingredient.getNameKey());
+        return objectSize(2, 8);
+    }
+
+    /**
+     * Returns the bytes of the meal, its ingredient list and its ingredients, counting their names and name keys as
+     * strings, or 0 if the meal was counted already.
+     */
+    public long estimateMeal(Meal meal) {
+        if (!isUncounted(meal)) {
+            return 0;
+        }
+        countString(meal.getName());
+        countString(meal.getNameKey());
+        List<Ingredient> ingredientList = meal.getIngredientList();
+        long bytes = objectSize(3, 8) + arrayListSize(ingredientList.size());
+        for (Ingredient ingredient : ingredientList) {
+            bytes += estimateIngredient(ingredient);
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the bytes of a list of meals and of the meals that were not counted yet.
+     * The list is sized as an ArrayList holding a reference to every meal.
+     */
+    public long estimateMeals(List<Meal> meals) {
+        long bytes = arrayListSize(meals.size());
+        for (Meal meal : meals) {
+            bytes += estimateMeal(meal);
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the estimated bytes of every part of the meal manager, in the order of the constants of this class.
+     */
+    public Map<String, Long> estimate(MealManager mealManager) {
+        Map<String, Long> bytesByPart = new LinkedHashMap<>();
+        // Columnar lists and catalogs keep no meals, so reading them would only count copies.
+        bytesByPart.put(RECIPES, objectSize(3, 0) + mealManager.getRecipesList().estimateBytes(this));
+        bytesByPart.put(WISHLIST, objectSize(3, 0) + mealManager.getWishList().estimateBytes(this));
+        bytesByPart.put(INVENTORY, mealManager.getInventory().estimateBytes(this));
+        MealSnapshot snapshot = mealManager.getSnapshot();
+        bytesByPart.put(INDEXES, snapshot.getRecipesIndex().estimateBytes(this)
+                + snapshot.getWishListIndex().estimateBytes(this));
+        bytesByPart.put(CACHES, snapshot.getInventory().estimateBytes(this) + mealManager.estimateCacheBytes(this));
+        bytesByPart.put(STRINGS, stringBytes);
+        return bytesByPart;
+    }
+
+    /**
+     * Returns a table of the estimated bytes of every part of the meal manager and their total.
+     */
+    public static String format(Map<String, Long> bytesByPart) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-14s %14s %10s%n", "part", "bytes", "MiB"));
+        long totalBytes = 0;
+        for (Map.Entry<String, Long> entry : bytesByPart.entrySet()) {
+            sb.append(String.format("%-14s %14d %10.2f%n", entry.getKey(), entry.getValue(),
+                    entry.getValue() / 1048576.0));
+            totalBytes += entry.getValue();
+        }
+        sb.append(String.format("%-14s %14d %10.2f", "total", totalBytes, totalBytes / 1048576.0));
+        return sb.toString();
+    }
+}
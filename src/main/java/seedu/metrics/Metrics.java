@@ -0,0 +1,159 @@
+package seedu.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The latency histograms of every stage of every command type, and the number of errors of every exception class,
+ * shared by all sessions in the JVM.
+ * Recording takes no lock, and allocates nothing once a stage and name have been recorded before.
+ */
+public class Metrics {
+    /**
+     * A step of handling user input, or a storage call.
+     */
+    public enum Stage {
+        PARSE, CHECK, EXECUTE, STORAGE
+    }
+
+    private static final Metrics instance = new Metrics();
+    private final Map<Stage, ConcurrentMap<String, LatencyHistogram>> histograms = new EnumMap<>(Stage.class);
+    private final ConcurrentMap<String, LongAdder> errorCounts = new ConcurrentHashMap<>();
+
+    Metrics() {
+        for (Stage stage : Stage.values()) {
+            histograms.put(stage, new ConcurrentHashMap<>());
+        }
+    }
+
+    public static Metrics getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the name that the metrics of a class are recorded under: its simple name without the given suffix,
+     * in lower case, such as "filter" for a FilterCommand and the suffix "Command".
+     */
+    public static String getTypeName(Class<?> type, String suffix) {
+        String className = type.getSimpleName();
+        if (className.endsWith(suffix)) {
+            className = className.substring(0, className.length() - suffix.length());
+        }
+        return className.toLowerCase();
+    }
+
+    /**
+     * Records the latency of one run of the given stage, under the given name such as a command type.
+     */
+    public void record(Stage stage, String name, long nanos) {
+        ConcurrentMap<String, LatencyHistogram> stageHistograms = histograms.get(stage);
+        LatencyHistogram histogram = stageHistograms.get(name);
+        if (histogram == null) {
+            histogram = stageHistograms.computeIfAbsent(name, newName -> new LatencyHistogram());
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * Records the time from the given start time of System.nanoTime() until now.
+     */
+    public void recordSince(Stage stage, String name, long startTime) {
+        record(stage, name, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Counts one error of the class of the given exception.
+     */
+    public void recordError(Exception exception) {
+        String exceptionName = exception.getClass().getSimpleName();
+        LongAdder errorCount = errorCounts.get(exceptionName);
+        if (errorCount == null) {
+            errorCount = errorCounts.computeIfAbsent(exceptionName, newName -> new LongAdder());
+        }
+        errorCount.increment();
+    }
+
+    /**
+     * Returns the histogram of the given stage and name, or an empty histogram if nothing was recorded for them.
+     */
+    public LatencyHistogram getHistogram(Stage stage, String name) {
+        LatencyHistogram histogram = histograms.get(stage).get(name);
+        return histogram == null ? new LatencyHistogram() : histogram;
+    }
+
+    /**
+     * Returns the number of errors counted for the exception class with the given simple name.
+     */
+    public long getErrorCount(String exceptionName) {
+        LongAdder errorCount = errorCounts.get(exceptionName);
+        return errorCount == null ? 0 : errorCount.sum();
+    }
+
+    /**
+     * Returns a table of the latency percentiles of every stage and name, followed by the error counts.
+     * The name column is as wide as the longest name, such as "load inventoryList.txt", so the numbers stay aligned.
+     */
+    public String format() {
+        Map<Stage, Map<String, LatencyHistogram>> rows = new EnumMap<>(Stage.class);
+        int nameWidth = "name".length();
+        for (Stage stage : Stage.values()) {
+            Map<String, LatencyHistogram> stageRows = new TreeMap<>();
+            for (Map.Entry<String, LatencyHistogram> entry : histograms.get(stage).entrySet()) {
+                if (entry.getValue().getCount() > 0) {
+                    stageRows.put(entry.getKey(), entry.getValue());
+                    nameWidth = Math.max(nameWidth, entry.getKey().length());
+                }
+            }
+            rows.put(stage, stageRows);
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-8s %-" + nameWidth + "s %8s %10s %10s %10s %10s %10s%n", "stage", "name", "count",
+                "mean ms", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        String rowFormat = "%-8s %-" + nameWidth + "s %8d %10.3f %10.3f %10.3f %10.3f %10.3f%n";
+        for (Stage stage : Stage.values()) {
+            for (Map.Entry<String, LatencyHistogram> entry : rows.get(stage).entrySet()) {
+                LatencyHistogram histogram = entry.getValue();
+                sb.append(String.format(rowFormat, stage.name().toLowerCase(), entry.getKey(), histogram.getCount(),
+                        histogram.getMeanNanos() / 1e6, histogram.getPercentile(50) / 1e6,
+                        histogram.getPercentile(90) / 1e6, histogram.getPercentile(99) / 1e6,
+                        histogram.getMaxNanos() / 1e6));
+            }
+        }
+        Map<String, LongAdder> sortedErrorCounts = new TreeMap<>(errorCounts);
+        if (sortedErrorCounts.isEmpty()) {
+            sb.append("No errors.");
+            return sb.toString();
+        }
+        sb.append("Errors:");
+        for (Map.Entry<String, LongAdder> entry : sortedErrorCounts.entrySet()) {
+            sb.append(System.lineSeparator()).append(String.format("%8d %s", entry.getValue().sum(),
+                    entry.getKey()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes the table of {@link #format()} into the given file, replacing its contents.
+     */
+    public void dump(File file) throws IOException {
+        Files.writeString(file.toPath(), format() + System.lineSeparator(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Forgets every recorded latency and error.
+     */
+    public void reset() {
+        for (ConcurrentMap<String, LatencyHistogram> stageHistograms : histograms.values()) {
+            stageHistograms.values().forEach(LatencyHistogram::reset);
+        }
+        errorCounts.clear();
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JFR event for removing the meals of the wishlist that are not in the recipes list.
+ */
+@Name("seedu.ezmealplan.RemoveIllegalMeals")
+@Label("Remove Illegal Meals")
+@Category({"EZMealPlan", "Lists"})
+@Description("Removing the meals of the wishlist that are not in the recipes list")
+public class RemoveIllegalMealsEvent extends Event {
+    @Label("Recipes")
+    int recipeCount;
+
+    @Label("Wishlist Meals")
+    int wishListCount;
+
+    @Label("Removed Meals")
+    int removedCount;
+
+    /**
+     * Ends and commits this event if it is being recorded.
+     */
+    public void commit(int recipeCount, int wishListCount, int removedCount) {
+        end();
+        if (shouldCommit()) {
+            this.recipeCount = recipeCount;
+            this.wishListCount = wishListCount;
+            this.removedCount = removedCount;
+            commit();
+        }
+    }
+}
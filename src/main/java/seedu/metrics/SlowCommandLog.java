@@ -0,0 +1,163 @@
+package seedu.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Appends one JSON line to a separate log file for every command that takes longer than a threshold, with what is
+ * needed to explain it: the user input, the list sizes and where the time went.
+ * The default log is configured by the system properties ezmealplan.slowCommandMillis (500 if not set) and
+ * ezmealplan.slowCommandLog (EZMealPlanSlow.log if not set).
+ */
+public class SlowCommandLog {
+    public static final String THRESHOLD_PROPERTY = "ezmealplan.slowCommandMillis";
+    public static final String FILE_PROPERTY = "ezmealplan.slowCommandLog";
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private static final long DEFAULT_THRESHOLD_MILLIS = 500;
+    private static final String DEFAULT_FILE_NAME = "EZMealPlanSlow.log";
+    private final File logFile;
+    private final long thresholdNanos;
+
+    public SlowCommandLog(File logFile, long thresholdMillis) {
+        assert thresholdMillis >= 0 : "The slow command threshold cannot be negative";
+        this.logFile = logFile;
+        this.thresholdNanos = thresholdMillis * 1_000_000;
+    }
+
+    /**
+     * Returns a log configured by the system properties.
+     */
+    public static SlowCommandLog fromSystemProperties() {
+        long thresholdMillis = DEFAULT_THRESHOLD_MILLIS;
+        String threshold = System.getProperty(THRESHOLD_PROPERTY);
+        if (threshold != null) {
+            try {
+                thresholdMillis = Math.max(0, Long.parseLong(threshold.trim()));
+            } catch (NumberFormatException numberFormatException) {
+                logger.warning(() -> "Ignoring the invalid " + THRESHOLD_PROPERTY + ": " + threshold);
+            }
+        }
+        return new SlowCommandLog(new File(System.getProperty(FILE_PROPERTY, DEFAULT_FILE_NAME)), thresholdMillis);
+    }
+
+    public File getLogFile() {
+        return logFile;
+    }
+
+    /**
+     * Returns true if a command that took the given time is slow enough to be logged.
+     */
+    public boolean isSlow(long totalNanos) {
+        return totalNanos >= thresholdNanos;
+    }
+
+    /**
+     * One slow command, as logged.
+     */
+    public static class Entry {
+        private final String userInput;
+        private final String commandType;
+        private final String errorName;
+        private final long parseNanos;
+        private final long checkNanos;
+        private final long executeNanos;
+        private final long scannedMealCount;
+        private final int recipesListSize;
+        private final int wishListSize;
+        private final int inventorySize;
+
+        /**
+         * Constructs an entry for one command.
+         *
+         * @param errorName the simple class name of the exception the command ended with, or null if it succeeded.
+         * @param executeNanos the time spent executing the command, including checkNanos.
+         */
+        public Entry(String userInput, String commandType, String errorName, long parseNanos, long checkNanos,
+                     long executeNanos, long scannedMealCount, int recipesListSize, int wishListSize,
+                     int inventorySize) {
+            this.userInput = userInput;
+            this.commandType = commandType;
+            this.errorName = errorName;
+            this.parseNanos = parseNanos;
+            this.checkNanos = checkNanos;
+            this.executeNanos = executeNanos;
+            this.scannedMealCount = scannedMealCount;
+            this.recipesListSize = recipesListSize;
+            this.wishListSize = wishListSize;
+            this.inventorySize = inventorySize;
+        }
+
+        public long getTotalNanos() {
+            return parseNanos + executeNanos;
+        }
+
+        /**
+         * Returns this entry as one line of JSON, stamped with the given time.
+         */
+        public String toJson(Instant time) {
+            return "{\"time\":\"" + time + "\""
+                    + ",\"input\":" + quote(userInput)
+                    + ",\"command\":" + quote(commandType)
+                    + ",\"error\":" + (errorName == null ? "null" : quote(errorName))
+                    + ",\"totalMs\":" + toMillis(getTotalNanos())
+                    + ",\"parseMs\":" + toMillis(parseNanos)
+                    + ",\"checkMs\":" + toMillis(checkNanos)
+                    + ",\"executeMs\":" + toMillis(executeNanos - checkNanos)
+                    + ",\"mealsScanned\":" + scannedMealCount
+                    + ",\"recipes\":" + recipesListSize
+                    + ",\"wishlist\":" + wishListSize
+                    + ",\"inventory\":" + inventorySize + "}";
+        }
+
+        private static String toMillis(long nanos) {
+            return String.format(Locale.ROOT, "%.3f", nanos / 1e6);
+        }
+
+        private static String quote(String text) {
+            StringBuilder sb = new StringBuilder("\"");
+            for (char c : text.toCharArray()) {
+                switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < ' ') {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+                }
+            }
+            return sb.append('"').toString();
+        }
+    }
+
+    /**
+     * Appends the entry to the log file if its command was slow.
+     * A log file that cannot be written is reported in the main log instead.
+     */
+    public void log(Entry entry) {
+        if (!isSlow(entry.getTotalNanos())) {
+            return;
+        }
+        String line = entry.toJson(Instant.now()) + System.lineSeparator();
+        synchronized (this) {
+            try {
+                Files.writeString(logFile.toPath(), line, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND);
+            } catch (IOException ioException) {
+                logger.log(Level.WARNING, "Could not write to the slow command log " + logFile, ioException);
+            }
+        }
+    }
+}
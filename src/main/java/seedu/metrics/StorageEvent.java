@@ -0,0 +1,56 @@
+package seedu.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.io.File;
+
+/**
+ * A JFR event for loading or saving one list file.
+ */
+@Name("seedu.ezmealplan.Storage")
+@Label("Storage")
+@Category({"EZMealPlan", "Storage"})
+@Description("Loading or saving one list file")
+public class StorageEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("File")
+    String fileName;
+
+    @Label("Size")
+    @DataAmount
+    long size;
+
+    @Label("Records")
+    int recordCount;
+
+    /**
+     * Returns a new event that has begun now.
+     */
+    public static StorageEvent start() {
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends this event and commits it with the given operation, list file and number of records, if it is being
+     * recorded.
+     */
+    public void commit(String operation, File listFile, int recordCount) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.fileName = listFile.getPath();
+            this.size = listFile.length();
+            this.recordCount = recordCount;
+            commit();
+        }
+    }
+}
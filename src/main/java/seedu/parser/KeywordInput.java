@@ -0,0 +1,79 @@
+package seedu.parser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The positions of the keywords, such as /ing or /mcost, in a line of user input, found once when it is constructed.
+ * A keyword is found in any casing wherever it is in the input, as the commands have always found it, so it may be
+ * glued to the text around it, as in "select 4/ing chicken" or "filter /mcost5.00".
+ */
+public class KeywordInput {
+    private final String input;
+    // The index of the first occurrence of every keyword found in the input.
+    private final Map<String, Integer> firstIndexes = new HashMap<>();
+    // The index of every occurrence of any keyword, in ascending order.
+    private final List<Integer> keywordIndexes = new ArrayList<>();
+
+    public KeywordInput(String input, String... keywords) {
+        this.input = input;
+        int index = 0;
+        while (index < input.length()) {
+            String foundKeyword = null;
+            for (String keyword : keywords) {
+                if (input.regionMatches(true, index, keyword, 0, keyword.length())) {
+                    foundKeyword = keyword;
+                    break;
+                }
+            }
+            if (foundKeyword == null) {
+                index++;
+                continue;
+            }
+            firstIndexes.putIfAbsent(foundKeyword, index);
+            keywordIndexes.add(index);
+            index += foundKeyword.length();
+        }
+    }
+
+    /**
+     * Returns true if the given keyword is in the input.
+     */
+    public boolean contains(String keyword) {
+        return firstIndexes.containsKey(keyword);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the given keyword in the input, or -1 if it is not there.
+     */
+    public int indexOf(String keyword) {
+        return firstIndexes.getOrDefault(keyword, -1);
+    }
+
+    /**
+     * Returns the index of the first keyword in the input, or -1 if there is none.
+     */
+    public int getFirstKeywordIndex() {
+        return keywordIndexes.isEmpty() ? -1 : keywordIndexes.get(0);
+    }
+
+    /**
+     * Returns the input after the first occurrence of the given keyword, up to the next keyword if there is one,
+     * trimmed. Returns an empty string if the keyword is not in the input.
+     */
+    public String get(String keyword) {
+        int keywordIndex = indexOf(keyword);
+        if (keywordIndex == -1) {
+            return "";
+        }
+        int afterKeywordIndex = keywordIndex + keyword.length();
+        int nextKeywordIndex = input.length();
+        int nextPosition = keywordIndexes.indexOf(keywordIndex) + 1;
+        if (nextPosition < keywordIndexes.size()) {
+            nextKeywordIndex = keywordIndexes.get(nextPosition);
+        }
+        return input.substring(afterKeywordIndex, nextKeywordIndex).trim();
+    }
+}
@@ -5,6 +5,7 @@ import seedu.command.ByeCommand;
 import seedu.command.ClearCommand;
 import seedu.command.Command;
 import seedu.command.ConsumeCommand;
+import seedu.command.CookableCommand;
 import seedu.command.CreateCommand;
 import seedu.command.DeleteCommand;
 import seedu.command.FilterCommand;
@@ -15,11 +16,14 @@ import seedu.command.RecipesCommand;
 import seedu.command.RecommendCommand;
 import seedu.command.RemoveCommand;
 import seedu.command.SelectCommand;
+import seedu.command.ShopCommand;
+import seedu.command.StatsCommand;
 import seedu.command.UnknownCommand;
 import seedu.command.ViewCommand;
 import seedu.command.WishlistCommand;
 import seedu.exceptions.EZMealPlanException;
 import seedu.exceptions.ParserException;
+import seedu.storage.Storage;
 
 public class Parser {
     private static final String BYE = "bye";
@@ -37,17 +41,24 @@ public class Parser {
     private static final String CONSUME = "consume";
     private static final String BUY = "buy";
     private static final String INVENTORY = "inventory";
+    private static final String COOKABLE = "cookable";
+    private static final String SHOP = "shop";
+    private static final String STATS = "stats";
     private static final String[] allCommandStrings = {BYE, CREATE, FILTER, SELECT, WISHLIST, RECIPES, CLEAR, HELP,
-        REMOVE, VIEW, DELETE, RECOMMEND, CONSUME, BUY, INVENTORY};
+        REMOVE, VIEW, DELETE, RECOMMEND, CONSUME, BUY, INVENTORY, COOKABLE, SHOP, STATS};
 
 
-    public static Command parse(String userInput) throws ParserException, EZMealPlanException {
+    /**
+     * Parses the user input into a command, using the given storage, that of the session the input came from, for
+     * the commands that save the lists.
+     */
+    public static Command parse(String userInput, Storage storage) throws ParserException, EZMealPlanException {
         String trimmedInput = userInput.trim();
         String[] tokens = tokenize(trimmedInput);
         String commandWord = tokens[0].toLowerCase();
 
         return switch(commandWord) {
-        case BYE -> parseBye(tokens, trimmedInput);
+        case BYE -> parseBye(tokens, storage);
         case CREATE -> parseCreate(tokens, trimmedInput);
         case HELP -> parseHelp(tokens, trimmedInput);
         case FILTER -> parseFilter(tokens, trimmedInput);
@@ -62,6 +73,9 @@ public class Parser {
         case CONSUME -> parseConsume(tokens, trimmedInput);
         case BUY -> parseBuy(tokens, trimmedInput);
         case INVENTORY -> parseInventory(tokens);
+        case COOKABLE -> parseCookable(trimmedInput);
+        case SHOP -> parseShop(tokens);
+        case STATS -> parseStats(tokens);
         default -> parseUnknownInput(commandWord);
         };
     }
@@ -86,9 +100,9 @@ public class Parser {
         }
     }
 
-    private static Command parseBye(String[] tokens, String input) throws ParserException {
+    private static Command parseBye(String[] tokens, Storage storage) throws ParserException {
         assertExactTokenCount(tokens, 1, "The bye command does not accept any arguments.");
-        return new ByeCommand();
+        return new ByeCommand(storage);
     }
 
     private static Command parseCreate(String[] tokens, String input) throws ParserException {
@@ -109,7 +123,13 @@ public class Parser {
     }
 
     private static Command parseSelect(String[] tokens, String input) throws ParserException {
-        assertExactTokenCount(tokens, 2, "Select command should have exactly one argument.");
+        // A select command may be followed by filter keywords, e.g. "select 1 /ing chicken /mcost 2.00-5.00", which
+        // are found wherever they are, as in "select 1/ing chicken".
+        boolean hasFilterKeyword = new KeywordInput(input, "/ing", "/mname", "/mcost", "/exclude")
+                .getFirstKeywordIndex() != -1;
+        if (!hasFilterKeyword) {
+            assertExactTokenCount(tokens, 2, "Select command should have exactly one argument.");
+        }
         return new SelectCommand(input);
     }
 
@@ -164,6 +184,28 @@ public class Parser {
         return new InventoryCommand();
     }
 
+    private static Command parseCookable(String input) {
+        return new CookableCommand(input);
+    }
+
+    private static Command parseShop(String[] tokens) throws ParserException {
+        String buyFlag = "/buy";
+        boolean isBuying = tokens.length == 2 && tokens[1].equalsIgnoreCase(buyFlag);
+        if (!isBuying) {
+            assertExactTokenCount(tokens, 1, "The shop command only accepts the optional /buy flag.");
+        }
+        return new ShopCommand(isBuying);
+    }
+
+    private static Command parseStats(String[] tokens) throws ParserException {
+        String memoryOption = "memory";
+        boolean isShowingMemory = tokens.length == 2 && tokens[1].equalsIgnoreCase(memoryOption);
+        if (!isShowingMemory) {
+            assertExactTokenCount(tokens, 1, "The stats command only accepts the optional memory option.");
+        }
+        return new StatsCommand(isShowingMemory);
+    }
+
     private static Command parseUnknownInput(String commandWord) {
         for (String actualCommandString : allCommandStrings) {
             if (commandWord.startsWith(actualCommandString)) {
@@ -2,10 +2,10 @@ package seedu.presetmeals;
 
 
 public class PresetMeals {
-    private static String[] allPresetMeals;
+    private final String[] allPresetMeals;
 
     private PresetMeals() {
-        addAllPresetMeals();
+        allPresetMeals = getAllPresetMeals();
     }
 
     private String[] getPresetMeals() {
@@ -17,7 +17,7 @@ public class PresetMeals {
         return presetMeals.getPresetMeals();
     }
 
-    private static void addAllPresetMeals() {
+    private static String[] getAllPresetMeals() {
         String allPresetMealsString =
                 "Bak Chang | Glutinous Rice (1.50) | Pork (1.50) | Mushrooms (0.70) | Salt (0.20)\n" +
                 "Bak Chor Mee | Noodles (1.00) | Minced Pork (1.50) | Vinegar (0.30) | Pork Fat (0.80)\n" +
@@ -126,6 +126,6 @@ public class PresetMeals {
                 "Fried Shallots (0.60)\n" +
                 "Wanton Noodle | Egg Noodles (1.00) | Pork (1.50) | Wanton (0.80) | Broth (0.70)\n" +
                 "Yong Tau Foo | Tofu (0.80) | Fish Balls (1.00) | Vegetables (0.70) | Rice Noodles (1.00)\n";
-        allPresetMeals = allPresetMealsString.split("\n");
+        return allPresetMealsString.split("\n");
     }
 }
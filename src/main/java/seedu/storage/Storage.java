@@ -5,6 +5,9 @@ import seedu.food.Ingredient;
 import seedu.food.Inventory;
 import seedu.food.Meal;
 import seedu.logic.MealManager;
+import seedu.logic.RecipeCatalog;
+import seedu.metrics.Metrics;
+import seedu.metrics.StorageEvent;
 import seedu.presetmeals.PresetMeals;
 
 import java.io.File;
@@ -14,43 +17,72 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Reads and writes the recipes list, wishlist and inventory files kept in one data directory.
+ * Each session can use its own Storage (and data directory), so several sessions can run in one JVM.
+ */
 public class Storage {
-    static File wishListFile;
-    static File recipesListFile;
-    static File inventoryListFile;
-    private static final String WISH_LIST_FILE_PATH = "data/wishList.txt";
-    private static final String RECIPES_LIST_FILE_PATH = "data/recipesList.txt";
-    private static final String INVENTORY_LIST_FILE_PATH = "data/inventoryList.txt";
-
-    public static File getWishListFile() {
+    public static final String LOAD = "load";
+    public static final String SAVE = "save";
+    private static final String DEFAULT_DATA_DIRECTORY = "data";
+    private static final String WISH_LIST_FILE_NAME = "wishList.txt";
+    private static final String RECIPES_LIST_FILE_NAME = "recipesList.txt";
+    private static final String INVENTORY_LIST_FILE_NAME = "inventoryList.txt";
+    // One lock for each data directory, so every Storage of a directory saves into it one at a time.
+    private static final ConcurrentMap<File, Object> SAVE_LOCKS = new ConcurrentHashMap<>();
+    private final File wishListFile;
+    private final File recipesListFile;
+    private final File inventoryListFile;
+    private final Object saveLock;
+
+    public Storage() {
+        this(new File(DEFAULT_DATA_DIRECTORY));
+    }
+
+    public Storage(File dataDirectory) {
+        wishListFile = new File(dataDirectory, WISH_LIST_FILE_NAME);
+        recipesListFile = new File(dataDirectory, RECIPES_LIST_FILE_NAME);
+        inventoryListFile = new File(dataDirectory, INVENTORY_LIST_FILE_NAME);
+        saveLock = SAVE_LOCKS.computeIfAbsent(dataDirectory.getAbsoluteFile().toPath().normalize().toFile(),
+                directory -> new Object());
+    }
+
+    /**
+     * Returns the lock held while the list files are saved, which is the same for every Storage of the same data
+     * directory.
+     */
+    public Object getSaveLock() {
+        return saveLock;
+    }
+
+    public File getWishListFile() {
         return wishListFile;
     }
 
-    public static File getRecipesListFile() {
+    public File getRecipesListFile() {
         return recipesListFile;
     }
 
-    public static File getInventoryListFile() {
+    public File getInventoryListFile() {
         return inventoryListFile;
     }
 
-    public static String getWishListFilePath() {
-        return WISH_LIST_FILE_PATH;
+    public String getWishListFilePath() {
+        return wishListFile.getPath();
     }
 
-    public static String getRecipesListFilePath() {
-        return RECIPES_LIST_FILE_PATH;
+    public String getRecipesListFilePath() {
+        return recipesListFile.getPath();
     }
 
-    public static String getInventoryListFilePath() {
-        return INVENTORY_LIST_FILE_PATH;
+    public String getInventoryListFilePath() {
+        return inventoryListFile.getPath();
     }
 
-    public static void createListFiles() throws IOException {
-        wishListFile = new File(WISH_LIST_FILE_PATH);
-        recipesListFile = new File(RECIPES_LIST_FILE_PATH);
-        inventoryListFile = new File(INVENTORY_LIST_FILE_PATH);
+    public void createListFiles() throws IOException {
         createListFile(recipesListFile);
         createListFile(wishListFile);
         createListFile(inventoryListFile);
@@ -67,8 +99,17 @@ public class Storage {
         }
     }
 
-    public static void loadExistingInventory(MealManager mealManager) throws FileNotFoundException {
-        Inventory inventory = mealManager.getInventory();
+    public void loadExistingInventory(MealManager mealManager) throws FileNotFoundException {
+        loadExistingInventory(mealManager.getInventory());
+    }
+
+    /**
+     * Adds the ingredients saved in the inventory file to the given inventory.
+     */
+    public void loadExistingInventory(Inventory inventory) throws FileNotFoundException {
+        long startTime = System.nanoTime();
+        StorageEvent event = StorageEvent.start();
+        int recordCount = 0;
         if (inventoryListFile.exists()) {
             Scanner scanner = new Scanner(inventoryListFile);
             while (scanner.hasNextLine()) {
@@ -77,12 +118,17 @@ public class Storage {
                     continue;
                 }
                 checkValidIngredients(line, inventory);
+                recordCount++;
             }
             scanner.close();
         }
+        recordStorageCall(LOAD, inventoryListFile, startTime);
+        event.commit(LOAD, inventoryListFile, recordCount);
     }
 
     public static List<Meal> loadExistingList(File selectedFile) throws IOException {
+        long startTime = System.nanoTime();
+        StorageEvent event = StorageEvent.start();
         List<Meal> meals = new ArrayList<>();
         if (selectedFile.exists()) {
             Scanner scanner = new Scanner(selectedFile);
@@ -101,9 +147,50 @@ public class Storage {
             }
             scanner.close();
         }
+        recordStorageCall(LOAD, selectedFile, startTime);
+        event.commit(LOAD, selectedFile, meals.size());
         return meals;
     }
 
+    /**
+     * Records the time from the given start time of System.nanoTime() until now in the storage stage of the metrics,
+     * under the given operation and the name of the list file, such as "load recipesList.txt".
+     */
+    public static void recordStorageCall(String operation, File listFile, long startTime) {
+        Metrics.getInstance().recordSince(Metrics.Stage.STORAGE, operation + " " + listFile.getName(), startTime);
+    }
+
+    /**
+     * Returns a meal manager for one user, as the system property ezmealplan.recipeStore selects: a recipes list over
+     * the preset recipe catalog if it is offheap, or a recipes list of its own, see {@link MealManager#MealManager()}.
+     */
+    public static MealManager createMealManager() {
+        if (MealManager.OFF_HEAP_RECIPE_STORE.equals(System.getProperty(MealManager.RECIPE_STORE_PROPERTY))) {
+            return new MealManager(getPresetCatalog());
+        }
+        return new MealManager();
+    }
+
+    /**
+     * Returns the preset meals as one recipe catalog, which is built the first time it is needed and then shared by
+     * every tenant in the JVM. The catalog is stored off the heap if the system property ezmealplan.recipeStore is
+     * offheap.
+     */
+    public static RecipeCatalog getPresetCatalog() {
+        if (MealManager.OFF_HEAP_RECIPE_STORE.equals(System.getProperty(MealManager.RECIPE_STORE_PROPERTY))) {
+            return OffHeapPresetCatalogHolder.PRESET_CATALOG;
+        }
+        return PresetCatalogHolder.PRESET_CATALOG;
+    }
+
+    private static class PresetCatalogHolder {
+        private static final RecipeCatalog PRESET_CATALOG = new RecipeCatalog(loadPresetMeals());
+    }
+
+    private static class OffHeapPresetCatalogHolder {
+        private static final RecipeCatalog PRESET_CATALOG = RecipeCatalog.offHeap(loadPresetMeals());
+    }
+
     public static List<Meal> loadPresetMeals() {
         String[] allInitialisedMeals = PresetMeals.createPresetMeals();
         List<Meal> meals = new ArrayList<>();
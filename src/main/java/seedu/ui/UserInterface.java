@@ -2,23 +2,59 @@ package seedu.ui;
 
 import seedu.food.Ingredient;
 import seedu.food.Meal;
+import seedu.logic.ShoppingItem;
+import seedu.logic.ShoppingList;
 import seedu.meallist.MealList;
 
+import java.io.InputStream;
+import java.io.PrintStream;
 import java.util.List;
 import java.util.Scanner;
 
 public class UserInterface {
     private final Scanner scanner;
+    // Null when printing to whatever System.out is at the time of printing.
+    private final PrintStream output;
 
     public UserInterface() {
-        scanner = new Scanner(System.in);
+        this(System.in);
+    }
+
+    /**
+     * Constructs a UserInterface that reads the user input from the given stream instead of the standard input.
+     */
+    public UserInterface(InputStream input) {
+        this(input, null);
+    }
+
+    /**
+     * Constructs a UserInterface that reads from and prints to the given streams, such as those of a client
+     * connection. The output is flushed whenever the user input is waited for.
+     */
+    public UserInterface(InputStream input, PrintStream output) {
+        scanner = new Scanner(input);
+        this.output = output;
+    }
+
+    private PrintStream getOutput() {
+        return output == null ? System.out : output;
+    }
+
+    /**
+     * Sends the printed output to the user, then returns true if there is another line of user input.
+     * Waits for the user if the line has not been entered yet.
+     */
+    public boolean hasInput() {
+        getOutput().flush();
+        return scanner.hasNextLine();
     }
 
     public void printMessage(String s) {
-        System.out.println(s);
+        getOutput().println(s);
     }
 
     public String readInput() {
+        getOutput().flush();
         String userCmd = "";
         if (scanner.hasNextLine()) {
             userCmd = scanner.nextLine();
@@ -28,78 +64,84 @@ public class UserInterface {
     }
 
     public void printGreetingMessage() {
-        System.out.println("Hello! This is EzMealPlan");
-        System.out.println("Let me help you in planning your meals.");
+        getOutput().println("Hello! This is EzMealPlan");
+        getOutput().println("Let me help you in planning your meals.");
     }
 
     public void printGoodbye() {
+        getOutput().print("Bye. Hope to see you again soon!");
+        getOutput().flush();
         scanner.close();
-        System.out.print("Bye. Hope to see you again soon!");
     }
 
     public void printUnknownCommand(String userInput) {
-        System.out.println("Invalid command: " + userInput);
-        System.out.println("me no understand what you talking.");
+        getOutput().println("Invalid command: " + userInput);
+        getOutput().println("me no understand what you talking.");
     }
 
     public void printMistypedCommand(String userInput, String actualCommand) {
-        System.out.println("Invalid command: " + userInput);
-        System.out.println("Did you mean: " + actualCommand + "?");
+        getOutput().println("Invalid command: " + userInput);
+        getOutput().println("Did you mean: " + actualCommand + "?");
     }
 
     public void printErrorMessage(Exception exception) {
-        System.out.println(exception.getMessage());
+        getOutput().println(exception.getMessage());
     }
 
     public void printAddMealMessage(Meal meal, MealList mealList) {
-        String mealListName = mealList.getMealListName();
+        printAddMealMessage(meal, mealList.getMealListName(), mealList.getList());
+    }
+
+    /**
+     * Prints that the meal was added, followed by the given meals of the list it was added into.
+     */
+    public void printAddMealMessage(Meal meal, String mealListName, List<Meal> meals) {
         String successAddMealMessage = "You have successfully added a meal: " + meal + " into " + mealListName + ".";
-        System.out.println(successAddMealMessage);
-        List<Meal> meals = mealList.getList();
+        getOutput().println(successAddMealMessage);
         printMealList(meals, mealListName);
         String totalMealsMessage = "Currently, you have " + meals.size() +
                                    " meals in " + mealListName + ".";
-        System.out.println(totalMealsMessage);
+        getOutput().println(totalMealsMessage);
     }
 
     public void printIngredientList(Meal meal) {
         List<Ingredient> ingredientList = meal.getIngredientList();
-        System.out.println("Here are the ingredients for " + meal + ":");
+        getOutput().println("Here are the ingredients for " + meal + ":");
         int count = 0;
         for (Ingredient ingredient : ingredientList) {
             count++;
-            System.out.println("    " + count + ". " + ingredient);
+            getOutput().println("    " + count + ". " + ingredient);
         }
-        System.out.println();
+        getOutput().println();
     }
 
     public void printMealList(List<Meal> meals, String mealListName) {
         if (meals.isEmpty()) {
-            System.out.println("No meals found in " + mealListName + ".\n");
+            getOutput().println("No meals found in " + mealListName + ".\n");
             return;
         }
 
-        System.out.println("Here are the meals in " + mealListName + ":");
+        getOutput().println("Here are the meals in " + mealListName + ":");
         int count = 0;
         for (Meal meal : meals) {
             count++;
-            System.out.println("    " + count + ". " + meal);
+            getOutput().println("    " + count + ". " + meal);
         }
-        System.out.println();
+        getOutput().println();
     }
 
     public void printRemovedMessage(Meal meal, int size) {
-        System.out.println(meal + " has been removed from your meal list!");
-        System.out.printf("You have %d meals in your meal list.\n", size);
+        getOutput().println(meal + " has been removed from your meal list!");
+        getOutput().printf("You have %d meals in your meal list.\n", size);
     }
 
     public void printDeletedMessage(Meal meal, int size) {
-        System.out.println(meal + " has been removed from the recipes list!");
-        System.out.printf("There are now %d meals in the recipes list.\n", size);
+        getOutput().println(meal + " has been removed from the recipes list!");
+        getOutput().printf("There are now %d meals in the recipes list.\n", size);
     }
 
     public void prompt() {
-        System.out.println("How may I help you?");
+        getOutput().println("How may I help you?");
     }
 
     public void printClearedList() {
@@ -107,167 +149,250 @@ public class UserInterface {
     }
 
     public void printByeCommandHelp() {
-        System.out.println("Entering the bye command will gracefully exits the software");
-        System.out.println("Sample input: bye");
-        System.out.println("Sample output: Bye. Hope to see you again soon!");
+        getOutput().println("Entering the bye command will gracefully exits the software");
+        getOutput().println("Sample input: bye");
+        getOutput().println("Sample output: Bye. Hope to see you again soon!");
     }
 
     public void printGeneralHelp() {
-        System.out.println("you have not entered any command line options");
+        getOutput().println("you have not entered any command line options");
     }
 
     public void printWishlistCommandHelp() {
-        System.out.println("Entering the wishlist command will list out all the meals you " +
+        getOutput().println("Entering the wishlist command will list out all the meals you " +
                            "have selected from the recipes list.");
-        System.out.println("Sample input: wishlist");
-        System.out.println("Sample output:");
-        System.out.println("               1. Chicken Rice");
-        System.out.println("               2. Fish Ball Noodles");
+        getOutput().println("Sample input: wishlist");
+        getOutput().println("Sample output:");
+        getOutput().println("               1. Chicken Rice");
+        getOutput().println("               2. Fish Ball Noodles");
     }
 
     public void printRecipesCommandHelp() {
-        System.out.println("Entering the recipes command will list out all the meals from the recipes list.");
-        System.out.println("Sample input: recipes");
-        System.out.println("Sample output:");
-        System.out.println("               1. Chicken Rice");
-        System.out.println("               2. Fish Ball Noodles");
+        getOutput().println("Entering the recipes command will list out all the meals from the recipes list.");
+        getOutput().println("Sample input: recipes");
+        getOutput().println("Sample output:");
+        getOutput().println("               1. Chicken Rice");
+        getOutput().println("               2. Fish Ball Noodles");
     }
 
     public void printCreateCommandHelp() {
-        System.out.println("Entering the create command will create a new meal");
-        System.out.println("Sample input: create /mname Hokkien Mee /ing yellow noodle (1), thick " +
+        getOutput().println("Entering the create command will create a new meal");
+        getOutput().println("Sample input: create /mname Hokkien Mee /ing yellow noodle (1), thick " +
                            "bee hoon (1), prawn (1.2), egg (0.5), pork lard (0.2), squid (1.5), lime (0.1)");
-        System.out.println("Sample output:");
-        System.out.println("               1. Chicken Rice ($3.00)");
-        System.out.println("               2. Fish Ball Noodles ($3.00)");
-        System.out.println("               3. Hokkien Mee ($5.50)");
+        getOutput().println("Sample output:");
+        getOutput().println("               1. Chicken Rice ($3.00)");
+        getOutput().println("               2. Fish Ball Noodles ($3.00)");
+        getOutput().println("               3. Hokkien Mee ($5.50)");
     }
 
     public void printRemoveCommandHelp() {
-        System.out.println("Entering the remove command will remove a meal in the wishlist");
-        System.out.println("Sample input: remove 1 ");
-        System.out.println("Sample output:");
-        System.out.println("               OK.  Chicken Rice ($3.00) have been removed from the wishlist.");
+        getOutput().println("Entering the remove command will remove a meal in the wishlist");
+        getOutput().println("Sample input: remove 1 ");
+        getOutput().println("Sample output:");
+        getOutput().println("               OK.  Chicken Rice ($3.00) have been removed from the wishlist.");
     }
 
     public void printSelectCommandHelp() {
-        System.out.println("Entering the select command will add the selected meal from the filtered or unfiltered " +
+        getOutput().println("Entering the select command will add the selected meal from the filtered or unfiltered " +
                            "recipes list into the wishlist");
-        System.out.println("Sample input (filtered by ingredient(s)): select 1 /ing yellow noodle, fish");
-        System.out.println("Sample input (filtered by meal cost): select 1 /mcost 2");
-        System.out.println("Sample input (filtered by meal name(s)): select 1 /mname fish, ball");
-        System.out.println("Sample input: select 1");
-        System.out.println("Sample output based on the sample input 'select 1':");
-        System.out.println("               OK.  Chicken Rice ($3.00) have been added to the wishlist.");
+        getOutput().println("Sample input (filtered by ingredient(s)): select 1 /ing yellow noodle, fish");
+        getOutput().println("Sample input (filtered by meal cost): select 1 /mcost 2");
+        getOutput().println("Sample input (filtered by meal name(s)): select 1 /mname fish, ball");
+        getOutput().println("Sample input: select 1");
+        getOutput().println("Sample output based on the sample input 'select 1':");
+        getOutput().println("               OK.  Chicken Rice ($3.00) have been added to the wishlist.");
     }
 
     public void printFilterCommandHelp() {
-        System.out.println("Entering the filter command will filter a meal in the recipes list");
-        System.out.println("There are three filter option by cost, by ingredient or by meal name");
-        System.out.println("Sample input: filter /mcost 5.50");
-        System.out.println("Sample output:");
-        System.out.println("               1. Chicken Rice ($5.50)");
-        System.out.println("Sample input: filter /ing  Fish Ball");
-        System.out.println("Sample output:");
-        System.out.println("               1. Chicken Rice ($5.50)");
-        System.out.println("Sample input: filter /mname Hokkien Mee");
-        System.out.println("Sample output:");
-        System.out.println("               1. Hokkien Mee ($5.50)");
+        getOutput().println("Entering the filter command will filter a meal in the recipes list");
+        getOutput().println("There are three filter option by cost, by ingredient or by meal name");
+        getOutput().println("Sample input: filter /mcost 5.50");
+        getOutput().println("Sample output:");
+        getOutput().println("               1. Chicken Rice ($5.50)");
+        getOutput().println("Sample input: filter /ing  Fish Ball");
+        getOutput().println("Sample output:");
+        getOutput().println("               1. Chicken Rice ($5.50)");
+        getOutput().println("Sample input: filter /mname Hokkien Mee");
+        getOutput().println("Sample output:");
+        getOutput().println("               1. Hokkien Mee ($5.50)");
     }
 
     public void printDeleteCommandHelp() {
-        System.out.println("Entering the delete command will delete a meal in the recipes list");
-        System.out.println("Sample input: delete 1 ");
-        System.out.println("Sample output:");
-        System.out.println("               OK.  Chicken Rice ($3.00) have been deleted from the recipes list.");
+        getOutput().println("Entering the delete command will delete a meal in the recipes list");
+        getOutput().println("Sample input: delete 1 ");
+        getOutput().println("Sample output:");
+        getOutput().println("               OK.  Chicken Rice ($3.00) have been deleted from the recipes list.");
     }
 
     public void printViewCommandHelp() {
-        System.out.println("Entering the view command will give a view of all the ingredients of the selected meal");
-        System.out.println("Sample input: view 1 ");
-        System.out.println("Sample output:");
-        System.out.println("               1. yellow noodle");
-        System.out.println("               2. bee hoon");
-        System.out.println("               3. prawn");
-        System.out.println("               4. egg");
-        System.out.println("               5. pork lard");
-        System.out.println("               6. squid");
-        System.out.println("               7. lime");
+        getOutput().println("Entering the view command will give a view of all the ingredients of the selected meal");
+        getOutput().println("Sample input: view 1 ");
+        getOutput().println("Sample output:");
+        getOutput().println("               1. yellow noodle");
+        getOutput().println("               2. bee hoon");
+        getOutput().println("               3. prawn");
+        getOutput().println("               4. egg");
+        getOutput().println("               5. pork lard");
+        getOutput().println("               6. squid");
+        getOutput().println("               7. lime");
     }
 
     public void printClearCommandHelp() {
-        System.out.println("Entering the clear command will clear all the meals in the wishlist");
-        System.out.println("Sample input: clear");
-        System.out.println("Sample output:");
-        System.out.println("               The wishlist has been cleared.");
+        getOutput().println("Entering the clear command will clear all the meals in the wishlist");
+        getOutput().println("Sample input: clear");
+        getOutput().println("Sample output:");
+        getOutput().println("               The wishlist has been cleared.");
     }
 
     public void printHelpCommandHelp() {
-        System.out.println("Entering the help command followed by the command that requires help " +
+        getOutput().println("Entering the help command followed by the command that requires help " +
                            "will give brief explanation of the command");
-        System.out.println("Sample input: help bye");
-        System.out.println("Sample output:");
-        System.out.println("                Entering the bye command will gracefully exits the software");
-        System.out.println("                    Sample input: bye");
-        System.out.println("                    Sample output: Bye. Hope to see you again soon!");
+        getOutput().println("Sample input: help bye");
+        getOutput().println("Sample output:");
+        getOutput().println("                Entering the bye command will gracefully exits the software");
+        getOutput().println("                    Sample input: bye");
+        getOutput().println("                    Sample output: Bye. Hope to see you again soon!");
     }
 
     public void printConsumed(String ingredientName) {
-        System.out.println(ingredientName + " consumed");
+        getOutput().println(ingredientName + " consumed");
     }
 
     public void printBought(Ingredient ingredient) {
-        System.out.println(ingredient + " bought");
+        getOutput().println(ingredient + " bought");
     }
 
     public void printInventory(String inventoryString) {
         if (inventoryString.isEmpty()) {
-            System.out.println("No ingredients found in your inventory.\n");
+            getOutput().println("No ingredients found in your inventory.\n");
             return;
         }
 
-        System.out.println("Here are the ingredients that you own:");
-        System.out.print(inventoryString);
+        getOutput().println("Here are the ingredients that you own:");
+        getOutput().print(inventoryString);
     }
 
     public void printRecommendCommandHelp() {
-        System.out.println("Entering the recommend command with an ingredient keyword will suggest a meal");
-        System.out.println("based on that ingredient from your wishlist or the recipe list.");
-        System.out.println("Sample input: recommend /ing chicken");
-        System.out.println("Sample output:");
-        System.out.println("                Recommended Meal: Kung Pao Chicken (Kung Pao Chicken ($3.60))");
-        System.out.println("                Ingredients:");
-        System.out.println("                   1. Chicken ($2.00)");
-        System.out.println("                   2. Chilli ($0.50)");
-        System.out.println("                   3. Peanuts ($0.70)");
-        System.out.println("                   4. Sichuan Pepper ($0.40)");
-        System.out.println("                Missing Ingredients: Chicken, Chilli, Peanuts, Sichuan Pepper");
+        getOutput().println("Entering the recommend command with an ingredient keyword will suggest a meal");
+        getOutput().println("based on that ingredient from your wishlist or the recipe list.");
+        getOutput().println("Sample input: recommend /ing chicken");
+        getOutput().println("Sample output:");
+        getOutput().println("                Recommended Meal: Kung Pao Chicken (Kung Pao Chicken ($3.60))");
+        getOutput().println("                Ingredients:");
+        getOutput().println("                   1. Chicken ($2.00)");
+        getOutput().println("                   2. Chilli ($0.50)");
+        getOutput().println("                   3. Peanuts ($0.70)");
+        getOutput().println("                   4. Sichuan Pepper ($0.40)");
+        getOutput().println("                Missing Ingredients: Chicken, Chilli, Peanuts, Sichuan Pepper");
     }
 
     public void printConsumeCommandHelp() {
-        System.out.println("Entering the consume command will consume an ingredient from your inventory.");
-        System.out.println("You must specify the ingredient name using the /ing prefix.");
-        System.out.println("Sample input: consume /ing egg");
-        System.out.println("Sample output:");
-        System.out.println("                egg consumed");
+        getOutput().println("Entering the consume command will consume an ingredient from your inventory.");
+        getOutput().println("You must specify the ingredient name using the /ing prefix.");
+        getOutput().println("Sample input: consume /ing egg");
+        getOutput().println("Sample output:");
+        getOutput().println("                egg consumed");
     }
 
     public void printBuyCommandHelp() {
-        System.out.println("Entering the buy command will add an ingredient to your inventory.");
-        System.out.println("You must specify the ingredient names using the /ing prefix " +
+        getOutput().println("Entering the buy command will add an ingredient to your inventory.");
+        getOutput().println("You must specify the ingredient names using the /ing prefix " +
                 "followed by their prices ");
-        System.out.println("Sample input: buy /ing egg (1.00)");
-        System.out.println("Sample output:");
-        System.out.println("                egg ($1.00) bought");
+        getOutput().println("Sample input: buy /ing egg (1.00)");
+        getOutput().println("Sample output:");
+        getOutput().println("                egg ($1.00) bought");
     }
 
     public void printInventoryCommandHelp() {
-        System.out.println("Entering the inventory command will show all ingredients currently in your inventory.");
-        System.out.println("Sample input: inventory");
-        System.out.println("Sample output:");
-        System.out.println("                Inventory List:");
-        System.out.println("                   1. egg ($1.00)");
-        System.out.println("                   2. chicken breast ($3.25)");
-        System.out.println("                   3. rice ($1.00)");
+        getOutput().println("Entering the inventory command will show all ingredients currently in your inventory.");
+        getOutput().println("Sample input: inventory");
+        getOutput().println("Sample output:");
+        getOutput().println("                Inventory List:");
+        getOutput().println("                   1. egg ($1.00)");
+        getOutput().println("                   2. chicken breast ($3.25)");
+        getOutput().println("                   3. rice ($1.00)");
+    }
+
+    public void printCookableMeals(List<Meal> meals, int maxMissingCount) {
+        if (meals.isEmpty()) {
+            getOutput().println("No meals in the recipes list can be cooked with your inventory.\n");
+            return;
+        }
+
+        String missingMessage = maxMissingCount == 0 ? "with your inventory"
+                : "with at most " + maxMissingCount + " missing ingredient(s)";
+        getOutput().println("Here are the meals in the recipes list that you can cook " + missingMessage + ":");
+        int count = 0;
+        for (Meal meal : meals) {
+            count++;
+            getOutput().println("    " + count + ". " + meal);
+        }
+        getOutput().println();
+    }
+
+    public void printCookableCommandHelp() {
+        getOutput().println("Entering the cookable command will list the meals in the recipes list that you can cook");
+        getOutput().println("with the ingredients in your inventory. Add /missing 1 to also list the meals that are");
+        getOutput().println("missing only one ingredient.");
+        getOutput().println("Sample input: cookable /missing 1");
+        getOutput().println("Sample output:");
+        getOutput().println("                Here are the meals in the recipes list that you can cook with at most "
+                + "1 missing ingredient(s):");
+        getOutput().println("                    1. Egg Fried Rice ($3.00)");
+    }
+
+    public void printShoppingList(ShoppingList shoppingList) {
+        if (shoppingList.isEmpty()) {
+            getOutput().println("You already have every ingredient needed for the meals in your wishlist.\n");
+            return;
+        }
+
+        getOutput().println("Here are the ingredients to buy for the meals in your wishlist:");
+        int count = 0;
+        for (ShoppingItem item : shoppingList.getItems()) {
+            count++;
+            getOutput().println("    " + count + ". " + item);
+        }
+        getOutput().println("Total cost: $" + String.format("%.2f", shoppingList.getTotalCost()));
+        getOutput().println();
+    }
+
+    public void printShopCommandHelp() {
+        getOutput().println("Entering the shop command will list the ingredients needed for the meals in your");
+        getOutput().println("wishlist that are not in your inventory yet. Add /buy to buy all of them at once.");
+        getOutput().println("Sample input: shop");
+        getOutput().println("Sample output:");
+        getOutput().println("                Here are the ingredients to buy for the meals in your wishlist:");
+        getOutput().println("                    1. egg ($0.50) x2");
+        getOutput().println("                    2. rice ($1.00) x1");
+        getOutput().println("                Total cost: $2.00");
+    }
+
+    public void printStats(String statsTable) {
+        getOutput().println("Here are the command latencies and errors since EZMealPlan started:");
+        getOutput().println(statsTable);
+        getOutput().println();
+    }
+
+    public void printMemoryStats(String memoryTable) {
+        getOutput().println("Here is the estimated memory taken by your lists, their strings and their indexes:");
+        getOutput().println(memoryTable);
+        getOutput().println();
+    }
+
+    public void printStatsCommandHelp() {
+        getOutput().println("Entering the stats command will show how many times each command ran, how long it took");
+        getOutput().println("to parse, check, execute and save, and how many errors of each kind occurred.");
+        getOutput().println("Add memory to estimate the memory taken by your lists, their strings and their indexes.");
+        getOutput().println("Sample input: stats");
+        getOutput().println("Sample output:");
+        getOutput().println("                Here are the command latencies and errors since EZMealPlan started:");
+        getOutput().println("                stage    name              count    mean ms     p50 ms ...");
+        getOutput().println("                execute  filter               12      1.204      0.983 ...");
+        getOutput().println("Sample input: stats memory");
+        getOutput().println("Sample output:");
+        getOutput().println("                Here is the estimated memory taken by your lists, their strings and ...");
+        getOutput().println("                part                    bytes        MiB");
+        getOutput().println("                recipes list            51584       0.05");
     }
 }
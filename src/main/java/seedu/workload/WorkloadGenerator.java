@@ -0,0 +1,328 @@
+package seedu.workload;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Ingredient;
+import seedu.food.Meal;
+import seedu.meallist.MealList;
+import seedu.storage.Storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Generates synthetic recipes, wishlist and inventory files in the Storage file format, and command scripts that
+ * match them, so that the app can be tested at sizes far beyond the preset meals.
+ * Ingredient popularity follows a Zipf distribution, and some meals share their names with other meals.
+ * The same seed and sizes always give the same files and scripts.
+ */
+public class WorkloadGenerator {
+    public static final double DEFAULT_ZIPF_EXPONENT = 1.0;
+    public static final String COMMANDS_FILE_NAME = "commands.txt";
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private static final String[] STYLE_WORDS = {"Fried", "Steamed", "Braised", "Spicy", "Roast", "Claypot",
+        "Grilled", "Sweet Sour", "Herbal", "Curry", "Crispy", "Dry"};
+    private static final String[] DISH_WORDS = {"Rice", "Noodles", "Soup", "Porridge", "Salad", "Stew", "Bun",
+        "Wrap", "Bowl", "Omelette", "Stir Fry", "Hotpot", "Laksa", "Pie", "Kway Teow", "Bee Hoon"};
+    private static final String[] INGREDIENT_WORDS = {"Rice", "Egg", "Chicken", "Garlic", "Onion", "Soy Sauce",
+        "Pork", "Beef", "Tofu", "Prawn", "Chilli", "Ginger", "Noodles", "Spring Onion", "Fish", "Coconut Milk",
+        "Tomato", "Cabbage", "Mushroom", "Carrot", "Potato", "Lemongrass", "Peanut", "Cucumber", "Squid",
+        "Bean Sprouts", "Lime", "Shallot", "Sugar", "Salt", "Pepper", "Basil", "Coriander", "Sesame Oil",
+        "Oyster Sauce", "Fish Sauce", "Belacan", "Tamarind", "Kangkong", "Eggplant", "Duck", "Lamb", "Crab",
+        "Clam", "Corn", "Pea", "Spinach", "Broccoli", "Butter", "Milk", "Cheese", "Flour", "Bread", "Curry Paste",
+        "Turmeric", "Cinnamon", "Star Anise", "Vinegar", "Honey", "Anchovies"};
+    private static final String[] INGREDIENT_QUALIFIERS = {"", "Fresh ", "Dried ", "Minced ", "Smoked ",
+        "Pickled ", "Ground ", "Sliced "};
+    private static final int MIN_INGREDIENT_COUNT = 2;
+    private static final int MAX_INGREDIENT_COUNT = 8;
+    private static final double NAME_COLLISION_RATE = 0.05;
+    private static final double WISH_LIST_RATE = 0.02;
+    private static final double INVENTORY_RATE = 0.3;
+    private static final int MAX_WISH_LIST_SIZE = 10_000;
+    private static final long RECIPES_STREAM = 1;
+    private static final long WISH_LIST_STREAM = 2;
+    private static final long INVENTORY_STREAM = 3;
+    private static final long COMMANDS_STREAM = 4;
+    private static final long PRICES_STREAM = 5;
+
+    private final long seed;
+    private final int mealCount;
+    private final ZipfDistribution ingredientPopularity;
+    private final String[] ingredientPrices;
+
+    /**
+     * Constructs a generator of mealCount recipes, with a number of distinct ingredients that grows with the square
+     * root of mealCount and the default Zipf exponent.
+     */
+    public WorkloadGenerator(long seed, int mealCount) {
+        this(seed, mealCount, Math.max(100, (int) (10 * Math.sqrt(mealCount))), DEFAULT_ZIPF_EXPONENT);
+    }
+
+    public WorkloadGenerator(long seed, int mealCount, int ingredientCount, double zipfExponent) {
+        assert mealCount > 0 : "A workload needs at least one meal";
+        assert ingredientCount >= MAX_INGREDIENT_COUNT : "A workload needs enough ingredients to fill every meal";
+        this.seed = seed;
+        this.mealCount = mealCount;
+        this.ingredientPopularity = new ZipfDistribution(ingredientCount, zipfExponent);
+        this.ingredientPrices = new String[ingredientCount];
+        Random random = createRandom(PRICES_STREAM);
+        for (int rank = 0; rank < ingredientCount; rank++) {
+            ingredientPrices[rank] = formatPrice(10 + random.nextInt(490));
+        }
+    }
+
+    // Every kind of output has its own random stream, so changing one size does not change the other outputs.
+    private Random createRandom(long stream) {
+        return new Random(seed * 31 + stream);
+    }
+
+    private static String formatPrice(int cents) {
+        return (cents / 100) + "." + String.format("%02d", cents % 100);
+    }
+
+    /**
+     * Returns the name of the ingredient with the given popularity rank, where rank 0 is the most popular.
+     */
+    public static String getIngredientName(int rank) {
+        int wordCount = INGREDIENT_WORDS.length;
+        int qualifierCount = INGREDIENT_QUALIFIERS.length;
+        String name = INGREDIENT_QUALIFIERS[(rank / wordCount) % qualifierCount] + INGREDIENT_WORDS[rank % wordCount];
+        int round = rank / (wordCount * qualifierCount);
+        return round == 0 ? name : name + " " + (round + 1);
+    }
+
+    private Ingredient createIngredient(int rank) throws EZMealPlanException {
+        return new Ingredient(getIngredientName(rank), ingredientPrices[rank]);
+    }
+
+    private Meal createMeal(Random random, List<Meal> earlierMeals) throws EZMealPlanException {
+        Meal meal = new Meal(createMealName(random, earlierMeals));
+        int ingredientCount = MIN_INGREDIENT_COUNT + random.nextInt(MAX_INGREDIENT_COUNT - MIN_INGREDIENT_COUNT + 1);
+        Set<Integer> ranks = new LinkedHashSet<>();
+        while (ranks.size() < ingredientCount) {
+            ranks.add(ingredientPopularity.sample(random));
+        }
+        for (int rank : ranks) {
+            meal.addIngredient(createIngredient(rank));
+        }
+        return meal;
+    }
+
+    // Some meals reuse the name of an earlier meal, sometimes in another case, as users often create variants.
+    private String createMealName(Random random, List<Meal> earlierMeals) {
+        if (!earlierMeals.isEmpty() && random.nextDouble() < NAME_COLLISION_RATE) {
+            String earlierName = earlierMeals.get(random.nextInt(earlierMeals.size())).getName();
+            return switch (random.nextInt(3)) {
+            case 0 -> earlierName.toLowerCase();
+            case 1 -> earlierName.toUpperCase();
+            default -> earlierName;
+            };
+        }
+        String mainIngredient = INGREDIENT_WORDS[ingredientPopularity.sample(random) % INGREDIENT_WORDS.length];
+        return STYLE_WORDS[random.nextInt(STYLE_WORDS.length)] + " " + mainIngredient + " "
+                + DISH_WORDS[random.nextInt(DISH_WORDS.length)];
+    }
+
+    // Meals are equal when their names are equal ignoring case and their ingredients are equal.
+    private static String getMealKey(Meal meal) {
+        return meal.toDataString().toLowerCase();
+    }
+
+    /**
+     * Returns the generated recipes, without duplicate meals and in recipes list order.
+     */
+    public List<Meal> generateRecipes() throws EZMealPlanException {
+        Random random = createRandom(RECIPES_STREAM);
+        List<Meal> recipes = new ArrayList<>(mealCount);
+        Set<String> mealKeys = new HashSet<>();
+        while (recipes.size() < mealCount) {
+            Meal meal = createMeal(random, recipes);
+            if (mealKeys.add(getMealKey(meal))) {
+                recipes.add(meal);
+            }
+        }
+        recipes.sort(MealList.MEAL_ORDER);
+        return recipes;
+    }
+
+    /**
+     * Returns a wishlist of distinct meals picked from the given recipes.
+     */
+    public List<Meal> generateWishList(List<Meal> recipes) {
+        Random random = createRandom(WISH_LIST_STREAM);
+        int wishListSize = (int) Math.min(MAX_WISH_LIST_SIZE, Math.max(1, recipes.size() * WISH_LIST_RATE));
+        Set<Integer> positions = new LinkedHashSet<>();
+        while (positions.size() < Math.min(wishListSize, recipes.size())) {
+            positions.add(random.nextInt(recipes.size()));
+        }
+        List<Meal> wishList = new ArrayList<>();
+        positions.forEach(position -> wishList.add(recipes.get(position)));
+        return wishList;
+    }
+
+    /**
+     * Returns the lines of the inventory file, where popular ingredients are more likely to be in stock and are
+     * stocked in larger quantities.
+     */
+    public List<String> generateInventoryLines() throws EZMealPlanException {
+        Random random = createRandom(INVENTORY_STREAM);
+        int ingredientCount = ingredientPopularity.size();
+        List<Ingredient> stockedIngredients = new ArrayList<>();
+        Map<Ingredient, Integer> quantities = new LinkedHashMap<>();
+        for (int rank = 0; rank < ingredientCount; rank++) {
+            boolean isPopular = rank < ingredientCount / 10;
+            if (isPopular || random.nextDouble() < INVENTORY_RATE) {
+                Ingredient ingredient = createIngredient(rank);
+                stockedIngredients.add(ingredient);
+                quantities.put(ingredient, 1 + random.nextInt(isPopular ? 10 : 3));
+            }
+        }
+        // The same order as Inventory.toDataArray, so the file is what the app would save itself.
+        stockedIngredients.sort(Comparator.comparing(Ingredient::getNameKey)
+                .thenComparingDouble(Ingredient::getPrice));
+        List<String> lines = new ArrayList<>();
+        for (Ingredient ingredient : stockedIngredients) {
+            lines.add(ingredient.toDataString() + " | " + quantities.get(ingredient));
+        }
+        return lines;
+    }
+
+    /**
+     * Returns a script of commandCount commands to run against the given recipes, mixing filter, select, buy,
+     * consume, create and delete commands.
+     * The script follows the recipes list and the inventory as the commands change them, so that indexes and
+     * consumed ingredients are valid when the script is replayed from the generated files.
+     */
+    public List<String> generateCommands(List<Meal> recipes, int commandCount) throws EZMealPlanException {
+        Random random = createRandom(COMMANDS_STREAM);
+        List<Meal> currentRecipes = new ArrayList<>(recipes);
+        Set<String> mealKeys = new HashSet<>();
+        currentRecipes.forEach(meal -> mealKeys.add(getMealKey(meal)));
+        Map<String, Integer> stock = new LinkedHashMap<>();
+        List<String> commands = new ArrayList<>(commandCount);
+        while (commands.size() < commandCount) {
+            int choice = random.nextInt(100);
+            if (choice < 30) {
+                commands.add(createFilterCommand(random, currentRecipes));
+            } else if (choice < 45 && !currentRecipes.isEmpty()) {
+                commands.add(createSelectCommand(random, currentRecipes));
+            } else if (choice < 65 || (choice < 75 && stock.isEmpty())) {
+                commands.add(createBuyCommand(random, stock));
+            } else if (choice < 75) {
+                commands.add(createConsumeCommand(random, stock));
+            } else if (choice < 90) {
+                commands.add(createCreateCommand(random, currentRecipes, mealKeys));
+            } else if (!currentRecipes.isEmpty()) {
+                int index = 1 + random.nextInt(currentRecipes.size());
+                mealKeys.remove(getMealKey(currentRecipes.remove(index - 1)));
+                commands.add("delete " + index);
+            }
+        }
+        return commands;
+    }
+
+    private String createFilterCommand(Random random, List<Meal> currentRecipes) {
+        String popularIngredient = getIngredientName(ingredientPopularity.sample(random)).toLowerCase();
+        return switch (random.nextInt(4)) {
+        case 0 -> "filter /ing " + popularIngredient;
+        case 1 -> "filter /ing " + popularIngredient + ", "
+                + getIngredientName(ingredientPopularity.sample(random)).toLowerCase();
+        case 2 -> "filter /mname " + DISH_WORDS[random.nextInt(DISH_WORDS.length)].toLowerCase();
+        default -> currentRecipes.isEmpty() ? "filter /mcost 5.00" : "filter /mcost "
+                + String.format("%.2f", currentRecipes.get(random.nextInt(currentRecipes.size())).getPrice());
+        };
+    }
+
+    private String createSelectCommand(Random random, List<Meal> currentRecipes) {
+        if (random.nextInt(4) == 0) {
+            String popularIngredient = getIngredientName(ingredientPopularity.sample(random)).toLowerCase();
+            return "select 1 /ing " + popularIngredient;
+        }
+        return "select " + (1 + random.nextInt(currentRecipes.size()));
+    }
+
+    private String createBuyCommand(Random random, Map<String, Integer> stock) {
+        int ingredientCount = 1 + random.nextInt(3);
+        List<String> boughtIngredients = new ArrayList<>();
+        for (int i = 0; i < ingredientCount; i++) {
+            int rank = ingredientPopularity.sample(random);
+            String ingredientName = getIngredientName(rank);
+            boughtIngredients.add(ingredientName + "(" + ingredientPrices[rank] + ")");
+            stock.merge(ingredientName, 1, Integer::sum);
+        }
+        return "buy /ing " + String.join(", ", boughtIngredients);
+    }
+
+    private String createConsumeCommand(Random random, Map<String, Integer> stock) {
+        List<String> stockedNames = new ArrayList<>(stock.keySet());
+        String ingredientName = stockedNames.get(random.nextInt(stockedNames.size()));
+        if (stock.merge(ingredientName, -1, Integer::sum) == 0) {
+            stock.remove(ingredientName);
+        }
+        return "consume /ing " + ingredientName;
+    }
+
+    private String createCreateCommand(Random random, List<Meal> currentRecipes, Set<String> mealKeys)
+            throws EZMealPlanException {
+        Meal meal = createMeal(random, currentRecipes);
+        if (mealKeys.add(getMealKey(meal))) {
+            // Added after every meal that sorts the same, as the recipes list does.
+            int position = Collections.binarySearch(currentRecipes, meal, MealList.MEAL_ORDER);
+            position = position < 0 ? -position - 1 : position;
+            while (position < currentRecipes.size()
+                    && MealList.MEAL_ORDER.compare(currentRecipes.get(position), meal) == 0) {
+                position++;
+            }
+            currentRecipes.add(position, meal);
+        }
+        List<String> ingredients = new ArrayList<>();
+        for (Ingredient ingredient : meal.getIngredientList()) {
+            ingredients.add(ingredient.getName() + "(" + String.format("%.2f", ingredient.getPrice()) + ")");
+        }
+        return "create /mname " + meal.getName() + " /ing " + String.join(", ", ingredients);
+    }
+
+    /**
+     * Writes the recipes list, wishlist and inventory files of a storage in the given directory, and a script of
+     * commandCount commands in the commands file next to them.
+     */
+    public void writeFiles(File directory, int commandCount) throws EZMealPlanException, IOException {
+        Storage storage = new Storage(directory);
+        storage.createListFiles();
+        List<Meal> recipes = generateRecipes();
+        Files.write(storage.getRecipesListFile().toPath(), toDataLines(recipes));
+        Files.write(storage.getWishListFile().toPath(), toDataLines(generateWishList(recipes)));
+        Files.write(storage.getInventoryListFile().toPath(), generateInventoryLines());
+        Files.write(new File(directory, COMMANDS_FILE_NAME).toPath(), generateCommands(recipes, commandCount));
+        logger.info(() -> "Generated " + recipes.size() + " meals and " + commandCount + " commands in " + directory);
+    }
+
+    private static List<String> toDataLines(List<Meal> meals) {
+        List<String> lines = new ArrayList<>(meals.size());
+        meals.forEach(meal -> lines.add(meal.toDataString()));
+        return lines;
+    }
+
+    /**
+     * Generates a workload.
+     * Arguments: [directory] [number of meals] [number of commands] [seed].
+     */
+    public static void main(String[] args) throws EZMealPlanException, IOException {
+        File directory = new File(args.length > 0 ? args[0] : "build/workload");
+        int mealCount = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int commandCount = args.length > 2 ? Integer.parseInt(args[2]) : 1_000;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 0;
+        new WorkloadGenerator(seed, mealCount).writeFiles(directory, commandCount);
+    }
+}
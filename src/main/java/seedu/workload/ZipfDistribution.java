@@ -0,0 +1,48 @@
+package seedu.workload;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Draws ranks from 0 to size - 1, where rank r is drawn with a probability proportional to 1 / (r + 1)^exponent.
+ * Rank 0 is the most popular, and a larger exponent makes the popular ranks more dominant.
+ */
+public class ZipfDistribution {
+    private final double[] cumulativeProbabilities;
+
+    public ZipfDistribution(int size, double exponent) {
+        assert size > 0 : "A Zipf distribution needs at least one rank";
+        assert exponent >= 0 : "A Zipf exponent cannot be negative";
+        cumulativeProbabilities = new double[size];
+        double total = 0;
+        for (int rank = 0; rank < size; rank++) {
+            total += 1 / Math.pow(rank + 1, exponent);
+            cumulativeProbabilities[rank] = total;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulativeProbabilities[rank] /= total;
+        }
+    }
+
+    public int size() {
+        return cumulativeProbabilities.length;
+    }
+
+    /**
+     * Returns the probability of drawing the given rank.
+     */
+    public double getProbability(int rank) {
+        double previousProbability = rank == 0 ? 0 : cumulativeProbabilities[rank - 1];
+        return cumulativeProbabilities[rank] - previousProbability;
+    }
+
+    /**
+     * Draws one rank using the given random number generator.
+     */
+    public int sample(Random random) {
+        double target = random.nextDouble();
+        int searchResult = Arrays.binarySearch(cumulativeProbabilities, target);
+        int rank = searchResult >= 0 ? searchResult : -searchResult - 1;
+        return Math.min(rank, cumulativeProbabilities.length - 1);
+    }
+}
@@ -0,0 +1,40 @@
+package seedu;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Ingredient;
+import seedu.food.Meal;
+
+import java.io.File;
+
+/**
+ * Helpers shared by the tests.
+ */
+public final class TestUtil {
+    private TestUtil() {
+    }
+
+    /**
+     * Returns a meal with the given name and ingredients, given as pairs of an ingredient name and its price.
+     */
+    public static Meal createMeal(String mealName, String... ingredientsAndPrices) throws EZMealPlanException {
+        assert ingredientsAndPrices.length % 2 == 0 : "Every ingredient needs a price";
+        Meal meal = new Meal(mealName);
+        for (int i = 0; i < ingredientsAndPrices.length; i += 2) {
+            meal.addIngredient(new Ingredient(ingredientsAndPrices[i], ingredientsAndPrices[i + 1]));
+        }
+        return meal;
+    }
+
+    /**
+     * Deletes a data directory and the files in it.
+     */
+    public static void deleteDirectory(File directory) {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+}
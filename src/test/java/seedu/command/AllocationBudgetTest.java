@@ -0,0 +1,215 @@
+package seedu.command;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Meal;
+import seedu.logic.MealManager;
+import seedu.parser.Parser;
+import seedu.storage.Storage;
+import seedu.ui.UserInterface;
+import seedu.workload.WorkloadGenerator;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that every command type allocates no more than its budget per invocation against a fixed catalog.
+ * Budgets are in allocationBudgets.properties; a failure message shows the measured bytes, so a budget can be
+ * re-recorded when a change is meant to allocate more.
+ * Allocation depends on the JVM, so this runs in the performanceTest task rather than in the test task.
+ */
+@Tag("performance")
+public class AllocationBudgetTest {
+    private static final Logger logger = Logger.getLogger(AllocationBudgetTest.class.getName());
+    private static final String BUDGETS_FILE_NAME = "allocationBudgets.properties";
+    private static final int CATALOG_SIZE = 10_000;
+    private static final int WARMUP_COUNT = 10;
+    private static final int MEASURED_COUNT = 11;
+    private static final ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final Properties budgets = new Properties();
+    private static List<Meal> recipes;
+    private static File dataDirectory;
+    private static Storage storage;
+    private static MealManager mealManager;
+    private static UserInterface ui;
+
+    @BeforeAll
+    public static void setUp() throws EZMealPlanException, IOException {
+        setupLogger();
+        try (InputStream budgetsInput = AllocationBudgetTest.class.getResourceAsStream(BUDGETS_FILE_NAME)) {
+            budgets.load(budgetsInput);
+        }
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        dataDirectory = Files.createTempDirectory("AllocationBudgetTest").toFile();
+        WorkloadGenerator generator = new WorkloadGenerator(38, CATALOG_SIZE);
+        generator.writeFiles(dataDirectory, 0);
+        storage = new Storage(dataDirectory);
+        recipes = generator.generateRecipes();
+        mealManager = new MealManager();
+        mealManager.getRecipesList().addMeals(recipes);
+        storage.loadExistingInventory(mealManager);
+        ui = new UserInterface(new ByteArrayInputStream(new byte[0]), new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        File[] files = dataDirectory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dataDirectory.delete();
+    }
+
+    private static void setupLogger() {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        try {
+            FileHandler fileHandler = new FileHandler("AllocationBudgetTest.log", true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    /**
+     * One measured action, with an unmeasured action that undoes it so that every invocation starts from the
+     * same lists and inventory.
+     */
+    private interface Action {
+        void run() throws EZMealPlanException, IOException;
+    }
+
+    private static void runCommand(String userInput) throws EZMealPlanException {
+        Parser.parse(userInput, storage).execute(mealManager, ui);
+    }
+
+    // Returns the median number of bytes that the current thread allocates to run the action once.
+    private static long measureAllocatedBytes(Action action, Action undo) throws EZMealPlanException, IOException {
+        long[] allocatedBytes = new long[MEASURED_COUNT];
+        for (int i = 0; i < WARMUP_COUNT + MEASURED_COUNT; i++) {
+            long bytesBefore = threadBean.getCurrentThreadAllocatedBytes();
+            action.run();
+            long bytesAfter = threadBean.getCurrentThreadAllocatedBytes();
+            undo.run();
+            if (i >= WARMUP_COUNT) {
+                allocatedBytes[i - WARMUP_COUNT] = bytesAfter - bytesBefore;
+            }
+        }
+        Arrays.sort(allocatedBytes);
+        return allocatedBytes[MEASURED_COUNT / 2];
+    }
+
+    private static void checkBudget(String budgetName, Action action, Action undo, List<String> overBudgets)
+            throws EZMealPlanException, IOException {
+        String budget = budgets.getProperty(budgetName);
+        assertTrue(budget != null, "No allocation budget for " + budgetName);
+        long allocatedBytes = measureAllocatedBytes(action, undo);
+        logger.info(budgetName + " allocates " + allocatedBytes + " bytes (budget " + budget + ")");
+        if (allocatedBytes > Long.parseLong(budget)) {
+            overBudgets.add(budgetName + " allocated " + allocatedBytes + " bytes, over its budget of " + budget);
+        }
+    }
+
+    private static void checkCommandBudget(String budgetName, String userInput, Action undo,
+                                           List<String> overBudgets) throws EZMealPlanException, IOException {
+        checkBudget(budgetName, () -> runCommand(userInput), undo, overBudgets);
+    }
+
+    private static void doNothing() {
+    }
+
+    @Test
+    public void readCommands_largeCatalog_withinBudget() throws EZMealPlanException, IOException {
+        logger.fine("Running readCommands_largeCatalog_withinBudget()");
+        assertTrue(threadBean.isThreadAllocatedMemorySupported());
+        String popularIngredient = WorkloadGenerator.getIngredientName(0).toLowerCase();
+        String mealCost = String.format("%.2f", recipes.get(CATALOG_SIZE / 2).getPrice());
+        List<String> overBudgets = new ArrayList<>();
+        checkCommandBudget("filterByIng", "filter /ing " + popularIngredient, AllocationBudgetTest::doNothing,
+                overBudgets);
+        checkCommandBudget("filterByMname", "filter /mname noodles", AllocationBudgetTest::doNothing, overBudgets);
+        checkCommandBudget("filterByMcost", "filter /mcost " + mealCost, AllocationBudgetTest::doNothing,
+                overBudgets);
+        checkCommandBudget("filterByMultiple", "filter /ing " + popularIngredient + " /mname rice /exclude egg",
+                AllocationBudgetTest::doNothing, overBudgets);
+        checkCommandBudget("recipes", "recipes", AllocationBudgetTest::doNothing, overBudgets);
+        checkCommandBudget("wishlist", "wishlist", AllocationBudgetTest::doNothing, overBudgets);
+        checkCommandBudget("view", "view /r " + CATALOG_SIZE / 2, AllocationBudgetTest::doNothing, overBudgets);
+        checkCommandBudget("recommend", "recommend /ing " + popularIngredient + " /top 3",
+                AllocationBudgetTest::doNothing, overBudgets);
+        checkCommandBudget("inventory", "inventory", AllocationBudgetTest::doNothing, overBudgets);
+        checkCommandBudget("cookable", "cookable /missing 1", AllocationBudgetTest::doNothing, overBudgets);
+        checkCommandBudget("shop", "shop", AllocationBudgetTest::doNothing, overBudgets);
+        checkCommandBudget("help", "help filter", AllocationBudgetTest::doNothing, overBudgets);
+        assertTrue(overBudgets.isEmpty(), String.join(System.lineSeparator(), overBudgets));
+        logger.info("Every read command is within its allocation budget");
+    }
+
+    @Test
+    public void writeCommands_largeCatalog_withinBudget() throws EZMealPlanException, IOException {
+        logger.fine("Running writeCommands_largeCatalog_withinBudget()");
+        assertTrue(threadBean.isThreadAllocatedMemorySupported());
+        List<String> overBudgets = new ArrayList<>();
+        int middleIndex = CATALOG_SIZE / 2;
+        Meal middleMeal = recipes.get(middleIndex - 1);
+        checkCommandBudget("select", "select " + middleIndex, () -> runCommand("clear"), overBudgets);
+        checkCommandBudget("createThenDelete", "create /mname Zzz Budget Meal /ing egg(1.00), rice(2.00)",
+                () -> runCommand("delete " + mealManager.getRecipesList().getList().size()), overBudgets);
+        checkCommandBudget("deleteThenRecreate", "delete " + middleIndex,
+                () -> mealManager.addMeal(middleMeal, mealManager.getRecipesList()), overBudgets);
+        checkCommandBudget("buy", "buy /ing Budget Egg(1.00), Budget Rice(2.00)",
+                () -> runCommand("consume /ing Budget Egg, Budget Rice"), overBudgets);
+        runCommand("buy /ing Budget Egg(1.00), Budget Rice(2.00)");
+        checkCommandBudget("consume", "consume /ing Budget Egg, Budget Rice",
+                () -> runCommand("buy /ing Budget Egg(1.00), Budget Rice(2.00)"), overBudgets);
+        runCommand("consume /ing Budget Egg, Budget Rice");
+        runCommand("select 1");
+        checkCommandBudget("remove", "remove 1", () -> runCommand("select 1"), overBudgets);
+        checkCommandBudget("clear", "clear", () -> runCommand("select 1"), overBudgets);
+        runCommand("clear");
+        assertTrue(overBudgets.isEmpty(), String.join(System.lineSeparator(), overBudgets));
+        logger.info("Every write command is within its allocation budget");
+    }
+
+    @Test
+    public void storage_largeCatalog_withinBudget() throws EZMealPlanException, IOException {
+        logger.fine("Running storage_largeCatalog_withinBudget()");
+        assertTrue(threadBean.isThreadAllocatedMemorySupported());
+        List<String> overBudgets = new ArrayList<>();
+        checkBudget("loadRecipesList", () -> Storage.loadExistingList(storage.getRecipesListFile()),
+                AllocationBudgetTest::doNothing, overBudgets);
+        checkBudget("bye", () -> new ByeCommand(storage).execute(mealManager, ui), AllocationBudgetTest::doNothing,
+                overBudgets);
+        assertTrue(overBudgets.isEmpty(), String.join(System.lineSeparator(), overBudgets));
+        logger.info("Loading and saving the lists are within their allocation budgets");
+    }
+}
@@ -29,11 +29,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class ByeCommandTest {
     private static final Logger logger = Logger.getLogger(ByeCommandTest.class.getName());
+    private static final Storage storage = new Storage();
     final MealManager mealManager = new MealManager();
     private UserInterface ui;
     private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
@@ -82,9 +85,9 @@ public class ByeCommandTest {
     public void byeCommandTest_success() {
         logger.fine("running byeCommandTest_success()");
         try {
-            Storage.createListFiles();
+            storage.createListFiles();
             List<Meal> mealsList = Storage.loadPresetMeals();
-            Storage.loadExistingInventory(mealManager);
+            storage.loadExistingInventory(mealManager);
             List<Meal> expectedRecipesList = getExpectedRecipesList(mealsList);
             List<Meal> expectedWishList = getExpectedWishList(mealsList);
             List<Ingredient> expectedInventoryList = getExpectedInventoryList();
@@ -100,6 +103,16 @@ public class ByeCommandTest {
         }
     }
 
+    @Test
+    public void getSaveLock_storagesOfOneDirectory_sameLock() {
+        logger.fine("running getSaveLock_storagesOfOneDirectory_sameLock()");
+        Object saveLock = new Storage().getSaveLock();
+        assertSame(saveLock, new Storage(new File("data")).getSaveLock());
+        assertSame(saveLock, new Storage(new File("./data")).getSaveLock());
+        assertNotEquals(saveLock, new Storage(new File("otherData")).getSaveLock());
+        logger.info("getSaveLock_storagesOfOneDirectory_sameLock() passed");
+    }
+
     private List<Ingredient> getExpectedInventoryList() throws EZMealPlanException {
         Inventory inventory = mealManager.getInventory();
         Ingredient firstIngredient = new Ingredient("firstIngredient","1.50");
@@ -113,7 +126,7 @@ public class ByeCommandTest {
     private void compareFileAndExpectedLists_success(List<Meal> expectedRecipesList, List<Meal> expectedWishList,
                                                      List<Ingredient> expectedInventoryList, List<File> latestFiles)
             throws IOException {
-        Storage.createListFiles();
+        storage.createListFiles();
         checkRecipesLists(expectedRecipesList);
         checkWishLists(expectedWishList);
         checkInventoryLists(expectedInventoryList);
@@ -137,7 +150,7 @@ public class ByeCommandTest {
     }
 
     private void restoreLatestInventoryList(File tempInventoryListFile) throws IOException {
-        File inventoryListFile = Storage.getInventoryListFile();
+        File inventoryListFile = storage.getInventoryListFile();
         Scanner scanner = new Scanner(tempInventoryListFile);
         try (FileWriter fileCleaner = new FileWriter(inventoryListFile);
              FileWriter fileWriter = new FileWriter(inventoryListFile, true)) {
@@ -150,7 +163,7 @@ public class ByeCommandTest {
     }
 
     private void restoreLatestWishList(File tempWishListFile) throws IOException {
-        File wishListFile = Storage.getWishListFile();
+        File wishListFile = storage.getWishListFile();
         Scanner scanner = new Scanner(tempWishListFile);
         try (FileWriter fileCleaner = new FileWriter(wishListFile);
              FileWriter fileWriter = new FileWriter(wishListFile, true)) {
@@ -163,7 +176,7 @@ public class ByeCommandTest {
     }
 
     private void restoreLatestRecipes(File tempRecipesListFile) throws IOException {
-        File recipesListFile = Storage.getRecipesListFile();
+        File recipesListFile = storage.getRecipesListFile();
         Scanner scanner = new Scanner(tempRecipesListFile);
         try (FileWriter fileCleaner = new FileWriter(recipesListFile);
              FileWriter fileWriter = new FileWriter(recipesListFile, true)) {
@@ -186,7 +199,7 @@ public class ByeCommandTest {
     private File saveLatestInventoryList() throws IOException {
         String tempInventoryListPath = "data/tempInventoryList.txt";
         File tempInventoryListFile = new File(tempInventoryListPath);
-        File inventoryListFile = Storage.getInventoryListFile();
+        File inventoryListFile = storage.getInventoryListFile();
         Scanner scanner = new Scanner(inventoryListFile);
         try (FileWriter fileWriter = new FileWriter(tempInventoryListFile, true)) {
             while (scanner.hasNextLine()) {
@@ -200,7 +213,7 @@ public class ByeCommandTest {
     private File saveLatestWishList() throws IOException {
         String tempWishListPath = "data/tempWishList.txt";
         File tempWishListFile = new File(tempWishListPath);
-        File wishListFile = Storage.getWishListFile();
+        File wishListFile = storage.getWishListFile();
         Scanner scanner = new Scanner(wishListFile);
         try (FileWriter fileWriter = new FileWriter(tempWishListFile, true)) {
             while (scanner.hasNextLine()) {
@@ -214,7 +227,7 @@ public class ByeCommandTest {
     private File saveLatestRecipes() throws IOException {
         String tempRecipesPath = "data/tempRecipesList.txt";
         File tempRecipesFile = new File(tempRecipesPath);
-        File recipesFile = Storage.getRecipesListFile();
+        File recipesFile = storage.getRecipesListFile();
         Scanner scanner = new Scanner(recipesFile);
         try (FileWriter fileWriter = new FileWriter(tempRecipesFile, true)) {
             while (scanner.hasNextLine()) {
@@ -231,19 +244,19 @@ public class ByeCommandTest {
     }
 
     private static void checkWishLists(List<Meal> expectedWishList) throws IOException {
-        File wishListFile = Storage.getWishListFile();
+        File wishListFile = storage.getWishListFile();
         List<Meal> wishListFromFile = Storage.loadExistingList(wishListFile);
         assertEquals(expectedWishList, wishListFromFile, "Wish list does not match.");
     }
 
     private static void checkRecipesLists(List<Meal> expectedRecipesList) throws IOException {
-        File recipesFile = Storage.getRecipesListFile();
+        File recipesFile = storage.getRecipesListFile();
         List<Meal> recipesFromFile = Storage.loadExistingList(recipesFile);
         assertEquals(expectedRecipesList, recipesFromFile, "Recipes list does not match.");
     }
 
     private void checkInventoryLists(List<Ingredient> expectedInventoryList) throws FileNotFoundException {
-        Storage.loadExistingInventory(mealManager);
+        storage.loadExistingInventory(mealManager);
         List<Ingredient> ingredientsFromFile = mealManager.getInventory().getIngredients();
         assertEquals(expectedInventoryList, ingredientsFromFile, "Inventory list does not match.");
     }
@@ -2,15 +2,19 @@ package seedu.command;
 
 import seedu.exceptions.EZMealPlanException;
 import seedu.exceptions.IngredientPriceFormatException;
+import seedu.exceptions.InvalidConsumeMealException;
 import seedu.exceptions.InvalidIngredientFormatException;
 import seedu.exceptions.InvalidPriceException;
 import seedu.exceptions.InventoryIngredientNotFound;
+import seedu.exceptions.InventoryInsufficientIngredientException;
 import seedu.exceptions.InventoryMultipleIngredientsException;
 import seedu.exceptions.MissingIngKeywordException;
 import seedu.exceptions.MissingIngredientException;
+import seedu.exceptions.ViewIndexOutOfRangeException;
 
 import seedu.food.Ingredient;
 import seedu.food.Inventory;
+import seedu.food.Meal;
 import seedu.logic.MealManager;
 import seedu.ui.UserInterface;
 
@@ -295,4 +299,87 @@ class ConsumeCommandTest {
             assertThrows(InvalidIngredientFormatException.class, () -> command.execute(mealManager, ui));
         }
     }
+
+    @Test
+    public void testExecute_laterIngredientNotFound_nothingConsumed() {
+        logger.fine("Running testExecute_laterIngredientNotFound_nothingConsumed()");
+        MealManager mealManager = new MealManager();
+        Inventory inventory = mealManager.getInventory();
+        inventory.addIngredient(ingredient1);
+        inventory.addIngredient(ingredient3);
+        inventory.addIngredient(ingredient4);
+        String expectedOutput = inventory.toString();
+        int expectedVersion = inventory.getVersion();
+
+        Command command1 = new ConsumeCommand("consume /ing apple, banana, duck");
+        assertThrows(InventoryIngredientNotFound.class, () -> command1.execute(mealManager, ui));
+        assertEquals(expectedOutput, inventory.toString());
+
+        Command command2 = new ConsumeCommand("consume /ing banana, chocolate, banana");
+        assertThrows(InventoryInsufficientIngredientException.class, () -> command2.execute(mealManager, ui));
+        assertEquals(expectedOutput, inventory.toString());
+        assertEquals(expectedVersion, inventory.getVersion());
+        logger.info("Inventory unchanged when part of the batch fails");
+    }
+
+    @Test
+    public void testExecute_sameCommandTwice_consumedOncePerExecution() throws EZMealPlanException {
+        logger.fine("Running testExecute_sameCommandTwice_consumedOncePerExecution()");
+        MealManager mealManager = new MealManager();
+        Inventory inventory = mealManager.getInventory();
+        inventory.addIngredient(ingredient1);
+        inventory.addIngredient(ingredient1);
+        Command command = new ConsumeCommand("consume /ing apple");
+        command.execute(mealManager, ui);
+        command.execute(mealManager, ui);
+        assertEquals("", inventory.toString());
+        logger.info("Every execution consumes its own batch");
+    }
+
+    @Test
+    public void testExecute_consumeMeal_allIngredientsConsumed() throws EZMealPlanException {
+        logger.fine("Running testExecute_consumeMeal_allIngredientsConsumed()");
+        MealManager mealManager = new MealManager();
+        mealManager.getRecipesList().clear();
+        Meal meal = new Meal("Fruit Salad");
+        meal.addIngredient(new Ingredient("apple", "2.00"));
+        meal.addIngredient(new Ingredient("banana", "0.50"));
+        mealManager.getRecipesList().addMeal(meal);
+        Inventory inventory = mealManager.getInventory();
+        inventory.addIngredient(ingredient1);
+        inventory.addIngredient(ingredient2);
+        inventory.addIngredient(ingredient3);
+        inventory.addIngredient(ingredient3);
+
+        new ConsumeCommand("consume /meal /r 1").execute(mealManager, ui);
+        String expectedOutput = "    1. Apple ($1.00): 1" + ls + "    2. Banana ($3.00): 1" + ls;
+        assertEquals(expectedOutput, inventory.toString());
+
+        // Without an ingredient of the same price, the only ingredient with the same name is consumed instead.
+        inventory.addIngredient(ingredient4);
+        new ConsumeCommand("consume /meal /r 1").execute(mealManager, ui);
+        expectedOutput = "    1. Chocolate ($4.00): 1" + ls;
+        assertEquals(expectedOutput, inventory.toString());
+
+        assertThrows(InventoryIngredientNotFound.class,
+                () -> new ConsumeCommand("consume /meal /r 1").execute(mealManager, ui));
+        assertEquals(expectedOutput, inventory.toString());
+        logger.info("Every ingredient of the meal consumed at once");
+    }
+
+    @Test
+    public void testExecute_invalidMealInput_exceptionThrown() {
+        logger.fine("Running testExecute_invalidMealInput_exceptionThrown()");
+        MealManager mealManager = new MealManager();
+        String[] userInputs = {"consume /meal", "consume /meal /r", "consume /meal 1", "consume /meal /r one",
+            "consume /meal /w 1 /ing apple", "consume /meal /r 99999999999"};
+        for (String userInput : userInputs) {
+            Command command = new ConsumeCommand(userInput);
+            assertThrows(InvalidConsumeMealException.class, () -> command.execute(mealManager, ui));
+        }
+        mealManager.getWishList().clear();
+        Command command = new ConsumeCommand("consume /meal /w 1");
+        assertThrows(ViewIndexOutOfRangeException.class, () -> command.execute(mealManager, ui));
+        logger.info("Correct exception thrown");
+    }
 }
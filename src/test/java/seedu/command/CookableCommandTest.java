@@ -0,0 +1,142 @@
+package seedu.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.TestUtil.createMeal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.exceptions.InvalidMissingCountException;
+import seedu.food.Ingredient;
+import seedu.food.Inventory;
+import seedu.food.Meal;
+import seedu.logic.MealManager;
+import seedu.ui.UserInterface;
+
+public class CookableCommandTest {
+
+    private static final Logger logger = Logger.getLogger(CookableCommandTest.class.getName());
+
+    @BeforeAll
+    public static void setupLogger() {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+
+        try {
+            FileHandler fileHandler = new FileHandler("CookableCommandTest.log", true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "Logger setup failed", ioException);
+        }
+    }
+
+    public static class TestUI extends UserInterface {
+        public List<Meal> capturedMeals = null;
+        public int capturedMaxMissingCount = -1;
+
+        @Override
+        public void printCookableMeals(List<Meal> meals, int maxMissingCount) {
+            this.capturedMeals = meals;
+            this.capturedMaxMissingCount = maxMissingCount;
+        }
+    }
+
+    private static MealManager createMealManager() throws EZMealPlanException {
+        MealManager mealManager = new MealManager();
+        mealManager.getRecipesList().clear();
+        mealManager.getRecipesList().addMeal(createMeal("Egg Fried Rice", "egg", "1.00", "rice", "1.00"));
+        mealManager.getRecipesList().addMeal(createMeal("Plain Rice", "rice", "1.00"));
+        mealManager.getRecipesList().addMeal(createMeal("Chicken Rice", "chicken", "1.00", "rice", "1.00",
+                "cucumber", "1.00"));
+        return mealManager;
+    }
+
+    // Reference implementation: checks every ingredient of every recipe against the inventory.
+    private static List<Meal> scanCookable(MealManager mealManager, int maxMissingCount) {
+        List<Meal> expectedMeals = new ArrayList<>();
+        Inventory inventory = mealManager.getInventory();
+        for (Meal meal : mealManager.getRecipesList().getList()) {
+            long missingCount = meal.getIngredientList().stream()
+                    .filter(ingredient -> !inventory.hasIngredient(ingredient.getName())).count();
+            if (missingCount <= maxMissingCount) {
+                expectedMeals.add(meal);
+            }
+        }
+        return expectedMeals;
+    }
+
+    @Test
+    public void execute_inventoryChanges_countersFollowInventory() throws EZMealPlanException {
+        logger.fine("Running execute_inventoryChanges_countersFollowInventory()");
+        MealManager mealManager = createMealManager();
+        Inventory inventory = mealManager.getInventory();
+        assertEquals(0, mealManager.getCookableMeals(0).size());
+
+        inventory.addIngredient(new Ingredient("Rice", "1.00"));
+        inventory.addIngredient(new Ingredient("rice", "2.00"));
+        assertEquals(scanCookable(mealManager, 0), mealManager.getCookableMeals(0));
+        assertEquals(scanCookable(mealManager, 1), mealManager.getCookableMeals(1));
+
+        inventory.addIngredient(new Ingredient("egg", "0.50"));
+        inventory.removeIngredient(new Ingredient("rice", "2.00"));
+        assertEquals(2, mealManager.getCookableMeals(0).size());
+
+        inventory.removeIngredient(new Ingredient("Rice", "1.00"));
+        assertEquals(scanCookable(mealManager, 0), mealManager.getCookableMeals(0));
+        assertEquals(scanCookable(mealManager, 1), mealManager.getCookableMeals(1));
+        assertEquals(0, mealManager.getCookableMeals(0).size());
+        logger.info("Cookable meals follow inventory changes");
+    }
+
+    @Test
+    public void execute_recipesListChanged_countersRebuilt() throws EZMealPlanException {
+        logger.fine("Running execute_recipesListChanged_countersRebuilt()");
+        MealManager mealManager = createMealManager();
+        mealManager.getInventory().addIngredient(new Ingredient("chicken", "3.00"));
+        mealManager.getInventory().addIngredient(new Ingredient("rice", "1.00"));
+        assertEquals(scanCookable(mealManager, 1), mealManager.getCookableMeals(1));
+
+        mealManager.getRecipesList().removeMeal(0);
+        mealManager.getRecipesList().addMeal(createMeal("Chicken Chop", "chicken", "1.00"));
+        assertEquals(scanCookable(mealManager, 0), mealManager.getCookableMeals(0));
+        assertEquals(scanCookable(mealManager, 1), mealManager.getCookableMeals(1));
+
+        TestUI ui = new TestUI();
+        new CookableCommand("cookable /missing 1").execute(mealManager, ui);
+        assertEquals(1, ui.capturedMaxMissingCount);
+        assertEquals(3, ui.capturedMeals.size());
+        logger.info("Cookable meals follow recipes list changes");
+    }
+
+    @Test
+    public void execute_invalidMissingCount_exceptionThrown() throws EZMealPlanException {
+        logger.fine("Running execute_invalidMissingCount_exceptionThrown()");
+        MealManager mealManager = createMealManager();
+        TestUI ui = new TestUI();
+        assertThrows(InvalidMissingCountException.class,
+                () -> new CookableCommand("cookable /missing 2").execute(mealManager, ui));
+        assertThrows(InvalidMissingCountException.class,
+                () -> new CookableCommand("cookable /missing one").execute(mealManager, ui));
+        assertThrows(InvalidMissingCountException.class,
+                () -> new CookableCommand("cookable now").execute(mealManager, ui));
+        new CookableCommand("cookable").execute(mealManager, ui);
+        assertEquals(0, ui.capturedMaxMissingCount);
+        logger.info("Invalid /missing inputs are rejected");
+    }
+}
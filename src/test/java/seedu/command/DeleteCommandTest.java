@@ -16,7 +16,6 @@ import org.junit.jupiter.api.Test;
 
 import seedu.exceptions.EZMealPlanException;
 import seedu.exceptions.EmptyListException;
-import seedu.exceptions.InvalidPriceException;
 import seedu.exceptions.RemoveFormatException;
 import seedu.exceptions.RemoveIndexOutOfRangeException;
 import seedu.food.Meal;
@@ -58,11 +57,11 @@ public class DeleteCommandTest {
     public void deleteCommand_validRecipeIndex_success() throws EZMealPlanException {
         logger.fine("Running deleteCommand_validRecipeIndex_success()");
         MealManager mealManager = new MealManager();
-        mealManager.getRecipesList().getList().clear();
+        mealManager.getRecipesList().clear();
 
         Meal testMeal = new Meal("Egg Fried Rice");
-        mealManager.getRecipesList().getList().add(testMeal);
-        mealManager.getWishList().getList().add(testMeal);
+        mealManager.getRecipesList().addMeal(testMeal);
+        mealManager.getWishList().addMeal(testMeal);
 
         List<Meal> recipes = mealManager.getRecipesList().getList();
         assertEquals(1, recipes.size());
@@ -83,10 +82,10 @@ public class DeleteCommandTest {
     public void deleteCommand_extraSpacingInput_success() throws EZMealPlanException {
         logger.fine("Running deleteCommand_extraSpacingInput_success()");
         MealManager mealManager = new MealManager();
-        mealManager.getRecipesList().getList().clear();
+        mealManager.getRecipesList().clear();
 
         Meal testMeal = new Meal("Soup");
-        mealManager.getRecipesList().getList().add(testMeal);
+        mealManager.getRecipesList().addMeal(testMeal);
 
         List<Meal> recipes = mealManager.getRecipesList().getList();
         assertEquals(1, recipes.size());
@@ -108,13 +107,13 @@ public class DeleteCommandTest {
     }
 
     @Test
-    public void deleteCommand_indexOutOfRange_throwsRemoveIndexOutOfRangeException() throws InvalidPriceException {
+    public void deleteCommand_indexOutOfRange_throwsRemoveIndexOutOfRangeException() throws EZMealPlanException {
         logger.fine("Running deleteCommand_indexOutOfRange_throwsRemoveIndexOutOfRangeException()");
         MealManager mealManager = new MealManager();
-        mealManager.getRecipesList().getList().clear();
+        mealManager.getRecipesList().clear();
 
         Meal testMeal = new Meal("Soup");
-        mealManager.getRecipesList().getList().add(testMeal);
+        mealManager.getRecipesList().addMeal(testMeal);
 
         List<Meal> recipes = mealManager.getRecipesList().getList();
         assertEquals(1, recipes.size());
@@ -138,10 +137,10 @@ public class DeleteCommandTest {
     public void deleteCommand_negativeIndex_throwsRemoveFormatException() throws EZMealPlanException {
         logger.fine("Running deleteCommand_negativeIndex_RemoveIndexOutOfRangeException()");
         MealManager mealManager = new MealManager();
-        mealManager.getRecipesList().getList().clear();
+        mealManager.getRecipesList().clear();
 
         Meal testMeal = new Meal("Soup");
-        mealManager.getRecipesList().getList().add(testMeal);
+        mealManager.getRecipesList().addMeal(testMeal);
 
         List<Meal> recipes = mealManager.getRecipesList().getList();
         assertEquals(1, recipes.size());
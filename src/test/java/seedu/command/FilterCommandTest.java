@@ -3,7 +3,10 @@ package seedu.command;
 
 import seedu.exceptions.EZMealPlanException;
 import seedu.exceptions.InvalidFilterMethodException;
+import seedu.exceptions.MissingExcludedIngredientException;
 import seedu.exceptions.InvalidMcostException;
+import seedu.exceptions.InvalidMcostRangeException;
+import seedu.exceptions.MissingIngredientException;
 import seedu.food.Meal;
 import seedu.logic.MealManager;
 import seedu.meallist.MealList;
@@ -71,7 +74,7 @@ public class FilterCommandTest {
 
     @Test
     public void filterCommand_success() {
-        mealManager.getRecipesList().getList().clear();
+        mealManager.getRecipesList().clear();
         logger.fine("running filterCommand_success()");
         String[] validFilterCommands = {"filter /mname a", "filter /ing b,c", "filter /mcost 2.00", "filter /mname " +
                                                                                                     "Mname"
@@ -85,13 +88,53 @@ public class FilterCommandTest {
     @Test
     public void filterCommand_fail() {
         logger.fine("running filterCommand_fail()");
-        mealManager.getRecipesList().getList().clear();
+        mealManager.getRecipesList().clear();
         addMeals();
         checkMissingFilterKeyword();
         checkInvalidPrice();
         logger.info("filterCommand_fail() passed");
     }
 
+    @Test
+    public void filterCommand_combinedFilterKeywords_success() {
+        logger.fine("running filterCommand_combinedFilterKeywords_success()");
+        mealManager.getRecipesList().clear();
+        addMeals();
+        String[] validFilterCommands = {"filter /ing chicken /mcost 2.00-5.00", "filter /mname rice /ing egg",
+            "filter /mcost 3.80 /mname chicken /ing rice", "filter /ing rice, egg /mname fried"};
+        runValidFilterCommands(validFilterCommands);
+        String testName = "filterCommand_combinedFilterKeywords_success()";
+        String expectedMessage = new MissingIngredientException("filter").getMessage();
+        checkInvalidFilterInput(testName, expectedMessage, "filter /ing /mcost 2.00");
+        expectedMessage = new InvalidMcostRangeException().getMessage();
+        checkInvalidFilterInput(testName, expectedMessage, "filter /ing chicken /mcost 5.00-1.00");
+        logger.info("filterCommand_combinedFilterKeywords_success() passed");
+    }
+
+    @Test
+    public void filterCommand_keywordGluedToText_success() {
+        logger.fine("running filterCommand_keywordGluedToText_success()");
+        mealManager.getRecipesList().clear();
+        addMeals();
+        String[] validFilterCommands = {"filter /mcost5.00", "filter /ingchicken", "filter /mname rice/ing egg"};
+        runValidFilterCommands(validFilterCommands);
+        logger.info("filterCommand_keywordGluedToText_success() passed");
+    }
+
+    @Test
+    public void filterCommand_excludedIngredients_success() {
+        logger.fine("running filterCommand_excludedIngredients_success()");
+        mealManager.getRecipesList().clear();
+        addMeals();
+        String[] validFilterCommands = {"filter /exclude peanut", "filter /ing rice /exclude egg, chicken",
+            "filter /exclude egg /mcost 2.00-5.00"};
+        runValidFilterCommands(validFilterCommands);
+        String testName = "filterCommand_excludedIngredients_success()";
+        String expectedMessage = new MissingExcludedIngredientException("filter").getMessage();
+        checkInvalidFilterInput(testName, expectedMessage, "filter /ing rice /exclude");
+        logger.info("filterCommand_excludedIngredients_success() passed");
+    }
+
     private void checkInvalidPrice() {
         logger.fine("running checkInvalidPrice()");
         checkNegativePrice();
@@ -70,8 +70,8 @@ public class RecipesCommandTest {
         MealManager mealManager = new MealManager();
         Meal meal1 = new Meal("Main Meal 1");
         Meal meal2 = new Meal("Main Meal 2");
-        mealManager.getRecipesList().getList().add(meal1);
-        mealManager.getRecipesList().getList().add(meal2);
+        mealManager.getRecipesList().addMeal(meal1);
+        mealManager.getRecipesList().addMeal(meal2);
 
         RecipesCommand recipesCommand = new RecipesCommand();
         recipesCommand.execute(mealManager, ui);
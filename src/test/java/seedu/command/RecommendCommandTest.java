@@ -1,7 +1,9 @@
 package seedu.command;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.util.logging.ConsoleHandler;
@@ -14,6 +16,8 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import seedu.exceptions.EZMealPlanException;
+import seedu.exceptions.InvalidRandomSeedException;
+import seedu.exceptions.InvalidTopCountException;
 import seedu.exceptions.MissingIngKeywordException;
 import seedu.exceptions.MissingIngredientException;
 import seedu.food.Ingredient;
@@ -56,8 +60,8 @@ public class RecommendCommandTest {
     public void recommendCommand_matchingIngredientInWishlist_success() throws Exception {
         logger.fine("Running recommendCommand_matchingIngredientInWishlist_success()");
         MealManager mealManager = new MealManager();
-        mealManager.getWishList().getList().clear();
-        mealManager.getRecipesList().getList().clear();
+        mealManager.getWishList().clear();
+        mealManager.getRecipesList().clear();
 
         Meal meal = new Meal("Salmon Rice");
         meal.addIngredient(new Ingredient("salmon", "2.50"));
@@ -83,12 +87,12 @@ public class RecommendCommandTest {
     public void recommendCommand_matchingIngredientInRecipes_success() throws Exception {
         logger.fine("Running recommendCommand_matchingIngredientInRecipes_success()");
         MealManager mealManager = new MealManager();
-        mealManager.getWishList().getList().clear();
-        mealManager.getRecipesList().getList().clear();
+        mealManager.getWishList().clear();
+        mealManager.getRecipesList().clear();
 
         Meal meal = new Meal("Tofu Soup");
         meal.addIngredient(new Ingredient("tofu", "1.20"));
-        mealManager.getRecipesList().getList().add(meal);
+        mealManager.getRecipesList().addMeal(meal);
 
         TestUI ui = new TestUI();
         RecommendCommand command = new RecommendCommand("recommend /ing tofu");
@@ -110,8 +114,8 @@ public class RecommendCommandTest {
     public void recommendCommand_ingredientNotFound_printsNoMatch() throws Exception {
         logger.fine("Running recommendCommand_ingredientNotFound_printsNoMatch()");
         MealManager mealManager = new MealManager();
-        mealManager.getWishList().getList().clear();
-        mealManager.getRecipesList().getList().clear();
+        mealManager.getWishList().clear();
+        mealManager.getRecipesList().clear();
 
         TestUI ui = new TestUI();
         RecommendCommand command = new RecommendCommand("recommend /ing icecream");
@@ -125,13 +129,13 @@ public class RecommendCommandTest {
     public void recommendCommand_nonMatchingCase_successfulMatch() throws Exception {
         logger.fine("Running recommendCommand_nonMatchingCase_successfulMatch()");
         MealManager mealManager = new MealManager();
-        mealManager.getWishList().getList().clear();
-        mealManager.getRecipesList().getList().clear();
+        mealManager.getWishList().clear();
+        mealManager.getRecipesList().clear();
 
         Meal meal = new Meal("Miso Soup");
         Ingredient miso = new Ingredient("miso", "1.00");
         meal.addIngredient(miso);
-        mealManager.getRecipesList().getList().add(meal);
+        mealManager.getRecipesList().addMeal(meal);
 
         TestUI ui = new TestUI();
         RecommendCommand command = new RecommendCommand("recommend /ing MiSo");
@@ -166,4 +170,87 @@ public class RecommendCommandTest {
                 () -> command.execute(new MealManager(), new TestUI()));
         logger.info("recommendCommand_missingIngredientAfterKeyword_throwsRecommendFormatException passed");
     }
+
+    @Test
+    public void recommendCommand_topWithMultipleKeywords_rankedByCoverageThenCost() throws Exception {
+        logger.fine("Running recommendCommand_topWithMultipleKeywords_rankedByCoverageThenCost()");
+        MealManager mealManager = new MealManager();
+        Meal chickenRice = new Meal("Chicken Rice");
+        chickenRice.addIngredient(new Ingredient("chicken", "2.50"));
+        chickenRice.addIngredient(new Ingredient("rice", "0.80"));
+        Meal chickenSoup = new Meal("Chicken Soup");
+        chickenSoup.addIngredient(new Ingredient("chicken", "2.50"));
+        chickenSoup.addIngredient(new Ingredient("carrot", "0.50"));
+        Meal friedRice = new Meal("Fried Rice");
+        friedRice.addIngredient(new Ingredient("rice", "0.80"));
+        friedRice.addIngredient(new Ingredient("egg", "0.50"));
+        mealManager.getRecipesList().addMeal(chickenRice);
+        mealManager.getRecipesList().addMeal(chickenSoup);
+        mealManager.getRecipesList().addMeal(friedRice);
+        mealManager.getInventory().addIngredient(new Ingredient("egg", "0.50"));
+
+        TestUI ui = new TestUI();
+        new RecommendCommand("recommend /ing chicken, rice /top 3").execute(mealManager, ui);
+        String message = ui.capturedMessage;
+        int chickenRiceIndex = message.indexOf("Recommended Meal: Chicken Rice");
+        int friedRiceIndex = message.indexOf("Recommended Meal: Fried Rice");
+        int chickenSoupIndex = message.indexOf("Recommended Meal: Chicken Soup");
+        // Chicken Rice matches both keywords; Fried Rice has the egg in stock; Chicken Soup has nothing in stock.
+        assertTrue(chickenRiceIndex != -1 && chickenRiceIndex < friedRiceIndex && friedRiceIndex < chickenSoupIndex);
+
+        new RecommendCommand("recommend /ing chicken, rice /top 1").execute(mealManager, ui);
+        assertFalse(ui.capturedMessage.contains("Fried Rice"));
+        logger.info("recommendCommand_topWithMultipleKeywords_rankedByCoverageThenCost passed");
+    }
+
+    @Test
+    public void recommendCommand_largestTopCount_everyMatchRecommended() throws Exception {
+        logger.fine("Running recommendCommand_largestTopCount_everyMatchRecommended()");
+        MealManager mealManager = new MealManager();
+        for (int i = 0; i < 3; i++) {
+            Meal meal = new Meal("Chicken Dish " + i);
+            meal.addIngredient(new Ingredient("chicken", "2.00"));
+            mealManager.getRecipesList().addMeal(meal);
+        }
+        TestUI ui = new TestUI();
+        new RecommendCommand("recommend /ing chicken /top " + Integer.MAX_VALUE).execute(mealManager, ui);
+        assertEquals(3, ui.capturedMessage.split("Recommended Meal: Chicken Dish").length - 1);
+        new RecommendCommand("recommend /ing chicken /random 7 /top " + Integer.MAX_VALUE).execute(mealManager, ui);
+        assertEquals(3, ui.capturedMessage.split("Recommended Meal: Chicken Dish").length - 1);
+        logger.info("recommendCommand_largestTopCount_everyMatchRecommended passed");
+    }
+
+    @Test
+    public void recommendCommand_randomWithSeed_sameMealEveryTime() throws Exception {
+        logger.fine("Running recommendCommand_randomWithSeed_sameMealEveryTime()");
+        MealManager mealManager = new MealManager();
+        for (int i = 0; i < 20; i++) {
+            Meal meal = new Meal("Tofu Dish " + i);
+            meal.addIngredient(new Ingredient("tofu", "1.00"));
+            mealManager.getRecipesList().addMeal(meal);
+        }
+        TestUI firstUi = new TestUI();
+        TestUI secondUi = new TestUI();
+        new RecommendCommand("recommend /ing tofu /random 42 /top 2").execute(mealManager, firstUi);
+        new RecommendCommand("recommend /ing tofu /random 42 /top 2").execute(mealManager, secondUi);
+        assertEquals(firstUi.capturedMessage, secondUi.capturedMessage);
+        assertEquals(2, firstUi.capturedMessage.split("Recommended Meal: ").length - 1);
+        logger.info("recommendCommand_randomWithSeed_sameMealEveryTime passed");
+    }
+
+    @Test
+    public void recommendCommand_invalidOptions_exceptionThrown() throws EZMealPlanException {
+        logger.fine("Running recommendCommand_invalidOptions_exceptionThrown()");
+        String[] invalidTopInputs = {"recommend /ing tofu /top", "recommend /ing tofu /top 0",
+            "recommend /ing tofu /top two"};
+        for (String invalidTopInput : invalidTopInputs) {
+            RecommendCommand command = new RecommendCommand(invalidTopInput);
+            assertThrows(InvalidTopCountException.class, () -> command.execute(new MealManager(), new TestUI()));
+        }
+        RecommendCommand command = new RecommendCommand("recommend /ing tofu /random seed");
+        assertThrows(InvalidRandomSeedException.class, () -> command.execute(new MealManager(), new TestUI()));
+        RecommendCommand missingCommand = new RecommendCommand("recommend /ing /top 2");
+        assertThrows(MissingIngredientException.class, () -> missingCommand.execute(new MealManager(), new TestUI()));
+        logger.info("recommendCommand_invalidOptions_exceptionThrown passed");
+    }
 }
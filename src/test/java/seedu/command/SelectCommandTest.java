@@ -55,8 +55,8 @@ public class SelectCommandTest {
 
     @Test
     public void selectCommand_success() {
-        mealManager.getRecipesList().getList().clear();
-        mealManager.getWishList().getList().clear();
+        mealManager.getRecipesList().clear();
+        mealManager.getWishList().clear();
         logger.fine("running selectCommand_success()");
         String[] validSelectCommands = {"select 2 /mname a", "select 1 /ing b,c", "select 2 /mcost 2.00"
                 , "select 4 /mname Mname", "select 2 /ing Ing", "select 1 /mcost 5.00"};
@@ -69,8 +69,8 @@ public class SelectCommandTest {
     @Test
     public void selectCommand_fail() {
         logger.fine("running selectCommand_fail()");
-        mealManager.getRecipesList().getList().clear();
-        mealManager.getWishList().getList().clear();
+        mealManager.getRecipesList().clear();
+        mealManager.getWishList().clear();
         addMeals();
         checkInvalidPrice();
         checkSelectDuplicateMeal();
@@ -0,0 +1,136 @@
+package seedu.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.TestUtil.createMeal;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.exceptions.ParserException;
+import seedu.food.Ingredient;
+import seedu.food.Inventory;
+import seedu.logic.MealManager;
+import seedu.logic.ShoppingItem;
+import seedu.logic.ShoppingList;
+import seedu.parser.Parser;
+import seedu.storage.Storage;
+import seedu.ui.UserInterface;
+
+public class ShopCommandTest {
+
+    private static final Logger logger = Logger.getLogger(ShopCommandTest.class.getName());
+    private final Storage storage = new Storage();
+
+    @BeforeAll
+    public static void setupLogger() {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+
+        try {
+            FileHandler fileHandler = new FileHandler("ShopCommandTest.log", true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "Logger setup failed", ioException);
+        }
+    }
+
+    public static class TestUI extends UserInterface {
+        public ShoppingList capturedShoppingList = null;
+
+        @Override
+        public void printShoppingList(ShoppingList shoppingList) {
+            this.capturedShoppingList = shoppingList;
+        }
+
+        @Override
+        public void printBought(Ingredient ingredient) {
+        }
+    }
+
+    private static MealManager createMealManager() throws EZMealPlanException {
+        MealManager mealManager = new MealManager();
+        mealManager.getWishList().clear();
+        mealManager.getWishList().addMeal(createMeal("Egg Fried Rice", "egg", "0.50", "rice", "1.00"));
+        mealManager.getWishList().addMeal(createMeal("Tamago", "Egg", "0.60"));
+        mealManager.getWishList().addMeal(createMeal("Chicken Rice", "chicken", "3.00", "RICE", "1.00"));
+        return mealManager;
+    }
+
+    @Test
+    public void execute_wishlistAndInventory_missingIngredientsAggregated() throws EZMealPlanException {
+        logger.fine("Running execute_wishlistAndInventory_missingIngredientsAggregated()");
+        MealManager mealManager = createMealManager();
+        mealManager.getInventory().addIngredient(new Ingredient("rice", "1.00"));
+        mealManager.getInventory().addIngredient(new Ingredient("Rice", "2.00"));
+        mealManager.getInventory().addIngredient(new Ingredient("egg", "0.50"));
+
+        TestUI ui = new TestUI();
+        new ShopCommand(false).execute(mealManager, ui);
+        ShoppingList shoppingList = ui.capturedShoppingList;
+        assertEquals(2, shoppingList.getItems().size());
+        ShoppingItem chicken = shoppingList.getItems().get(0);
+        ShoppingItem egg = shoppingList.getItems().get(1);
+        assertEquals("chicken ($3.00) x1", chicken.toString());
+        assertEquals("egg ($0.50) x1", egg.toString());
+        assertEquals(3.50, shoppingList.getTotalCost(), 1e-9);
+        logger.info("Shopping list adds up the wishlist and leaves out the inventory");
+    }
+
+    @Test
+    public void execute_buyFlag_inventoryCoversWishlist() throws EZMealPlanException {
+        logger.fine("Running execute_buyFlag_inventoryCoversWishlist()");
+        MealManager mealManager = createMealManager();
+        TestUI ui = new TestUI();
+        new ShopCommand(true).execute(mealManager, ui);
+        assertEquals(3, ui.capturedShoppingList.getItems().size());
+
+        Inventory inventory = mealManager.getInventory();
+        assertEquals(2, inventory.getIngredientCount("EGG"));
+        assertEquals(2, inventory.getIngredientCount("rice"));
+        new ShopCommand(false).execute(mealManager, ui);
+        assertTrue(ui.capturedShoppingList.isEmpty());
+        logger.info("Buying the shopping list covers every wishlist meal");
+    }
+
+    @Test
+    public void execute_buyFlagInDecimalCommaLocale_pricesKept() throws EZMealPlanException {
+        logger.fine("Running execute_buyFlagInDecimalCommaLocale_pricesKept()");
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.GERMANY);
+        try {
+            MealManager mealManager = createMealManager();
+            new ShopCommand(true).execute(mealManager, new TestUI());
+            assertEquals(2, mealManager.getInventory().getIngredientCount("egg"));
+            assertTrue(mealManager.getInventory().getIngredients().contains(new Ingredient("chicken", "3.00")));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+        logger.info("Bought ingredients keep their prices whatever the default locale");
+    }
+
+    @Test
+    public void parse_shopArguments_validatesFlag() throws EZMealPlanException {
+        logger.fine("Running parse_shopArguments_validatesFlag()");
+        assertTrue(Parser.parse("shop", storage) instanceof ShopCommand);
+        assertTrue(Parser.parse("shop /BUY", storage) instanceof ShopCommand);
+        assertThrows(ParserException.class, () -> Parser.parse("shop now", storage));
+        assertThrows(ParserException.class, () -> Parser.parse("shop /buy all", storage));
+        logger.info("Shop command only accepts the /buy flag");
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.command;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.exceptions.ParserException;
+import seedu.logic.MealManager;
+import seedu.metrics.Metrics;
+import seedu.parser.Parser;
+import seedu.storage.Storage;
+import seedu.ui.UserInterface;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StatsCommandTest {
+    private static final Logger logger = Logger.getLogger(StatsCommandTest.class.getName());
+    private final Storage storage = new Storage();
+
+    public StatsCommandTest() {
+        String fileName = "StatsCommandTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @Test
+    public void parse_statsCommand_returnsStatsCommand() throws EZMealPlanException {
+        logger.fine("Running parse_statsCommand_returnsStatsCommand()");
+        assertInstanceOf(StatsCommand.class, Parser.parse("STATS", storage));
+        assertInstanceOf(StatsCommand.class, Parser.parse("stats MEMORY", storage));
+        assertThrows(ParserException.class, () -> Parser.parse("stats everything", storage));
+        assertThrows(ParserException.class, () -> Parser.parse("stats memory now", storage));
+        assertInstanceOf(MistypedCommand.class, Parser.parse("statss", storage));
+        logger.info("The stats command is parsed");
+    }
+
+    @Test
+    public void execute_recordedMetrics_printsTable() throws EZMealPlanException {
+        logger.fine("Running execute_recordedMetrics_printsTable()");
+        Metrics metrics = Metrics.getInstance();
+        metrics.reset();
+        try {
+            MealManager mealManager = new MealManager();
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            UserInterface ui = new UserInterface(new ByteArrayInputStream(new byte[0]), new PrintStream(output));
+            Parser.parse("filter /ing egg", storage).execute(mealManager, ui);
+            metrics.record(Metrics.Stage.EXECUTE, "filter", 3_000_000);
+            new StatsCommand().execute(mealManager, ui);
+            String printed = output.toString();
+            assertTrue(printed.contains("Here are the command latencies and errors"), printed);
+            assertTrue(printed.contains("check    filter"), printed);
+            assertTrue(printed.contains("execute  filter"), printed);
+            assertTrue(printed.contains("No errors."), printed);
+        } finally {
+            metrics.reset();
+        }
+        logger.info("The stats command prints the metrics table");
+    }
+
+    @Test
+    public void execute_memoryOption_printsMemoryTable() throws EZMealPlanException {
+        logger.fine("Running execute_memoryOption_printsMemoryTable()");
+        MealManager mealManager = new MealManager();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        UserInterface ui = new UserInterface(new ByteArrayInputStream(new byte[0]), new PrintStream(output));
+        Parser.parse("stats memory", storage).execute(mealManager, ui);
+        String printed = output.toString();
+        assertTrue(printed.contains("Here is the estimated memory"), printed);
+        assertTrue(printed.contains("recipes list"), printed);
+        assertTrue(printed.contains("total"), printed);
+        logger.info("The stats memory command prints the memory table");
+    }
+}
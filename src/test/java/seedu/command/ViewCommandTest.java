@@ -70,7 +70,7 @@ public class ViewCommandTest {
         meal1.addIngredient(firstIngredient);
         meal1.addIngredient(secondIngredient);
 
-        mealManager.getRecipesList().getList().add(meal1);
+        mealManager.getRecipesList().addMeal(meal1);
 
         ViewCommandTest.TestUserInterface testUI = new ViewCommandTest.TestUserInterface();
         ViewCommand viewCommand = new ViewCommand("view /r 1");
@@ -98,7 +98,7 @@ public class ViewCommandTest {
         meal.addIngredient(firstIngredient);
         meal.addIngredient(secondIngredient);
 
-        mealManager.getWishList().getList().add(meal);
+        mealManager.getWishList().addMeal(meal);
 
         TestUserInterface testUI = new TestUserInterface();
         ViewCommand command = new ViewCommand("view /w 1");
@@ -124,7 +124,7 @@ public class ViewCommandTest {
         meal.addIngredient(firstIngredient);
         meal.addIngredient(secondIngredient);
 
-        mealManager.getWishList().getList().add(meal);
+        mealManager.getWishList().addMeal(meal);
 
         TestUserInterface testUI = new TestUserInterface();
         ViewCommand command = new ViewCommand("view /u 1");
@@ -169,7 +169,7 @@ public class ViewCommandTest {
         Ingredient secondIngredient = new Ingredient("noodles", "1.80");
         meal.addIngredient(firstIngredient);
         meal.addIngredient(secondIngredient);
-        mealManager.getRecipesList().getList().add(meal);
+        mealManager.getRecipesList().addMeal(meal);
 
         TestUserInterface testUI = new TestUserInterface();
         ViewCommand command = new ViewCommand("view /r 2");
@@ -194,7 +194,7 @@ public class ViewCommandTest {
         Ingredient secondIngredient = new Ingredient("noodles", "1.80");
         meal.addIngredient(firstIngredient);
         meal.addIngredient(secondIngredient);
-        mealManager.getWishList().getList().add(meal);
+        mealManager.getWishList().addMeal(meal);
 
         TestUserInterface testUI = new TestUserInterface();
         ViewCommand command = new ViewCommand("view /w 2");
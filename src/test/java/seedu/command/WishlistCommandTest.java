@@ -68,8 +68,8 @@ public class WishlistCommandTest {
         MealManager mealManager = new MealManager();
         Meal meal1 = new Meal("Meal A");
         Meal meal2 = new Meal("Meal B");
-        mealManager.getWishList().getList().add(meal1);
-        mealManager.getWishList().getList().add(meal2);
+        mealManager.getWishList().addMeal(meal1);
+        mealManager.getWishList().addMeal(meal2);
 
         TestUserInterface testUI = new TestUserInterface();
         WishlistCommand wishlistCommand = new WishlistCommand();
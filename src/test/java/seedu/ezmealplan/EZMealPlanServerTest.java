@@ -0,0 +1,201 @@
+package seedu.ezmealplan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.TestUtil.deleteDirectory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import seedu.storage.Storage;
+import seedu.ui.UserInterface;
+
+public class EZMealPlanServerTest {
+    private static final Logger logger = Logger.getLogger(EZMealPlanServerTest.class.getName());
+
+    @BeforeAll
+    public static void setupLogger() {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        try {
+            FileHandler fileHandler = new FileHandler("EZMealPlanServerTest.log", true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    private static EZMealPlanServer startServer(Storage storage) throws IOException {
+        Session loadingSession = new Session(new UserInterface(), storage);
+        loadingSession.load();
+        EZMealPlanServer server = new EZMealPlanServer(loadingSession.getMealManager(), storage, 0);
+        server.start();
+        return server;
+    }
+
+    // Sends one command and returns the output printed before the next prompt.
+    private static String sendCommand(BufferedReader reader, PrintWriter writer, String command) throws IOException {
+        writer.println(command);
+        writer.flush();
+        return readUntilPrompt(reader);
+    }
+
+    // Answers the user name prompt, then returns the output printed before the first command prompt.
+    private static String logIn(BufferedReader reader, PrintWriter writer, String userName) throws IOException {
+        String line = reader.readLine();
+        while (line != null && !line.equals(EZMealPlanServer.USER_NAME_PROMPT)) {
+            line = reader.readLine();
+        }
+        writer.println(userName);
+        writer.flush();
+        return readUntilPrompt(reader);
+    }
+
+    private static String readUntilPrompt(BufferedReader reader) throws IOException {
+        StringBuilder output = new StringBuilder();
+        String line = reader.readLine();
+        while (line != null && !line.equals("How may I help you?")) {
+            output.append(line).append(System.lineSeparator());
+            line = reader.readLine();
+        }
+        return output.toString();
+    }
+
+    @Test
+    public void run_concurrentClients_everyCommandAnswered() throws IOException, InterruptedException,
+            ExecutionException {
+        logger.fine("Running run_concurrentClients_everyCommandAnswered()");
+        File dataDirectory = Files.createTempDirectory("EZMealPlanServerTest").toFile();
+        int clientCount = 16;
+        int roundCount = 10;
+        try (EZMealPlanServer server = startServer(new Storage(dataDirectory))) {
+            long[] latencies = new LoadTestClient(server.getPort(), clientCount, roundCount,
+                    LoadTestClient.DEFAULT_COMMANDS).run();
+            assertEquals(clientCount * roundCount * LoadTestClient.DEFAULT_COMMANDS.size(), latencies.length);
+            assertTrue(LoadTestClient.getPercentile(latencies, 50) <= LoadTestClient.getPercentile(latencies, 99));
+            logger.info("p99 latency: " + LoadTestClient.getPercentile(latencies, 99) / 1e6 + " ms");
+        } finally {
+            deleteDirectory(dataDirectory);
+        }
+        logger.info("Every command of every client is answered");
+    }
+
+    @Test
+    public void run_twoClients_shareLists() throws IOException, InterruptedException {
+        logger.fine("Running run_twoClients_shareLists()");
+        File dataDirectory = Files.createTempDirectory("EZMealPlanServerTest").toFile();
+        Storage storage = new Storage(dataDirectory);
+        try (EZMealPlanServer server = startServer(storage);
+             Socket buyer = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+             Socket viewer = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            BufferedReader buyerReader = new BufferedReader(new InputStreamReader(buyer.getInputStream(),
+                    StandardCharsets.UTF_8));
+            PrintWriter buyerWriter = new PrintWriter(buyer.getOutputStream(), false, StandardCharsets.UTF_8);
+            BufferedReader viewerReader = new BufferedReader(new InputStreamReader(viewer.getInputStream(),
+                    StandardCharsets.UTF_8));
+            PrintWriter viewerWriter = new PrintWriter(viewer.getOutputStream(), false, StandardCharsets.UTF_8);
+            readUntilPrompt(buyerReader);
+            readUntilPrompt(viewerReader);
+
+            assertTrue(sendCommand(buyerReader, buyerWriter, "buy /ing saffron (9.90)").contains("saffron"));
+            assertTrue(sendCommand(viewerReader, viewerWriter, "inventory").contains("saffron ($9.90): 1"));
+            sendCommand(viewerReader, viewerWriter, "bye");
+            List<String> inventoryLines = Files.readAllLines(storage.getInventoryListFile().toPath());
+            assertEquals(List.of("saffron | 9.90 | 1"), inventoryLines);
+        } finally {
+            deleteDirectory(dataDirectory);
+        }
+        logger.info("Clients of one server share the same lists");
+    }
+
+    @Test
+    public void close_editsWithoutBye_listsSaved() throws IOException {
+        logger.fine("Running close_editsWithoutBye_listsSaved()");
+        File dataDirectory = Files.createTempDirectory("EZMealPlanServerTest").toFile();
+        Storage storage = new Storage(dataDirectory);
+        try {
+            try (EZMealPlanServer server = startServer(storage);
+                 Socket buyer = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+                BufferedReader buyerReader = new BufferedReader(new InputStreamReader(buyer.getInputStream(),
+                        StandardCharsets.UTF_8));
+                PrintWriter buyerWriter = new PrintWriter(buyer.getOutputStream(), false, StandardCharsets.UTF_8);
+                readUntilPrompt(buyerReader);
+                assertTrue(sendCommand(buyerReader, buyerWriter, "buy /ing saffron (9.90)").contains("saffron"));
+            }
+            List<String> inventoryLines = Files.readAllLines(storage.getInventoryListFile().toPath());
+            assertEquals(List.of("saffron | 9.90 | 1"), inventoryLines);
+        } finally {
+            deleteDirectory(dataDirectory);
+        }
+        logger.info("Closing the server saves the edits of clients that did not say bye");
+    }
+
+    @Test
+    public void run_usersDirectory_separateListsForEveryUser() throws IOException {
+        logger.fine("Running run_usersDirectory_separateListsForEveryUser()");
+        File usersDirectory = Files.createTempDirectory("EZMealPlanServerTest").toFile();
+        String firstRecipe;
+        try {
+            try (EZMealPlanServer server = new EZMealPlanServer(usersDirectory, 0);
+                 Socket alice = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+                 Socket bob = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+                server.start();
+                BufferedReader aliceReader = new BufferedReader(new InputStreamReader(alice.getInputStream(),
+                        StandardCharsets.UTF_8));
+                PrintWriter aliceWriter = new PrintWriter(alice.getOutputStream(), false, StandardCharsets.UTF_8);
+                BufferedReader bobReader = new BufferedReader(new InputStreamReader(bob.getInputStream(),
+                        StandardCharsets.UTF_8));
+                PrintWriter bobWriter = new PrintWriter(bob.getOutputStream(), false, StandardCharsets.UTF_8);
+                logIn(aliceReader, aliceWriter, "alice");
+                logIn(bobReader, bobWriter, "bob");
+
+                assertTrue(sendCommand(aliceReader, aliceWriter, "buy /ing saffron (9.90)").contains("saffron"));
+                sendCommand(aliceReader, aliceWriter, "delete 1");
+                firstRecipe = sendCommand(aliceReader, aliceWriter, "view /r 1");
+                assertFalse(sendCommand(bobReader, bobWriter, "inventory").contains("saffron"));
+                assertNotEquals(firstRecipe, sendCommand(bobReader, bobWriter, "view /r 1"));
+            }
+            assertEquals(List.of("saffron | 9.90 | 1"),
+                    Files.readAllLines(new File(usersDirectory, "alice/inventoryList.txt").toPath()));
+
+            try (EZMealPlanServer server = new EZMealPlanServer(usersDirectory, 0);
+                 Socket alice = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+                server.start();
+                BufferedReader aliceReader = new BufferedReader(new InputStreamReader(alice.getInputStream(),
+                        StandardCharsets.UTF_8));
+                PrintWriter aliceWriter = new PrintWriter(alice.getOutputStream(), false, StandardCharsets.UTF_8);
+                logIn(aliceReader, aliceWriter, "Alice");
+                assertTrue(sendCommand(aliceReader, aliceWriter, "inventory").contains("saffron ($9.90): 1"));
+                assertEquals(firstRecipe, sendCommand(aliceReader, aliceWriter, "view /r 1"));
+            }
+        } finally {
+            deleteDirectory(new File(usersDirectory, "alice"));
+            deleteDirectory(new File(usersDirectory, "bob"));
+            deleteDirectory(usersDirectory);
+        }
+        logger.info("Every user of a server has its own lists, which are kept between runs");
+    }
+}
@@ -24,6 +24,7 @@ import seedu.storage.Storage;
 
 public class EZMealPlanTest {
     private static final Logger logger = Logger.getLogger(EZMealPlanTest.class.getName());
+    private static final Storage storage = new Storage();
 
     // Constructor: Set up the logger and log file for this test class.
     public EZMealPlanTest() {
@@ -108,13 +109,13 @@ public class EZMealPlanTest {
             System.setIn(testIn);
             System.setOut(new PrintStream(testOut));
 
-            Storage.createListFiles();
+            storage.createListFiles();
             List<File> latestFiles = saveLatestLists();
             // Execute main program.
             int index = 0;
             EZMealPlan.main(new String[index]);
 
-            Storage.createListFiles();
+            storage.createListFiles();
             restoreLatestLists(latestFiles);
         } catch (IOException ioException) {
             throw new RuntimeException(ioException);
@@ -211,7 +212,7 @@ public class EZMealPlanTest {
     }
 
     private void restoreLatestInventoryList(File tempInventoryListFile) throws IOException {
-        File inventoryListFile = Storage.getInventoryListFile();
+        File inventoryListFile = storage.getInventoryListFile();
         Scanner scanner = new Scanner(tempInventoryListFile);
         try (FileWriter fileCleaner = new FileWriter(inventoryListFile);
              FileWriter fileWriter = new FileWriter(inventoryListFile, true)) {
@@ -224,7 +225,7 @@ public class EZMealPlanTest {
     }
 
     private void restoreLatestWishList(File tempWishListFile) throws IOException {
-        File wishListFile = Storage.getWishListFile();
+        File wishListFile = storage.getWishListFile();
         Scanner scanner = new Scanner(tempWishListFile);
         try (FileWriter fileCleaner = new FileWriter(wishListFile);
              FileWriter fileWriter = new FileWriter(wishListFile, true)) {
@@ -237,7 +238,7 @@ public class EZMealPlanTest {
     }
 
     private void restoreLatestRecipes(File tempRecipesListFile) throws IOException {
-        File recipesListFile = Storage.getRecipesListFile();
+        File recipesListFile = storage.getRecipesListFile();
         Scanner scanner = new Scanner(tempRecipesListFile);
         try (FileWriter fileCleaner = new FileWriter(recipesListFile);
              FileWriter fileWriter = new FileWriter(recipesListFile, true)) {
@@ -260,7 +261,7 @@ public class EZMealPlanTest {
     private File saveLatestInventoryList() throws IOException {
         String tempInventoryListPath = "data/tempInventoryList.txt";
         File tempInventoryListFile = new File(tempInventoryListPath);
-        File inventoryListFile = Storage.getInventoryListFile();
+        File inventoryListFile = storage.getInventoryListFile();
         Scanner scanner = new Scanner(inventoryListFile);
         try (FileWriter fileWriter = new FileWriter(tempInventoryListFile, true)) {
             while (scanner.hasNextLine()) {
@@ -274,7 +275,7 @@ public class EZMealPlanTest {
     private File saveLatestWishList() throws IOException {
         String tempWishListPath = "data/tempWishList.txt";
         File tempWishListFile = new File(tempWishListPath);
-        File wishListFile = Storage.getWishListFile();
+        File wishListFile = storage.getWishListFile();
         Scanner scanner = new Scanner(wishListFile);
         try (FileWriter fileWriter = new FileWriter(tempWishListFile, true)) {
             while (scanner.hasNextLine()) {
@@ -288,7 +289,7 @@ public class EZMealPlanTest {
     private File saveLatestRecipes() throws IOException {
         String tempRecipesPath = "data/tempRecipesList.txt";
         File tempRecipesFile = new File(tempRecipesPath);
-        File recipesFile = Storage.getRecipesListFile();
+        File recipesFile = storage.getRecipesListFile();
         Scanner scanner = new Scanner(recipesFile);
         try (FileWriter fileWriter = new FileWriter(tempRecipesFile, true)) {
             while (scanner.hasNextLine()) {
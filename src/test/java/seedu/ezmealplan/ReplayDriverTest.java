@@ -0,0 +1,124 @@
+package seedu.ezmealplan;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.workload.WorkloadGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.TestUtil.deleteDirectory;
+
+public class ReplayDriverTest {
+    private static final Logger logger = Logger.getLogger(ReplayDriverTest.class.getName());
+    private static final Path TEXT_UI_TEST_DIRECTORY = Path.of("text-ui-test");
+
+    public ReplayDriverTest() {
+        String fileName = "ReplayDriverTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @Test
+    public void run_textUiTestInput_matchesExpectedOutput() throws IOException {
+        logger.fine("Running run_textUiTestInput_matchesExpectedOutput()");
+        List<String> commands = Files.readAllLines(TEXT_UI_TEST_DIRECTORY.resolve("input.txt"));
+        String expected = Files.readString(TEXT_UI_TEST_DIRECTORY.resolve("EXPECTED.TXT"), StandardCharsets.UTF_8);
+        ReplayReport report = new ReplayDriver(null, commands, 0).run();
+        assertEquals(ReplayDriver.normalizeLineEndings(expected), report.getOutput());
+        assertEquals(commands.size(), report.getCommandCount());
+        assertEquals(2, report.getLatencies("delete").length);
+        assertEquals(1, report.getLatencies("bye").length);
+        logger.info("The replayed text UI test prints the expected output");
+    }
+
+    @Test
+    public void run_generatedWorkload_sameOutputEveryRun() throws EZMealPlanException, IOException {
+        logger.fine("Running run_generatedWorkload_sameOutputEveryRun()");
+        File dataDirectory = Files.createTempDirectory("ReplayDriverTest").toFile();
+        try {
+            new WorkloadGenerator(40, 1000).writeFiles(dataDirectory, 200);
+            List<String> commands = Files.readAllLines(new File(dataDirectory,
+                    WorkloadGenerator.COMMANDS_FILE_NAME).toPath());
+            ReplayReport firstReport = new ReplayDriver(dataDirectory, commands, 0).run();
+            ReplayReport secondReport = new ReplayDriver(dataDirectory, commands, 0).run();
+            assertEquals(firstReport.getOutput(), secondReport.getOutput());
+            assertEquals(firstReport.getOutputDigest(), secondReport.getOutputDigest());
+            assertFalse(firstReport.getOutput().contains("Invalid command"));
+            int latencyCount = 0;
+            for (String commandWord : firstReport.getCommandWords()) {
+                latencyCount += firstReport.getLatencies(commandWord).length;
+            }
+            assertEquals(commands.size(), latencyCount);
+            assertTrue(firstReport.getThroughput() > 0);
+            assertTrue(firstReport.format().contains("filter"));
+        } finally {
+            deleteDirectory(dataDirectory);
+        }
+        logger.info("Replaying a generated workload twice prints the same output");
+    }
+
+    @Test
+    public void run_targetRate_commandsPaced() throws IOException {
+        logger.fine("Running run_targetRate_commandsPaced()");
+        List<String> commands = List.of("recipes", "wishlist", "inventory", "recipes", "wishlist", "inventory",
+                "recipes", "wishlist", "inventory", "recipes", "wishlist");
+        ReplayReport report = new ReplayDriver(null, commands, 100).run();
+        // The last of the 11 commands is scheduled 100 ms after the first.
+        assertTrue(report.getElapsedNanos() >= 100_000_000L, "Ran in " + report.getElapsedNanos() + " ns");
+        assertEquals(commands.size(), report.getCommandCount());
+        logger.info("Commands are started at the target rate");
+    }
+
+    @Test
+    public void checkOutput_referenceFiles_recordedThenCompared() throws IOException {
+        logger.fine("Running checkOutput_referenceFiles_recordedThenCompared()");
+        File referenceDirectory = Files.createTempDirectory("ReplayDriverTest").toFile();
+        try {
+            ReplayReport report = new ReplayDriver(null, List.of("recipes", "bye"), 0).run();
+            ReplayReport otherReport = new ReplayDriver(null, List.of("wishlist", "bye"), 0).run();
+            for (String referenceFileName : new String[]{"reference.txt", "reference.sha256"}) {
+                Path referenceFile = referenceDirectory.toPath().resolve(referenceFileName);
+                assertTrue(ReplayDriver.checkOutput(report, referenceFile));
+                assertTrue(Files.exists(referenceFile));
+                assertTrue(ReplayDriver.checkOutput(report, referenceFile));
+                assertFalse(ReplayDriver.checkOutput(otherReport, referenceFile));
+                assertTrue(Files.exists(Path.of(referenceFile + ".actual")));
+            }
+        } finally {
+            deleteDirectory(referenceDirectory);
+        }
+        logger.info("Reference outputs are recorded, then compared");
+    }
+}
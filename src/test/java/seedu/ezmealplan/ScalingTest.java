@@ -0,0 +1,290 @@
+package seedu.ezmealplan;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.command.ByeCommand;
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Ingredient;
+import seedu.food.Inventory;
+import seedu.food.Meal;
+import seedu.logic.MealManager;
+import seedu.meallist.RecipesList;
+import seedu.storage.Storage;
+import seedu.ui.UserInterface;
+import seedu.workload.WorkloadGenerator;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.TestUtil.deleteDirectory;
+
+/**
+ * Times the hot paths at doubling input sizes and fits how their running time grows with the input size.
+ * A growth exponent near 1 is linear or n log n; an exponent near 2 is quadratic and fails the test.
+ * Timings depend on the machine, so this runs in the performanceTest task rather than in the test task.
+ */
+@Tag("performance")
+public class ScalingTest {
+    private static final Logger logger = Logger.getLogger(ScalingTest.class.getName());
+    private static final int[] SIZES = {2_000, 4_000, 8_000, 16_000, 32_000};
+    private static final double MAX_GROWTH_EXPONENT = 1.5;
+    // A write that rebuilds a whole index or copies the whole inventory costs time that grows as n^1.
+    private static final double MAX_SUBLINEAR_EXPONENT = 0.8;
+    private static final int WRITE_COUNT = 200;
+    private static final int WARMUP_COUNT = 3;
+    private static final int REPEAT_COUNT = 3;
+    private static final int QUERY_COUNT = 20;
+    private static List<Meal> mealPool;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        try {
+            FileHandler fileHandler = new FileHandler("ScalingTest.log", true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+        int largestSize = SIZES[SIZES.length - 1];
+        // Extra meals, so that some meals of a wishlist can be missing from the recipes list.
+        mealPool = new WorkloadGenerator(39, largestSize + largestSize / 4).generateRecipes();
+    }
+
+    /**
+     * Prepares an input of the given size and returns the action to time on it.
+     */
+    private interface ScalingCase {
+        Action prepare(int size) throws Exception;
+    }
+
+    private interface Action {
+        void run() throws Exception;
+    }
+
+    // Returns the first size meals of the pool, which are in recipes list order.
+    private static List<Meal> getMeals(int size) {
+        return new ArrayList<>(mealPool.subList(0, size));
+    }
+
+    private static MealManager createMealManager(int size) throws EZMealPlanException {
+        MealManager mealManager = new MealManager();
+        mealManager.getRecipesList().addMeals(getMeals(size));
+        return mealManager;
+    }
+
+    private static UserInterface createQuietUi() {
+        PrintStream quietOutput = new PrintStream(OutputStream.nullOutputStream());
+        return new UserInterface(new ByteArrayInputStream(new byte[0]), quietOutput);
+    }
+
+    private static long timeOnce(ScalingCase scalingCase, int size) throws Exception {
+        Action action = scalingCase.prepare(size);
+        System.gc();
+        long startTime = System.nanoTime();
+        action.run();
+        return System.nanoTime() - startTime;
+    }
+
+    /**
+     * Returns the slope of the least squares line through log(time) against log(size), using the fastest of a few
+     * runs at every size.
+     */
+    private static double measureGrowthExponent(String caseName, ScalingCase scalingCase) throws Exception {
+        for (int i = 0; i < WARMUP_COUNT; i++) {
+            timeOnce(scalingCase, SIZES[SIZES.length / 2]);
+        }
+        double[] logSizes = new double[SIZES.length];
+        double[] logTimes = new double[SIZES.length];
+        StringBuilder times = new StringBuilder();
+        for (int i = 0; i < SIZES.length; i++) {
+            long fastestTime = Long.MAX_VALUE;
+            for (int repeat = 0; repeat < REPEAT_COUNT; repeat++) {
+                fastestTime = Math.min(fastestTime, timeOnce(scalingCase, SIZES[i]));
+            }
+            logSizes[i] = Math.log(SIZES[i]);
+            logTimes[i] = Math.log(fastestTime);
+            times.append(String.format(" n=%d: %.2fms", SIZES[i], fastestTime / 1e6));
+        }
+        double meanLogSize = 0;
+        double meanLogTime = 0;
+        for (int i = 0; i < SIZES.length; i++) {
+            meanLogSize += logSizes[i] / SIZES.length;
+            meanLogTime += logTimes[i] / SIZES.length;
+        }
+        double covariance = 0;
+        double variance = 0;
+        for (int i = 0; i < SIZES.length; i++) {
+            covariance += (logSizes[i] - meanLogSize) * (logTimes[i] - meanLogTime);
+            variance += (logSizes[i] - meanLogSize) * (logSizes[i] - meanLogSize);
+        }
+        double growthExponent = covariance / variance;
+        logger.info(String.format("%s grows as n^%.2f:%s", caseName, growthExponent, times));
+        return growthExponent;
+    }
+
+    private static void assertNotQuadratic(String caseName, ScalingCase scalingCase) throws Exception {
+        double growthExponent = measureGrowthExponent(caseName, scalingCase);
+        assertTrue(growthExponent < MAX_GROWTH_EXPONENT,
+                String.format("%s grows as n^%.2f, which is worse than n log n", caseName, growthExponent));
+    }
+
+    private static void assertSublinear(String caseName, ScalingCase scalingCase) throws Exception {
+        double growthExponent = measureGrowthExponent(caseName, scalingCase);
+        assertTrue(growthExponent < MAX_SUBLINEAR_EXPONENT,
+                String.format("%s grows as n^%.2f, which is not sublinear", caseName, growthExponent));
+    }
+
+    @Test
+    public void addMeal_randomOrder_notQuadratic() throws Exception {
+        logger.fine("Running addMeal_randomOrder_notQuadratic()");
+        assertNotQuadratic("MealList.addMeal", size -> {
+            List<Meal> meals = getMeals(size);
+            Collections.shuffle(meals, new Random(size));
+            RecipesList recipesList = new RecipesList();
+            return () -> {
+                for (Meal meal : meals) {
+                    recipesList.addMeal(meal);
+                }
+            };
+        });
+        logger.info("Adding meals one by one is not quadratic");
+    }
+
+    @Test
+    public void addIngredient_randomOrder_notQuadratic() throws Exception {
+        logger.fine("Running addIngredient_randomOrder_notQuadratic()");
+        assertNotQuadratic("Inventory.addIngredient", size -> {
+            List<Ingredient> ingredients = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                ingredients.add(new Ingredient("Ingredient " + i, (1 + i % 9) + ".50"));
+            }
+            Collections.shuffle(ingredients, new Random(size));
+            Inventory inventory = new Inventory();
+            return () -> {
+                for (Ingredient ingredient : ingredients) {
+                    inventory.addIngredient(ingredient);
+                }
+                for (Ingredient ingredient : ingredients) {
+                    inventory.addIngredient(ingredient);
+                }
+            };
+        });
+        logger.info("Adding ingredients one by one is not quadratic");
+    }
+
+    @Test
+    public void removeIllegalMeals_largeWishList_notQuadratic() throws Exception {
+        logger.fine("Running removeIllegalMeals_largeWishList_notQuadratic()");
+        assertNotQuadratic("MealManager.removeIllegalMeals", size -> {
+            MealManager mealManager = createMealManager(size);
+            List<Meal> wishListMeals = new ArrayList<>();
+            for (int i = 0; i < size; i += 2) {
+                wishListMeals.add(mealPool.get(i));
+            }
+            // Meals that are not in the recipes list and must be removed.
+            wishListMeals.addAll(mealPool.subList(size, size + size / 4));
+            mealManager.getWishList().addMeals(wishListMeals);
+            return mealManager::removeIllegalMeals;
+        });
+        logger.info("Removing illegal meals is not quadratic");
+    }
+
+    @Test
+    public void filtering_largeRecipesList_notQuadratic() throws Exception {
+        logger.fine("Running filtering_largeRecipesList_notQuadratic()");
+        String[] popularIngredients = {WorkloadGenerator.getIngredientName(0).toLowerCase()};
+        String[] mealNames = {"noodles"};
+        assertNotQuadratic("MealManager.filteringBy*", size -> {
+            MealManager mealManager = createMealManager(size);
+            double mealCost = mealPool.get(size / 2).getPrice();
+            return () -> {
+                // The first query also builds the index of the recipes list.
+                for (int i = 0; i < QUERY_COUNT; i++) {
+                    mealManager.filteringByIng(popularIngredients);
+                    mealManager.filteringByMname(mealNames);
+                    mealManager.filteringByMcost(mealCost);
+                }
+            };
+        });
+        logger.info("Filtering is not quadratic");
+    }
+
+    @Test
+    public void writesAndQueries_interleaved_sublinear() throws Exception {
+        logger.fine("Running writesAndQueries_interleaved_sublinear()");
+        assertSublinear("MealManager writes between queries", size -> {
+            MealManager mealManager = createMealManager(size);
+            Inventory inventory = mealManager.getInventory();
+            for (int i = 0; i < size; i++) {
+                inventory.addIngredient(new Ingredient("Ingredient " + i, "1.50"));
+            }
+            // Publishes the first full index and inventory copy, which the timed writes then build on.
+            mealManager.filteringByMcost(0);
+            List<Meal> addedMeals = mealPool.subList(size, size + WRITE_COUNT);
+            return () -> {
+                for (Meal meal : addedMeals) {
+                    mealManager.addMeal(meal, mealManager.getRecipesList());
+                    mealManager.filteringByMcost(meal.getPrice());
+                    mealManager.write(() -> {
+                        inventory.addIngredient(meal.getIngredientList().get(0));
+                        return null;
+                    });
+                    mealManager.getSnapshot().getInventory().getIngredientCount("Ingredient 1");
+                    int position = mealManager.getRecipesList().getIndex(meal);
+                    mealManager.removeMeal(position, mealManager.getRecipesList());
+                    mealManager.filteringByMcost(meal.getPrice());
+                }
+            };
+        });
+        logger.info("A write between queries costs less than rebuilding the whole index or inventory");
+    }
+
+    @Test
+    public void storage_loadAndSave_notQuadratic() throws Exception {
+        logger.fine("Running storage_loadAndSave_notQuadratic()");
+        File dataDirectory = Files.createTempDirectory("ScalingTest").toFile();
+        try {
+            Storage storage = new Storage(dataDirectory);
+            storage.createListFiles();
+            assertNotQuadratic("Session.load", size -> {
+                List<String> lines = new ArrayList<>();
+                getMeals(size).forEach(meal -> lines.add(meal.toDataString()));
+                Files.write(storage.getRecipesListFile().toPath(), lines);
+                Files.write(storage.getWishListFile().toPath(), lines.subList(0, size / 2));
+                Session session = new Session(createQuietUi(), storage);
+                return session::load;
+            });
+            assertNotQuadratic("ByeCommand save", size -> {
+                MealManager mealManager = createMealManager(size);
+                mealManager.getWishList().addMeals(getMeals(size / 2));
+                ByeCommand byeCommand = new ByeCommand(storage);
+                UserInterface ui = createQuietUi();
+                return () -> byeCommand.execute(mealManager, ui);
+            });
+        } finally {
+            deleteDirectory(dataDirectory);
+        }
+        logger.info("Loading and saving the lists are not quadratic");
+    }
+}
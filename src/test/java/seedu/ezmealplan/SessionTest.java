@@ -0,0 +1,142 @@
+package seedu.ezmealplan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.TestUtil.deleteDirectory;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import seedu.logic.MealManager;
+import seedu.logic.RecipeCatalog;
+import seedu.meallist.OffHeapRecipeColumns;
+import seedu.meallist.RecipeColumns;
+import seedu.storage.Storage;
+import seedu.ui.UserInterface;
+
+public class SessionTest {
+    private static final Logger logger = Logger.getLogger(SessionTest.class.getName());
+    private static final int SESSION_COUNT = 8;
+
+    @BeforeAll
+    public static void setupLogger() {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        try {
+            FileHandler fileHandler = new FileHandler("SessionTest.log", true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    private static UserInterface createScriptedUi(String... userInputs) {
+        String script = String.join(System.lineSeparator(), userInputs) + System.lineSeparator();
+        return new UserInterface(new ByteArrayInputStream(script.getBytes()));
+    }
+
+    @Test
+    public void run_parallelSessions_separateDataFiles() throws IOException, InterruptedException,
+            ExecutionException {
+        logger.fine("Running run_parallelSessions_separateDataFiles()");
+        List<File> dataDirectories = new ArrayList<>();
+        List<Future<?>> runningSessions = new ArrayList<>();
+        try (SessionPool sessionPool = new SessionPool(4)) {
+            for (int i = 0; i < SESSION_COUNT; i++) {
+                File dataDirectory = Files.createTempDirectory("SessionTest").toFile();
+                dataDirectories.add(dataDirectory);
+                UserInterface ui = createScriptedUi("buy /ing ingredient" + i + " (1.00)",
+                        "consume /ing ingredient" + i, "buy /ing ingredient" + i + " (2.00)", "bye");
+                runningSessions.add(sessionPool.submit(new Session(ui, new Storage(dataDirectory))));
+            }
+            for (Future<?> runningSession : runningSessions) {
+                runningSession.get();
+            }
+        }
+
+        for (int i = 0; i < SESSION_COUNT; i++) {
+            Storage storage = new Storage(dataDirectories.get(i));
+            List<String> inventoryLines = Files.readAllLines(storage.getInventoryListFile().toPath());
+            assertEquals(List.of("ingredient" + i + " | 2.00 | 1"), inventoryLines);
+            assertTrue(Storage.loadExistingList(storage.getRecipesListFile()).size() > 0);
+            deleteDirectory(dataDirectories.get(i));
+        }
+        logger.info("Each session saves only its own lists");
+    }
+
+    @Test
+    public void load_dataFiles_listsLoadedAndPhasesReported() throws IOException, InterruptedException {
+        logger.fine("Running load_dataFiles_listsLoadedAndPhasesReported()");
+        File dataDirectory = Files.createTempDirectory("SessionTest").toFile();
+        try {
+            Storage storage = new Storage(dataDirectory);
+            Files.writeString(storage.getRecipesListFile().toPath(), "Egg Rice | Egg (0.50) | Rice (1.00)\n"
+                    + "Toast | Bread (1.00)\n");
+            Files.writeString(storage.getWishListFile().toPath(), "Toast | Bread (1.00)\n");
+            Files.writeString(storage.getInventoryListFile().toPath(), "Egg | 0.50 | 2\nEgg | 0.50 | 3\n");
+            Session session = new Session(createScriptedUi("bye"), storage);
+            session.load();
+            MealManager mealManager = session.getMealManager();
+            assertEquals(2, mealManager.getRecipesList().getList().size());
+            assertEquals(1, mealManager.getWishList().getList().size());
+            assertEquals(3, mealManager.getInventory().getIngredientCount("egg"));
+            assertEquals(1, mealManager.filteringByIng(new String[]{"egg"}).size());
+            StartupReport startupReport = session.getStartupReport();
+            for (String phase : List.of("create list files", "read inventory file", "read recipes list file",
+                    "read wishlist file", "read files and fill lists", "remove illegal meals")) {
+                assertTrue(startupReport.getNanos(phase) >= 0, phase + " was not reported");
+            }
+            assertTrue(startupReport.getReadyNanos() >= 0);
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (startupReport.getNanos("build recipes index") < 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertTrue(startupReport.getNanos("build recipes index") >= 0, startupReport.format());
+        } finally {
+            deleteDirectory(dataDirectory);
+        }
+        logger.info("The three files are loaded and every phase of the load is reported");
+    }
+
+    @Test
+    public void load_offHeapRecipeStore_presetRecipesReadOffHeap() throws IOException {
+        logger.fine("Running load_offHeapRecipeStore_presetRecipesReadOffHeap()");
+        File dataDirectory = Files.createTempDirectory("SessionTest").toFile();
+        System.setProperty(MealManager.RECIPE_STORE_PROPERTY, MealManager.OFF_HEAP_RECIPE_STORE);
+        try {
+            Session session = new Session(createScriptedUi("bye"), new Storage(dataDirectory));
+            session.load();
+            MealManager mealManager = session.getMealManager();
+            assertTrue(mealManager.hasRecipeCatalog());
+            RecipeCatalog presetCatalog = Storage.getPresetCatalog();
+            RecipeColumns.MealView catalogMeals = assertInstanceOf(RecipeColumns.MealView.class,
+                    presetCatalog.getMeals());
+            assertInstanceOf(OffHeapRecipeColumns.class, catalogMeals.getColumns());
+            assertEquals(new ArrayList<>(catalogMeals), new ArrayList<>(mealManager.getRecipesList().getList()));
+            assertEquals(Storage.loadPresetMeals().size(), mealManager.getRecipesList().getList().size());
+        } finally {
+            System.clearProperty(MealManager.RECIPE_STORE_PROPERTY);
+            deleteDirectory(dataDirectory);
+        }
+        logger.info("ezmealplan.recipeStore=offheap reads the preset recipes from off-heap columns");
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.ezmealplan;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StartupReportTest {
+    private static final Logger logger = Logger.getLogger(StartupReportTest.class.getName());
+
+    public StartupReportTest() {
+        String fileName = "StartupReportTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @Test
+    public void recordWhenDone_unfinishedPhase_shownAsRunning() {
+        logger.fine("Running recordWhenDone_unfinishedPhase_shownAsRunning()");
+        StartupReport startupReport = new StartupReport();
+        startupReport.record("read files", System.nanoTime());
+        CompletableFuture<Void> indexBuild = new CompletableFuture<>();
+        startupReport.recordWhenDone("build index", System.nanoTime(), indexBuild);
+        assertTrue(startupReport.format().contains("Not ready"), startupReport.format());
+        startupReport.recordReady();
+        String table = startupReport.format();
+        assertTrue(table.contains("read files"), table);
+        assertTrue(table.contains("running"), table);
+        assertTrue(table.contains("Ready for the first command"), table);
+        assertEquals(-1, startupReport.getNanos("build index"));
+        indexBuild.complete(null);
+        assertTrue(startupReport.getNanos("build index") >= 0);
+        assertTrue(startupReport.getNanos("read files") >= 0);
+        assertEquals(-1, startupReport.getNanos("never run"));
+        logger.info("A phase is shown as running until its future completes");
+    }
+}
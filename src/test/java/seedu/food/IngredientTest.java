@@ -16,7 +16,10 @@ import java.util.logging.LogManager;
 import java.util.logging.Logger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class IngredientTest {
@@ -122,6 +125,30 @@ public class IngredientTest {
         logger.info("Equality is true");
     }
 
+    @Test
+    public void getNameKey_mixedCaseNames_sameAsIgnoringCase() throws EZMealPlanException {
+        logger.fine("Running getNameKey_mixedCaseNames_sameAsIgnoringCase()");
+        String[] names = {"salt", "Salt", "SALT", "Sea Salt", "sea_salt", "[salt]", "\u00c9clair", "\u00e9CLAIR",
+            "Stra\u00dfe", "\u0130stanbul", "istanbul", "\u212a", "k", "\u00b5", "\u039c"};
+        for (String name : names) {
+            Ingredient ingredient = new Ingredient(name, "1.00");
+            for (String otherName : names) {
+                Ingredient otherIngredient = new Ingredient(otherName, "1.00");
+                assertEquals(name.equalsIgnoreCase(otherName), ingredient.equals(otherIngredient));
+                assertEquals(Integer.signum(String.CASE_INSENSITIVE_ORDER.compare(name, otherName)),
+                        Integer.signum(ingredient.getNameKey().compareTo(otherIngredient.getNameKey())));
+                if (ingredient.equals(otherIngredient)) {
+                    assertEquals(ingredient.hashCode(), otherIngredient.hashCode());
+                }
+            }
+        }
+        String keyword = "sea salt";
+        assertSame(keyword, Product.toNameKey(keyword));
+        assertTrue(Product.containsNameKey("Smoked SEA SALT", keyword));
+        assertFalse(Product.containsNameKey("Sea", keyword));
+        logger.info("Name keys compare and match as the names do ignoring case");
+    }
+
     @Test
     public void setPrice_negativePrice_exceptionThrown() {
         logger.fine("Running setPrice_negativePrice_exceptionThrown()");
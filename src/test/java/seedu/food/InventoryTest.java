@@ -7,7 +7,12 @@ import seedu.exceptions.InvalidPriceException;
 import seedu.exceptions.InventoryIngredientNotFound;
 import seedu.exceptions.InventoryMultipleIngredientsException;
 
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 class InventoryTest {
@@ -118,4 +123,46 @@ class InventoryTest {
             assertEquals("Chocolate not found in Inventory", ezMealPlanException.getMessage());
         }
     }
+
+    @Test
+    void getReadOnlyCopy_afterFewChanges_overlaySameAsFullCopy() throws EZMealPlanException {
+        Inventory inventory = new Inventory();
+        for (int i = 0; i < 100; i++) {
+            inventory.addIngredient(new Ingredient("Ingredient" + i, "1.00"), 2);
+        }
+        InventoryView fullCopy = inventory.getReadOnlyCopy();
+        String fullCopyOutput = fullCopy.toString();
+        inventory.addIngredient(new Ingredient("ingredient5", "1.00"));
+        inventory.removeIngredient("Ingredient7");
+        inventory.removeIngredient("Ingredient7");
+        inventory.addIngredient(ingredient3);
+        inventory.addIngredient(new Ingredient("Ingredient7", "2.50"));
+        InventoryView copy = inventory.getReadOnlyCopy();
+
+        Inventory expectedCopy = new Inventory();
+        expectedCopy.addAll(inventory);
+        assertTrue(copy instanceof InventoryOverlay);
+        assertEquals(expectedCopy.toString(), copy.toString());
+        assertEquals(expectedCopy.toDataArray(), copy.toDataArray());
+        assertEquals(expectedCopy.size(), copy.size());
+        assertEquals(expectedCopy.getIngredientNames(), copy.getIngredientNames());
+        assertEquals(3, copy.getIngredientCount("ingredient5"));
+        assertEquals(1, copy.getIngredientCount("ingredient7"));
+        assertTrue(copy.hasIngredient("banana"));
+        assertEquals(Set.of("ingredient5", "ingredient7", "banana"), copy.getChangedNames(fullCopy));
+        assertEquals(fullCopyOutput, fullCopy.toString());
+    }
+
+    @Test
+    void getReadOnlyCopy_manyChanges_newFullCopy() throws EZMealPlanException {
+        Inventory inventory = new Inventory();
+        InventoryView firstCopy = inventory.getReadOnlyCopy();
+        for (int i = 0; i < 100; i++) {
+            inventory.addIngredient(new Ingredient("Ingredient" + i, "1.00"));
+        }
+        InventoryView copy = inventory.getReadOnlyCopy();
+        assertFalse(copy instanceof InventoryOverlay);
+        assertNull(copy.getChangedNames(firstCopy));
+        assertEquals(100, copy.size());
+    }
 }
@@ -0,0 +1,157 @@
+package seedu.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncLogHandlerTest {
+    private static final Logger logger = Logger.getLogger(AsyncLogHandlerTest.class.getName());
+    private static final Pattern DROP_COUNT_PATTERN = Pattern.compile(
+            "Dropped (\\d+) log records because the log queue was full\\.");
+
+    public AsyncLogHandlerTest() {
+        String fileName = "AsyncLogHandlerTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    private static Logger createTestLogger(String name, Handler handler) {
+        Logger testLogger = Logger.getLogger(AsyncLogHandlerTest.class.getName() + "." + name);
+        testLogger.setUseParentHandlers(false);
+        testLogger.setLevel(Level.ALL);
+        testLogger.addHandler(handler);
+        return testLogger;
+    }
+
+    /**
+     * Keeps every record it is given, after waiting for the gate to open.
+     */
+    private static class CollectingHandler extends Handler {
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private final CountDownLatch gate;
+
+        CollectingHandler(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            try {
+                gate.await();
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Test
+    public void publish_fineRecords_writtenInOrderWithCaller() {
+        logger.fine("Running publish_fineRecords_writtenInOrderWithCaller()");
+        CollectingHandler target = new CollectingHandler(new CountDownLatch(0));
+        AsyncLogHandler handler = new AsyncLogHandler(target);
+        Logger testLogger = createTestLogger("inOrder", handler);
+        for (int i = 0; i < 100; i++) {
+            int number = i;
+            testLogger.fine(() -> "Record " + number);
+        }
+        handler.flush();
+        assertEquals(100, target.records.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Record " + i, target.records.get(i).getMessage());
+        }
+        assertEquals("publish_fineRecords_writtenInOrderWithCaller", target.records.get(0).getSourceMethodName());
+        handler.close();
+        logger.info("Records are written in order, with the method that logged them");
+    }
+
+    @Test
+    public void publish_repeatedWarnings_coalesced() {
+        logger.fine("Running publish_repeatedWarnings_coalesced()");
+        CollectingHandler target = new CollectingHandler(new CountDownLatch(0));
+        AsyncLogHandler handler = new AsyncLogHandler(target);
+        Logger testLogger = createTestLogger("repeated", handler);
+        for (int i = 0; i < 50; i++) {
+            testLogger.warning("Triggers InvalidPriceException()!");
+        }
+        testLogger.warning("Triggers DuplicateIngredientException()!");
+        handler.close();
+        assertEquals(3, target.records.size());
+        assertEquals("Triggers InvalidPriceException()!", target.records.get(0).getMessage());
+        assertEquals("The previous message was repeated 49 more times: Triggers InvalidPriceException()!",
+                target.records.get(1).getMessage());
+        assertEquals("Triggers DuplicateIngredientException()!", target.records.get(2).getMessage());
+        logger.info("A repeated warning is written once with the number of repeats");
+    }
+
+    @Test
+    public void publish_fullQueue_recordsDroppedAndCounted() {
+        logger.fine("Running publish_fullQueue_recordsDroppedAndCounted()");
+        CountDownLatch gate = new CountDownLatch(1);
+        CollectingHandler target = new CollectingHandler(gate);
+        AsyncLogHandler handler = new AsyncLogHandler(target, 4);
+        Logger testLogger = createTestLogger("full", handler);
+        for (int i = 0; i < 20; i++) {
+            testLogger.info("Record " + i);
+        }
+        long droppedCount = handler.getDroppedCount();
+        // One record may be taken by the writer thread, which waits at the gate, and 4 more fill the queue.
+        assertTrue(droppedCount >= 15 && droppedCount <= 16, "Dropped " + droppedCount);
+        gate.countDown();
+        handler.close();
+        long writtenCount = 0;
+        long writtenDroppedCount = 0;
+        for (LogRecord record : target.records) {
+            Matcher dropCountMatcher = DROP_COUNT_PATTERN.matcher(record.getMessage());
+            if (dropCountMatcher.matches()) {
+                writtenDroppedCount += Long.parseLong(dropCountMatcher.group(1));
+            } else {
+                writtenCount++;
+            }
+        }
+        assertEquals(20 - droppedCount, writtenCount);
+        assertEquals(droppedCount, writtenDroppedCount);
+        logger.info("Records are dropped and counted when the queue is full");
+    }
+}
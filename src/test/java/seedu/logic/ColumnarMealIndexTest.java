@@ -0,0 +1,148 @@
+package seedu.logic;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Ingredient;
+import seedu.food.Meal;
+import seedu.meallist.ColumnarRecipeList;
+import seedu.meallist.RecipesList;
+import seedu.workload.WorkloadGenerator;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ColumnarMealIndexTest {
+    private static final Logger logger = Logger.getLogger(ColumnarMealIndexTest.class.getName());
+    private final MealManager objectManager = new MealManager(new RecipesList());
+    private final MealManager columnarManager = new MealManager(new RecipesList(new ColumnarRecipeList()));
+
+    public ColumnarMealIndexTest() throws EZMealPlanException {
+        String fileName = "ColumnarMealIndexTest.log";
+        setupLogger(fileName);
+        List<Meal> meals = new WorkloadGenerator(53, 2000).generateRecipes();
+        for (MealManager mealManager : List.of(objectManager, columnarManager)) {
+            mealManager.write(() -> {
+                for (Meal meal : meals) {
+                    mealManager.addMeal(meal, mealManager.getRecipesList());
+                }
+                for (int rank = 0; rank < 40; rank += 3) {
+                    mealManager.getInventory().addIngredient(
+                            new Ingredient(WorkloadGenerator.getIngredientName(rank), "1.00"), 1);
+                }
+                return null;
+            });
+        }
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    private static String getIngredientWord(int rank) {
+        String ingredientName = WorkloadGenerator.getIngredientName(rank);
+        return ingredientName.substring(ingredientName.lastIndexOf(' ') + 1);
+    }
+
+    private void assertSameMeals(MealQuery objectQuery, MealQuery columnarQuery) {
+        List<Meal> expectedMeals = objectManager.filteringByQuery(objectQuery);
+        List<Meal> meals = columnarManager.filteringByQuery(columnarQuery);
+        assertEquals(expectedMeals, meals);
+    }
+
+    @Test
+    public void filteringByQuery_columnarRecipes_sameAsMealObjects() {
+        logger.fine("Running filteringByQuery_columnarRecipes_sameAsMealObjects()");
+        assertTrue(columnarManager.getRecipesIndex() instanceof ColumnarMealIndex);
+        String[] ingredients = {getIngredientWord(0)};
+        String[] rareIngredients = {WorkloadGenerator.getIngredientName(150).toLowerCase()};
+        String[] twoIngredients = {getIngredientWord(1), getIngredientWord(2)};
+        String[] names = {"ri"};
+        assertSameMeals(new MealQuery().addIngredientKeywords(ingredients),
+                new MealQuery().addIngredientKeywords(ingredients));
+        assertSameMeals(new MealQuery().addIngredientKeywords(rareIngredients),
+                new MealQuery().addIngredientKeywords(rareIngredients));
+        assertSameMeals(new MealQuery().addIngredientKeywords(twoIngredients).addNameKeywords(names),
+                new MealQuery().addIngredientKeywords(twoIngredients).addNameKeywords(names));
+        assertSameMeals(new MealQuery().addExcludedIngredientKeywords(ingredients).addPriceRange(5.005, 9.995),
+                new MealQuery().addExcludedIngredientKeywords(ingredients).addPriceRange(5.005, 9.995));
+        assertSameMeals(new MealQuery().addPriceRange(0.005, 2.995), new MealQuery().addPriceRange(0.005, 2.995));
+        assertFalse(columnarManager.filteringByQuery(new MealQuery().addIngredientKeywords(ingredients)).isEmpty());
+        logger.info("Filters over columns keep the same meals as filters over meal objects");
+    }
+
+    @Test
+    public void filteringByMcost_columnarRecipes_exactCents() {
+        logger.fine("Running filteringByMcost_columnarRecipes_exactCents()");
+        Meal meal = columnarManager.getRecipesList().getList().get(700);
+        double price = Double.parseDouble(String.format("%.2f", meal.getPrice()));
+        List<Meal> meals = columnarManager.filteringByMcost(price);
+        assertTrue(meals.contains(meal));
+        for (Meal foundMeal : meals) {
+            assertEquals(String.format("%.2f", price), String.format("%.2f", foundMeal.getPrice()));
+        }
+        logger.info("A price filter over columns compares the prices in cents");
+    }
+
+    @Test
+    public void getCookableMeals_inventoryChanged_sameAsMealObjects() throws EZMealPlanException {
+        logger.fine("Running getCookableMeals_inventoryChanged_sameAsMealObjects()");
+        assertEquals(objectManager.getCookableMeals(1), columnarManager.getCookableMeals(1));
+        for (MealManager mealManager : List.of(objectManager, columnarManager)) {
+            for (int rank = 1; rank < 40; rank += 3) {
+                mealManager.getInventory().addIngredient(
+                        new Ingredient(WorkloadGenerator.getIngredientName(rank), "1.00"), 1);
+            }
+        }
+        List<Meal> cookableMeals = columnarManager.getCookableMeals(1);
+        assertEquals(objectManager.getCookableMeals(1), cookableMeals);
+        assertEquals(objectManager.getCookableMeals(0), columnarManager.getCookableMeals(0));
+        assertFalse(cookableMeals.isEmpty());
+        logger.info("Cookable meals over columns are the same as over meal objects");
+    }
+
+    @Test
+    public void recommendTop_columnarRecipes_sameAsMealObjects() {
+        logger.fine("Running recommendTop_columnarRecipes_sameAsMealObjects()");
+        RecommendEngine recommendEngine = new RecommendEngine();
+        String[] keywords = {getIngredientWord(0), getIngredientWord(5)};
+        List<Recommendation> expectedRecommendations = recommendEngine.recommendTop(
+                objectManager.getRecipesIndex(), keywords, objectManager.getInventory(), 10);
+        List<Recommendation> recommendations = recommendEngine.recommendTop(
+                columnarManager.getRecipesIndex(), keywords, columnarManager.getInventory(), 10);
+        assertEquals(10, recommendations.size());
+        for (int i = 0; i < recommendations.size(); i++) {
+            Recommendation expectedRecommendation = expectedRecommendations.get(i);
+            Recommendation recommendation = recommendations.get(i);
+            assertEquals(expectedRecommendation.getPosition(), recommendation.getPosition());
+            assertEquals(expectedRecommendation.getMeal(), recommendation.getMeal());
+            assertEquals(expectedRecommendation.getMissingIngredients(), recommendation.getMissingIngredients());
+            assertEquals(expectedRecommendation.getMissingCost(), recommendation.getMissingCost());
+        }
+        logger.info("Recommendations scored over columns are the same as over meal objects");
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.logic;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IngredientSetTest {
+    private static final Logger logger = Logger.getLogger(IngredientSetTest.class.getName());
+
+    @BeforeAll
+    public static void setupLogger() {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        try {
+            FileHandler fileHandler = new FileHandler("IngredientSetTest.log", true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @Test
+    public void of_idsAcrossWords_sizeAndContains() {
+        logger.fine("Running of_idsAcrossWords_sizeAndContains()");
+        IngredientSet set = IngredientSet.of(new int[]{130, 3, 64, 3, 63});
+        assertEquals(4, set.size());
+        assertTrue(set.contains(3) && set.contains(63) && set.contains(64) && set.contains(130));
+        assertFalse(set.contains(4) || set.contains(128) || set.contains(1000));
+        assertTrue(IngredientSet.of(new int[0]).isEmpty());
+        logger.info("Ids are kept across several words");
+    }
+
+    @Test
+    public void setOperations_sparseSets_sameAsIdComparison() {
+        logger.fine("Running setOperations_sparseSets_sameAsIdComparison()");
+        IngredientSet meal = IngredientSet.of(new int[]{1, 70, 500});
+        IngredientSet inventory = IngredientSet.of(new int[]{1, 2, 500, 900});
+        IngredientSet allergy = IngredientSet.of(new int[]{71, 900});
+        assertEquals(1, meal.countNotIn(inventory));
+        assertFalse(meal.isSubsetOf(inventory));
+        assertTrue(meal.intersects(inventory));
+        assertFalse(meal.intersects(allergy));
+        assertTrue(inventory.intersects(allergy));
+        assertTrue(IngredientSet.of(new int[]{1, 500}).isSubsetOf(inventory));
+        assertEquals(3, meal.countNotIn(IngredientSet.EMPTY));
+        logger.info("Set operations match comparing ids one by one");
+    }
+
+    @Test
+    public void findIds_keyword_idsOfMatchingNames() {
+        logger.fine("Running findIds_keyword_idsOfMatchingNames()");
+        IngredientDictionary dictionary = new IngredientDictionary();
+        int chicken = dictionary.intern("chicken");
+        int rice = dictionary.intern("rice");
+        int chickenStock = dictionary.intern("chicken stock");
+        assertEquals(rice, dictionary.intern("rice"));
+        IngredientSet matchedIds = dictionary.findIds("chicken");
+        assertEquals(2, matchedIds.size());
+        assertTrue(matchedIds.contains(chicken) && matchedIds.contains(chickenStock));
+        assertEquals(1, dictionary.toSet(List.of("rice", "beef")).size());
+        logger.info("Dictionary ids follow the ingredient names");
+    }
+}
@@ -0,0 +1,266 @@
+package seedu.logic;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Ingredient;
+import seedu.food.Inventory;
+import seedu.food.InventoryView;
+import seedu.food.Meal;
+import seedu.storage.Storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MealSnapshotTest {
+    private static final Logger logger = Logger.getLogger(MealSnapshotTest.class.getName());
+    private final MealManager mealManager = new MealManager();
+
+    public MealSnapshotTest() throws EZMealPlanException {
+        String fileName = "MealSnapshotTest.log";
+        setupLogger(fileName);
+        for (Meal meal : Storage.loadPresetMeals()) {
+            mealManager.addMeal(meal, mealManager.getRecipesList());
+        }
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @Test
+    public void getSnapshot_afterWrite_earlierSnapshotUnchanged() throws EZMealPlanException {
+        logger.fine("Running getSnapshot_afterWrite_earlierSnapshotUnchanged()");
+        MealSnapshot before = mealManager.getSnapshot();
+        int recipesCount = before.getRecipes().size();
+        Meal removedMeal = mealManager.removeMeal(0, mealManager.getRecipesList());
+        MealSnapshot after = mealManager.getSnapshot();
+        assertEquals(recipesCount, before.getRecipes().size());
+        assertTrue(before.getRecipes().contains(removedMeal));
+        assertEquals(recipesCount - 1, after.getRecipes().size());
+        assertTrue(after.getVersion() > before.getVersion());
+        logger.info("An earlier snapshot keeps the meals it was published with");
+    }
+
+    @Test
+    public void getSnapshot_inventoryWrite_listsShared() throws EZMealPlanException {
+        logger.fine("Running getSnapshot_inventoryWrite_listsShared()");
+        MealSnapshot before = mealManager.getSnapshot();
+        Inventory inventory = mealManager.getInventory();
+        mealManager.write(() -> {
+            inventory.addIngredient(new Ingredient("Egg", "0.50"));
+            return null;
+        });
+        MealSnapshot after = mealManager.getSnapshot();
+        assertSame(before.getRecipesIndex(), after.getRecipesIndex());
+        assertSame(before.getWishListIndex(), after.getWishListIndex());
+        assertFalse(before.getInventory().hasIngredient("egg"));
+        assertTrue(after.getInventory().hasIngredient("egg"));
+        assertSame(after, mealManager.getSnapshot());
+        logger.info("Parts untouched by a write are shared with the previous snapshot");
+    }
+
+    @Test
+    public void getInventory_snapshot_readOnly() throws EZMealPlanException {
+        logger.fine("Running getInventory_snapshot_readOnly()");
+        InventoryView inventorySnapshot = mealManager.getSnapshot().getInventory();
+        assertFalse(inventorySnapshot instanceof Inventory);
+        mealManager.write(() -> {
+            mealManager.getInventory().addIngredient(new Ingredient("Egg", "0.50"));
+            return null;
+        });
+        assertFalse(inventorySnapshot.hasIngredient("egg"));
+        assertTrue(mealManager.getSnapshot().getInventory().hasIngredient("egg"));
+        logger.info("A snapshot inventory does not follow later changes to the inventory");
+    }
+
+    @Test
+    public void getSnapshot_concurrentWrites_noHalfAppliedWrite() throws Exception {
+        logger.fine("Running getSnapshot_concurrentWrites_noHalfAppliedWrite()");
+        Inventory inventory = mealManager.getInventory();
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        List<Throwable> failures = new ArrayList<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            readers.add(new Thread(() -> {
+                long lastVersion = 0;
+                while (isWriting.get()) {
+                    MealSnapshot snapshot = mealManager.getSnapshot();
+                    InventoryView inventorySnapshot = snapshot.getInventory();
+                    // Every write buys one egg and one milk together.
+                    if (inventorySnapshot.getIngredientCount("egg") != inventorySnapshot.getIngredientCount("milk")
+                            || snapshot.getVersion() < lastVersion) {
+                        synchronized (failures) {
+                            failures.add(new AssertionError("Half-applied write seen"));
+                        }
+                        return;
+                    }
+                    lastVersion = snapshot.getVersion();
+                }
+            }));
+        }
+        readers.forEach(Thread::start);
+        for (int i = 0; i < 2000; i++) {
+            mealManager.write(() -> {
+                inventory.addIngredient(new Ingredient("Egg", "0.50"));
+                inventory.addIngredient(new Ingredient("Milk", "1.20"));
+                return null;
+            });
+        }
+        isWriting.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertTrue(failures.isEmpty());
+        assertEquals(2000, mealManager.getSnapshot().getInventory().getIngredientCount("milk"));
+        logger.info("Readers only see whole writes");
+    }
+
+    @Test
+    public void writeIndexingInBackground_lookups_sameAsBuiltIndex() throws EZMealPlanException {
+        logger.fine("Running writeIndexingInBackground_lookups_sameAsBuiltIndex()");
+        MealManager backgroundManager = new MealManager();
+        List<Meal> presetMeals = Storage.loadPresetMeals();
+        backgroundManager.writeIndexingInBackground(() -> {
+            for (Meal meal : presetMeals) {
+                backgroundManager.addMeal(meal, backgroundManager.getRecipesList());
+            }
+            return null;
+        });
+        MealIndex recipesIndex = backgroundManager.getRecipesIndex();
+        assertEquals(mealManager.getSnapshot().getRecipes(), recipesIndex.getMeals());
+        assertEquals(mealManager.filteringByIng(new String[]{"egg"}),
+                backgroundManager.filteringByIng(new String[]{"egg"}));
+        assertEquals(mealManager.filteringByMname(new String[]{"rice"}),
+                backgroundManager.filteringByMname(new String[]{"rice"}));
+        assertTrue(recipesIndex.whenBuilt().isDone());
+        assertSame(recipesIndex, backgroundManager.getRecipesIndex());
+        logger.info("An index built in the background answers the same as one built at once");
+    }
+
+    @Test
+    public void getSnapshot_fewEdits_overlaySameAsFullIndex() throws EZMealPlanException {
+        logger.fine("Running getSnapshot_fewEdits_overlaySameAsFullIndex()");
+        List<Meal> presetMeals = Storage.loadPresetMeals();
+        List<Meal> removedMeals = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 40; i++) {
+            if (!removedMeals.isEmpty() && random.nextBoolean()) {
+                mealManager.addMeal(removedMeals.remove(random.nextInt(removedMeals.size())),
+                        mealManager.getRecipesList());
+            } else {
+                int position = random.nextInt(mealManager.getRecipesList().size());
+                removedMeals.add(mealManager.removeMeal(position, mealManager.getRecipesList()));
+            }
+            // Added outside a write.
+            Meal wishListMeal = presetMeals.get(random.nextInt(presetMeals.size()));
+            if (mealManager.getWishList().contains(wishListMeal)) {
+                mealManager.getWishList().removeMeal(mealManager.getWishList().getIndex(wishListMeal));
+            } else {
+                mealManager.getWishList().addMeal(wishListMeal);
+            }
+            MealSnapshot snapshot = mealManager.getSnapshot();
+            assertTrue(snapshot.getRecipesIndex() instanceof OverlayMealIndex);
+            assertTrue(snapshot.getWishListIndex() instanceof OverlayMealIndex);
+            assertSameLookups(MealIndex.of(mealManager.getRecipesList().getList(), 0), snapshot.getRecipesIndex());
+            assertSameLookups(MealIndex.of(mealManager.getWishList().getList(), 0), snapshot.getWishListIndex());
+        }
+        logger.info("An index built from the edits since the last full index answers the same as a full index");
+    }
+
+    @Test
+    public void getSnapshot_manyEdits_fullIndexRebuilt() throws EZMealPlanException {
+        logger.fine("Running getSnapshot_manyEdits_fullIndexRebuilt()");
+        List<Meal> wishList = mealManager.getWishList().getList();
+        List<Meal> recipes = mealManager.getRecipesList().getList();
+        mealManager.getSnapshot();
+        for (int i = 0; i <= MealListIndexer.MIN_EDITS_BEFORE_REBUILD; i++) {
+            mealManager.getWishList().addMeal(recipes.get(i));
+        }
+        MealIndex wishListIndex = mealManager.getWishListIndex();
+        assertFalse(wishListIndex instanceof OverlayMealIndex);
+        assertSameLookups(MealIndex.of(wishList, 0), wishListIndex);
+        mealManager.getWishList().removeMeal(0);
+        assertTrue(mealManager.getWishListIndex() instanceof OverlayMealIndex);
+        logger.info("A full index is built again once the edits outgrow their limit");
+    }
+
+    @Test
+    public void getSnapshot_writerBusy_readersDoNotWait() throws Exception {
+        logger.fine("Running getSnapshot_writerBusy_readersDoNotWait()");
+        Inventory inventory = mealManager.getInventory();
+        CountDownLatch isWriterInside = new CountDownLatch(1);
+        CountDownLatch canWriterFinish = new CountDownLatch(1);
+        AtomicBoolean wasWriterReleased = new AtomicBoolean();
+        Thread writer = new Thread(() -> {
+            try {
+                mealManager.write(() -> {
+                    inventory.addIngredient(new Ingredient("Egg", "0.50"));
+                    isWriterInside.countDown();
+                    try {
+                        wasWriterReleased.set(canWriterFinish.await(10, TimeUnit.SECONDS));
+                    } catch (InterruptedException interruptedException) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return null;
+                });
+            } catch (EZMealPlanException exception) {
+                throw new AssertionError(exception);
+            }
+        });
+        writer.start();
+        isWriterInside.await();
+        assertFalse(mealManager.getSnapshot().getInventory().hasIngredient("egg"));
+        assertEquals(mealManager.getCookableMeals(1), mealManager.getCookableMeals(1));
+        canWriterFinish.countDown();
+        writer.join();
+        assertTrue(wasWriterReleased.get());
+        assertTrue(mealManager.getSnapshot().getInventory().hasIngredient("egg"));
+        logger.info("Snapshots and cookable meals are read while a writer is busy");
+    }
+
+    private static void assertSameLookups(MealIndex expectedIndex, MealIndex index) {
+        assertEquals(expectedIndex.getMeals(), index.getMeals());
+        assertArrayEquals(expectedIndex.findPriceRange(2.00, 6.00), index.findPriceRange(2.00, 6.00));
+        assertEquals(expectedIndex.countPriceRange(2.00, 6.00), index.countPriceRange(2.00, 6.00));
+        assertArrayEquals(expectedIndex.findNameCandidates("ric"), index.findNameCandidates("ric"));
+        for (String ingredientName : List.of("egg", "rice", "chicken")) {
+            assertArrayEquals(expectedIndex.getIngredientPositions(ingredientName),
+                    index.getIngredientPositions(ingredientName));
+            assertArrayEquals(expectedIndex.findIngredientPositions(List.of(ingredientName)),
+                    index.findIngredientPositions(List.of(ingredientName)));
+        }
+    }
+}
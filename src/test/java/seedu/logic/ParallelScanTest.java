@@ -0,0 +1,134 @@
+package seedu.logic;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Ingredient;
+import seedu.food.Inventory;
+import seedu.food.InventoryView;
+import seedu.food.Meal;
+import seedu.meallist.ColumnarRecipeList;
+import seedu.meallist.RecipesList;
+import seedu.workload.WorkloadGenerator;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParallelScanTest {
+    private static final Logger logger = Logger.getLogger(ParallelScanTest.class.getName());
+    private static final ForkJoinPool pool = new ForkJoinPool(4);
+    private final ParallelScan parallelScan = new ParallelScan(pool, 100, 16);
+    private final ParallelScan sequentialScan = new ParallelScan(pool, 0, 16);
+
+    public ParallelScanTest() {
+        String fileName = "ParallelScanTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @Test
+    public void filter_aboveThreshold_samePositionsInOrder() {
+        logger.fine("Running filter_aboveThreshold_samePositionsInOrder()");
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        int[] positions = parallelScan.filter(10_000, position -> {
+            threads.add(Thread.currentThread());
+            return position % 7 == 3;
+        });
+        assertArrayEquals(IntStream.range(0, 10_000).filter(position -> position % 7 == 3).toArray(), positions);
+        assertTrue(parallelScan.isParallel(10_000));
+        assertTrue(threads.size() > 1);
+        int[] candidates = IntStream.range(0, 5_000).map(i -> i * 3).toArray();
+        assertArrayEquals(Arrays.stream(candidates).filter(position -> position % 2 == 0).toArray(),
+                parallelScan.filter(candidates, position -> position % 2 == 0));
+        List<String> names = parallelScan.map(candidates, position -> "meal " + position);
+        assertEquals(candidates.length, names.size());
+        for (int i = 0; i < candidates.length; i++) {
+            assertEquals("meal " + candidates[i], names.get(i));
+        }
+        logger.info("A parallel scan over " + threads.size() + " threads keeps positions in order");
+    }
+
+    @Test
+    public void filter_belowThreshold_callingThreadOnly() {
+        logger.fine("Running filter_belowThreshold_callingThreadOnly()");
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        parallelScan.filter(99, position -> threads.add(Thread.currentThread()));
+        sequentialScan.filter(10_000, position -> threads.add(Thread.currentThread()));
+        assertEquals(Set.of(Thread.currentThread()), threads);
+        assertFalse(sequentialScan.isParallel(Integer.MAX_VALUE));
+        logger.info("Short scans and scans with a threshold of 0 run on the calling thread");
+    }
+
+    @Test
+    public void execute_parallelScan_sameAsSequential() throws EZMealPlanException {
+        logger.fine("Running execute_parallelScan_sameAsSequential()");
+        MealManager mealManager = new MealManager(new RecipesList(new ColumnarRecipeList()));
+        List<Meal> meals = new WorkloadGenerator(71, 3000).generateRecipes();
+        mealManager.write(() -> {
+            for (Meal meal : meals) {
+                mealManager.addMeal(meal, mealManager.getRecipesList());
+            }
+            return null;
+        });
+        MealIndex index = mealManager.getRecipesIndex();
+        String ingredientWord = WorkloadGenerator.getIngredientName(0);
+        ingredientWord = ingredientWord.substring(ingredientWord.lastIndexOf(' ') + 1);
+        MealQuery query = new MealQuery().addExcludedIngredientKeywords(new String[]{ingredientWord})
+                .addNameKeywords(new String[]{"a"}).addPriceRange(2.005, 30.995);
+        List<Meal> expectedMeals = new QueryPlanner(sequentialScan).execute(query, index);
+        List<Meal> parallelMeals = new QueryPlanner(parallelScan).execute(query, index);
+        assertEquals(expectedMeals, parallelMeals);
+        assertTrue(expectedMeals.size() > 100);
+
+        Inventory inventory = new Inventory();
+        for (int rank = 0; rank < 60; rank += 2) {
+            inventory.addIngredient(new Ingredient(WorkloadGenerator.getIngredientName(rank), "1.00"), 1);
+        }
+        InventoryView inventoryCopy = inventory.getReadOnlyCopy();
+        assertEquals(new CookableTracker(sequentialScan).getCookableMeals(index, inventoryCopy, 1),
+                new CookableTracker(parallelScan).getCookableMeals(index, inventoryCopy, 1));
+        String[] keywords = {ingredientWord};
+        List<Recommendation> expectedRecommendations = new RecommendEngine(sequentialScan)
+                .recommendTop(index, keywords, inventory, 20);
+        List<Recommendation> recommendations = new RecommendEngine(parallelScan)
+                .recommendTop(index, keywords, inventory, 20);
+        assertEquals(expectedRecommendations.size(), recommendations.size());
+        for (int i = 0; i < expectedRecommendations.size(); i++) {
+            assertEquals(expectedRecommendations.get(i).getPosition(), recommendations.get(i).getPosition());
+        }
+        logger.info("Filters, cookable meals and recommendations are the same when scanned in parallel");
+    }
+}
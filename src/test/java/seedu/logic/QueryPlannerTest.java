@@ -0,0 +1,155 @@
+package seedu.logic;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Meal;
+import seedu.meallist.MealList;
+import seedu.storage.Storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryPlannerTest {
+    private static final Logger logger = Logger.getLogger(QueryPlannerTest.class.getName());
+    private final MealManager mealManager = new MealManager();
+
+    public QueryPlannerTest() throws EZMealPlanException {
+        String fileName = "QueryPlannerTest.log";
+        setupLogger(fileName);
+        MealList recipesList = mealManager.getRecipesList();
+        for (Meal meal : Storage.loadPresetMeals()) {
+            mealManager.addMeal(meal, recipesList);
+        }
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    // Reference implementation: tests every meal against every criterion.
+    private List<Meal> scanRecipes(String[] ingredients, String[] names, double minPrice, double maxPrice) {
+        return scanRecipes(ingredients, new String[0], names, minPrice, maxPrice);
+    }
+
+    private List<Meal> scanRecipes(String[] ingredients, String[] excludedIngredients, String[] names,
+                                   double minPrice, double maxPrice) {
+        List<Meal> expectedMeals = new ArrayList<>();
+        for (Meal meal : mealManager.getRecipesList().getList()) {
+            boolean isMatching = meal.getPrice() >= minPrice && meal.getPrice() <= maxPrice;
+            for (String name : names) {
+                isMatching &= meal.getName().toLowerCase().contains(name.toLowerCase());
+            }
+            for (String ingredient : ingredients) {
+                isMatching &= meal.getIngredientList().stream()
+                        .anyMatch(mealIngredient -> mealIngredient.getName().toLowerCase()
+                                .contains(ingredient.toLowerCase()));
+            }
+            for (String excludedIngredient : excludedIngredients) {
+                isMatching &= meal.getIngredientList().stream()
+                        .noneMatch(mealIngredient -> mealIngredient.getName().toLowerCase()
+                                .contains(excludedIngredient.toLowerCase()));
+            }
+            if (isMatching) {
+                expectedMeals.add(meal);
+            }
+        }
+        return expectedMeals;
+    }
+
+    @Test
+    public void filteringByQuery_combinedCriteria_sameAsFullScan() {
+        logger.fine("Running filteringByQuery_combinedCriteria_sameAsFullScan()");
+        String[][] ingredientInputs = {{}, {"chicken"}, {"rice", "egg"}, {"o"}, {"nothing"}};
+        String[][] nameInputs = {{}, {"rice"}, {"fr", "ed"}, {"Chicken Rice"}};
+        double[][] priceRanges = {{0.00, 9999999999999.99}, {2.00, 4.00}, {3.80, 3.80}, {5.00, 1.00}};
+        for (String[] ingredients : ingredientInputs) {
+            for (String[] names : nameInputs) {
+                for (double[] priceRange : priceRanges) {
+                    MealQuery query = new MealQuery().addIngredientKeywords(ingredients).addNameKeywords(names)
+                            .addPriceRange(priceRange[0], priceRange[1]);
+                    assertEquals(scanRecipes(ingredients, names, priceRange[0], priceRange[1]),
+                            mealManager.filteringByQuery(query));
+                }
+            }
+        }
+        logger.info("Query results match a full scan of the recipes list");
+    }
+
+    @Test
+    public void filteringByQuery_excludedIngredients_sameAsFullScan() {
+        logger.fine("Running filteringByQuery_excludedIngredients_sameAsFullScan()");
+        String[][] ingredientInputs = {{}, {"rice"}, {"chicken", "o"}};
+        String[][] excludedInputs = {{"egg"}, {"Chicken", "peanut"}, {"e"}, {"nothing"}};
+        double maxPrice = 9999999999999.99;
+        for (String[] ingredients : ingredientInputs) {
+            for (String[] excludedIngredients : excludedInputs) {
+                MealQuery query = new MealQuery().addIngredientKeywords(ingredients)
+                        .addExcludedIngredientKeywords(excludedIngredients);
+                assertEquals(scanRecipes(ingredients, excludedIngredients, new String[0], 0, maxPrice),
+                        mealManager.filteringByQuery(query));
+            }
+        }
+        MealIndex index = mealManager.getRecipesIndex();
+        IngredientExclusionPredicate exclusion = new IngredientExclusionPredicate("e");
+        assertTrue(exclusion.estimateSelectivity(index) < 0.5);
+        int[] keptPositions = exclusion.lookUp(index);
+        for (int position = 0, kept = 0; position < index.size(); position++) {
+            boolean isKept = kept < keptPositions.length && keptPositions[kept] == position;
+            assertEquals(exclusion.test(index, position), isKept);
+            kept += isKept ? 1 : 0;
+        }
+        logger.info("Excluded ingredients match a full scan of the recipes list");
+    }
+
+    @Test
+    public void filteringByQuery_recipesListChanged_indexRebuilt() throws EZMealPlanException {
+        logger.fine("Running filteringByQuery_recipesListChanged_indexRebuilt()");
+        String[] ingredients = {"chicken"};
+        MealIndex firstIndex = mealManager.getRecipesIndex();
+        int firstSize = mealManager.filteringByIng(ingredients).size();
+        mealManager.removeMeal(0, mealManager.getRecipesList());
+        assertTrue(firstIndex != mealManager.getRecipesIndex());
+        assertEquals(scanRecipes(ingredients, new String[0], 0, Double.MAX_VALUE),
+                mealManager.filteringByIng(ingredients));
+        mealManager.getRecipesList().clear();
+        assertEquals(0, mealManager.filteringByIng(ingredients).size());
+        assertTrue(firstSize > 0);
+        logger.info("Index follows changes to the recipes list");
+    }
+
+    @Test
+    public void estimateSelectivity_rareIngredient_belowCommonIngredient() {
+        logger.fine("Running estimateSelectivity_rareIngredient_belowCommonIngredient()");
+        MealIndex index = mealManager.getRecipesIndex();
+        double rare = new IngredientKeywordPredicate("abalone").estimateSelectivity(index);
+        double common = new IngredientKeywordPredicate("rice").estimateSelectivity(index);
+        assertTrue(rare < common);
+        assertEquals(MealPredicate.FULL_SCAN, new MealNamePredicate("ri").estimateSelectivity(index));
+        logger.info("Selectivity estimates follow the index statistics");
+    }
+}
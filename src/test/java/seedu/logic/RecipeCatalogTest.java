@@ -0,0 +1,192 @@
+package seedu.logic;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Ingredient;
+import seedu.food.Meal;
+import seedu.meallist.RecipeOverlayList;
+import seedu.metrics.MemoryEstimator;
+import seedu.storage.Storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RecipeCatalogTest {
+    private static final Logger logger = Logger.getLogger(RecipeCatalogTest.class.getName());
+    private static final String[] INGREDIENT_NAMES = {"rice", "egg", "chicken", "tofu", "noodles", "prawn", "chilli"};
+
+    public RecipeCatalogTest() {
+        String fileName = "RecipeCatalogTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    private static Meal createMeal(String name, Random random) throws EZMealPlanException {
+        Meal meal = new Meal(name);
+        int ingredientCount = 1 + random.nextInt(3);
+        int firstIngredient = random.nextInt(INGREDIENT_NAMES.length);
+        for (int i = 0; i < ingredientCount; i++) {
+            String ingredientName = INGREDIENT_NAMES[(firstIngredient + i) % INGREDIENT_NAMES.length];
+            meal.addIngredient(new Ingredient(ingredientName, (1 + random.nextInt(5)) + ".00"));
+        }
+        return meal;
+    }
+
+    private static List<Meal> createCatalogMeals(Random random) throws EZMealPlanException {
+        List<Meal> meals = new ArrayList<>(Storage.loadPresetMeals());
+        for (int i = 0; i < 200; i++) {
+            meals.add(createMeal("Catalog Meal " + (i % 150), random));
+        }
+        return meals;
+    }
+
+    private static void assertSameIndex(MealIndex expected, MealIndex actual) {
+        assertEquals(expected.getMeals(), actual.getMeals());
+        for (String ingredientName : INGREDIENT_NAMES) {
+            assertArrayEquals(expected.getIngredientPositions(ingredientName),
+                    actual.getIngredientPositions(ingredientName));
+        }
+        assertArrayEquals(expected.findNameCandidates("meal 1"), actual.findNameCandidates("meal 1"));
+        assertEquals(expected.countPriceRange(3.00, 6.00), actual.countPriceRange(3.00, 6.00));
+        assertArrayEquals(expected.findPriceRange(3.00, 6.00), actual.findPriceRange(3.00, 6.00));
+        for (int position = 0; position < expected.size(); position += 7) {
+            assertEquals(expected.getMeal(position), actual.getMeal(position));
+        }
+    }
+
+    @Test
+    public void tenantEdits_randomCreatesAndDeletes_sameAsPlainRecipesList() throws EZMealPlanException {
+        logger.fine("Running tenantEdits_randomCreatesAndDeletes_sameAsPlainRecipesList()");
+        Random random = new Random(35);
+        RecipeCatalog catalog = new RecipeCatalog(createCatalogMeals(random));
+        MealManager tenant = new MealManager(catalog);
+        MealManager plain = new MealManager();
+        for (Meal meal : catalog.getMeals()) {
+            plain.addMeal(meal, plain.getRecipesList());
+        }
+        assertSame(catalog.getIndex(), catalog.getIndex());
+        MealQuery query = new MealQuery().addIngredientKeywords(new String[]{"ric"})
+                .addExcludedIngredientKeywords(new String[]{"egg"});
+        for (int step = 0; step < 300; step++) {
+            if (random.nextBoolean() && plain.getRecipesList().size() > 0) {
+                int index = random.nextInt(plain.getRecipesList().size());
+                assertEquals(plain.removeMeal(index, plain.getRecipesList()),
+                        tenant.removeMeal(index, tenant.getRecipesList()));
+            } else {
+                Meal newMeal = createMeal("Tenant Meal " + random.nextInt(100), random);
+                try {
+                    plain.addMeal(newMeal, plain.getRecipesList());
+                } catch (EZMealPlanException duplicateMealException) {
+                    continue;
+                }
+                tenant.addMeal(newMeal, tenant.getRecipesList());
+            }
+            assertEquals(plain.getRecipesList().getList(), tenant.getRecipesList().getList());
+            if (step % 25 == 0) {
+                assertSameIndex(plain.getRecipesIndex(), tenant.getRecipesIndex());
+                assertEquals(plain.filteringByQuery(query), tenant.filteringByQuery(query));
+            }
+        }
+        logger.info("A tenant over a catalog sees the same recipes as a tenant with its own list");
+    }
+
+    @Test
+    public void getCookableMeals_tenantEditsAndStockChanges_sameAsPlainRecipesList() throws EZMealPlanException {
+        logger.fine("Running getCookableMeals_tenantEditsAndStockChanges_sameAsPlainRecipesList()");
+        Random random = new Random(36);
+        RecipeCatalog catalog = new RecipeCatalog(createCatalogMeals(random));
+        MealManager tenant = new MealManager(catalog);
+        MealManager plain = new MealManager();
+        for (Meal meal : catalog.getMeals()) {
+            plain.addMeal(meal, plain.getRecipesList());
+        }
+        // With nothing in stock, the counters hold nothing, however big the catalog is.
+        assertEquals(plain.getCookableMeals(1), tenant.getCookableMeals(1));
+        assertTrue(tenant.estimateCacheBytes(new MemoryEstimator()) < 100);
+        for (int step = 0; step < 200; step++) {
+            int action = random.nextInt(4);
+            if (action == 0 && plain.getRecipesList().size() > 0) {
+                int index = random.nextInt(plain.getRecipesList().size());
+                plain.removeMeal(index, plain.getRecipesList());
+                tenant.removeMeal(index, tenant.getRecipesList());
+            } else if (action == 1) {
+                Meal newMeal = createMeal("Tenant Meal " + random.nextInt(100), random);
+                if (!plain.getRecipesList().contains(newMeal)) {
+                    plain.addMeal(newMeal, plain.getRecipesList());
+                    tenant.addMeal(newMeal, tenant.getRecipesList());
+                }
+            } else {
+                String ingredientName = INGREDIENT_NAMES[random.nextInt(INGREDIENT_NAMES.length)];
+                for (MealManager mealManager : List.of(plain, tenant)) {
+                    if (action == 2) {
+                        mealManager.getInventory().addIngredient(new Ingredient(ingredientName, "1.00"));
+                    } else if (mealManager.getInventory().hasIngredient(ingredientName)) {
+                        mealManager.getInventory().removeIngredient(ingredientName);
+                    }
+                }
+            }
+            int maxMissingCount = step % 2;
+            assertEquals(plain.getCookableMeals(maxMissingCount), tenant.getCookableMeals(maxMissingCount));
+        }
+        logger.info("A tenant over a catalog finds the same cookable meals as a tenant with its own list");
+    }
+
+    @Test
+    public void overlay_fewEdits_storesOnlyEdits() throws EZMealPlanException {
+        logger.fine("Running overlay_fewEdits_storesOnlyEdits()");
+        Random random = new Random(3);
+        RecipeCatalog catalog = new RecipeCatalog(createCatalogMeals(random));
+        RecipeOverlayList overlay = new RecipeOverlayList(catalog.getMeals());
+        overlay.remove(10);
+        overlay.remove(20);
+        overlay.add(createMeal("Zzz Tenant Meal", random));
+        assertEquals(2, overlay.getPositions().getDeletedCount());
+        assertEquals(1, overlay.getPositions().getAddedCount());
+        assertEquals(catalog.size() - 1, overlay.size());
+        assertSame(catalog.getMeals().get(0), overlay.get(0));
+        assertEquals("Zzz Tenant Meal", overlay.get(overlay.size() - 1).getName());
+        logger.info("An overlay keeps only its own edits");
+    }
+
+    @Test
+    public void catalog_repeatedMeals_keptOnce() throws EZMealPlanException {
+        logger.fine("Running catalog_repeatedMeals_keptOnce()");
+        List<Meal> presetMeals = Storage.loadPresetMeals();
+        List<Meal> repeatedMeals = new ArrayList<>(presetMeals);
+        repeatedMeals.addAll(Storage.loadPresetMeals());
+        assertEquals(presetMeals.size(), new RecipeCatalog(repeatedMeals).size());
+        assertSame(Storage.getPresetCatalog(), Storage.getPresetCatalog());
+        logger.info("A catalog keeps one copy of every meal");
+    }
+}
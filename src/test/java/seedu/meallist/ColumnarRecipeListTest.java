@@ -0,0 +1,123 @@
+package seedu.meallist;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Meal;
+import seedu.metrics.MemoryEstimator;
+import seedu.workload.WorkloadGenerator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.TestUtil.createMeal;
+
+public class ColumnarRecipeListTest {
+    private static final Logger logger = Logger.getLogger(ColumnarRecipeListTest.class.getName());
+
+    public ColumnarRecipeListTest() {
+        String fileName = "ColumnarRecipeListTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @Test
+    public void addMeal_generatedMeals_sameAsMealObjects() throws EZMealPlanException {
+        logger.fine("Running addMeal_generatedMeals_sameAsMealObjects()");
+        List<Meal> meals = new WorkloadGenerator(47, 500).generateRecipes();
+        MealList objectList = new RecipesList();
+        MealList columnarList = new RecipesList(new ColumnarRecipeList());
+        // Every third meal is added first, so that the rest are inserted between them.
+        for (int i = 0; i < meals.size(); i += 3) {
+            objectList.addMeal(meals.get(i));
+            columnarList.addMeal(meals.get(i));
+        }
+        for (int i = 0; i < meals.size(); i++) {
+            if (i % 3 != 0) {
+                objectList.addMeal(meals.get(i));
+                columnarList.addMeal(meals.get(i));
+            }
+        }
+        assertEquals(objectList.getList(), columnarList.getList());
+        assertEquals(objectList.getList().toString(), columnarList.getList().toString());
+        for (int i = 0; i < meals.size(); i += 50) {
+            assertTrue(columnarList.contains(meals.get(i)));
+        }
+        for (int index : new int[]{0, 250, 123, 400}) {
+            assertEquals(objectList.removeMeal(index), columnarList.removeMeal(index));
+        }
+        assertEquals(objectList.getList(), columnarList.getList());
+        for (int i = 0; i < objectList.size(); i++) {
+            assertEquals(objectList.getList().get(i).toDataString(), columnarList.getList().get(i).toDataString());
+        }
+        logger.info("A columnar recipes list holds the same meals in the same order as a list of meals");
+    }
+
+    @Test
+    public void getColumns_listChangedAfterwards_columnsUnchanged() throws EZMealPlanException {
+        logger.fine("Running getColumns_listChangedAfterwards_columnsUnchanged()");
+        ColumnarRecipeList columnarList = new ColumnarRecipeList();
+        Meal chickenRice = createMeal("Chicken Rice", "chicken", "2.50", "rice", "0.50");
+        Meal friedRice = createMeal("Fried Rice", "egg", "0.40", "rice", "0.50");
+        columnarList.add(0, chickenRice);
+        columnarList.add(1, friedRice);
+        RecipeColumns columns = columnarList.getColumns();
+        columnarList.remove(0);
+        columnarList.add(0, createMeal("Apple Pie", "apple", "1.20"));
+        assertEquals(2, columns.size());
+        assertEquals(chickenRice, columns.getMeal(0));
+        assertEquals(friedRice, columns.getMeal(1));
+        assertEquals(300, columns.getPriceCents(0));
+        assertEquals(columns.getIngredientId(1), columns.getIngredientId(3));
+        assertEquals("Apple Pie", columnarList.get(0).getName());
+        assertTrue(columnarList.get(1) != columnarList.get(1));
+        assertEquals(friedRice, columnarList.get(1));
+        logger.info("Columns handed out stay the same when the list changes");
+    }
+
+    @Test
+    public void estimateBytes_generatedMeals_severalTimesSmaller() throws EZMealPlanException {
+        logger.fine("Running estimateBytes_generatedMeals_severalTimesSmaller()");
+        List<Meal> meals = new WorkloadGenerator(47, 5000).generateRecipes();
+        ColumnarRecipeList columnarList = new ColumnarRecipeList();
+        List<Meal> objectList = new ArrayList<>();
+        for (Meal meal : meals) {
+            columnarList.add(columnarList.size(), meal);
+            objectList.add(meal);
+        }
+        MemoryEstimator objectEstimator = new MemoryEstimator(12, 4, 8);
+        long objectBytes = objectEstimator.estimateMeals(objectList);
+        MemoryEstimator columnarEstimator = new MemoryEstimator(12, 4, 8);
+        long columnarBytes = columnarList.estimateBytes(columnarEstimator);
+        logger.info("Meal objects take " + objectBytes + " bytes and columns " + columnarBytes + " bytes, "
+                + "with meal names of " + objectEstimator.getStringBytes() + " bytes");
+        assertTrue(columnarBytes * 3 < objectBytes, "Columns take " + columnarBytes + " bytes");
+        assertTrue(columnarEstimator.getStringBytes() <= objectEstimator.getStringBytes());
+    }
+}
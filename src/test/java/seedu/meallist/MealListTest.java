@@ -80,6 +80,28 @@ class MealListTest {
         logger.info("Correct Exception is thrown");
     }
 
+    @Test
+    void addMeal_sameIngredientsInAnotherOrder_exceptionThrown() throws EZMealPlanException {
+        logger.fine("Running addMeal_sameIngredientsInAnotherOrder_exceptionThrown()");
+        Meal firstMeal = new Meal("Dup");
+        firstMeal.addIngredient(new Ingredient("z1", "0.10"));
+        firstMeal.addIngredient(new Ingredient("z2", "0.20"));
+        firstMeal.addIngredient(new Ingredient("z3", "0.30"));
+        Meal reorderedMeal = new Meal("dup");
+        reorderedMeal.addIngredient(new Ingredient("z3", "0.30"));
+        reorderedMeal.addIngredient(new Ingredient("z2", "0.20"));
+        reorderedMeal.addIngredient(new Ingredient("z1", "0.10"));
+        // The prices are summed in a different order, so they differ in the last bit.
+        assertTrue(firstMeal.getPrice() != reorderedMeal.getPrice());
+        MealList recipesList = new RecipesList();
+        recipesList.addMeal(meal1);
+        recipesList.addMeal(firstMeal);
+        assertThrows(DuplicateMealException.class, () -> recipesList.addMeal(reorderedMeal));
+        assertTrue(recipesList.contains(reorderedMeal));
+        assertEquals(1, recipesList.getIndex(reorderedMeal));
+        logger.info("A meal with its ingredients given in another order is a duplicate");
+    }
+
     @Test
     void removeMeal_indexWithinRange_success() throws EZMealPlanException {
         logger.fine("Running removeMeal_indexWithinRange_success()");
@@ -170,4 +192,21 @@ class MealListTest {
         assertFalse(recipesList.contains(meal3));
         logger.info("recipesList does not contain meal3");
     }
+
+    @Test
+    void getList_changedThroughView_exceptionThrown() throws EZMealPlanException {
+        logger.fine("Running getList_changedThroughView_exceptionThrown()");
+        MealList recipesList = new RecipesList();
+        recipesList.addMeal(meal1);
+        int version = recipesList.getVersion();
+        assertThrows(UnsupportedOperationException.class, () -> recipesList.getList().set(0, meal2));
+        assertThrows(UnsupportedOperationException.class, () -> recipesList.getList().add(meal2));
+        assertThrows(UnsupportedOperationException.class, () -> recipesList.getList().clear());
+        assertEquals(version, recipesList.getVersion());
+        recipesList.addMeal(meal2);
+        assertEquals(2, recipesList.getList().size());
+        recipesList.clear();
+        assertTrue(recipesList.getList().isEmpty());
+        logger.info("The meals only change through the meal list, so every change is seen by its version");
+    }
 }
@@ -0,0 +1,124 @@
+package seedu.meallist;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Ingredient;
+import seedu.food.Meal;
+import seedu.logic.MealManager;
+import seedu.logic.MealQuery;
+import seedu.logic.RecipeCatalog;
+import seedu.metrics.MemoryEstimator;
+import seedu.workload.WorkloadGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapRecipeColumnsTest {
+    private static final Logger logger = Logger.getLogger(OffHeapRecipeColumnsTest.class.getName());
+
+    public OffHeapRecipeColumnsTest() {
+        String fileName = "OffHeapRecipeColumnsTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @Test
+    public void of_generatedMeals_sameAsMealObjects() throws EZMealPlanException {
+        logger.fine("Running of_generatedMeals_sameAsMealObjects()");
+        List<Meal> meals = new WorkloadGenerator(59, 1000).generateRecipes();
+        Meal accentedMeal = new Meal("Cr\u00e8me Br\u00fbl\u00e9e");
+        accentedMeal.addIngredient(new Ingredient("cr\u00e8me fra\u00eeche", "3.25"));
+        meals.add(accentedMeal);
+        OffHeapRecipeColumns columns = OffHeapRecipeColumns.of(meals);
+        assertEquals(meals, columns.getMeals());
+        for (int position = 0; position < meals.size(); position += 97) {
+            assertEquals(meals.get(position).toDataString(), columns.getMeal(position).toDataString());
+        }
+        assertEquals("Cr\u00e8me Br\u00fbl\u00e9e", columns.getMealName(meals.size() - 1));
+        MemoryEstimator estimator = new MemoryEstimator(12, 4, 8);
+        long heapBytes = columns.estimateBytes(estimator);
+        logger.info("Columns of " + meals.size() + " meals take " + columns.getByteCount() + " bytes off the heap and "
+                + heapBytes + " bytes on it");
+        assertTrue(heapBytes < 200);
+        assertEquals(0, estimator.getStringBytes());
+    }
+
+    @Test
+    public void map_writtenFile_sameColumns() throws EZMealPlanException, IOException {
+        logger.fine("Running map_writtenFile_sameColumns()");
+        List<Meal> meals = new WorkloadGenerator(61, 500).generateRecipes();
+        OffHeapRecipeColumns columns = OffHeapRecipeColumns.of(meals);
+        Path path = Files.createTempFile("recipes", ".columns");
+        try {
+            columns.writeTo(path);
+            assertEquals(columns.getByteCount(), Files.size(path));
+            OffHeapRecipeColumns mappedColumns = OffHeapRecipeColumns.map(path);
+            assertEquals(meals, mappedColumns.getMeals());
+            assertEquals(columns.getIngredientTypeCount(), mappedColumns.getIngredientTypeCount());
+            Files.write(path, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22,
+                23, 24, 25, 26, 27, 28, 29, 30, 31, 32});
+            assertThrows(IOException.class, () -> OffHeapRecipeColumns.map(path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+        logger.info("Columns written to a file are read back the same when the file is mapped");
+    }
+
+    @Test
+    public void offHeapCatalog_tenantEdits_sameAsHeapCatalog() throws EZMealPlanException {
+        logger.fine("Running offHeapCatalog_tenantEdits_sameAsHeapCatalog()");
+        List<Meal> meals = new WorkloadGenerator(67, 1500).generateRecipes();
+        MealManager heapTenant = new MealManager(new RecipeCatalog(meals));
+        MealManager offHeapTenant = new MealManager(RecipeCatalog.offHeap(meals));
+        Meal newMeal = new Meal("Zzz Tenant Meal");
+        newMeal.addIngredient(new Ingredient(WorkloadGenerator.getIngredientName(0), "1.50"));
+        for (MealManager tenant : List.of(heapTenant, offHeapTenant)) {
+            tenant.removeMeal(40, tenant.getRecipesList());
+            tenant.removeMeal(700, tenant.getRecipesList());
+            tenant.addMeal(newMeal, tenant.getRecipesList());
+            tenant.getInventory().addIngredient(new Ingredient(WorkloadGenerator.getIngredientName(1), "1.00"), 1);
+        }
+        assertEquals(heapTenant.getRecipesList().getList(), offHeapTenant.getRecipesList().getList());
+        String ingredientName = WorkloadGenerator.getIngredientName(0).toLowerCase();
+        MealQuery heapQuery = new MealQuery().addIngredientKeywords(new String[]{ingredientName})
+                .addPriceRange(0.005, 20.995);
+        MealQuery offHeapQuery = new MealQuery().addIngredientKeywords(new String[]{ingredientName})
+                .addPriceRange(0.005, 20.995);
+        List<Meal> filteredMeals = offHeapTenant.filteringByQuery(offHeapQuery);
+        assertEquals(heapTenant.filteringByQuery(heapQuery), filteredMeals);
+        assertTrue(filteredMeals.contains(newMeal));
+        assertEquals(heapTenant.getCookableMeals(0), offHeapTenant.getCookableMeals(0));
+        assertTrue(offHeapTenant.getRecipesList().contains(heapTenant.getRecipesList().getList().get(0)));
+        logger.info("A tenant over a catalog off the heap sees the same recipes as over a catalog on the heap");
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import seedu.ezmealplan.Session;
+import seedu.storage.Storage;
+import seedu.ui.UserInterface;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.TestUtil.deleteDirectory;
+
+public class JfrEventsTest {
+    private static final Logger logger = Logger.getLogger(JfrEventsTest.class.getName());
+    private static final String[] EVENT_NAMES = {"seedu.ezmealplan.CommandParse", "seedu.ezmealplan.CommandExecute",
+        "seedu.ezmealplan.Storage", "seedu.ezmealplan.IndexBuild", "seedu.ezmealplan.RemoveIllegalMeals"};
+
+    public JfrEventsTest() {
+        String fileName = "JfrEventsTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    private static List<RecordedEvent> getEvents(List<RecordedEvent> events, String eventName) {
+        List<RecordedEvent> namedEvents = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(eventName)) {
+                namedEvents.add(event);
+            }
+        }
+        return namedEvents;
+    }
+
+    private static void runSession(File dataDirectory) {
+        UserInterface ui = new UserInterface(new ByteArrayInputStream(new byte[0]),
+                new PrintStream(OutputStream.nullOutputStream()));
+        Session session = new Session(ui, new Storage(dataDirectory));
+        session.load();
+        session.executeInput("select 1");
+        session.executeInput("filter /ing egg");
+        session.executeInput("excusemeee");
+        session.executeInput("bye");
+    }
+
+    @Test
+    public void session_recording_commitsEveryEventType() throws IOException {
+        logger.fine("Running session_recording_commitsEveryEventType()");
+        File dataDirectory = Files.createTempDirectory("JfrEventsTest").toFile();
+        Path recordingFile = Files.createTempFile("JfrEventsTest", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String eventName : EVENT_NAMES) {
+                recording.enable(eventName);
+            }
+            recording.start();
+            runSession(dataDirectory);
+            recording.stop();
+            recording.dump(recordingFile);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+
+            List<RecordedEvent> parseEvents = getEvents(events, "seedu.ezmealplan.CommandParse");
+            assertEquals(4, parseEvents.size());
+            assertEquals("select", parseEvents.get(0).getString("commandType"));
+            List<RecordedEvent> executeEvents = getEvents(events, "seedu.ezmealplan.CommandExecute");
+            assertEquals(4, executeEvents.size());
+            assertEquals("unknown", executeEvents.get(2).getString("commandType"));
+
+            List<RecordedEvent> storageEvents = getEvents(events, "seedu.ezmealplan.Storage");
+            // The files are loaded on other threads, so the events are put in the order they started.
+            storageEvents.sort(Comparator.comparing(RecordedEvent::getStartTime));
+            // Loading the inventory, recipes list and wishlist, then saving them.
+            assertEquals(6, storageEvents.size());
+            RecordedEvent saveRecipesEvent = storageEvents.get(3);
+            assertEquals("save", saveRecipesEvent.getString("operation"));
+            assertTrue(saveRecipesEvent.getString("fileName").endsWith("recipesList.txt"));
+            assertEquals(100, saveRecipesEvent.getInt("recordCount"));
+            assertTrue(saveRecipesEvent.getLong("size") > 0);
+            assertEquals(1, storageEvents.get(4).getInt("recordCount"));
+
+            assertFalse(getEvents(events, "seedu.ezmealplan.IndexBuild").isEmpty());
+            RecordedEvent removeEvent = getEvents(events, "seedu.ezmealplan.RemoveIllegalMeals").get(0);
+            assertEquals(100, removeEvent.getInt("recipeCount"));
+            assertEquals(0, removeEvent.getInt("removedCount"));
+        } finally {
+            deleteDirectory(dataDirectory);
+            Files.deleteIfExists(recordingFile);
+        }
+        logger.info("A recorded session commits every event type");
+    }
+
+    @Test
+    public void session_notRecording_runsWithoutEvents() throws IOException {
+        logger.fine("Running session_notRecording_runsWithoutEvents()");
+        assertFalse(new CommandExecuteEvent().isEnabled());
+        File dataDirectory = Files.createTempDirectory("JfrEventsTest").toFile();
+        try {
+            runSession(dataDirectory);
+        } finally {
+            deleteDirectory(dataDirectory);
+        }
+        logger.info("A session runs while no recording is on");
+    }
+}
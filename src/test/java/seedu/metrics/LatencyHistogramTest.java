@@ -0,0 +1,105 @@
+package seedu.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+    private static final Logger logger = Logger.getLogger(LatencyHistogramTest.class.getName());
+
+    public LatencyHistogramTest() {
+        String fileName = "LatencyHistogramTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @Test
+    public void getBucket_everyLatency_withinBucketBounds() {
+        logger.fine("Running getBucket_everyLatency_withinBucketBounds()");
+        long[] latencies = {0, 1, 7, 8, 9, 15, 16, 17, 1000, 123_456_789L, Long.MAX_VALUE};
+        for (long latency : latencies) {
+            int bucket = LatencyHistogram.getBucket(latency);
+            assertTrue(latency <= LatencyHistogram.getBucketUpperBound(bucket), "Latency " + latency);
+            assertTrue(bucket == 0 || latency > LatencyHistogram.getBucketUpperBound(bucket - 1),
+                    "Latency " + latency);
+            // Every bucket is at most 12.5% wider than its lower bound.
+            long lowerBound = bucket == 0 ? 0 : LatencyHistogram.getBucketUpperBound(bucket - 1) + 1;
+            assertTrue(LatencyHistogram.getBucketUpperBound(bucket) - lowerBound <= lowerBound / 8,
+                    "Latency " + latency);
+        }
+        logger.info("Every latency falls in a narrow bucket");
+    }
+
+    @Test
+    public void getPercentile_uniformLatencies_withinBucketError() {
+        logger.fine("Running getPercentile_uniformLatencies_withinBucketError()");
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long latency = 1; latency <= 10_000; latency++) {
+            histogram.record(latency * 1000);
+        }
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000_000, histogram.getMaxNanos());
+        assertEquals(5_000_500, histogram.getMeanNanos());
+        for (double percentile : new double[]{50, 90, 99}) {
+            double expected = percentile * 100_000;
+            long actual = histogram.getPercentile(percentile);
+            assertTrue(actual >= expected && actual <= expected * 1.125, "p" + percentile + " was " + actual);
+        }
+        assertEquals(10_000_000, histogram.getPercentile(100));
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+        logger.info("Percentiles are within the bucket error");
+    }
+
+    @Test
+    public void record_concurrentThreads_noLostCounts() throws InterruptedException {
+        logger.fine("Running record_concurrentThreads_noLostCounts()");
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threadCount = 4;
+        int recordCount = 50_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < recordCount; j++) {
+                    histogram.record(j);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(threadCount * recordCount, histogram.getCount());
+        assertEquals(recordCount - 1, histogram.getMaxNanos());
+        logger.info("Recording from several threads loses no counts");
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Ingredient;
+import seedu.food.Meal;
+import seedu.logic.MealManager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.TestUtil.createMeal;
+
+public class MemoryEstimatorTest {
+    private static final Logger logger = Logger.getLogger(MemoryEstimatorTest.class.getName());
+
+    public MemoryEstimatorTest() {
+        String fileName = "MemoryEstimatorTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    private static long getUsedHeapBytes() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Test
+    public void estimateMeal_compressedLayout_exactBytes() throws EZMealPlanException {
+        logger.fine("Running estimateMeal_compressedLayout_exactBytes()");
+        MemoryEstimator estimator = new MemoryEstimator(12, 4, 8);
+        Meal meal = createMeal("Rice", "Egg", "0.50");
+        // The meal (32), its ArrayList (24) with an array of 10 references (56), and the ingredient (32).
+        assertEquals(144, estimator.estimateMeal(meal));
+        // "Rice", "Egg" and their name keys "rice" and "egg" each take a String (24) and a byte array of up to 8 bytes
+        // (24).
+        assertEquals(192, estimator.getStringBytes());
+        assertEquals(0, estimator.estimateMeal(meal));
+        assertEquals(192, estimator.getStringBytes());
+        logger.info("A meal is estimated from the compressed object layout");
+    }
+
+    @Test
+    public void estimateMeals_repeatedMeal_countedOnce() throws EZMealPlanException {
+        logger.fine("Running estimateMeals_repeatedMeal_countedOnce()");
+        MemoryEstimator estimator = new MemoryEstimator(16, 8, 8);
+        Meal meal = createMeal("Rice", "Egg", "0.50", "Salt", "0.50");
+        long onceBytes = new MemoryEstimator(16, 8, 8).estimateMeals(List.of(meal));
+        long twiceBytes = estimator.estimateMeals(List.of(meal, meal));
+        assertEquals(onceBytes, twiceBytes);
+        // Without compressed references, an ArrayList takes 32 bytes, and grows from 10 to 15 references.
+        assertEquals(32, estimator.arrayListSize(0));
+        assertEquals(32 + 104, estimator.arrayListSize(10));
+        assertEquals(32 + 144, estimator.arrayListSize(11));
+        logger.info("A meal in a list twice is counted once");
+    }
+
+    @Test
+    public void estimate_mealManager_everyPartReported() throws EZMealPlanException {
+        logger.fine("Running estimate_mealManager_everyPartReported()");
+        MealManager mealManager = new MealManager();
+        Meal meal = createMeal("Chicken Rice", "chicken", "0.50", "rice", "0.50");
+        mealManager.addMeal(meal, mealManager.getRecipesList());
+        mealManager.addMeal(meal, mealManager.getWishList());
+        mealManager.getInventory().addIngredient(new Ingredient("chicken", "3.00"), 200);
+        mealManager.getCookableMeals(1);
+        Map<String, Long> bytesByPart = new MemoryEstimator().estimate(mealManager);
+        assertEquals(List.of(MemoryEstimator.RECIPES, MemoryEstimator.WISHLIST, MemoryEstimator.INVENTORY,
+                MemoryEstimator.INDEXES, MemoryEstimator.CACHES, MemoryEstimator.STRINGS),
+                new ArrayList<>(bytesByPart.keySet()));
+        for (Map.Entry<String, Long> entry : bytesByPart.entrySet()) {
+            assertTrue(entry.getValue() > 0, entry.getKey() + " has no bytes");
+        }
+        // The meal is shared with the recipes list, so the wishlist only adds the list that holds it.
+        assertTrue(bytesByPart.get(MemoryEstimator.WISHLIST) < bytesByPart.get(MemoryEstimator.RECIPES));
+        String table = MemoryEstimator.format(bytesByPart);
+        assertTrue(table.contains("recipes list"), table);
+        assertTrue(table.contains("total"), table);
+        logger.info("Every part of the meal manager is estimated");
+    }
+
+    @Test
+    public void estimateMeals_manyMeals_closeToMeasuredHeap() throws EZMealPlanException {
+        logger.fine("Running estimateMeals_manyMeals_closeToMeasuredHeap()");
+        int mealCount = 20000;
+        long usedBefore = getUsedHeapBytes();
+        List<Meal> meals = new ArrayList<>();
+        for (int i = 0; i < mealCount; i++) {
+            meals.add(createMeal("Meal number " + i, "ingredient " + i, "0.50", "sauce " + (i % 100), "0.50",
+                    "rice", "0.50"));
+        }
+        long measuredBytes = getUsedHeapBytes() - usedBefore;
+        MemoryEstimator estimator = new MemoryEstimator();
+        long estimatedBytes = estimator.estimateMeals(meals) + estimator.getStringBytes();
+        logger.info("Estimated " + estimatedBytes + " bytes for " + mealCount + " meals, measured " + measuredBytes);
+        assertEquals(mealCount, meals.size());
+        assertTrue(estimatedBytes > measuredBytes / 2 && estimatedBytes < measuredBytes * 2,
+                "Estimated " + estimatedBytes + " bytes, measured " + measuredBytes);
+    }
+}
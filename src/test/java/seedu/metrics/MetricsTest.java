@@ -0,0 +1,139 @@
+package seedu.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.ezmealplan.Session;
+import seedu.storage.Storage;
+import seedu.ui.UserInterface;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.TestUtil.deleteDirectory;
+
+public class MetricsTest {
+    private static final Logger logger = Logger.getLogger(MetricsTest.class.getName());
+
+    public MetricsTest() {
+        String fileName = "MetricsTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @Test
+    public void format_recordedLatenciesAndErrors_listsEveryStage() {
+        logger.fine("Running format_recordedLatenciesAndErrors_listsEveryStage()");
+        Metrics metrics = new Metrics();
+        metrics.record(Metrics.Stage.PARSE, "filter", 1_000);
+        metrics.record(Metrics.Stage.EXECUTE, "filter", 2_000_000);
+        metrics.record(Metrics.Stage.EXECUTE, "filter", 4_000_000);
+        metrics.recordError(new IllegalArgumentException());
+        metrics.recordError(new IllegalArgumentException());
+        assertEquals(2, metrics.getHistogram(Metrics.Stage.EXECUTE, "filter").getCount());
+        assertEquals(0, metrics.getHistogram(Metrics.Stage.CHECK, "filter").getCount());
+        assertEquals(2, metrics.getErrorCount("IllegalArgumentException"));
+        String table = metrics.format();
+        assertTrue(table.contains("parse    filter"), table);
+        assertTrue(table.contains("execute  filter"), table);
+        assertTrue(table.contains("2 IllegalArgumentException"), table);
+        metrics.reset();
+        assertEquals(0, metrics.getHistogram(Metrics.Stage.EXECUTE, "filter").getCount());
+        assertTrue(metrics.format().endsWith("No errors."));
+        logger.info("The metrics table lists every recorded stage and error");
+    }
+
+    @Test
+    public void format_longStorageName_columnsAligned() {
+        logger.fine("Running format_longStorageName_columnsAligned()");
+        Metrics metrics = new Metrics();
+        metrics.record(Metrics.Stage.EXECUTE, "filter", 2_000_000);
+        metrics.record(Metrics.Stage.STORAGE, "load inventoryList.txt", 3_000_000);
+        metrics.record(Metrics.Stage.STORAGE, "save recipesList.txt", 4_000_000);
+        String[] lines = metrics.format().split(System.lineSeparator());
+        int countEnd = lines[0].indexOf("count") + "count".length();
+        for (int i = 1; i <= 3; i++) {
+            assertEquals(' ', lines[i].charAt(countEnd - 2), lines[i]);
+            assertTrue(Character.isDigit(lines[i].charAt(countEnd - 1)), lines[i]);
+            assertEquals(' ', lines[i].charAt(countEnd), lines[i]);
+        }
+        assertEquals(lines[0].length(), lines[1].length());
+        assertEquals(lines[0].length(), lines[2].length());
+        logger.info("Long storage names do not push the numbers out of line");
+    }
+
+    @Test
+    public void executeInput_session_recordsEveryStage() throws IOException {
+        logger.fine("Running executeInput_session_recordsEveryStage()");
+        Metrics metrics = Metrics.getInstance();
+        metrics.reset();
+        File dataDirectory = Files.createTempDirectory("MetricsTest").toFile();
+        try {
+            UserInterface ui = new UserInterface(new ByteArrayInputStream(new byte[0]),
+                    new PrintStream(OutputStream.nullOutputStream()));
+            Session session = new Session(ui, new Storage(dataDirectory));
+            session.load();
+            session.executeInput("filter /ing egg");
+            session.executeInput("select 1000");
+            session.executeInput("excusemeee");
+            session.executeInput("bye");
+            assertEquals(1, metrics.getHistogram(Metrics.Stage.PARSE, "filter").getCount());
+            assertEquals(1, metrics.getHistogram(Metrics.Stage.CHECK, "filter").getCount());
+            assertEquals(1, metrics.getHistogram(Metrics.Stage.EXECUTE, "filter").getCount());
+            assertEquals(1, metrics.getHistogram(Metrics.Stage.EXECUTE, "select").getCount());
+            assertEquals(1, metrics.getHistogram(Metrics.Stage.EXECUTE, "unknown").getCount());
+            assertEquals(1, metrics.getHistogram(Metrics.Stage.EXECUTE, "bye").getCount());
+            assertEquals(1, metrics.getHistogram(Metrics.Stage.STORAGE, "load recipesList.txt").getCount());
+            assertEquals(1, metrics.getHistogram(Metrics.Stage.STORAGE, "save wishList.txt").getCount());
+            assertEquals(1, metrics.getErrorCount("InvalidSelectIndexException"));
+        } finally {
+            deleteDirectory(dataDirectory);
+            metrics.reset();
+        }
+        logger.info("A session records the latency of every stage");
+    }
+
+    @Test
+    public void dump_metrics_writesTable() throws IOException {
+        logger.fine("Running dump_metrics_writesTable()");
+        Metrics metrics = new Metrics();
+        metrics.record(Metrics.Stage.STORAGE, "save recipesList.txt", 5_000_000);
+        File file = Files.createTempFile("MetricsTest", ".txt").toFile();
+        try {
+            metrics.dump(file);
+            String dumped = Files.readString(file.toPath());
+            assertTrue(dumped.contains("storage  save recipesList.txt"), dumped);
+        } finally {
+            file.delete();
+        }
+        logger.info("The metrics are dumped into a file");
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.ezmealplan.Session;
+import seedu.storage.Storage;
+import seedu.ui.UserInterface;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.TestUtil.deleteDirectory;
+
+public class SlowCommandLogTest {
+    private static final Logger logger = Logger.getLogger(SlowCommandLogTest.class.getName());
+
+    public SlowCommandLogTest() {
+        String fileName = "SlowCommandLogTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    private static Session createSession(File dataDirectory, SlowCommandLog slowCommandLog) {
+        UserInterface ui = new UserInterface(new ByteArrayInputStream(new byte[0]),
+                new PrintStream(OutputStream.nullOutputStream()));
+        Session session = new Session(ui, new Storage(dataDirectory));
+        session.setSlowCommandLog(slowCommandLog);
+        session.load();
+        return session;
+    }
+
+    @Test
+    public void executeInput_zeroThreshold_logsEveryCommand() throws IOException {
+        logger.fine("Running executeInput_zeroThreshold_logsEveryCommand()");
+        File dataDirectory = Files.createTempDirectory("SlowCommandLogTest").toFile();
+        try {
+            File logFile = new File(dataDirectory, "slow.log");
+            Session session = createSession(dataDirectory, new SlowCommandLog(logFile, 0));
+            session.executeInput("filter /mname chicken");
+            session.executeInput("buy /ing egg(0.50)");
+            session.executeInput("select 1000");
+            session.executeInput("excusemeee");
+            List<String> lines = Files.readAllLines(logFile.toPath());
+            assertEquals(4, lines.size());
+            String filterLine = lines.get(0);
+            assertTrue(filterLine.startsWith("{\"time\":\""), filterLine);
+            assertTrue(filterLine.contains("\"input\":\"filter /mname chicken\""), filterLine);
+            assertTrue(filterLine.contains("\"command\":\"filter\""), filterLine);
+            assertTrue(filterLine.contains("\"error\":null"), filterLine);
+            assertTrue(filterLine.contains("\"recipes\":100,\"wishlist\":0,\"inventory\":0}"), filterLine);
+            assertFalse(filterLine.contains("\"mealsScanned\":0,"), filterLine);
+            assertTrue(lines.get(1).contains("\"inventory\":1}"), lines.get(1));
+            assertTrue(lines.get(2).contains("\"error\":\"InvalidSelectIndexException\""), lines.get(2));
+            assertTrue(lines.get(3).contains("\"command\":\"unknown\""), lines.get(3));
+        } finally {
+            deleteDirectory(dataDirectory);
+        }
+        logger.info("Every command over the threshold is logged");
+    }
+
+    @Test
+    public void executeInput_highThreshold_logsNothing() throws IOException {
+        logger.fine("Running executeInput_highThreshold_logsNothing()");
+        File dataDirectory = Files.createTempDirectory("SlowCommandLogTest").toFile();
+        try {
+            File logFile = new File(dataDirectory, "slow.log");
+            Session session = createSession(dataDirectory, new SlowCommandLog(logFile, 60_000));
+            session.executeInput("filter /mname chicken");
+            assertFalse(logFile.exists());
+        } finally {
+            deleteDirectory(dataDirectory);
+        }
+        logger.info("Fast commands are not logged");
+    }
+
+    @Test
+    public void toJson_specialCharacters_escaped() {
+        logger.fine("Running toJson_specialCharacters_escaped()");
+        SlowCommandLog.Entry entry = new SlowCommandLog.Entry("create /mname \"a\\b\"\t", "create", null,
+                1_000_000, 2_000_000, 5_000_000, 7, 1, 2, 3);
+        String json = entry.toJson(Instant.EPOCH);
+        assertEquals("{\"time\":\"1970-01-01T00:00:00Z\",\"input\":\"create /mname \\\"a\\\\b\\\"\\t\","
+                + "\"command\":\"create\",\"error\":null,\"totalMs\":6.000,\"parseMs\":1.000,\"checkMs\":2.000,"
+                + "\"executeMs\":3.000,\"mealsScanned\":7,\"recipes\":1,\"wishlist\":2,\"inventory\":3}", json);
+        logger.info("Slow command entries are valid JSON");
+    }
+
+    @Test
+    public void fromSystemProperties_thresholdProperty_used() {
+        logger.fine("Running fromSystemProperties_thresholdProperty_used()");
+        System.setProperty(SlowCommandLog.THRESHOLD_PROPERTY, "20");
+        System.setProperty(SlowCommandLog.FILE_PROPERTY, "slow-test.log");
+        try {
+            SlowCommandLog slowCommandLog = SlowCommandLog.fromSystemProperties();
+            assertEquals("slow-test.log", slowCommandLog.getLogFile().getName());
+            assertFalse(slowCommandLog.isSlow(19_999_999));
+            assertTrue(slowCommandLog.isSlow(20_000_000));
+            System.setProperty(SlowCommandLog.THRESHOLD_PROPERTY, "soon");
+            assertTrue(SlowCommandLog.fromSystemProperties().isSlow(500_000_000));
+        } finally {
+            System.clearProperty(SlowCommandLog.THRESHOLD_PROPERTY);
+            System.clearProperty(SlowCommandLog.FILE_PROPERTY);
+        }
+        logger.info("The threshold and file are read from the system properties");
+    }
+}
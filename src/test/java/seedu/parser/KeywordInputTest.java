@@ -0,0 +1,74 @@
+package seedu.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KeywordInputTest {
+    private static final Logger logger = Logger.getLogger(KeywordInputTest.class.getName());
+    private static final String[] FILTER_KEYWORDS = {"/ing", "/mname", "/mcost", "/exclude"};
+
+    public KeywordInputTest() {
+        String fileName = "KeywordInputTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @Test
+    public void get_keywordsInAnyOrder_inputUpToNextKeyword() {
+        logger.fine("Running get_keywordsInAnyOrder_inputUpToNextKeyword()");
+        KeywordInput keywordInput = new KeywordInput("select 2 /MCOST 2.00-5.00 /ing rice, egg /mname fried",
+                FILTER_KEYWORDS);
+        assertEquals("2.00-5.00", keywordInput.get("/mcost"));
+        assertEquals("rice, egg", keywordInput.get("/ing"));
+        assertEquals("fried", keywordInput.get("/mname"));
+        assertEquals("", keywordInput.get("/exclude"));
+        assertEquals(9, keywordInput.getFirstKeywordIndex());
+        assertEquals(26, keywordInput.indexOf("/ing"));
+        assertEquals(-1, keywordInput.indexOf("/exclude"));
+        logger.info("The input of every keyword ends where the next keyword starts");
+    }
+
+    @Test
+    public void get_keywordGluedToText_keywordFound() {
+        logger.fine("Running get_keywordGluedToText_keywordFound()");
+        KeywordInput mcostInput = new KeywordInput("filter /MCOST5.00", FILTER_KEYWORDS);
+        assertTrue(mcostInput.contains("/mcost"));
+        assertEquals("5.00", mcostInput.get("/mcost"));
+        KeywordInput ingInput = new KeywordInput("filter /ingchicken/mname fried", FILTER_KEYWORDS);
+        assertEquals("chicken", ingInput.get("/ing"));
+        assertEquals("fried", ingInput.get("/mname"));
+        KeywordInput gluedInput = new KeywordInput("select 4/ing c,d", FILTER_KEYWORDS);
+        assertEquals(8, gluedInput.indexOf("/ing"));
+        assertEquals("c,d", gluedInput.get("/ing"));
+        assertFalse(gluedInput.contains("/mname"));
+        logger.info("Keywords are found wherever they are in the input");
+    }
+}
@@ -21,11 +21,13 @@ import seedu.command.ViewCommand;
 import seedu.command.WishlistCommand;
 import seedu.exceptions.EZMealPlanException;
 import seedu.exceptions.ParserException;
+import seedu.storage.Storage;
 
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ParserTest {
+    private final Storage storage = new Storage();
 
     /**
      * parseByeCommand_byeWithoutArguments_returnsByeCommand
@@ -35,7 +37,7 @@ public class ParserTest {
      */
     @Test
     public void parseByeCommand_byeWithoutArguments_returnsByeCommand() throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("bye");
+        Command command = Parser.parse("bye", storage);
         assertInstanceOf(ByeCommand.class, command);
     }
 
@@ -48,7 +50,7 @@ public class ParserTest {
     @Test
     public void parseCreateCommand_createWithArguments_returnsCreateCommand()
             throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("create new meal plan");
+        Command command = Parser.parse("create new meal plan", storage);
         assertInstanceOf(CreateCommand.class, command);
     }
 
@@ -60,7 +62,7 @@ public class ParserTest {
      */
     @Test
     public void parseHelpCommand_helpWithoutArguments_returnsHelpCommand() throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("help");
+        Command command = Parser.parse("help", storage);
         assertInstanceOf(HelpCommand.class, command);
     }
 
@@ -72,7 +74,7 @@ public class ParserTest {
      */
     @Test
     public void parseHelpCommand_helpWithOneArgument_returnsHelpCommand() throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("help wishlist");
+        Command command = Parser.parse("help wishlist", storage);
         assertInstanceOf(HelpCommand.class, command);
     }
 
@@ -85,7 +87,7 @@ public class ParserTest {
     @Test
     public void parseFilterCommand_filterWithArgument_returnsFilterCommand()
             throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("filter ingredient");
+        Command command = Parser.parse("filter ingredient", storage);
         assertInstanceOf(FilterCommand.class, command);
     }
 
@@ -98,7 +100,7 @@ public class ParserTest {
     @Test
     public void parseSelectCommand_selectWithOneArgument_returnsSelectCommand()
             throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("select item");
+        Command command = Parser.parse("select item", storage);
         assertInstanceOf(SelectCommand.class, command);
     }
 
@@ -111,7 +113,7 @@ public class ParserTest {
     @Test
     public void parseRecipesCommand_recipesWithoutArguments_returnsRecipesCommand()
             throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("recipes");
+        Command command = Parser.parse("recipes", storage);
         assertInstanceOf(RecipesCommand.class, command);
     }
 
@@ -124,7 +126,7 @@ public class ParserTest {
     @Test
     public void parseWishlistCommand_wishlistWithoutArguments_returnsWishlistCommand()
             throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("wishlist");
+        Command command = Parser.parse("wishlist", storage);
         assertInstanceOf(WishlistCommand.class, command);
     }
 
@@ -137,7 +139,7 @@ public class ParserTest {
     @Test
     public void parseClearCommand_clearWithoutArguments_returnsClearCommand()
             throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("clear");
+        Command command = Parser.parse("clear", storage);
         assertInstanceOf(ClearCommand.class, command);
     }
 
@@ -150,7 +152,7 @@ public class ParserTest {
     @Test
     public void parseRemoveCommand_removeWithArgument_returnsRemoveCommand()
             throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("remove item");
+        Command command = Parser.parse("remove item", storage);
         assertInstanceOf(RemoveCommand.class, command);
     }
 
@@ -162,7 +164,7 @@ public class ParserTest {
      */
     @Test
     public void parseViewCommand_viewWithArgument_returnsViewCommand() throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("view item");
+        Command command = Parser.parse("view item", storage);
         assertInstanceOf(ViewCommand.class, command);
     }
 
@@ -175,7 +177,7 @@ public class ParserTest {
     @Test
     public void parseDeleteCommand_deleteWithArgument_returnsDeleteCommand()
             throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("delete item");
+        Command command = Parser.parse("delete item", storage);
         assertInstanceOf(DeleteCommand.class, command);
     }
 
@@ -188,7 +190,7 @@ public class ParserTest {
     @Test
     public void parseRecommendCommand_recommendWithArgument_returnsRecommendCommand()
             throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("recommend meal");
+        Command command = Parser.parse("recommend meal", storage);
         assertInstanceOf(RecommendCommand.class, command);
     }
 
@@ -201,7 +203,7 @@ public class ParserTest {
     @Test
     public void parseConsumeCommand_consumeWithArgument_returnsConsumeCommand()
             throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("consume food");
+        Command command = Parser.parse("consume food", storage);
         assertInstanceOf(ConsumeCommand.class, command);
     }
 
@@ -213,7 +215,7 @@ public class ParserTest {
      */
     @Test
     public void parseBuyCommand_buyWithArgument_returnsBuyCommand() throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("buy ingredient");
+        Command command = Parser.parse("buy ingredient", storage);
         assertInstanceOf(BuyCommand.class, command);
     }
 
@@ -226,88 +228,102 @@ public class ParserTest {
     @Test
     public void parseInventoryCommand_inventoryWithoutArguments_returnsInventoryCommand()
             throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("inventory");
+        Command command = Parser.parse("inventory", storage);
         assertInstanceOf(InventoryCommand.class, command);
     }
 
     @Test
     public void parseByeCommand_byeWithExtraArguments_exceptionThrown() {
-        assertThrows(ParserException.class, () -> Parser.parse("bye extra"));
+        assertThrows(ParserException.class, () -> Parser.parse("bye extra", storage));
     }
 
     @Test
     public void parseCreateCommand_createWithoutArguments_exceptionThrown() {
-        assertThrows(ParserException.class, () -> Parser.parse("create"));
+        assertThrows(ParserException.class, () -> Parser.parse("create", storage));
     }
 
     @Test
     public void parseHelpCommand_helpWithTooManyArguments_exceptionThrown() {
-        assertThrows(ParserException.class, () -> Parser.parse("help wishlist extra"));
+        assertThrows(ParserException.class, () -> Parser.parse("help wishlist extra", storage));
     }
 
     @Test
     public void parseFilterCommand_filterWithoutArguments_exceptionThrown() {
-        assertThrows(ParserException.class, () -> Parser.parse("filter"));
+        assertThrows(ParserException.class, () -> Parser.parse("filter", storage));
     }
 
     @Test
     public void parseSelectCommand_selectWithoutArguments_exceptionThrown() {
-        assertThrows(ParserException.class, () -> Parser.parse("select"));
+        assertThrows(ParserException.class, () -> Parser.parse("select", storage));
+    }
+
+    @Test
+    public void parseSelectCommand_selectWithFilterKeywords_returnsSelectCommand()
+            throws ParserException, EZMealPlanException {
+        Command command = Parser.parse("select 1 /ing chicken /mcost 2.00-5.00", storage);
+        assertInstanceOf(SelectCommand.class, command);
+    }
+
+    @Test
+    public void parseSelectCommand_keywordGluedToIndex_returnsSelectCommand()
+            throws ParserException, EZMealPlanException {
+        Command command = Parser.parse("select 1/ing chicken", storage);
+        assertInstanceOf(SelectCommand.class, command);
     }
 
     @Test
     public void parseSelectCommand_selectWithTooManyArguments_exceptionThrown() {
-        assertThrows(ParserException.class, () -> Parser.parse("select item extra"));
+        assertThrows(ParserException.class, () -> Parser.parse("select item extra", storage));
     }
 
     @Test
     public void parseRecipesCommand_recipesWithExtraArguments_exceptionThrown() {
-        assertThrows(ParserException.class, () -> Parser.parse("recipes extra"));
+        assertThrows(ParserException.class, () -> Parser.parse("recipes extra", storage));
     }
 
     @Test
     public void parseWishlistCommand_wishlistWithExtraArguments_exceptionThrown() {
-        assertThrows(ParserException.class, () -> Parser.parse("wishlist extra"));
+        assertThrows(ParserException.class, () -> Parser.parse("wishlist extra", storage));
     }
 
     @Test
     public void parseClearCommand_clearWithExtraArguments_exceptionThrown() {
-        assertThrows(ParserException.class, () -> Parser.parse("clear extra"));
+        assertThrows(ParserException.class, () -> Parser.parse("clear extra", storage));
     }
 
     @Test
     public void parseRemoveCommand_removeWithoutArguments_exceptionThrown() {
-        assertThrows(ParserException.class, () -> Parser.parse("remove"));
+        assertThrows(ParserException.class, () -> Parser.parse("remove", storage));
     }
 
     @Test
     public void parseViewCommand_viewWithoutArguments_exceptionThrown() {
-        assertThrows(ParserException.class, () -> Parser.parse("view"));
+        assertThrows(ParserException.class, () -> Parser.parse("view", storage));
     }
 
     @Test
     public void parseDeleteCommand_deleteWithoutArguments_exceptionThrown() {
-        assertThrows(ParserException.class, () -> Parser.parse("delete"));
+        assertThrows(ParserException.class, () -> Parser.parse("delete", storage));
     }
 
     @Test
     public void parseRecommendCommand_recommendWithoutArguments_exceptionThrown() {
-        assertThrows(ParserException.class, () -> Parser.parse("recommend"));
+        assertThrows(ParserException.class, () -> Parser.parse("recommend", storage));
     }
 
     @Test
     public void parseConsumeCommand_consumeWithoutArguments_exceptionThrown() {
-        assertThrows(ParserException.class, () -> Parser.parse("consume"));
+        assertThrows(ParserException.class, () -> Parser.parse("consume", storage));
     }
 
     @Test
     public void parseBuyCommand_buyWithoutArguments_exceptionThrown() {
-        assertThrows(ParserException.class, () -> Parser.parse("buy"));
+        assertThrows(ParserException.class, () -> Parser.parse("buy", storage));
     }
 
     @Test
     public void parseInventoryCommand_inventoryWithExtraArguments_exceptionThrown() {
-        assertThrows(ParserException.class, () -> Parser.parse("inventory extra"));
+        assertThrows(ParserException.class, () -> Parser.parse("inventory extra", storage));
     }
 
     /**
@@ -319,7 +335,7 @@ public class ParserTest {
     @Test
     public void parseMistypedCommand_inputMistyped_returnsMistypedCommand()
             throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("wishlists");
+        Command command = Parser.parse("wishlists", storage);
         assertInstanceOf(MistypedCommand.class, command);
     }
 
@@ -331,7 +347,7 @@ public class ParserTest {
      */
     @Test
     public void parseUnknownCommand_inputUnknown_returnsUnknownCommand() throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("wish list");
+        Command command = Parser.parse("wish list", storage);
         assertInstanceOf(UnknownCommand.class, command);
     }
 
@@ -344,7 +360,7 @@ public class ParserTest {
     @Test
     public void parseMistypedCommand_anotherExample_returnsMistypedCommand()
             throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("filter/ing ingredient");
+        Command command = Parser.parse("filter/ing ingredient", storage);
         assertInstanceOf(MistypedCommand.class, command);
     }
 
@@ -356,7 +372,7 @@ public class ParserTest {
      */
     @Test
     public void parseUnknownCommand_anotherExample_returnsUnknownCommand() throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("reccomend /ing 1");
+        Command command = Parser.parse("reccomend /ing 1", storage);
         assertInstanceOf(UnknownCommand.class, command);
     }
 
@@ -369,7 +385,7 @@ public class ParserTest {
     @Test
     public void parseUnknownCommand_yetAnotherExample_returnsUnknownCommand()
             throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("by e");
+        Command command = Parser.parse("by e", storage);
         assertInstanceOf(UnknownCommand.class, command);
     }
 
@@ -381,7 +397,7 @@ public class ParserTest {
      */
     @Test
     public void parseUnknownCommand_creatInput_returnsUnknownCommand() throws ParserException, EZMealPlanException {
-        Command command = Parser.parse("creat egg /ing raw egg (1)");
+        Command command = Parser.parse("creat egg /ing raw egg (1)", storage);
         assertInstanceOf(UnknownCommand.class, command);
     }
 }
@@ -0,0 +1,183 @@
+package seedu.workload;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.exceptions.EZMealPlanException;
+import seedu.food.Ingredient;
+import seedu.food.Meal;
+import seedu.logic.MealManager;
+import seedu.parser.Parser;
+import seedu.storage.Storage;
+import seedu.ui.UserInterface;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.TestUtil.deleteDirectory;
+
+public class WorkloadGeneratorTest {
+    private static final Logger logger = Logger.getLogger(WorkloadGeneratorTest.class.getName());
+    private static final int MEAL_COUNT = 2000;
+    private static final int COMMAND_COUNT = 300;
+
+    public WorkloadGeneratorTest() {
+        String fileName = "WorkloadGeneratorTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    private static List<String> readAllFiles(File directory) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (String fileName : new String[]{"recipesList.txt", "wishList.txt", "inventoryList.txt",
+            WorkloadGenerator.COMMANDS_FILE_NAME}) {
+            lines.addAll(Files.readAllLines(new File(directory, fileName).toPath()));
+        }
+        return lines;
+    }
+
+    @Test
+    public void writeFiles_sameSeed_sameFiles() throws EZMealPlanException, IOException {
+        logger.fine("Running writeFiles_sameSeed_sameFiles()");
+        File firstDirectory = Files.createTempDirectory("WorkloadGeneratorTest").toFile();
+        File secondDirectory = Files.createTempDirectory("WorkloadGeneratorTest").toFile();
+        try {
+            new WorkloadGenerator(7, MEAL_COUNT).writeFiles(firstDirectory, COMMAND_COUNT);
+            new WorkloadGenerator(7, MEAL_COUNT).writeFiles(secondDirectory, COMMAND_COUNT);
+            assertEquals(readAllFiles(firstDirectory), readAllFiles(secondDirectory));
+            new WorkloadGenerator(8, MEAL_COUNT).writeFiles(secondDirectory, COMMAND_COUNT);
+            assertNotEquals(readAllFiles(firstDirectory), readAllFiles(secondDirectory));
+        } finally {
+            deleteDirectory(firstDirectory);
+            deleteDirectory(secondDirectory);
+        }
+        logger.info("The same seed gives the same workload");
+    }
+
+    @Test
+    public void writeFiles_loadedByStorage_everyMealAndIngredientKept() throws EZMealPlanException, IOException {
+        logger.fine("Running writeFiles_loadedByStorage_everyMealAndIngredientKept()");
+        File directory = Files.createTempDirectory("WorkloadGeneratorTest").toFile();
+        try {
+            WorkloadGenerator generator = new WorkloadGenerator(1, MEAL_COUNT);
+            generator.writeFiles(directory, COMMAND_COUNT);
+            Storage storage = new Storage(directory);
+            assertEquals(generator.generateRecipes(), Storage.loadExistingList(storage.getRecipesListFile()));
+            assertEquals(MEAL_COUNT, Storage.loadExistingList(storage.getRecipesListFile()).size());
+            assertTrue(Storage.loadExistingList(storage.getWishListFile()).size() > 0);
+            MealManager mealManager = new MealManager();
+            storage.loadExistingInventory(mealManager);
+            assertEquals(generator.generateInventoryLines(), mealManager.getInventory().toDataArray());
+        } finally {
+            deleteDirectory(directory);
+        }
+        logger.info("Generated files are in the Storage format");
+    }
+
+    @Test
+    public void generateRecipes_zipfPopularity_popularIngredientsAndSharedNames() throws EZMealPlanException {
+        logger.fine("Running generateRecipes_zipfPopularity_popularIngredientsAndSharedNames()");
+        List<Meal> recipes = new WorkloadGenerator(3, MEAL_COUNT).generateRecipes();
+        Map<String, Integer> ingredientCounts = new HashMap<>();
+        Set<String> mealNames = new HashSet<>();
+        int sharedNameCount = 0;
+        for (Meal meal : recipes) {
+            if (!mealNames.add(meal.getName().toLowerCase())) {
+                sharedNameCount++;
+            }
+            for (Ingredient ingredient : meal.getIngredientList()) {
+                ingredientCounts.merge(ingredient.getName(), 1, Integer::sum);
+            }
+        }
+        int mostPopularCount = ingredientCounts.get(WorkloadGenerator.getIngredientName(0));
+        int lessPopularCount = ingredientCounts.getOrDefault(WorkloadGenerator.getIngredientName(50), 0);
+        assertTrue(mostPopularCount > 10 * lessPopularCount);
+        assertTrue(sharedNameCount > MEAL_COUNT / 100);
+        logger.info("Ingredient popularity is skewed and some meals share names");
+    }
+
+    @Test
+    public void sample_zipfDistribution_followsProbabilities() {
+        logger.fine("Running sample_zipfDistribution_followsProbabilities()");
+        ZipfDistribution distribution = new ZipfDistribution(100, 1.0);
+        Random random = new Random(37);
+        int[] counts = new int[distribution.size()];
+        int sampleCount = 100_000;
+        for (int i = 0; i < sampleCount; i++) {
+            counts[distribution.sample(random)]++;
+        }
+        for (int rank : new int[]{0, 1, 9}) {
+            assertEquals(distribution.getProbability(rank), (double) counts[rank] / sampleCount, 0.01);
+        }
+        assertEquals(2.0, distribution.getProbability(0) / distribution.getProbability(1), 1e-9);
+        logger.info("Zipf samples follow the Zipf probabilities");
+    }
+
+    @Test
+    public void generateCommands_replayed_indexesAndIngredientsValid() throws EZMealPlanException, IOException {
+        logger.fine("Running generateCommands_replayed_indexesAndIngredientsValid()");
+        File directory = Files.createTempDirectory("WorkloadGeneratorTest").toFile();
+        try {
+            WorkloadGenerator generator = new WorkloadGenerator(5, 200);
+            List<Meal> recipes = generator.generateRecipes();
+            MealManager mealManager = new MealManager();
+            mealManager.getRecipesList().addMeals(recipes);
+            Storage storage = new Storage(directory);
+            UserInterface ui = new UserInterface(new ByteArrayInputStream(new byte[0]),
+                    new PrintStream(OutputStream.nullOutputStream()));
+            Map<String, Integer> commandCounts = new HashMap<>();
+            for (String userInput : generator.generateCommands(recipes, COMMAND_COUNT)) {
+                commandCounts.merge(userInput.split(" ")[0], 1, Integer::sum);
+                try {
+                    Parser.parse(userInput, storage).execute(mealManager, ui);
+                } catch (EZMealPlanException ezMealPlanException) {
+                    // Selecting a meal twice or creating an existing meal is expected, anything else is not.
+                    String exceptionName = ezMealPlanException.getClass().getSimpleName();
+                    assertTrue(exceptionName.equals("DuplicateMealException"), userInput + ": " + exceptionName);
+                }
+            }
+            for (String commandWord : new String[]{"filter", "select", "buy", "consume", "create", "delete"}) {
+                assertTrue(commandCounts.getOrDefault(commandWord, 0) > 0, commandWord);
+            }
+        } finally {
+            deleteDirectory(directory);
+        }
+        logger.info("Replayed commands only use valid indexes and stocked ingredients");
+    }
+}
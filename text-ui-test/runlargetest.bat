@@ -0,0 +1,7 @@
+@echo off
+setlocal enableextensions
+pushd %~dp0
+
+cd ..
+call gradlew generateWorkload --args="build/large-ui-test 5000 1000 40"
+call gradlew runReplay --args="build/large-ui-test/commands.txt build/large-ui-test 0 text-ui-test/EXPECTED-LARGE.sha256" && ECHO Test passed! || Echo Test failed!
@@ -0,0 +1,17 @@
+#!/usr/bin/env bash
+
+# change to script directory
+cd "${0%/*}"
+
+cd ..
+# 5000 generated meals and 1000 generated commands, replayed in-process; only the digest of the output is kept
+./gradlew generateWorkload --args="build/large-ui-test 5000 1000 40" || exit 1
+./gradlew runReplay --args="build/large-ui-test/commands.txt build/large-ui-test 0 text-ui-test/EXPECTED-LARGE.sha256"
+if [ $? -eq 0 ]
+then
+    echo "Test passed!"
+    exit 0
+else
+    echo "Test failed!"
+    exit 1
+fi